@@ -1,7 +1,15 @@
 package com.threesides.beans;
 
+import com.threesides.exception.SystemException;
+
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -12,6 +20,22 @@ import java.util.stream.Collectors;
  */
 public class BeanUtil {
 
+	/**
+	 * 属性不存在时返回的读取器
+	 */
+	private static final Function<Object, Object> ABSENT_READER = bean -> null;
+
+	/**
+	 * 按类缓存属性读取器
+	 * <p>读取器持有该类的 Method/Field,会强引用该类,缓存项不会因类不再使用而被回收,适合缓存长期存在的实体类</p>
+	 */
+	private static final ClassValue<Map<String, Function<Object, Object>>> PROPERTY_READERS = new ClassValue<Map<String, Function<Object, Object>>>() {
+		@Override
+		protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	/**
 	 * 拷贝属性值
 	 *
@@ -67,6 +91,99 @@ public class BeanUtil {
 		}
 	}
 
+	/**
+	 * 获取属性读取器
+	 * <p>优先使用公开的 getXxx/isXxx 方法,没有时直接读取字段(含父类字段);
+	 * 读取器按类缓存,只在第一次获取时反射查找</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code BeanUtil.getPropertyReader(User.class, "username").apply(user)     // "WuDI"}</li>
+	 * </ul>
+	 *
+	 * @param clazz Class对象
+	 * @param property 属性名
+	 * @return 读取器,属性不存在时返回的读取器总是返回null
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Function<Object, Object> getPropertyReader(Class<?> clazz, String property) {
+		return PROPERTY_READERS.get(clazz).computeIfAbsent(property, name -> createPropertyReader(clazz, name));
+	}
+
+	/**
+	 * 是否存在属性
+	 *
+	 * @param clazz Class对象
+	 * @param property 属性名
+	 * @return true:存在 、false:不存在
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean hasProperty(Class<?> clazz, String property) {
+		return getPropertyReader(clazz, property) != ABSENT_READER;
+	}
+
+	/**
+	 * 创建属性读取器
+	 *
+	 * @param clazz Class对象
+	 * @param property 属性名
+	 * @return 读取器
+	 *
+	 * @since 2026-10-19
+	 */
+	private static Function<Object, Object> createPropertyReader(Class<?> clazz, String property) {
+		if (property.isEmpty()) {
+			return ABSENT_READER;
+		}
+		final String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+		for (String prefix : new String[]{"get", "is"}) {
+			try {
+				final Method method = clazz.getMethod(prefix + suffix);
+				if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+					trySetAccessible(method);
+					return bean -> {
+						try {
+							return method.invoke(bean);
+						} catch (IllegalAccessException | InvocationTargetException e) {
+							throw new SystemException("read property " + property + " failed", e);
+						}
+					};
+				}
+			} catch (NoSuchMethodException | SecurityException ignored) {
+				// 没有 getter 时读取字段
+			}
+		}
+		for (Field field : getFieldList(clazz)) {
+			if (field.getName().equals(property) && !Modifier.isStatic(field.getModifiers())) {
+				trySetAccessible(field);
+				return bean -> {
+					try {
+						return field.get(bean);
+					} catch (IllegalAccessException e) {
+						throw new SystemException("read property " + property + " failed", e);
+					}
+				};
+			}
+		}
+		return ABSENT_READER;
+	}
+
+	/**
+	 * 尝试取消访问检查
+	 * <p>JDK 9 起模块未开放时 setAccessible 抛出 InaccessibleObjectException(RuntimeException),
+	 * 此时保持访问检查,公开成员仍可读取,无权访问时由读取器抛出 {@link SystemException}</p>
+	 *
+	 * @param accessible Method 或 Field
+	 */
+	private static void trySetAccessible(AccessibleObject accessible) {
+		try {
+			accessible.setAccessible(true);
+		} catch (RuntimeException ignored) {
+			// 保持访问检查
+		}
+	}
+
 	/**
 	 * 获取字段集合
 	 *
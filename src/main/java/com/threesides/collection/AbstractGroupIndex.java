@@ -0,0 +1,185 @@
+package com.threesides.collection;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * AbstractGroupIndex 分组索引(CSR 压缩行存储)
+ * <p>所有值按组连续存放在一个数组中,另用一个偏移数组记录每组的起止位置,
+ * 不为每个组单独创建 List;{@link #group(int)} 返回的是数组区间的只读视图</p>
+ * <p>组内顺序与输入顺序一致</p>
+ *
+ * @param <V> 值类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public abstract class AbstractGroupIndex<V> {
+
+	/**
+	 * 输入数量达到该值时并行构建
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	private final Object[] values;
+
+	/**
+	 * 第 g 组的值位于 values[offsets[g], offsets[g + 1])
+	 */
+	private final int[] offsets;
+
+	/**
+	 * 按组号重排
+	 *
+	 * @param items 输入
+	 * @param groupIds 每个输入所属的组号
+	 * @param groupCount 组数
+	 * @param parallel 是否并行
+	 */
+	protected AbstractGroupIndex(Object[] items, int[] groupIds, int groupCount, boolean parallel) {
+		final int n = items.length;
+		this.values = new Object[n];
+		this.offsets = new int[groupCount + 1];
+		if (!parallel) {
+			for (int i = 0; i < n; i++) {
+				this.offsets[groupIds[i] + 1]++;
+			}
+			for (int g = 0; g < groupCount; g++) {
+				this.offsets[g + 1] += this.offsets[g];
+			}
+			final int[] cursor = new int[groupCount];
+			System.arraycopy(this.offsets, 0, cursor, 0, groupCount);
+			for (int i = 0; i < n; i++) {
+				this.values[cursor[groupIds[i]]++] = items[i];
+			}
+			return;
+		}
+		// 按块并行计数,每块得到自己在各组中的起始位置后并行写入,保持组内顺序
+		final int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), n / (PARALLEL_THRESHOLD / 4)));
+		final int chunkSize = (n + chunks - 1) / chunks;
+		final int[][] counts = new int[chunks][];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			final int[] count = new int[groupCount];
+			for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+				count[groupIds[i]]++;
+			}
+			counts[c] = count;
+		});
+		int position = 0;
+		for (int g = 0; g < groupCount; g++) {
+			this.offsets[g] = position;
+			for (int c = 0; c < chunks; c++) {
+				final int count = counts[c][g];
+				counts[c][g] = position;
+				position += count;
+			}
+		}
+		this.offsets[groupCount] = position;
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			final int[] cursor = counts[c];
+			for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+				this.values[cursor[groupIds[i]]++] = items[i];
+			}
+		});
+	}
+
+	/**
+	 * 组数
+	 *
+	 * @return 组数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int groupCount() {
+		return this.offsets.length - 1;
+	}
+
+	/**
+	 * 值总数
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int size() {
+		return this.values.length;
+	}
+
+	/**
+	 * 第 group 组的值
+	 *
+	 * @param group 组号,按键第一次出现的顺序从0开始
+	 * @return 只读视图
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<V> group(int group) {
+		return new GroupView<>(this.values, this.offsets[group], this.offsets[group + 1]);
+	}
+
+	/**
+	 * 第 group 组的值数量
+	 *
+	 * @param group 组号
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int groupSize(int group) {
+		return this.offsets[group + 1] - this.offsets[group];
+	}
+
+	@SuppressWarnings("unchecked")
+	final V value(int group, int index) {
+		return (V) this.values[this.offsets[group] + index];
+	}
+
+	/**
+	 * 开放寻址表容量 不小于 2 * expected 的2的幂
+	 */
+	static int tableCapacity(int expected) {
+		return Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1;
+	}
+
+	static int mix(int h) {
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	static int mix(long h) {
+		return mix((int) (h ^ (h >>> 32)));
+	}
+
+	/**
+	 * 组的只读视图
+	 */
+	static final class GroupView<V> extends AbstractList<V> implements RandomAccess {
+
+		private final Object[] values;
+
+		private final int from;
+
+		private final int to;
+
+		GroupView(Object[] values, int from, int to) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V get(int index) {
+			if (index < 0 || index >= this.to - this.from) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			return (V) this.values[this.from + index];
+		}
+
+		@Override
+		public int size() {
+			return this.to - this.from;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.threesides.collection;
+
+/**
+ * BigArrays 分段大数组公共常量与下标计算
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+final class BigArrays {
+
+	/**
+	 * 每段 2^20 个元素
+	 */
+	static final int SEGMENT_SHIFT = 20;
+
+	static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+	static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private BigArrays() {
+	}
+
+	static int segment(long index) {
+		return (int) (index >>> SEGMENT_SHIFT);
+	}
+
+	static int offset(long index) {
+		return (int) (index & SEGMENT_MASK);
+	}
+
+	static long start(int segment) {
+		return (long) segment << SEGMENT_SHIFT;
+	}
+
+	static int segmentCount(long length) {
+		return (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+	}
+
+	/**
+	 * 最后一段的长度
+	 */
+	static int lastSegmentLength(long length) {
+		return (int) (length - start(segmentCount(length) - 1));
+	}
+
+	static void checkLength(long length) {
+		if (length < 0 || segmentCount(length) < 0) {
+			throw new IllegalArgumentException("Illegal big array length: " + length);
+		}
+	}
+
+	static void checkIndex(long index, long length) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+		}
+	}
+
+	static void checkRange(long from, long to, long length) {
+		if (from < 0 || from > to || to > length) {
+			throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package com.threesides.collection;
+
+import static com.threesides.collection.BigArrays.checkIndex;
+
+/**
+ * ByteBigList 可增长的 byte 大列表,下标为 long,基于 {@link ByteBigArray}
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class ByteBigList {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final ByteBigArray array;
+
+	private long size;
+
+	/**
+	 * 大列表 初始容量16
+	 */
+	public ByteBigList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 大列表
+	 *
+	 * @param initialCapacity 初始容量
+	 */
+	public ByteBigList(long initialCapacity) {
+		this.array = new ByteBigArray(initialCapacity);
+	}
+
+	/**
+	 * 数量
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return true:是 、false:不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * 追加
+	 *
+	 * @param value 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void add(byte value) {
+		ensureCapacity(this.size + 1);
+		this.array.set(this.size++, value);
+	}
+
+	/**
+	 * 批量追加
+	 *
+	 * @param values 元素
+	 * @param offset 开始下标
+	 * @param length 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public void addAll(byte[] values, int offset, int length) {
+		ensureCapacity(this.size + length);
+		this.array.copyFrom(values, offset, this.size, length);
+		this.size += length;
+	}
+
+	/**
+	 * 读取
+	 *
+	 * @param index 下标
+	 * @return 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte get(long index) {
+		checkIndex(index, this.size);
+		return this.array.get(index);
+	}
+
+	/**
+	 * 替换
+	 *
+	 * @param index 下标
+	 * @param value 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void set(long index, byte value) {
+		checkIndex(index, this.size);
+		this.array.set(index, value);
+	}
+
+	/**
+	 * 删除最后一个元素
+	 *
+	 * @return 被删除的元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte removeLast() {
+		checkIndex(this.size - 1, this.size);
+		return this.array.get(--this.size);
+	}
+
+	/**
+	 * 清空,不释放空间
+	 *
+	 * @since 2026-10-19
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * 升序排序(并行)
+	 *
+	 * @since 2026-10-19
+	 */
+	public void sort() {
+		this.array.sort(0, this.size);
+	}
+
+	/**
+	 * 二分查找,列表需已升序
+	 *
+	 * @param key 查找值
+	 * @return 下标,不存在时返回 -(插入位置) - 1
+	 *
+	 * @since 2026-10-19
+	 */
+	public long binarySearch(byte key) {
+		return this.array.binarySearch(0, this.size, key);
+	}
+
+	/**
+	 * 底层大数组,长度为容量,下标 size 之后的内容无意义
+	 *
+	 * @return 大数组
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBigArray elements() {
+		return this.array;
+	}
+
+	/**
+	 * 确保容量
+	 *
+	 * @param minCapacity 最小容量
+	 *
+	 * @since 2026-10-19
+	 */
+	public void ensureCapacity(long minCapacity) {
+		final long capacity = this.array.length();
+		if (minCapacity > capacity) {
+			this.array.grow(Math.max(minCapacity, capacity + (capacity >> 1) + 1));
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * CollectionDiff 按键比较两个集合
+ * <p>哈希比较:按键的哈希值把两边划分到同一组分区,各分区互不相关,可并行比较;
+ * 有序比较:两边均已按键排序时归并比较,只需迭代器,内存占用为常数</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+final class CollectionDiff {
+
+	/**
+	 * 两边元素总数达到该值时并行比较
+	 */
+	static final int PARALLEL_THRESHOLD = AbstractGroupIndex.PARALLEL_THRESHOLD;
+
+	private CollectionDiff() {
+	}
+
+	static <T> void hashDiff(Collection<? extends T> oldItems, Collection<? extends T> newItems, Function<? super T, ?> keyMapper,
+							 BiPredicate<? super T, ? super T> equals, DiffHandler<? super T> handler) {
+		final Object[] olds = oldItems.toArray();
+		final Object[] news = newItems.toArray();
+		final boolean parallel = olds.length + news.length >= PARALLEL_THRESHOLD;
+		final int partitions = parallel ? Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 8 - 1) << 1 : 1;
+		final Object[] oldKeys = keys(olds, keyMapper, parallel);
+		final Object[] newKeys = keys(news, keyMapper, parallel);
+		final int[] oldOffsets = new int[partitions + 1];
+		final int[] newOffsets = new int[partitions + 1];
+		final int[] oldOrder = partition(oldKeys, partitions, oldOffsets);
+		final int[] newOrder = partition(newKeys, partitions, newOffsets);
+		IntStream partitionIds = IntStream.range(0, partitions);
+		if (parallel) {
+			partitionIds = partitionIds.parallel();
+		}
+		partitionIds.forEach(p -> diffPartition(olds, oldKeys, oldOrder, oldOffsets[p], oldOffsets[p + 1],
+				news, newKeys, newOrder, newOffsets[p], newOffsets[p + 1], equals, handler));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void diffPartition(Object[] olds, Object[] oldKeys, int[] oldOrder, int oldFrom, int oldTo,
+										  Object[] news, Object[] newKeys, int[] newOrder, int newFrom, int newTo,
+										  BiPredicate<? super T, ? super T> equals, DiffHandler<? super T> handler) {
+		final Map<Object, Integer> remaining = new HashMap<>(AbstractGroupIndex.tableCapacity(oldTo - oldFrom));
+		for (int i = oldFrom; i < oldTo; i++) {
+			final int index = oldOrder[i];
+			final Integer duplicate = remaining.put(oldKeys[index], index);
+			if (duplicate != null) {
+				handler.removed((T) olds[duplicate]);
+			}
+		}
+		for (int i = newFrom; i < newTo; i++) {
+			final int index = newOrder[i];
+			final T newItem = (T) news[index];
+			final Integer match = remaining.remove(newKeys[index]);
+			if (match == null) {
+				handler.added(newItem);
+				continue;
+			}
+			final T oldItem = (T) olds[match];
+			if (!equals.test(oldItem, newItem)) {
+				handler.changed(oldItem, newItem);
+			}
+		}
+		if (remaining.isEmpty()) {
+			return;
+		}
+		// 按原顺序回调
+		for (int i = oldFrom; i < oldTo; i++) {
+			final int index = oldOrder[i];
+			final Integer left = remaining.get(oldKeys[index]);
+			if (left != null && left == index) {
+				handler.removed((T) olds[index]);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Object[] keys(Object[] items, Function<? super T, ?> keyMapper, boolean parallel) {
+		final Object[] keys = new Object[items.length];
+		if (parallel) {
+			IntStream.range(0, items.length).parallel().forEach(i -> keys[i] = keyMapper.apply((T) items[i]));
+		} else {
+			for (int i = 0; i < items.length; i++) {
+				keys[i] = keyMapper.apply((T) items[i]);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 按分区计数排序,返回下标数组,第 p 个分区位于 [offsets[p], offsets[p + 1])
+	 */
+	private static int[] partition(Object[] keys, int partitions, int[] offsets) {
+		final int mask = partitions - 1;
+		final int[] ids = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			ids[i] = AbstractGroupIndex.mix(keys[i] == null ? 0 : keys[i].hashCode()) & mask;
+			offsets[ids[i] + 1]++;
+		}
+		for (int p = 0; p < partitions; p++) {
+			offsets[p + 1] += offsets[p];
+		}
+		final int[] cursor = new int[partitions];
+		System.arraycopy(offsets, 0, cursor, 0, partitions);
+		final int[] order = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			order[cursor[ids[i]]++] = i;
+		}
+		return order;
+	}
+
+	static <T, K> void sortedDiff(Iterator<? extends T> oldItems, Iterator<? extends T> newItems, Function<? super T, ? extends K> keyMapper,
+								  Comparator<? super K> comparator, BiPredicate<? super T, ? super T> equals, DiffHandler<? super T> handler) {
+		boolean hasOld = oldItems.hasNext();
+		boolean hasNew = newItems.hasNext();
+		T oldItem = hasOld ? oldItems.next() : null;
+		T newItem = hasNew ? newItems.next() : null;
+		K oldKey = hasOld ? keyMapper.apply(oldItem) : null;
+		K newKey = hasNew ? keyMapper.apply(newItem) : null;
+		while (hasOld && hasNew) {
+			final int cmp = comparator.compare(oldKey, newKey);
+			if (cmp < 0) {
+				handler.removed(oldItem);
+			} else if (cmp > 0) {
+				handler.added(newItem);
+			} else if (!equals.test(oldItem, newItem)) {
+				handler.changed(oldItem, newItem);
+			}
+			if (cmp <= 0) {
+				hasOld = oldItems.hasNext();
+				if (hasOld) {
+					final T next = oldItems.next();
+					final K nextKey = keyMapper.apply(next);
+					checkOrder(comparator, oldKey, nextKey);
+					oldItem = next;
+					oldKey = nextKey;
+				}
+			}
+			if (cmp >= 0) {
+				hasNew = newItems.hasNext();
+				if (hasNew) {
+					final T next = newItems.next();
+					final K nextKey = keyMapper.apply(next);
+					checkOrder(comparator, newKey, nextKey);
+					newItem = next;
+					newKey = nextKey;
+				}
+			}
+		}
+		if (hasOld) {
+			handler.removed(oldItem);
+			oldItems.forEachRemaining(handler::removed);
+		}
+		if (hasNew) {
+			handler.added(newItem);
+			newItems.forEachRemaining(handler::added);
+		}
+	}
+
+	private static <K> void checkOrder(Comparator<? super K> comparator, K previous, K next) {
+		Assert.isTrue(comparator.compare(previous, next) < 0, "[Assertion failed] - sorted input must be strictly ascending by key");
+	}
+}
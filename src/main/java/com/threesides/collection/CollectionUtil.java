@@ -2,9 +2,15 @@ package com.threesides.collection;
 
 
 import com.threesides.constant.text.StringTextConstant;
+import com.threesides.exception.Assert;
+import com.threesides.lang.NumberText;
 import com.threesides.lang.StringUtil;
 
 import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * CollectionUtil 集合工具
@@ -165,6 +171,128 @@ public class CollectionUtil {
 		return join(collection.iterator(), separator);
 	}
 
+	/**
+	 * 按键分组
+	 * <p>结果为 CSR 压缩结构:一个值数组 + 一个偏移数组,不为每个组创建 List;
+	 * 输入数量达到 {@link AbstractGroupIndex#PARALLEL_THRESHOLD} 时并行构建,keyMapper 需线程安全</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code CollectionUtil.groupBy(users, User::getDeptId).get(deptId)}</li>
+	 * </ul>
+	 *
+	 * @param collection 集合
+	 * @param keyMapper 取键
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return 分组索引
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <K, V> GroupIndex<K, V> groupBy(final Collection<? extends V> collection, final Function<? super V, ? extends K> keyMapper) {
+		return GroupIndex.build(collection == null ? Collections.emptyList() : collection, keyMapper);
+	}
+
+	/**
+	 * 按 int 键分组,键不装箱
+	 *
+	 * @param collection 集合
+	 * @param keyMapper 取键
+	 * @param <V> 值类型
+	 * @return 分组索引
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <V> IntGroupIndex<V> groupByInt(final Collection<? extends V> collection, final ToIntFunction<? super V> keyMapper) {
+		return IntGroupIndex.build(collection == null ? Collections.emptyList() : collection, keyMapper);
+	}
+
+	/**
+	 * 按 long 键分组,键不装箱
+	 *
+	 * @param collection 集合
+	 * @param keyMapper 取键
+	 * @param <V> 值类型
+	 * @return 分组索引
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <V> LongGroupIndex<V> groupByLong(final Collection<? extends V> collection, final ToLongFunction<? super V> keyMapper) {
+		return LongGroupIndex.build(collection == null ? Collections.emptyList() : collection, keyMapper);
+	}
+
+	/**
+	 * 按唯一键建立索引,键重复时保留最后一个
+	 *
+	 * @param collection 集合
+	 * @param keyMapper 取键
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return 不可变 Map,见 {@link CompactMap}
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <K, V> Map<K, V> indexBy(final Collection<? extends V> collection, final Function<? super V, ? extends K> keyMapper) {
+		if (isEmpty(collection)) {
+			return CompactMap.of();
+		}
+		final Map<K, V> map = new LinkedHashMap<>((int) (collection.size() / 0.75f) + 1);
+		for (V value : collection) {
+			map.put(keyMapper.apply(value), value);
+		}
+		return CompactMap.copyOf(map);
+	}
+
+	/**
+	 * 按键比较新旧两个集合,通过回调输出新增、删除、变更的元素
+	 * <p>按键的哈希值分区后逐分区比较,不生成结果列表;两边元素总数达到
+	 * {@link AbstractGroupIndex#PARALLEL_THRESHOLD} 时各分区并行比较,此时 keyMapper、equals、handler 需线程安全,
+	 * 回调顺序不确定</p>
+	 * <p>键需实现 equals/hashCode;同一集合内键重复时,旧集合中较早的元素视为删除,新集合中多出的元素视为新增</p>
+	 *
+	 * @param oldItems 旧集合
+	 * @param newItems 新集合
+	 * @param keyMapper 取键
+	 * @param equals 键相同时判断内容是否相同
+	 * @param handler 回调
+	 * @param <T> 元素类型
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <T> void diff(final Collection<? extends T> oldItems, final Collection<? extends T> newItems, final Function<? super T, ?> keyMapper,
+								final BiPredicate<? super T, ? super T> equals, final DiffHandler<? super T> handler) {
+		Assert.notNull(keyMapper, "[Assertion failed] - keyMapper must not be null");
+		Assert.notNull(equals, "[Assertion failed] - equals must not be null");
+		Assert.notNull(handler, "[Assertion failed] - handler must not be null");
+		CollectionDiff.hashDiff(oldItems == null ? Collections.emptyList() : oldItems,
+				newItems == null ? Collections.emptyList() : newItems, keyMapper, equals, handler);
+	}
+
+	/**
+	 * 比较两个已按键严格升序排列的序列
+	 * <p>归并比较,只迭代一遍,内存占用与输入大小无关,适合从数据库或文件按序读取的大数据量;
+	 * 回调按键的顺序在当前线程执行。输入未按序排列时抛出异常</p>
+	 *
+	 * @param oldItems 旧序列
+	 * @param newItems 新序列
+	 * @param keyMapper 取键
+	 * @param comparator 键的比较器
+	 * @param equals 键相同时判断内容是否相同
+	 * @param handler 回调
+	 * @param <T> 元素类型
+	 * @param <K> 键类型
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <T, K> void diffSorted(final Iterable<? extends T> oldItems, final Iterable<? extends T> newItems, final Function<? super T, ? extends K> keyMapper,
+										 final Comparator<? super K> comparator, final BiPredicate<? super T, ? super T> equals, final DiffHandler<? super T> handler) {
+		Assert.notNull(keyMapper, "[Assertion failed] - keyMapper must not be null");
+		Assert.notNull(comparator, "[Assertion failed] - comparator must not be null");
+		Assert.notNull(equals, "[Assertion failed] - equals must not be null");
+		Assert.notNull(handler, "[Assertion failed] - handler must not be null");
+		CollectionDiff.sortedDiff(oldItems == null ? Collections.emptyIterator() : oldItems.iterator(),
+				newItems == null ? Collections.emptyIterator() : newItems.iterator(), keyMapper, comparator, equals, handler);
+	}
+
 	private static String join(final Iterator<?> iterator, final String separator) {
 
 		if (iterator == null) {
@@ -179,18 +307,23 @@ public class CollectionUtil {
 		}
 
 		final StringBuilder buf = new StringBuilder(StringUtil.STRING_BUILDER_SIZE);
-		if (first != null) {
-			buf.append(first);
-		}
+		// 整数元素经由 digits 写入,不为每个元素创建字符串
+		final char[] digits = new char[NumberText.MAX_LONG_LENGTH];
+		appendElement(buf, first, digits);
 
 		while (iterator.hasNext()) {
 			buf.append(separator);
-			final Object obj = iterator.next();
-			if (obj != null) {
-				buf.append(obj);
-			}
+			appendElement(buf, iterator.next(), digits);
 		}
 
 		return buf.toString();
 	}
+
+	private static void appendElement(final StringBuilder buf, final Object obj, final char[] digits) {
+		if (obj instanceof Long || obj instanceof Integer || obj instanceof Short || obj instanceof Byte) {
+			buf.append(digits, 0, NumberText.toChars(((Number) obj).longValue(), digits, 0));
+		} else if (obj != null) {
+			buf.append(obj);
+		}
+	}
 }
@@ -0,0 +1,273 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * CompactMap 不可变紧凑Map
+ * <p>键值交替存放在一个数组中,没有 Node、Entry 对象:</p>
+ * <ul>
+ *     <li>不超过 {@link #LINEAR_SCAN_THRESHOLD} 个元素时数组按插入顺序紧密排列,查找时线性扫描</li>
+ *     <li>超过阈值时数组升级为开放寻址哈希表(线性探测),装载因子不超过 0.5</li>
+ * </ul>
+ * <p>不支持 null 键,支持 null 值;所有修改方法抛出 {@link UnsupportedOperationException}</p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * 线性扫描的元素数量上限
+	 */
+	public static final int LINEAR_SCAN_THRESHOLD = 8;
+
+	private static final CompactMap<?, ?> EMPTY = new CompactMap<>(new Object[0], 0, false);
+
+	/**
+	 * [k0, v0, k1, v1, ...] 哈希模式下空槽的键为null
+	 */
+	private final Object[] table;
+
+	private final int size;
+
+	private final boolean hashed;
+
+	private transient Set<Entry<K, V>> entrySet;
+
+	private CompactMap(Object[] table, int size, boolean hashed) {
+		this.table = table;
+		this.size = size;
+		this.hashed = hashed;
+	}
+
+	/**
+	 * 空Map
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return 空Map
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> CompactMap<K, V> of() {
+		return (CompactMap<K, V>) EMPTY;
+	}
+
+	/**
+	 * 由键值对创建
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code CompactMap.of("k1", 1, "k2", 2)}</li>
+	 * </ul>
+	 *
+	 * @param keyValues 键值交替
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return CompactMap
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> CompactMap<K, V> of(Object... keyValues) {
+		Assert.isTrue((keyValues.length & 1) == 0, "[Assertion failed] - keyValues length must be even");
+		Map<K, V> map = new LinkedHashMap<>(keyValues.length);
+		for (int i = 0; i < keyValues.length; i += 2) {
+			map.put((K) keyValues[i], (V) keyValues[i + 1]);
+		}
+		return copyOf(map);
+	}
+
+	/**
+	 * 复制Map
+	 *
+	 * @param map 来源
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return CompactMap,来源本身是 CompactMap 时直接返回
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> CompactMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+		if (map instanceof CompactMap) {
+			return (CompactMap<K, V>) map;
+		}
+		if (CollectionUtil.isEmpty(map)) {
+			return of();
+		}
+		final int size = map.size();
+		if (size <= LINEAR_SCAN_THRESHOLD) {
+			Object[] table = new Object[size << 1];
+			int i = 0;
+			for (Entry<? extends K, ? extends V> e : map.entrySet()) {
+				Assert.notNull(e.getKey(), "[Assertion failed] - key must not be null");
+				table[i++] = e.getKey();
+				table[i++] = e.getValue();
+			}
+			return new CompactMap<>(table, size, false);
+		}
+		final int capacity = tableCapacity(size);
+		final Object[] table = new Object[capacity << 1];
+		final int mask = capacity - 1;
+		for (Entry<? extends K, ? extends V> e : map.entrySet()) {
+			Object key = e.getKey();
+			Assert.notNull(key, "[Assertion failed] - key must not be null");
+			int slot = spread(key.hashCode()) & mask;
+			while (table[slot << 1] != null) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot << 1] = key;
+			table[(slot << 1) + 1] = e.getValue();
+		}
+		return new CompactMap<>(table, size, true);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] table = this.table;
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != null && Objects.equals(table[i + 1], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		int index = indexOf(key);
+		return index < 0 ? null : (V) this.table[index + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(Object key, V defaultValue) {
+		int index = indexOf(key);
+		return index < 0 ? defaultValue : (V) this.table[index + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] table = this.table;
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != null) {
+				action.accept((K) table[i], (V) table[i + 1]);
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		Set<Entry<K, V>> es = this.entrySet;
+		if (es == null) {
+			es = new AbstractSet<Entry<K, V>>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return CompactMap.this.size;
+				}
+			};
+			this.entrySet = es;
+		}
+		return es;
+	}
+
+	/**
+	 * 查找键在数组中的下标
+	 *
+	 * @param key 键
+	 * @return 键的下标,不存在时返回-1
+	 */
+	private int indexOf(Object key) {
+		if (key == null) {
+			return -1;
+		}
+		final Object[] table = this.table;
+		if (!this.hashed) {
+			for (int i = 0; i < table.length; i += 2) {
+				if (key.equals(table[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		final int mask = (table.length >> 1) - 1;
+		int slot = spread(key.hashCode()) & mask;
+		Object k;
+		while ((k = table[slot << 1]) != null) {
+			if (key.equals(k)) {
+				return slot << 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 哈希表槽数 不小于元素数量的2倍的2的幂
+	 */
+	static int tableCapacity(int size) {
+		return Integer.highestOneBit(Math.max(size, 2) * 2 - 1) << 1;
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+		private int next = advance(0);
+
+		private int advance(int from) {
+			final Object[] table = CompactMap.this.table;
+			while (from < table.length && table[from] == null) {
+				from += 2;
+			}
+			return from;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next < CompactMap.this.table.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final Object[] table = CompactMap.this.table;
+			final int i = this.next;
+			this.next = advance(i + 2);
+			return new SimpleImmutableEntry<>((K) table[i], (V) table[i + 1]);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * CompactSet 不可变紧凑Set
+ * <p>元素直接存放在一个数组中:不超过 {@link CompactMap#LINEAR_SCAN_THRESHOLD} 个时线性扫描,
+ * 超过时升级为开放寻址哈希表(线性探测)</p>
+ * <p>不支持 null 元素;所有修改方法抛出 {@link UnsupportedOperationException}</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+	private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0], 0, false);
+
+	private final Object[] table;
+
+	private final int size;
+
+	private final boolean hashed;
+
+	private CompactSet(Object[] table, int size, boolean hashed) {
+		this.table = table;
+		this.size = size;
+		this.hashed = hashed;
+	}
+
+	/**
+	 * 由元素创建,重复元素只保留一个
+	 *
+	 * @param elements 元素
+	 * @param <E> 元素类型
+	 * @return CompactSet
+	 *
+	 * @since 2026-10-19
+	 */
+	@SafeVarargs
+	@SuppressWarnings("unchecked")
+	public static <E> CompactSet<E> of(E... elements) {
+		if (elements.length == 0) {
+			return (CompactSet<E>) EMPTY;
+		}
+		final Set<E> distinct = new LinkedHashSet<>(elements.length * 2);
+		for (E e : elements) {
+			distinct.add(e);
+		}
+		return copyOf(distinct);
+	}
+
+	/**
+	 * 复制集合,重复元素只保留一个
+	 *
+	 * @param collection 来源
+	 * @param <E> 元素类型
+	 * @return CompactSet,来源本身是 CompactSet 时直接返回
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> CompactSet<E> copyOf(Collection<? extends E> collection) {
+		if (collection instanceof CompactSet) {
+			return (CompactSet<E>) collection;
+		}
+		if (CollectionUtil.isEmpty(collection)) {
+			return (CompactSet<E>) EMPTY;
+		}
+		// 只信任按 equals 去重的 HashSet/LinkedHashSet;IdentityHashMap 视图、按比较器去重的 TreeSet 等可能含 equals 相同的元素
+		Collection<? extends E> distinct = collection instanceof HashSet ? collection : new LinkedHashSet<>(collection);
+		final int size = distinct.size();
+		if (size <= CompactMap.LINEAR_SCAN_THRESHOLD) {
+			Object[] table = new Object[size];
+			int i = 0;
+			for (E e : distinct) {
+				Assert.notNull(e, "[Assertion failed] - element must not be null");
+				table[i++] = e;
+			}
+			return new CompactSet<>(table, size, false);
+		}
+		final Object[] table = new Object[CompactMap.tableCapacity(size)];
+		final int mask = table.length - 1;
+		for (E e : distinct) {
+			Assert.notNull(e, "[Assertion failed] - element must not be null");
+			int slot = CompactMap.spread(e.hashCode()) & mask;
+			while (table[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = e;
+		}
+		return new CompactSet<>(table, size, true);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (o == null) {
+			return false;
+		}
+		final Object[] table = this.table;
+		if (!this.hashed) {
+			for (Object e : table) {
+				if (o.equals(e)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		final int mask = table.length - 1;
+		int slot = CompactMap.spread(o.hashCode()) & mask;
+		Object e;
+		while ((e = table[slot]) != null) {
+			if (o.equals(e)) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> action) {
+		for (Object e : this.table) {
+			if (e != null) {
+				action.accept((E) e);
+			}
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int next = advance(0);
+
+			private int advance(int from) {
+				final Object[] table = CompactSet.this.table;
+				while (from < table.length && table[from] == null) {
+					from++;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return this.next < CompactSet.this.table.length;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final int i = this.next;
+				this.next = advance(i + 1);
+				return (E) CompactSet.this.table[i];
+			}
+		};
+	}
+}
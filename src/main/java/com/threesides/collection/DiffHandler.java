@@ -0,0 +1,44 @@
+package com.threesides.collection;
+
+/**
+ * DiffHandler 集合差异回调
+ * <p>见 {@link CollectionUtil#diff(java.util.Collection, java.util.Collection, java.util.function.Function, java.util.function.BiPredicate, DiffHandler)},
+ * 并行比较时各方法可能被多个线程同时调用,实现需线程安全</p>
+ *
+ * @param <T> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public interface DiffHandler<T> {
+
+	/**
+	 * 新集合中有、旧集合中没有的元素
+	 *
+	 * @param item 新元素
+	 *
+	 * @since 2026-10-19
+	 */
+	default void added(T item) {
+	}
+
+	/**
+	 * 旧集合中有、新集合中没有的元素
+	 *
+	 * @param item 旧元素
+	 *
+	 * @since 2026-10-19
+	 */
+	default void removed(T item) {
+	}
+
+	/**
+	 * 键相同但内容不同的元素
+	 *
+	 * @param oldItem 旧元素
+	 * @param newItem 新元素
+	 *
+	 * @since 2026-10-19
+	 */
+	default void changed(T oldItem, T newItem) {
+	}
+}
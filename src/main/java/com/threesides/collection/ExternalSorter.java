@@ -0,0 +1,546 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+import com.threesides.exception.SystemException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+/**
+ * ExternalSorter 外部归并排序
+ * <p>输入按内存预算分块,每块在内存中排序(可并行)后以紧凑二进制格式写入临时文件,
+ * 最后通过小顶堆 k 路归并为有序的 {@link Iterator};临时文件数量超过 maxFanIn 时先做中间归并</p>
+ * <p>例：</p>
+ * <pre>{@code
+ * try (ExternalSorter.SortedIterator<String> it = new ExternalSorter<>(Comparator.<String>naturalOrder(), ExternalSorter.STRING_CODEC)
+ *         .memoryBudget(256L << 20)
+ *         .tempDirectory(Paths.get("/data/tmp"))
+ *         .sort(lines)) {
+ *     while (it.hasNext()) { ... }
+ * }
+ * }</pre>
+ *
+ * @param <T> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class ExternalSorter<T> {
+
+	/**
+	 * 读写临时文件的编码
+	 *
+	 * @param <T> 元素类型
+	 */
+	public interface Codec<T> {
+
+		void write(DataOutput out, T value) throws IOException;
+
+		T read(DataInput in) throws IOException;
+	}
+
+	/**
+	 * 字符串编码 长度 + UTF-8字节
+	 */
+	public static final Codec<String> STRING_CODEC = new Codec<String>() {
+		@Override
+		public void write(DataOutput out, String value) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
+		@Override
+		public String read(DataInput in) throws IOException {
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/**
+	 * Long编码 8字节
+	 */
+	public static final Codec<Long> LONG_CODEC = new Codec<Long>() {
+		@Override
+		public void write(DataOutput out, Long value) throws IOException {
+			out.writeLong(value);
+		}
+
+		@Override
+		public Long read(DataInput in) throws IOException {
+			return in.readLong();
+		}
+	};
+
+	private static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+	private static final long DEFAULT_RECORD_SIZE = 64;
+
+	private static final int DEFAULT_MAX_FAN_IN = 64;
+
+	private static final int IO_BUFFER_SIZE = 64 << 10;
+
+	private final Comparator<? super T> comparator;
+
+	private final Codec<T> codec;
+
+	private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+	private ToLongFunction<? super T> sizeEstimator = t -> DEFAULT_RECORD_SIZE;
+
+	private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+	private int maxFanIn = DEFAULT_MAX_FAN_IN;
+
+	private boolean parallel;
+
+	/**
+	 * 外部排序
+	 *
+	 * @param comparator 比较器
+	 * @param codec 临时文件编码
+	 */
+	public ExternalSorter(Comparator<? super T> comparator, Codec<T> codec) {
+		Assert.notNull(comparator, "[Assertion failed] - comparator must not be null");
+		Assert.notNull(codec, "[Assertion failed] - codec must not be null");
+		this.comparator = comparator;
+		this.codec = codec;
+	}
+
+	/**
+	 * 内存预算 默认64MB
+	 *
+	 * @param bytes 每块在内存中的估算字节数上限
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ExternalSorter<T> memoryBudget(long bytes) {
+		Assert.isTrue(bytes > 0, "[Assertion failed] - memoryBudget must be greater than 0");
+		this.memoryBudget = bytes;
+		return this;
+	}
+
+	/**
+	 * 单个元素占用内存的估算 默认每个64字节
+	 *
+	 * @param sizeEstimator 估算函数
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ExternalSorter<T> sizeEstimator(ToLongFunction<? super T> sizeEstimator) {
+		Assert.notNull(sizeEstimator, "[Assertion failed] - sizeEstimator must not be null");
+		this.sizeEstimator = sizeEstimator;
+		return this;
+	}
+
+	/**
+	 * 临时文件目录 默认 java.io.tmpdir
+	 *
+	 * @param tempDirectory 目录
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ExternalSorter<T> tempDirectory(Path tempDirectory) {
+		Assert.notNull(tempDirectory, "[Assertion failed] - tempDirectory must not be null");
+		this.tempDirectory = tempDirectory;
+		return this;
+	}
+
+	/**
+	 * 每次归并最多同时打开的文件数 默认64
+	 *
+	 * @param maxFanIn 文件数
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ExternalSorter<T> maxFanIn(int maxFanIn) {
+		Assert.isTrue(maxFanIn >= 2, "[Assertion failed] - maxFanIn must be at least 2");
+		this.maxFanIn = maxFanIn;
+		return this;
+	}
+
+	/**
+	 * 块内是否并行排序 默认否
+	 *
+	 * @param parallel 是否并行
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ExternalSorter<T> parallel(boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * 排序
+	 *
+	 * @param input 输入
+	 * @return 有序迭代器,遍历结束或 close 时删除临时文件
+	 *
+	 * @since 2026-10-19
+	 */
+	public SortedIterator<T> sort(Iterable<? extends T> input) {
+		return sort(input.iterator());
+	}
+
+	/**
+	 * 排序
+	 *
+	 * @param input 输入
+	 * @return 有序迭代器,遍历结束或 close 时删除临时文件
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedIterator<T> sort(Iterator<? extends T> input) {
+		Assert.notNull(input, "[Assertion failed] - input must not be null");
+		final List<Run> runs = new ArrayList<>();
+		final List<Run> created = new ArrayList<>();
+		final SortedIterator<T> result = new SortedIterator<>();
+		boolean success = false;
+		try {
+			List<T> chunk = new ArrayList<>();
+			long chunkBytes = 0;
+			while (input.hasNext()) {
+				T value = input.next();
+				chunk.add(value);
+				chunkBytes += this.sizeEstimator.applyAsLong(value);
+				if (chunkBytes >= this.memoryBudget) {
+					runs.add(spill(sortChunk(chunk), result));
+					chunk = new ArrayList<>();
+					chunkBytes = 0;
+				}
+			}
+			if (runs.isEmpty()) {
+				// 全部放得下内存,不落盘
+				result.source = Arrays.asList((T[]) sortChunk(chunk)).iterator();
+				success = true;
+				return result;
+			}
+			if (!chunk.isEmpty()) {
+				runs.add(spill(sortChunk(chunk), result));
+			}
+			List<Run> current = runs;
+			while (current.size() > this.maxFanIn) {
+				List<Run> next = new ArrayList<>();
+				for (int i = 0; i < current.size(); i += this.maxFanIn) {
+					List<Run> group = current.subList(i, Math.min(i + this.maxFanIn, current.size()));
+					if (group.size() == 1) {
+						next.add(group.get(0));
+					} else {
+						Run merged = mergeToRun(group, result);
+						created.add(merged);
+						next.add(merged);
+					}
+				}
+				result.mergePasses++;
+				current = next;
+			}
+			result.mergePasses++;
+			result.source = new MergeIterator(current);
+			result.openRuns = current;
+			success = true;
+			return result;
+		} catch (IOException e) {
+			throw new SystemException("external sort failed", e);
+		} finally {
+			// 比较器、编码或输入抛出的运行时异常同样要清理临时文件
+			if (!success) {
+				result.close();
+				for (Run run : runs) {
+					run.delete();
+				}
+				for (Run run : created) {
+					run.delete();
+				}
+			}
+		}
+	}
+
+	private Object[] sortChunk(List<T> chunk) {
+		Object[] array = chunk.toArray();
+		@SuppressWarnings("unchecked")
+		Comparator<Object> c = (Comparator<Object>) this.comparator;
+		if (this.parallel) {
+			Arrays.parallelSort(array, c);
+		} else {
+			Arrays.sort(array, c);
+		}
+		return array;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Run spill(Object[] sorted, SortedIterator<T> stats) throws IOException {
+		Run run = new Run(Files.createTempFile(this.tempDirectory, "external-sort-", ".run"));
+		boolean success = false;
+		try (DataOutputStream out = newOutput(run.file)) {
+			for (Object value : sorted) {
+				this.codec.write(out, (T) value);
+			}
+			success = true;
+		} finally {
+			if (!success) {
+				run.delete();
+			}
+		}
+		run.count = sorted.length;
+		stats.runCount++;
+		stats.bytesSpilled += Files.size(run.file);
+		return run;
+	}
+
+	private Run mergeToRun(List<Run> group, SortedIterator<T> stats) throws IOException {
+		Run run = new Run(Files.createTempFile(this.tempDirectory, "external-sort-", ".run"));
+		boolean success = false;
+		MergeIterator merge = null;
+		try (DataOutputStream out = newOutput(run.file)) {
+			merge = new MergeIterator(group);
+			while (merge.hasNext()) {
+				this.codec.write(out, merge.next());
+				run.count++;
+			}
+			success = true;
+		} finally {
+			if (merge != null) {
+				merge.close();
+			}
+			if (!success) {
+				run.delete();
+			}
+			for (Run r : group) {
+				r.delete();
+			}
+		}
+		stats.bytesSpilled += Files.size(run.file);
+		return run;
+	}
+
+	private static DataOutputStream newOutput(Path file) throws IOException {
+		return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE));
+	}
+
+	/**
+	 * 有序临时文件
+	 */
+	static final class Run {
+
+		final Path file;
+
+		long count;
+
+		Run(Path file) {
+			this.file = file;
+		}
+
+		void delete() {
+			try {
+				Files.deleteIfExists(this.file);
+			} catch (IOException ignore) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * 临时文件读取游标
+	 */
+	private final class RunCursor {
+
+		private final DataInputStream in;
+
+		/**
+		 * 在归并中的序号,比较相等时序号小的先输出,保证排序稳定
+		 */
+		private final int index;
+
+		private long remaining;
+
+		private T head;
+
+		RunCursor(Run run, int index) throws IOException {
+			this.index = index;
+			this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file), IO_BUFFER_SIZE));
+			this.remaining = run.count;
+		}
+
+		boolean advance() throws IOException {
+			if (this.remaining == 0) {
+				this.head = null;
+				return false;
+			}
+			this.remaining--;
+			this.head = ExternalSorter.this.codec.read(this.in);
+			return true;
+		}
+
+		void close() {
+			try {
+				this.in.close();
+			} catch (IOException ignore) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * k 路归并 相等元素按 run 的顺序输出,run 按输入顺序生成,因此整体排序稳定
+	 */
+	private final class MergeIterator implements Iterator<T>, AutoCloseable {
+
+		private final PriorityQueue<RunCursor> heap;
+
+		private final List<RunCursor> cursors = new ArrayList<>();
+
+		MergeIterator(List<Run> runs) throws IOException {
+			this.heap = new PriorityQueue<>(Math.max(runs.size(), 1), (a, b) -> {
+				int c = ExternalSorter.this.comparator.compare(a.head, b.head);
+				return c != 0 ? c : Integer.compare(a.index, b.index);
+			});
+			try {
+				for (Run run : runs) {
+					RunCursor cursor = new RunCursor(run, this.cursors.size());
+					this.cursors.add(cursor);
+					if (cursor.advance()) {
+						this.heap.add(cursor);
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !this.heap.isEmpty();
+		}
+
+		@Override
+		public T next() {
+			RunCursor cursor = this.heap.poll();
+			if (cursor == null) {
+				throw new NoSuchElementException();
+			}
+			T value = cursor.head;
+			try {
+				if (cursor.advance()) {
+					this.heap.add(cursor);
+				}
+			} catch (IOException e) {
+				throw new SystemException("external sort read failed", e);
+			}
+			return value;
+		}
+
+		@Override
+		public void close() {
+			for (RunCursor cursor : this.cursors) {
+				cursor.close();
+			}
+		}
+	}
+
+	/**
+	 * SortedIterator 排序结果,遍历结束或 close 时删除临时文件
+	 *
+	 * @param <T> 元素类型
+	 */
+	public static final class SortedIterator<T> implements Iterator<T>, AutoCloseable {
+
+		private Iterator<T> source = Collections.emptyIterator();
+
+		private List<Run> openRuns = Collections.emptyList();
+
+		private boolean closed;
+
+		private long bytesSpilled;
+
+		private int runCount;
+
+		private int mergePasses;
+
+		private SortedIterator() {
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.closed) {
+				return false;
+			}
+			if (this.source.hasNext()) {
+				return true;
+			}
+			close();
+			return false;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.source.next();
+		}
+
+		/**
+		 * 落盘字节数,包含中间归并写出的字节
+		 *
+		 * @return 字节数
+		 *
+		 * @since 2026-10-19
+		 */
+		public long getBytesSpilled() {
+			return this.bytesSpilled;
+		}
+
+		/**
+		 * 初始有序块(临时文件)数量
+		 *
+		 * @return 数量
+		 *
+		 * @since 2026-10-19
+		 */
+		public int getRunCount() {
+			return this.runCount;
+		}
+
+		/**
+		 * 归并趟数,全部在内存中排序时为0
+		 *
+		 * @return 趟数
+		 *
+		 * @since 2026-10-19
+		 */
+		public int getMergePasses() {
+			return this.mergePasses;
+		}
+
+		@Override
+		public void close() {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			if (this.source instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) this.source).close();
+				} catch (Exception ignore) {
+					// ignore
+				}
+			}
+			for (Run run : this.openRuns) {
+				run.delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,366 @@
+package com.threesides.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.threesides.collection.BigArrays.*;
+
+/**
+ * IntBigArray 分段 int 大数组,下标为 long,长度可以超过 2^31
+ * <p>数据按 2^20 个元素一段存放,最后一段按实际长度分配</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class IntBigArray {
+
+	private int[][] segments;
+
+	private long length;
+
+	/**
+	 * 分段大数组,元素初始为0
+	 *
+	 * @param length 长度
+	 */
+	public IntBigArray(long length) {
+		checkLength(length);
+		final int count = segmentCount(length);
+		this.segments = new int[count][];
+		for (int s = 0; s < count; s++) {
+			this.segments[s] = new int[s == count - 1 ? lastSegmentLength(length) : SEGMENT_SIZE];
+		}
+		this.length = length;
+	}
+
+	/**
+	 * 长度
+	 *
+	 * @return 长度
+	 *
+	 * @since 2026-10-19
+	 */
+	public long length() {
+		return this.length;
+	}
+
+	/**
+	 * 读取
+	 *
+	 * @param index 下标
+	 * @return 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public int get(long index) {
+		return this.segments[segment(index)][offset(index)];
+	}
+
+	/**
+	 * 写入
+	 *
+	 * @param index 下标
+	 * @param value 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void set(long index, int value) {
+		this.segments[segment(index)][offset(index)] = value;
+	}
+
+	/**
+	 * 全部填充
+	 *
+	 * @param value 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void fill(int value) {
+		fill(0, this.length, value);
+	}
+
+	/**
+	 * 区间填充
+	 *
+	 * @param from 开始下标(包含)
+	 * @param to 结束下标(不包含)
+	 * @param value 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void fill(long from, long to, int value) {
+		checkRange(from, to, this.length);
+		long pos = from;
+		while (pos < to) {
+			final int s = segment(pos);
+			final int off = offset(pos);
+			final int len = (int) Math.min(to - pos, SEGMENT_SIZE - off);
+			Arrays.fill(this.segments[s], off, off + len, value);
+			pos += len;
+		}
+	}
+
+	/**
+	 * 从普通数组复制
+	 *
+	 * @param src 来源
+	 * @param srcPos 来源开始下标
+	 * @param destPos 目标开始下标
+	 * @param length 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public void copyFrom(int[] src, int srcPos, long destPos, int length) {
+		checkRange(destPos, destPos + length, this.length);
+		int copied = 0;
+		while (copied < length) {
+			final long pos = destPos + copied;
+			final int off = offset(pos);
+			final int len = Math.min(length - copied, SEGMENT_SIZE - off);
+			System.arraycopy(src, srcPos + copied, this.segments[segment(pos)], off, len);
+			copied += len;
+		}
+	}
+
+	/**
+	 * 复制到普通数组
+	 *
+	 * @param srcPos 来源开始下标
+	 * @param dest 目标
+	 * @param destPos 目标开始下标
+	 * @param length 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public void copyTo(long srcPos, int[] dest, int destPos, int length) {
+		checkRange(srcPos, srcPos + length, this.length);
+		int copied = 0;
+		while (copied < length) {
+			final long pos = srcPos + copied;
+			final int off = offset(pos);
+			final int len = Math.min(length - copied, SEGMENT_SIZE - off);
+			System.arraycopy(this.segments[segment(pos)], off, dest, destPos + copied, len);
+			copied += len;
+		}
+	}
+
+	/**
+	 * 大数组之间复制,来源与目标相同时支持区间重叠
+	 *
+	 * @param src 来源
+	 * @param srcPos 来源开始下标
+	 * @param dest 目标
+	 * @param destPos 目标开始下标
+	 * @param length 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public static void copy(IntBigArray src, long srcPos, IntBigArray dest, long destPos, long length) {
+		checkRange(srcPos, srcPos + length, src.length);
+		checkRange(destPos, destPos + length, dest.length);
+		if (src == dest && srcPos < destPos && destPos < srcPos + length) {
+			// 重叠且向后移动,从尾部开始复制
+			long remaining = length;
+			while (remaining > 0) {
+				final long srcEnd = srcPos + remaining;
+				final long destEnd = destPos + remaining;
+				final int srcOff = offset(srcEnd - 1) + 1;
+				final int destOff = offset(destEnd - 1) + 1;
+				final int len = (int) Math.min(remaining, Math.min(srcOff, destOff));
+				System.arraycopy(src.segments[segment(srcEnd - 1)], srcOff - len,
+						dest.segments[segment(destEnd - 1)], destOff - len, len);
+				remaining -= len;
+			}
+			return;
+		}
+		long copied = 0;
+		while (copied < length) {
+			final long s = srcPos + copied;
+			final long d = destPos + copied;
+			final int srcOff = offset(s);
+			final int destOff = offset(d);
+			final int len = (int) Math.min(length - copied, Math.min(SEGMENT_SIZE - srcOff, SEGMENT_SIZE - destOff));
+			System.arraycopy(src.segments[segment(s)], srcOff, dest.segments[segment(d)], destOff, len);
+			copied += len;
+		}
+	}
+
+	/**
+	 * 升序排序(并行)
+	 *
+	 * @since 2026-10-19
+	 */
+	public void sort() {
+		sort(0, this.length);
+	}
+
+	/**
+	 * 区间升序排序(并行)
+	 * <p>各段并行排序后两两并行归并,跨段时需要与区间等长的临时空间</p>
+	 *
+	 * @param from 开始下标(包含)
+	 * @param to 结束下标(不包含)
+	 *
+	 * @since 2026-10-19
+	 */
+	public void sort(long from, long to) {
+		checkRange(from, to, this.length);
+		if (to - from < 2) {
+			return;
+		}
+		if (segment(from) == segment(to - 1)) {
+			Arrays.parallelSort(this.segments[segment(from)], offset(from), offset(to - 1) + 1);
+			return;
+		}
+		// 按段切块,块内并行排序
+		final List<Long> boundaries = new ArrayList<>();
+		long pos = from;
+		while (pos < to) {
+			boundaries.add(pos - from);
+			pos = Math.min(to, start(segment(pos) + 1));
+		}
+		boundaries.add(to - from);
+		final long[] bounds = new long[boundaries.size()];
+		for (int i = 0; i < bounds.length; i++) {
+			bounds[i] = boundaries.get(i);
+		}
+		IntStream.range(0, bounds.length - 1).parallel().forEach(i -> {
+			final long start = from + bounds[i];
+			final int off = offset(start);
+			Arrays.sort(this.segments[segment(start)], off, off + (int) (bounds[i + 1] - bounds[i]));
+		});
+		// 自底向上两两归并,在当前数组与临时数组之间交替
+		final IntBigArray temp = new IntBigArray(to - from);
+		IntBigArray src = this;
+		long srcBase = from;
+		IntBigArray dst = temp;
+		long dstBase = 0;
+		long[] runs = bounds;
+		while (runs.length > 2) {
+			final long[] current = runs;
+			final IntBigArray s = src;
+			final long sb = srcBase;
+			final IntBigArray d = dst;
+			final long db = dstBase;
+			final int pairs = (current.length - 1) / 2;
+			IntStream.range(0, (current.length) / 2).parallel().forEach(p -> {
+				final int i = p * 2;
+				if (i + 2 < current.length) {
+					merge(s, sb, d, db, current[i], current[i + 1], current[i + 2]);
+				} else {
+					copy(s, sb + current[i], d, db + current[i], current[i + 1] - current[i]);
+				}
+			});
+			final long[] next = new long[pairs + 1 + ((current.length - 1) & 1)];
+			for (int i = 0; i < next.length - 1; i++) {
+				next[i] = current[i * 2];
+			}
+			next[next.length - 1] = current[current.length - 1];
+			runs = next;
+			src = d;
+			srcBase = db;
+			dst = s;
+			dstBase = sb;
+		}
+		if (src != this) {
+			copy(src, srcBase, this, from, to - from);
+		}
+	}
+
+	private static void merge(IntBigArray src, long srcBase, IntBigArray dst, long dstBase, long lo, long mid, long hi) {
+		long i = lo;
+		long j = mid;
+		long k = lo;
+		if (src.get(srcBase + mid - 1) <= src.get(srcBase + mid)) {
+			// 已经有序
+			copy(src, srcBase + lo, dst, dstBase + lo, hi - lo);
+			return;
+		}
+		while (i < mid && j < hi) {
+			final int a = src.get(srcBase + i);
+			final int b = src.get(srcBase + j);
+			if (a <= b) {
+				dst.set(dstBase + k++, a);
+				i++;
+			} else {
+				dst.set(dstBase + k++, b);
+				j++;
+			}
+		}
+		if (i < mid) {
+			copy(src, srcBase + i, dst, dstBase + k, mid - i);
+		} else if (j < hi) {
+			copy(src, srcBase + j, dst, dstBase + k, hi - j);
+		}
+	}
+
+	/**
+	 * 二分查找,数组需已升序
+	 *
+	 * @param key 查找值
+	 * @return 下标,不存在时返回 -(插入位置) - 1
+	 *
+	 * @since 2026-10-19
+	 */
+	public long binarySearch(int key) {
+		return binarySearch(0, this.length, key);
+	}
+
+	/**
+	 * 区间二分查找,区间需已升序
+	 *
+	 * @param from 开始下标(包含)
+	 * @param to 结束下标(不包含)
+	 * @param key 查找值
+	 * @return 下标,不存在时返回 -(插入位置) - 1
+	 *
+	 * @since 2026-10-19
+	 */
+	public long binarySearch(long from, long to, int key) {
+		checkRange(from, to, this.length);
+		long low = from;
+		long high = to - 1;
+		while (low <= high) {
+			final long mid = (low + high) >>> 1;
+			final int midVal = get(mid);
+			if (midVal < key) {
+				low = mid + 1;
+			} else if (midVal > key) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * 扩容,新增元素为0
+	 *
+	 * @param newLength 新长度
+	 */
+	void grow(long newLength) {
+		checkLength(newLength);
+		if (newLength <= this.length) {
+			return;
+		}
+		final int oldCount = this.segments.length;
+		final int newCount = segmentCount(newLength);
+		if (newCount != oldCount) {
+			this.segments = Arrays.copyOf(this.segments, newCount);
+		}
+		if (oldCount > 0) {
+			final int last = oldCount - 1;
+			final int need = newCount > oldCount ? SEGMENT_SIZE : lastSegmentLength(newLength);
+			if (this.segments[last].length < need) {
+				this.segments[last] = Arrays.copyOf(this.segments[last], need);
+			}
+		}
+		for (int s = oldCount; s < newCount; s++) {
+			this.segments[s] = new int[s == newCount - 1 ? lastSegmentLength(newLength) : SEGMENT_SIZE];
+		}
+		this.length = newLength;
+	}
+}
@@ -0,0 +1,172 @@
+package com.threesides.collection;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * IntGroupIndex 按 int 键分组的索引,结构见 {@link AbstractGroupIndex}
+ * <p>由 {@link CollectionUtil#groupByInt(Collection, ToIntFunction)} 构建</p>
+ *
+ * @param <V> 值类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class IntGroupIndex<V> extends AbstractGroupIndex<V> {
+
+	private final int[] keys;
+
+	/**
+	 * 开放寻址表 槽位存放 组号 + 1,0 为空
+	 */
+	private final int[] table;
+
+	private IntGroupIndex(Object[] items, int[] groupIds, int[] keys, int[] table, boolean parallel) {
+		super(items, groupIds, keys.length, parallel);
+		this.keys = keys;
+		this.table = table;
+	}
+
+	static <V> IntGroupIndex<V> build(Collection<? extends V> collection, ToIntFunction<? super V> keyMapper) {
+		final Object[] items = collection.toArray();
+		final int n = items.length;
+		final boolean parallel = n >= PARALLEL_THRESHOLD;
+		final int[] itemKeys = new int[n];
+		IntStream range = IntStream.range(0, n);
+		(parallel ? range.parallel() : range).forEach(i -> {
+			@SuppressWarnings("unchecked")
+			V item = (V) items[i];
+			itemKeys[i] = keyMapper.applyAsInt(item);
+		});
+		final int[] groupIds = new int[n];
+		int[] table = new int[tableCapacity(16)];
+		int[] keys = new int[16];
+		int groups = 0;
+		for (int i = 0; i < n; i++) {
+			final int key = itemKeys[i];
+			int mask = table.length - 1;
+			int slot = mix(key) & mask;
+			int id;
+			while ((id = table[slot]) != 0 && keys[id - 1] != key) {
+				slot = (slot + 1) & mask;
+			}
+			if (id == 0) {
+				if (groups == keys.length) {
+					keys = Arrays.copyOf(keys, groups << 1);
+				}
+				keys[groups++] = key;
+				id = groups;
+				table[slot] = id;
+				if (groups * 2 > table.length) {
+					table = rehash(keys, groups, tableCapacity(groups * 2));
+				}
+			}
+			groupIds[i] = id - 1;
+		}
+		keys = Arrays.copyOf(keys, groups);
+		return new IntGroupIndex<>(items, groupIds, keys, table, parallel);
+	}
+
+	private static int[] rehash(int[] keys, int groups, int capacity) {
+		final int[] table = new int[capacity];
+		final int mask = capacity - 1;
+		for (int g = 0; g < groups; g++) {
+			int slot = mix(keys[g]) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = g + 1;
+		}
+		return table;
+	}
+
+	/**
+	 * 键对应的组号
+	 *
+	 * @param key 键
+	 * @return 组号,不存在时返回-1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int groupOf(int key) {
+		final int mask = this.table.length - 1;
+		int slot = mix(key) & mask;
+		int id;
+		while ((id = this.table[slot]) != 0) {
+			if (this.keys[id - 1] == key) {
+				return id - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * 第 group 组的键
+	 *
+	 * @param group 组号
+	 * @return 键
+	 *
+	 * @since 2026-10-19
+	 */
+	public int key(int group) {
+		return this.keys[group];
+	}
+
+	/**
+	 * 键对应的值
+	 *
+	 * @param key 键
+	 * @return 只读视图,键不存在时返回空List
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<V> get(int key) {
+		final int group = groupOf(key);
+		return group < 0 ? Collections.emptyList() : group(group);
+	}
+
+	/**
+	 * 是否包含键
+	 *
+	 * @param key 键
+	 * @return true:包含、false:不包含
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean containsKey(int key) {
+		return groupOf(key) >= 0;
+	}
+
+	/**
+	 * 哈希连接 对两边键相同的每一对值调用 consumer
+	 *
+	 * @param other 另一个索引
+	 * @param consumer 接收 (本索引的值, 另一个索引的值)
+	 * @param <W> 另一个索引的值类型
+	 *
+	 * @since 2026-10-19
+	 */
+	public <W> void join(IntGroupIndex<W> other, BiConsumer<? super V, ? super W> consumer) {
+		final boolean iterateThis = this.groupCount() <= other.groupCount();
+		final IntGroupIndex<?> smaller = iterateThis ? this : other;
+		final IntGroupIndex<?> larger = iterateThis ? other : this;
+		for (int g = 0; g < smaller.groupCount(); g++) {
+			final int h = larger.groupOf(smaller.keys[g]);
+			if (h < 0) {
+				continue;
+			}
+			final int left = iterateThis ? g : h;
+			final int right = iterateThis ? h : g;
+			final int leftSize = this.groupSize(left);
+			final int rightSize = other.groupSize(right);
+			for (int i = 0; i < leftSize; i++) {
+				final V v = this.value(left, i);
+				for (int j = 0; j < rightSize; j++) {
+					consumer.accept(v, other.value(right, j));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,624 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+
+import java.util.*;
+
+/**
+ * PersistentHashMap 持久化(结构共享)不可变Map
+ * <p>基于哈希数组映射前缀树(HAMT),每层32路,{@link #plus(Object, Object)}、{@link #minus(Object)}
+ * 只复制从根到目标叶子的路径,代价 O(log32 n),旧版本保持不变,可以在并发更新下作为一致性快照读取</p>
+ * <p>批量构建使用 {@link #builder()} / {@link #toBuilder()},同一个 Builder 内的修改直接在自己创建的节点上进行</p>
+ * <p>不支持 null 键;{@link Map} 的修改方法抛出 {@link UnsupportedOperationException}</p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int BITS = 5;
+
+	private static final int MASK = (1 << BITS) - 1;
+
+	/**
+	 * 7层位图节点 + 1层冲突节点
+	 */
+	private static final int MAX_DEPTH = 8;
+
+	private static final Object NOT_FOUND = new Object();
+
+	private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+	private final Node root;
+
+	private final int size;
+
+	private transient Set<Entry<K, V>> entrySet;
+
+	private PersistentHashMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * 空Map
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return 空Map
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentHashMap<K, V> empty() {
+		return (PersistentHashMap<K, V>) EMPTY;
+	}
+
+	/**
+	 * 复制Map
+	 *
+	 * @param map 来源
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return PersistentHashMap,来源本身是 PersistentHashMap 时直接返回
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+		if (map instanceof PersistentHashMap) {
+			return (PersistentHashMap<K, V>) map;
+		}
+		Builder<K, V> builder = builder();
+		if (CollectionUtil.isNotEmpty(map)) {
+			builder.putAll(map);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 新建Builder
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <K, V> Builder<K, V> builder() {
+		return new Builder<>(null, 0);
+	}
+
+	/**
+	 * 以当前Map为起点的Builder,不影响当前Map
+	 *
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public Builder<K, V> toBuilder() {
+		return new Builder<>(this.root, this.size);
+	}
+
+	/**
+	 * 新增或替换键值
+	 *
+	 * @param key 键
+	 * @param value 值
+	 * @return 新Map,值未变化时返回当前Map
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentHashMap<K, V> plus(K key, V value) {
+		Assert.notNull(key, "[Assertion failed] - key must not be null");
+		Box added = new Box();
+		Node base = this.root == null ? BitmapNode.EMPTY : this.root;
+		Node newRoot = base.assoc(null, 0, hash(key), key, value, added);
+		if (newRoot == this.root) {
+			return this;
+		}
+		return new PersistentHashMap<>(newRoot, added.value ? this.size + 1 : this.size);
+	}
+
+	/**
+	 * 批量新增或替换
+	 *
+	 * @param map 键值
+	 * @return 新Map
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentHashMap<K, V> plusAll(Map<? extends K, ? extends V> map) {
+		if (CollectionUtil.isEmpty(map)) {
+			return this;
+		}
+		return toBuilder().putAll(map).build();
+	}
+
+	/**
+	 * 删除键
+	 *
+	 * @param key 键
+	 * @return 新Map,键不存在时返回当前Map
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentHashMap<K, V> minus(Object key) {
+		if (key == null || this.root == null) {
+			return this;
+		}
+		Box removed = new Box();
+		Node newRoot = this.root.without(null, 0, hash(key), key, removed);
+		if (!removed.value) {
+			return this;
+		}
+		return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, this.size - 1);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(this.root, key) != NOT_FOUND;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		Object value = find(this.root, key);
+		return value == NOT_FOUND ? null : (V) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(Object key, V defaultValue) {
+		Object value = find(this.root, key);
+		return value == NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		Set<Entry<K, V>> es = this.entrySet;
+		if (es == null) {
+			es = new AbstractSet<Entry<K, V>>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return new NodeIterator<>(PersistentHashMap.this.root);
+				}
+
+				@Override
+				public int size() {
+					return PersistentHashMap.this.size;
+				}
+			};
+			this.entrySet = es;
+		}
+		return es;
+	}
+
+	private static Object find(Node root, Object key) {
+		if (root == null || key == null) {
+			return NOT_FOUND;
+		}
+		return root.find(0, hash(key), key);
+	}
+
+	static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static int bitpos(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	/**
+	 * Builder 批量构建(瞬态模式)
+	 * <p>Builder 自己创建的节点会被原地修改,{@link #build()} 之后再修改会重新复制节点,已构建的Map不受影响</p>
+	 * <p>Builder 不是线程安全的</p>
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	public static final class Builder<K, V> {
+
+		private Object edit = new Object();
+
+		private Node root;
+
+		private int size;
+
+		private final Box box = new Box();
+
+		private Builder(Node root, int size) {
+			this.root = root;
+			this.size = size;
+		}
+
+		/**
+		 * 新增或替换
+		 *
+		 * @param key 键
+		 * @param value 值
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<K, V> put(K key, V value) {
+			Assert.notNull(key, "[Assertion failed] - key must not be null");
+			this.box.value = false;
+			Node base = this.root == null ? BitmapNode.EMPTY : this.root;
+			this.root = base.assoc(this.edit, 0, hash(key), key, value, this.box);
+			if (this.box.value) {
+				this.size++;
+			}
+			return this;
+		}
+
+		/**
+		 * 批量新增或替换
+		 *
+		 * @param map 键值
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+			for (Entry<? extends K, ? extends V> e : map.entrySet()) {
+				put(e.getKey(), e.getValue());
+			}
+			return this;
+		}
+
+		/**
+		 * 删除
+		 *
+		 * @param key 键
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<K, V> remove(Object key) {
+			if (key == null || this.root == null) {
+				return this;
+			}
+			this.box.value = false;
+			this.root = this.root.without(this.edit, 0, hash(key), key, this.box);
+			if (this.box.value) {
+				this.size--;
+			}
+			return this;
+		}
+
+		/**
+		 * 当前数量
+		 *
+		 * @return 数量
+		 *
+		 * @since 2026-10-19
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * 构建
+		 *
+		 * @return PersistentHashMap
+		 *
+		 * @since 2026-10-19
+		 */
+		public PersistentHashMap<K, V> build() {
+			// 换一个修改标记,之后的修改不会再影响已构建的节点
+			this.edit = new Object();
+			return this.root == null || this.size == 0 ? empty() : new PersistentHashMap<>(this.root, this.size);
+		}
+	}
+
+	static final class Box {
+		boolean value;
+	}
+
+	/**
+	 * 节点
+	 */
+	abstract static class Node {
+
+		/**
+		 * 创建该节点的 Builder 标记,持久化操作创建的节点为null
+		 */
+		Object edit;
+
+		/**
+		 * [k0, v0, k1, v1, ...] 位图节点中键为null时值为子节点
+		 */
+		Object[] array;
+
+		Node(Object edit, Object[] array) {
+			this.edit = edit;
+			this.array = array;
+		}
+
+		abstract Object find(int shift, int hash, Object key);
+
+		abstract Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added);
+
+		abstract Node without(Object edit, int shift, int hash, Object key, Box removed);
+
+		final boolean editable(Object edit) {
+			return edit != null && this.edit == edit;
+		}
+	}
+
+	static final class BitmapNode extends Node {
+
+		static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+		int bitmap;
+
+		BitmapNode(Object edit, int bitmap, Object[] array) {
+			super(edit, array);
+			this.bitmap = bitmap;
+		}
+
+		private int index(int bit) {
+			return Integer.bitCount(this.bitmap & (bit - 1));
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			final int bit = bitpos(hash, shift);
+			if ((this.bitmap & bit) == 0) {
+				return NOT_FOUND;
+			}
+			final int idx = index(bit) << 1;
+			final Object k = this.array[idx];
+			final Object v = this.array[idx + 1];
+			if (k == null) {
+				return ((Node) v).find(shift + BITS, hash, key);
+			}
+			return key.equals(k) ? v : NOT_FOUND;
+		}
+
+		@Override
+		Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added) {
+			final int bit = bitpos(hash, shift);
+			final int idx = index(bit) << 1;
+			if ((this.bitmap & bit) != 0) {
+				final Object k = this.array[idx];
+				final Object v = this.array[idx + 1];
+				if (k == null) {
+					Node sub = ((Node) v).assoc(edit, shift + BITS, hash, key, value, added);
+					return sub == v ? this : set(edit, idx + 1, sub);
+				}
+				if (key.equals(k)) {
+					return v == value ? this : set(edit, idx + 1, value);
+				}
+				added.value = true;
+				Node sub = createNode(edit, shift + BITS, k, v, hash, key, value);
+				BitmapNode node = set(edit, idx, null);
+				node.array[idx + 1] = sub;
+				return node;
+			}
+			added.value = true;
+			final Object[] newArray = new Object[this.array.length + 2];
+			System.arraycopy(this.array, 0, newArray, 0, idx);
+			newArray[idx] = key;
+			newArray[idx + 1] = value;
+			System.arraycopy(this.array, idx, newArray, idx + 2, this.array.length - idx);
+			if (editable(edit)) {
+				this.array = newArray;
+				this.bitmap |= bit;
+				return this;
+			}
+			return new BitmapNode(edit, this.bitmap | bit, newArray);
+		}
+
+		@Override
+		Node without(Object edit, int shift, int hash, Object key, Box removed) {
+			final int bit = bitpos(hash, shift);
+			if ((this.bitmap & bit) == 0) {
+				return this;
+			}
+			final int idx = index(bit) << 1;
+			final Object k = this.array[idx];
+			final Object v = this.array[idx + 1];
+			if (k == null) {
+				Node sub = ((Node) v).without(edit, shift + BITS, hash, key, removed);
+				if (sub == v) {
+					return this;
+				}
+				if (sub != null) {
+					return set(edit, idx + 1, sub);
+				}
+				return removePair(edit, bit, idx);
+			}
+			if (key.equals(k)) {
+				removed.value = true;
+				return removePair(edit, bit, idx);
+			}
+			return this;
+		}
+
+		private Node removePair(Object edit, int bit, int idx) {
+			if (this.bitmap == bit) {
+				return null;
+			}
+			final Object[] newArray = new Object[this.array.length - 2];
+			System.arraycopy(this.array, 0, newArray, 0, idx);
+			System.arraycopy(this.array, idx + 2, newArray, idx, newArray.length - idx);
+			if (editable(edit)) {
+				this.array = newArray;
+				this.bitmap ^= bit;
+				return this;
+			}
+			return new BitmapNode(edit, this.bitmap ^ bit, newArray);
+		}
+
+		private BitmapNode set(Object edit, int i, Object value) {
+			if (editable(edit)) {
+				this.array[i] = value;
+				return this;
+			}
+			Object[] newArray = this.array.clone();
+			newArray[i] = value;
+			return new BitmapNode(edit, this.bitmap, newArray);
+		}
+
+		private static Node createNode(Object edit, int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+			final int h1 = hash(k1);
+			if (h1 == h2) {
+				return new CollisionNode(edit, h1, new Object[]{k1, v1, k2, v2});
+			}
+			Box box = new Box();
+			return EMPTY.assoc(edit, shift, h1, k1, v1, box).assoc(edit, shift, h2, k2, v2, box);
+		}
+	}
+
+	/**
+	 * 哈希值完全相同的键
+	 */
+	static final class CollisionNode extends Node {
+
+		final int hash;
+
+		CollisionNode(Object edit, int hash, Object[] array) {
+			super(edit, array);
+			this.hash = hash;
+		}
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < this.array.length; i += 2) {
+				if (key.equals(this.array[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			final int idx = indexOf(key);
+			return idx < 0 ? NOT_FOUND : this.array[idx + 1];
+		}
+
+		@Override
+		Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added) {
+			if (hash != this.hash) {
+				// 哈希值不同,下沉到新的位图节点
+				return new BitmapNode(edit, bitpos(this.hash, shift), new Object[]{null, this})
+						.assoc(edit, shift, hash, key, value, added);
+			}
+			final int idx = indexOf(key);
+			if (idx >= 0) {
+				if (this.array[idx + 1] == value) {
+					return this;
+				}
+				Object[] newArray = editable(edit) ? this.array : this.array.clone();
+				newArray[idx + 1] = value;
+				return editable(edit) ? this : new CollisionNode(edit, hash, newArray);
+			}
+			added.value = true;
+			Object[] newArray = Arrays.copyOf(this.array, this.array.length + 2);
+			newArray[this.array.length] = key;
+			newArray[this.array.length + 1] = value;
+			if (editable(edit)) {
+				this.array = newArray;
+				return this;
+			}
+			return new CollisionNode(edit, hash, newArray);
+		}
+
+		@Override
+		Node without(Object edit, int shift, int hash, Object key, Box removed) {
+			final int idx = indexOf(key);
+			if (idx < 0) {
+				return this;
+			}
+			removed.value = true;
+			if (this.array.length == 2) {
+				return null;
+			}
+			final Object[] newArray = new Object[this.array.length - 2];
+			System.arraycopy(this.array, 0, newArray, 0, idx);
+			System.arraycopy(this.array, idx + 2, newArray, idx, newArray.length - idx);
+			if (editable(edit)) {
+				this.array = newArray;
+				return this;
+			}
+			return new CollisionNode(edit, hash, newArray);
+		}
+	}
+
+	/**
+	 * 深度优先遍历
+	 */
+	static final class NodeIterator<K, V> implements Iterator<Entry<K, V>> {
+
+		private final Object[][] arrays = new Object[MAX_DEPTH + 1][];
+
+		private final int[] positions = new int[MAX_DEPTH + 1];
+
+		private int depth;
+
+		private Entry<K, V> next;
+
+		NodeIterator(Node root) {
+			if (root == null) {
+				this.depth = -1;
+			} else {
+				this.arrays[0] = root.array;
+				advance();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void advance() {
+			while (this.depth >= 0) {
+				final Object[] array = this.arrays[this.depth];
+				final int pos = this.positions[this.depth];
+				if (pos >= array.length) {
+					this.depth--;
+					continue;
+				}
+				this.positions[this.depth] = pos + 2;
+				final Object k = array[pos];
+				final Object v = array[pos + 1];
+				if (k == null) {
+					this.depth++;
+					this.arrays[this.depth] = ((Node) v).array;
+					this.positions[this.depth] = 0;
+				} else {
+					this.next = new SimpleImmutableEntry<>((K) k, (V) v);
+					return;
+				}
+			}
+			this.next = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (this.next == null) {
+				throw new NoSuchElementException();
+			}
+			Entry<K, V> e = this.next;
+			advance();
+			return e;
+		}
+	}
+}
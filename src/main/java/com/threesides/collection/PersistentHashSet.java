@@ -0,0 +1,207 @@
+package com.threesides.collection;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * PersistentHashSet 持久化(结构共享)不可变Set
+ * <p>基于 {@link PersistentHashMap},{@link #plus(Object)}、{@link #minus(Object)} 代价 O(log32 n)</p>
+ * <p>不支持 null 元素;{@link java.util.Set} 的修改方法抛出 {@link UnsupportedOperationException}</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+	private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+	private final PersistentHashMap<E, Boolean> map;
+
+	private PersistentHashSet(PersistentHashMap<E, Boolean> map) {
+		this.map = map;
+	}
+
+	/**
+	 * 空Set
+	 *
+	 * @param <E> 元素类型
+	 * @return 空Set
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentHashSet<E> empty() {
+		return (PersistentHashSet<E>) EMPTY;
+	}
+
+	/**
+	 * 复制集合
+	 *
+	 * @param collection 来源
+	 * @param <E> 元素类型
+	 * @return PersistentHashSet,来源本身是 PersistentHashSet 时直接返回
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> collection) {
+		if (collection instanceof PersistentHashSet) {
+			return (PersistentHashSet<E>) collection;
+		}
+		Builder<E> builder = builder();
+		if (CollectionUtil.isNotEmpty(collection)) {
+			builder.addAll(collection);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 新建Builder
+	 *
+	 * @param <E> 元素类型
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <E> Builder<E> builder() {
+		return new Builder<>(PersistentHashMap.<E, Boolean>builder());
+	}
+
+	/**
+	 * 以当前Set为起点的Builder,不影响当前Set
+	 *
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public Builder<E> toBuilder() {
+		return new Builder<>(this.map.toBuilder());
+	}
+
+	/**
+	 * 新增元素
+	 *
+	 * @param e 元素
+	 * @return 新Set,元素已存在时返回当前Set
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentHashSet<E> plus(E e) {
+		PersistentHashMap<E, Boolean> newMap = this.map.plus(e, Boolean.TRUE);
+		return newMap == this.map ? this : new PersistentHashSet<>(newMap);
+	}
+
+	/**
+	 * 删除元素
+	 *
+	 * @param e 元素
+	 * @return 新Set,元素不存在时返回当前Set
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentHashSet<E> minus(Object e) {
+		PersistentHashMap<E, Boolean> newMap = this.map.minus(e);
+		return newMap == this.map ? this : new PersistentHashSet<>(newMap);
+	}
+
+	@Override
+	public int size() {
+		return this.map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.map.isEmpty();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return this.map.containsKey(o);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		final Iterator<Map.Entry<E, Boolean>> iterator = this.map.entrySet().iterator();
+		return new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iterator.next().getKey();
+			}
+		};
+	}
+
+	/**
+	 * Builder 批量构建(瞬态模式),不是线程安全的
+	 *
+	 * @param <E> 元素类型
+	 */
+	public static final class Builder<E> {
+
+		private final PersistentHashMap.Builder<E, Boolean> map;
+
+		private Builder(PersistentHashMap.Builder<E, Boolean> map) {
+			this.map = map;
+		}
+
+		/**
+		 * 新增
+		 *
+		 * @param e 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> add(E e) {
+			this.map.put(e, Boolean.TRUE);
+			return this;
+		}
+
+		/**
+		 * 批量新增
+		 *
+		 * @param collection 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> addAll(Collection<? extends E> collection) {
+			for (E e : collection) {
+				add(e);
+			}
+			return this;
+		}
+
+		/**
+		 * 删除
+		 *
+		 * @param e 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> remove(Object e) {
+			this.map.remove(e);
+			return this;
+		}
+
+		/**
+		 * 构建
+		 *
+		 * @return PersistentHashSet
+		 *
+		 * @since 2026-10-19
+		 */
+		public PersistentHashSet<E> build() {
+			PersistentHashMap<E, Boolean> built = this.map.build();
+			return built.isEmpty() ? empty() : new PersistentHashSet<>(built);
+		}
+	}
+}
@@ -0,0 +1,399 @@
+package com.threesides.collection;
+
+import com.threesides.exception.Assert;
+
+import java.util.*;
+
+/**
+ * PersistentVector 持久化(结构共享)不可变List
+ * <p>32路前缀树 + 尾部缓冲,{@link #plus(Object)}、{@link #with(int, Object)}、{@link #minusLast()}
+ * 只复制一条路径,代价 O(log32 n),随机读取 O(log32 n)</p>
+ * <p>批量构建使用 {@link #builder()} / {@link #toBuilder()}</p>
+ * <p>{@link List} 的修改方法抛出 {@link UnsupportedOperationException}</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+	private static final int BITS = 5;
+
+	private static final int WIDTH = 1 << BITS;
+
+	private static final int MASK = WIDTH - 1;
+
+	private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+	private final int count;
+
+	private final int shift;
+
+	private final Node root;
+
+	private final Object[] tail;
+
+	private PersistentVector(int count, int shift, Node root, Object[] tail) {
+		this.count = count;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	/**
+	 * 空List
+	 *
+	 * @param <E> 元素类型
+	 * @return 空List
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> empty() {
+		return (PersistentVector<E>) EMPTY;
+	}
+
+	/**
+	 * 复制集合
+	 *
+	 * @param collection 来源
+	 * @param <E> 元素类型
+	 * @return PersistentVector,来源本身是 PersistentVector 时直接返回
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> copyOf(Collection<? extends E> collection) {
+		if (collection instanceof PersistentVector) {
+			return (PersistentVector<E>) collection;
+		}
+		Builder<E> builder = builder();
+		if (CollectionUtil.isNotEmpty(collection)) {
+			builder.addAll(collection);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 新建Builder
+	 *
+	 * @param <E> 元素类型
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <E> Builder<E> builder() {
+		return new Builder<>(empty());
+	}
+
+	/**
+	 * 以当前List为起点的Builder,不影响当前List
+	 *
+	 * @return Builder
+	 *
+	 * @since 2026-10-19
+	 */
+	public Builder<E> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	@Override
+	public int size() {
+		return this.count;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Assert.checkIndex(index, this.count);
+		return (E) arrayFor(index)[index & MASK];
+	}
+
+	/**
+	 * 追加元素
+	 *
+	 * @param e 元素
+	 * @return 新List
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentVector<E> plus(E e) {
+		if (this.count - tailOffset(this.count) < WIDTH) {
+			Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+			newTail[this.tail.length] = e;
+			return new PersistentVector<>(this.count + 1, this.shift, this.root, newTail);
+		}
+		// 尾部已满,挂到树上
+		Node tailNode = new Node(null, this.tail);
+		Node newRoot;
+		int newShift = this.shift;
+		if ((this.count >>> BITS) > (1 << this.shift)) {
+			newRoot = new Node(null, new Object[WIDTH]);
+			newRoot.array[0] = this.root;
+			newRoot.array[1] = newPath(null, this.shift, tailNode);
+			newShift += BITS;
+		} else {
+			newRoot = pushTail(null, this.count, this.shift, this.root, tailNode);
+		}
+		return new PersistentVector<>(this.count + 1, newShift, newRoot, new Object[]{e});
+	}
+
+	/**
+	 * 替换元素
+	 *
+	 * @param index 下标,等于 size 时追加
+	 * @param e 元素
+	 * @return 新List
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentVector<E> with(int index, E e) {
+		if (index == this.count) {
+			return plus(e);
+		}
+		Assert.checkIndex(index, this.count);
+		if (index >= tailOffset(this.count)) {
+			Object[] newTail = this.tail.clone();
+			newTail[index & MASK] = e;
+			return new PersistentVector<>(this.count, this.shift, this.root, newTail);
+		}
+		return new PersistentVector<>(this.count, this.shift, doAssoc(null, this.shift, this.root, index, e), this.tail);
+	}
+
+	/**
+	 * 删除最后一个元素
+	 *
+	 * @return 新List
+	 *
+	 * @since 2026-10-19
+	 */
+	public PersistentVector<E> minusLast() {
+		Assert.isTrue(this.count > 0, "[Assertion failed] - vector is empty");
+		if (this.count == 1) {
+			return empty();
+		}
+		if (this.count - tailOffset(this.count) > 1) {
+			return new PersistentVector<>(this.count - 1, this.shift, this.root, Arrays.copyOf(this.tail, this.tail.length - 1));
+		}
+		Object[] newTail = arrayFor(this.count - 2);
+		Node newRoot = popTail(this.count, this.shift, this.root);
+		int newShift = this.shift;
+		if (newRoot == null) {
+			newRoot = EMPTY_NODE;
+		}
+		if (this.shift > BITS && newRoot.array[1] == null) {
+			newRoot = (Node) newRoot.array[0];
+			newShift -= BITS;
+		}
+		return new PersistentVector<>(this.count - 1, newShift, newRoot, newTail);
+	}
+
+	private Object[] arrayFor(int index) {
+		if (index >= tailOffset(this.count)) {
+			return this.tail;
+		}
+		Node node = this.root;
+		for (int level = this.shift; level > 0; level -= BITS) {
+			node = (Node) node.array[(index >>> level) & MASK];
+		}
+		return node.array;
+	}
+
+	private static int tailOffset(int count) {
+		return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+	}
+
+	private static Node newPath(Object edit, int level, Node node) {
+		if (level == 0) {
+			return node;
+		}
+		Node ret = new Node(edit, new Object[WIDTH]);
+		ret.array[0] = newPath(edit, level - BITS, node);
+		return ret;
+	}
+
+	private static Node pushTail(Object edit, int count, int level, Node parent, Node tailNode) {
+		final int subIndex = ((count - 1) >>> level) & MASK;
+		final Node ret = parent.editable(edit) ? parent : new Node(edit, parent.array.clone());
+		Node toInsert;
+		if (level == BITS) {
+			toInsert = tailNode;
+		} else {
+			Node child = (Node) parent.array[subIndex];
+			toInsert = child != null ? pushTail(edit, count, level - BITS, child, tailNode) : newPath(edit, level - BITS, tailNode);
+		}
+		ret.array[subIndex] = toInsert;
+		return ret;
+	}
+
+	private static Node doAssoc(Object edit, int level, Node node, int index, Object value) {
+		final Node ret = node.editable(edit) ? node : new Node(edit, node.array.clone());
+		if (level == 0) {
+			ret.array[index & MASK] = value;
+		} else {
+			final int subIndex = (index >>> level) & MASK;
+			ret.array[subIndex] = doAssoc(edit, level - BITS, (Node) node.array[subIndex], index, value);
+		}
+		return ret;
+	}
+
+	private static Node popTail(int count, int level, Node node) {
+		final int subIndex = ((count - 2) >>> level) & MASK;
+		if (level > BITS) {
+			Node newChild = popTail(count, level - BITS, (Node) node.array[subIndex]);
+			if (newChild == null && subIndex == 0) {
+				return null;
+			}
+			Node ret = new Node(null, node.array.clone());
+			ret.array[subIndex] = newChild;
+			return ret;
+		}
+		if (subIndex == 0) {
+			return null;
+		}
+		Node ret = new Node(null, node.array.clone());
+		ret.array[subIndex] = null;
+		return ret;
+	}
+
+	static final class Node {
+
+		/**
+		 * 创建该节点的 Builder 标记,持久化操作创建的节点为null
+		 */
+		final Object edit;
+
+		final Object[] array;
+
+		Node(Object edit, Object[] array) {
+			this.edit = edit;
+			this.array = array;
+		}
+
+		boolean editable(Object edit) {
+			return edit != null && this.edit == edit;
+		}
+	}
+
+	/**
+	 * Builder 批量构建(瞬态模式)
+	 * <p>Builder 自己创建的节点会被原地修改,{@link #build()} 之后再修改会重新复制节点,已构建的List不受影响</p>
+	 * <p>Builder 不是线程安全的</p>
+	 *
+	 * @param <E> 元素类型
+	 */
+	public static final class Builder<E> {
+
+		private Object edit = new Object();
+
+		private int count;
+
+		private int shift;
+
+		private Node root;
+
+		private Object[] tail;
+
+		private Builder(PersistentVector<E> vector) {
+			this.count = vector.count;
+			this.shift = vector.shift;
+			this.root = vector.root;
+			this.tail = Arrays.copyOf(vector.tail, WIDTH);
+		}
+
+		/**
+		 * 追加
+		 *
+		 * @param e 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> add(E e) {
+			final int i = this.count;
+			if (i - tailOffset(i) < WIDTH) {
+				this.tail[i & MASK] = e;
+				this.count++;
+				return this;
+			}
+			Node tailNode = new Node(this.edit, this.tail);
+			this.tail = new Object[WIDTH];
+			this.tail[0] = e;
+			if ((i >>> BITS) > (1 << this.shift)) {
+				Node newRoot = new Node(this.edit, new Object[WIDTH]);
+				newRoot.array[0] = this.root;
+				newRoot.array[1] = newPath(this.edit, this.shift, tailNode);
+				this.root = newRoot;
+				this.shift += BITS;
+			} else {
+				this.root = pushTail(this.edit, i, this.shift, this.root, tailNode);
+			}
+			this.count++;
+			return this;
+		}
+
+		/**
+		 * 批量追加
+		 *
+		 * @param collection 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> addAll(Collection<? extends E> collection) {
+			for (E e : collection) {
+				add(e);
+			}
+			return this;
+		}
+
+		/**
+		 * 替换
+		 *
+		 * @param index 下标
+		 * @param e 元素
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Builder<E> set(int index, E e) {
+			Assert.checkIndex(index, this.count);
+			if (index >= tailOffset(this.count)) {
+				this.tail[index & MASK] = e;
+			} else {
+				this.root = doAssoc(this.edit, this.shift, this.root, index, e);
+			}
+			return this;
+		}
+
+		/**
+		 * 当前数量
+		 *
+		 * @return 数量
+		 *
+		 * @since 2026-10-19
+		 */
+		public int size() {
+			return this.count;
+		}
+
+		/**
+		 * 构建
+		 *
+		 * @return PersistentVector
+		 *
+		 * @since 2026-10-19
+		 */
+		public PersistentVector<E> build() {
+			if (this.count == 0) {
+				return empty();
+			}
+			// 换一个修改标记,之后的修改不会再影响已构建的节点
+			this.edit = new Object();
+			final Object[] builtTail = Arrays.copyOf(this.tail, this.count - tailOffset(this.count));
+			return new PersistentVector<>(this.count, this.shift, this.root, builtTail);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.threesides.concurrent;
+
+import com.threesides.exception.Assert;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * AbstractArrayQueue 基于环形数组的有界无锁队列
+ * <p>容量向上取整为2的幂,生产/消费序号使用缓存行填充的 {@link Sequence}</p>
+ * <p>只有一个消费者,{@link #poll()}、{@link #take()}、{@link #drain(Consumer, int)} 不能被多个线程同时调用</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public abstract class AbstractArrayQueue<E> extends AbstractQueue<E> {
+
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	protected final AtomicReferenceArray<E> buffer;
+
+	protected final int mask;
+
+	protected final Sequence producerIndex = new Sequence();
+
+	protected final Sequence consumerIndex = new Sequence();
+
+	protected final WaitStrategy waitStrategy;
+
+	protected AbstractArrayQueue(int capacity, WaitStrategy waitStrategy) {
+		Assert.checkBetween(capacity, 2, MAX_CAPACITY);
+		Assert.notNull(waitStrategy, "[Assertion failed] - waitStrategy must not be null");
+		int actualCapacity = roundToPowerOfTwo(capacity);
+		this.buffer = new AtomicReferenceArray<>(actualCapacity);
+		this.mask = actualCapacity - 1;
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * 容量
+	 *
+	 * @return 实际容量(2的幂)
+	 *
+	 * @since 2026-10-19
+	 */
+	public int capacity() {
+		return this.mask + 1;
+	}
+
+	@Override
+	public int size() {
+		// 两次读取消费序号相同,说明读取生产序号期间没有被消费
+		long after = this.consumerIndex.get();
+		while (true) {
+			final long before = after;
+			final long producer = this.producerIndex.get();
+			after = this.consumerIndex.get();
+			if (before == after) {
+				return (int) (producer - after);
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.producerIndex.get() == this.consumerIndex.get();
+	}
+
+	/**
+	 * 弱一致的快照迭代器:创建时从消费序号到生产序号复制一遍已写入的元素,之后的入队、出队不影响迭代
+	 * <p>复制期间被消费的元素不包含在内,生产者已抢占但尚未写入的元素也不包含在内;不支持 remove</p>
+	 *
+	 * @return 迭代器
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		final long start = this.consumerIndex.get();
+		final long end = this.producerIndex.get();
+		final List<E> snapshot = new ArrayList<>((int) Math.min(end - start, capacity()));
+		for (long index = Math.max(start, end - capacity()); index < end; index++) {
+			final E e = this.buffer.get(offset(index));
+			// 读取后消费序号已越过该位置,说明元素已出队,槽位可能已被下一轮覆盖
+			if (e != null && this.consumerIndex.get() <= index) {
+				snapshot.add(e);
+			}
+		}
+		return Collections.unmodifiableList(snapshot).iterator();
+	}
+
+	/**
+	 * 入队,队列满时按等待策略等待
+	 *
+	 * @param e 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void put(E e) {
+		int counter = 0;
+		while (!offer(e)) {
+			counter = this.waitStrategy.idle(counter);
+		}
+	}
+
+	/**
+	 * 出队,队列空时按等待策略等待
+	 *
+	 * @return 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public E take() {
+		int counter = 0;
+		E e;
+		while ((e = poll()) == null) {
+			counter = this.waitStrategy.idle(counter);
+		}
+		return e;
+	}
+
+	/**
+	 * 批量出队,不等待
+	 *
+	 * @param consumer 消费者
+	 * @param limit 最多出队数量
+	 * @return 实际出队数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int drain(Consumer<? super E> consumer, int limit) {
+		Assert.notNull(consumer, "[Assertion failed] - consumer must not be null");
+		final long start = this.consumerIndex.get();
+		int count = 0;
+		for (; count < limit; count++) {
+			final long index = start + count;
+			final int offset = offset(index);
+			final E e = loadElement(index, offset);
+			if (e == null) {
+				break;
+			}
+			this.buffer.lazySet(offset, null);
+			this.consumerIndex.set(index + 1);
+			consumer.accept(e);
+		}
+		return count;
+	}
+
+	/**
+	 * 批量出队,不等待,最多出队一个容量
+	 *
+	 * @param consumer 消费者
+	 * @return 实际出队数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int drain(Consumer<? super E> consumer) {
+		return drain(consumer, capacity());
+	}
+
+	/**
+	 * 批量出队,队列空时按等待策略等待,直到至少出队一个元素
+	 *
+	 * @param consumer 消费者
+	 * @param limit 最多出队数量
+	 * @return 实际出队数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int awaitDrain(Consumer<? super E> consumer, int limit) {
+		int counter = 0;
+		int count;
+		while ((count = drain(consumer, limit)) == 0 && limit > 0) {
+			counter = this.waitStrategy.idle(counter);
+		}
+		return count;
+	}
+
+	@Override
+	public E poll() {
+		final long index = this.consumerIndex.get();
+		final int offset = offset(index);
+		final E e = loadElement(index, offset);
+		if (e == null) {
+			return null;
+		}
+		this.buffer.lazySet(offset, null);
+		this.consumerIndex.set(index + 1);
+		return e;
+	}
+
+	@Override
+	public E peek() {
+		final long index = this.consumerIndex.get();
+		return loadElement(index, offset(index));
+	}
+
+	/**
+	 * 消费者读取指定序号的元素
+	 *
+	 * @param index 消费序号
+	 * @param offset 数组下标
+	 * @return 元素,队列为空时返回null
+	 */
+	protected abstract E loadElement(long index, int offset);
+
+	protected final int offset(long index) {
+		return (int) index & this.mask;
+	}
+
+	private static int roundToPowerOfTwo(int value) {
+		return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+	}
+}
@@ -0,0 +1,401 @@
+package com.threesides.concurrent;
+
+import com.threesides.date.DateTimeUnit;
+import com.threesides.exception.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Batcher 微批处理器
+ * <p>多线程提交的元素先进入 {@link MpscArrayQueue},由调度线程攒批,
+ * 攒够 batchSize 个或第一个元素等待超过 maxDelay 时交给 flusher 批量处理</p>
+ * <p>同时执行中的 flush 数量不超过 maxInFlight,超过时调度线程等待,队列写满后 {@link #submit(Object)} 等待(背压)</p>
+ * <p>flush 抛出的异常交给 failureHandler,{@link Error} 在计数和回调后继续抛出</p>
+ * <p>例：</p>
+ * <pre>{@code
+ * Batcher<Order> batcher = new Batcher<>(500, 20, DateTimeUnit.MS, orderDao::batchInsert);
+ * batcher.submit(order);
+ * }</pre>
+ *
+ * @param <T> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class Batcher<T> implements AutoCloseable {
+
+	private static final int DEFAULT_MAX_IN_FLIGHT = 2;
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final int batchSize;
+
+	private final long maxDelayNanos;
+
+	private final Consumer<? super List<T>> flusher;
+
+	private final BiConsumer<? super List<T>, ? super Throwable> failureHandler;
+
+	private final MpscArrayQueue<T> queue;
+
+	private final Semaphore inFlight;
+
+	private final int maxInFlight;
+
+	private final Executor executor;
+
+	private final boolean ownExecutor;
+
+	private final Thread dispatcher;
+
+	private volatile boolean running = true;
+
+	private volatile boolean sleeping;
+
+	/**
+	 * 正在提交的线程数,调度线程在 close 后等它归零再做最后一次 drain
+	 */
+	private final AtomicInteger submitting = new AtomicInteger();
+
+	private List<T> current;
+
+	// metrics
+	private final LongAdder flushCount = new LongAdder();
+
+	private final LongAdder flushedItemCount = new LongAdder();
+
+	private final LongAdder failureCount = new LongAdder();
+
+	private final LongAdder flushLatencyNanos = new LongAdder();
+
+	private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+	private final AtomicLong maxBatchSize = new AtomicLong();
+
+	/**
+	 * 微批处理器 最多2个flush同时执行,队列容量为 batchSize 的4倍
+	 *
+	 * @param batchSize 每批最大数量
+	 * @param maxDelay 第一个元素最长等待时间
+	 * @param unit 时间单位
+	 * @param flusher 批量处理
+	 */
+	public Batcher(int batchSize, long maxDelay, DateTimeUnit unit, Consumer<? super List<T>> flusher) {
+		this(batchSize, maxDelay, unit, DEFAULT_MAX_IN_FLIGHT, batchSize * 4, flusher, null);
+	}
+
+	/**
+	 * 微批处理器
+	 *
+	 * @param batchSize 每批最大数量
+	 * @param maxDelay 第一个元素最长等待时间
+	 * @param unit 时间单位
+	 * @param maxInFlight 同时执行的flush数量上限
+	 * @param queueCapacity 待攒批队列容量,写满后提交方等待
+	 * @param flusher 批量处理
+	 * @param executor 执行flush的线程池,为null时内部创建 maxInFlight 个线程,{@link #close()} 时关闭
+	 */
+	public Batcher(int batchSize, long maxDelay, DateTimeUnit unit, int maxInFlight, int queueCapacity,
+				   Consumer<? super List<T>> flusher, Executor executor) {
+		this(batchSize, maxDelay, unit, maxInFlight, queueCapacity, flusher, null, executor);
+	}
+
+	/**
+	 * 微批处理器
+	 *
+	 * @param batchSize 每批最大数量
+	 * @param maxDelay 第一个元素最长等待时间
+	 * @param unit 时间单位
+	 * @param maxInFlight 同时执行的flush数量上限
+	 * @param queueCapacity 待攒批队列容量,写满后提交方等待
+	 * @param flusher 批量处理
+	 * @param failureHandler flush失败时回调(失败的批次, 异常),为null时只计数
+	 * @param executor 执行flush的线程池,为null时内部创建 maxInFlight 个线程,{@link #close()} 时关闭
+	 *
+	 * @since 2026-10-19
+	 */
+	public Batcher(int batchSize, long maxDelay, DateTimeUnit unit, int maxInFlight, int queueCapacity,
+				   Consumer<? super List<T>> flusher, BiConsumer<? super List<T>, ? super Throwable> failureHandler,
+				   Executor executor) {
+		Assert.isTrue(batchSize > 0, "[Assertion failed] - batchSize must be greater than 0");
+		Assert.isTrue(maxDelay >= 0, "[Assertion failed] - maxDelay must not be negative");
+		Assert.notNull(unit, "[Assertion failed] - unit must not be null");
+		Assert.isTrue(maxInFlight > 0, "[Assertion failed] - maxInFlight must be greater than 0");
+		Assert.notNull(flusher, "[Assertion failed] - flusher must not be null");
+		this.batchSize = batchSize;
+		this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelay * unit.getMillis());
+		this.flusher = flusher;
+		this.failureHandler = failureHandler;
+		this.queue = new MpscArrayQueue<>(Math.max(queueCapacity, 2), WaitStrategy.PARK);
+		this.maxInFlight = maxInFlight;
+		this.inFlight = new Semaphore(maxInFlight);
+		this.ownExecutor = executor == null;
+		this.executor = this.ownExecutor ? Executors.newFixedThreadPool(maxInFlight, daemonThreadFactory("batcher-flush")) : executor;
+		this.current = new ArrayList<>(batchSize);
+		this.dispatcher = daemonThreadFactory("batcher-dispatcher").newThread(this::dispatch);
+		this.dispatcher.start();
+	}
+
+	/**
+	 * 提交元素,队列满时等待
+	 *
+	 * @param item 元素
+	 *
+	 * @since 2026-10-19
+	 */
+	public void submit(T item) {
+		this.submitting.incrementAndGet();
+		try {
+			Assert.isTrue(this.running, "[Assertion failed] - batcher is closed");
+			this.queue.put(item);
+			wakeUp();
+		} finally {
+			this.submitting.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 提交元素,不等待
+	 *
+	 * @param item 元素
+	 * @return true:已提交 、false:队列已满
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean offer(T item) {
+		this.submitting.incrementAndGet();
+		try {
+			Assert.isTrue(this.running, "[Assertion failed] - batcher is closed");
+			if (!this.queue.offer(item)) {
+				return false;
+			}
+			wakeUp();
+			return true;
+		} finally {
+			this.submitting.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 待攒批的元素数量
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int pendingCount() {
+		return this.queue.size();
+	}
+
+	/**
+	 * 已完成flush次数
+	 *
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getFlushCount() {
+		return this.flushCount.sum();
+	}
+
+	/**
+	 * 已flush的元素数量
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getFlushedItemCount() {
+		return this.flushedItemCount.sum();
+	}
+
+	/**
+	 * flush抛出异常的次数
+	 *
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getFailureCount() {
+		return this.failureCount.sum();
+	}
+
+	/**
+	 * 平均每批数量
+	 *
+	 * @return 平均数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public double getAverageBatchSize() {
+		long count = this.flushCount.sum();
+		return count == 0 ? 0 : (double) this.flushedItemCount.sum() / count;
+	}
+
+	/**
+	 * 最大批数量
+	 *
+	 * @return 最大数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getMaxBatchSize() {
+		return this.maxBatchSize.get();
+	}
+
+	/**
+	 * 平均flush耗时
+	 *
+	 * @return 纳秒
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getAverageFlushLatencyNanos() {
+		long count = this.flushCount.sum();
+		return count == 0 ? 0 : this.flushLatencyNanos.sum() / count;
+	}
+
+	/**
+	 * 最大flush耗时
+	 *
+	 * @return 纳秒
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getMaxFlushLatencyNanos() {
+		return this.maxFlushLatencyNanos.get();
+	}
+
+	/**
+	 * 停止接收元素,flush剩余元素并等待执行中的flush完成
+	 *
+	 * @since 2026-10-19
+	 */
+	@Override
+	public void close() {
+		if (!this.running) {
+			return;
+		}
+		this.running = false;
+		LockSupport.unpark(this.dispatcher);
+		boolean interrupted = false;
+		while (this.dispatcher.isAlive()) {
+			try {
+				this.dispatcher.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		this.inFlight.acquireUninterruptibly(this.maxInFlight);
+		this.inFlight.release(this.maxInFlight);
+		if (this.ownExecutor) {
+			((ExecutorService) this.executor).shutdown();
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void wakeUp() {
+		if (this.sleeping) {
+			LockSupport.unpark(this.dispatcher);
+		}
+	}
+
+	private void append(T item) {
+		this.current.add(item);
+	}
+
+	/**
+	 * 调度线程 攒批并提交flush
+	 * <p>提交方先登记 submitting 再检查 running,close 之后只要还有登记中的提交方就继续 drain,
+	 * 检查通过的元素不会在最后一次 drain 之后才入队,写满时等待的 submit 也能被放行</p>
+	 */
+	private void dispatch() {
+		long deadline = 0;
+		while (this.running || this.submitting.get() > 0 || !this.queue.isEmpty()) {
+			final boolean wasEmpty = this.current.isEmpty();
+			final int drained = this.queue.drain(this::append, this.batchSize - this.current.size());
+			final long now = System.nanoTime();
+			if (wasEmpty && drained > 0) {
+				deadline = now + this.maxDelayNanos;
+			}
+			if (this.current.size() >= this.batchSize || (!this.current.isEmpty() && now - deadline >= 0)) {
+				flush();
+				continue;
+			}
+			if (drained == 0) {
+				if (!this.running) {
+					Thread.yield();
+					continue;
+				}
+				this.sleeping = true;
+				if (this.running && this.queue.isEmpty()) {
+					LockSupport.parkNanos(this, this.current.isEmpty() ? IDLE_PARK_NANOS : deadline - now);
+				}
+				this.sleeping = false;
+			}
+		}
+		if (!this.current.isEmpty()) {
+			flush();
+		}
+	}
+
+	private void flush() {
+		final List<T> batch = this.current;
+		this.current = new ArrayList<>(this.batchSize);
+		this.inFlight.acquireUninterruptibly();
+		try {
+			this.executor.execute(() -> doFlush(batch));
+		} catch (RejectedExecutionException e) {
+			doFlush(batch);
+		}
+	}
+
+	private void doFlush(List<T> batch) {
+		final long start = System.nanoTime();
+		try {
+			this.flusher.accept(batch);
+		} catch (Throwable e) {
+			this.failureCount.increment();
+			onFailure(batch, e);
+			if (e instanceof Error) {
+				throw (Error) e;
+			}
+		} finally {
+			final long latency = System.nanoTime() - start;
+			this.flushCount.increment();
+			this.flushedItemCount.add(batch.size());
+			this.flushLatencyNanos.add(latency);
+			this.maxFlushLatencyNanos.accumulateAndGet(latency, Math::max);
+			this.maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+			this.inFlight.release();
+		}
+	}
+
+	private void onFailure(List<T> batch, Throwable e) {
+		if (this.failureHandler == null) {
+			return;
+		}
+		try {
+			this.failureHandler.accept(batch, e);
+		} catch (RuntimeException handlerException) {
+			e.addSuppressed(handlerException);
+		}
+	}
+
+	private static ThreadFactory daemonThreadFactory(String name) {
+		return r -> {
+			Thread thread = new Thread(r, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,249 @@
+package com.threesides.concurrent;
+
+import com.threesides.date.DateTimeUnit;
+import com.threesides.exception.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.LongSupplier;
+
+/**
+ * KeyedSlidingWindow 按键统计的时间滑动窗口
+ * <p>每个键一个 {@link SlidingWindow};超过 idleTimeout 没有写入的键在后续写入时被顺带清理,不需要后台线程</p>
+ * <p>清理先用 CAS 把键标记为已清理再移除映射,写入方写完后发现所在窗口已被清理时换到新窗口重写,写入不会丢失</p>
+ * <p>例：</p>
+ * <pre>{@code
+ * KeyedSlidingWindow<String> requests = new KeyedSlidingWindow<>(1, DateTimeUnit.SECOND, 1, DateTimeUnit.MINUTE);
+ * requests.increment(userId);
+ * if (requests.count(userId) > 100) { ... }
+ * }</pre>
+ *
+ * @param <K> 键类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class KeyedSlidingWindow<K> {
+
+	private final long bucketWidth;
+
+	private final DateTimeUnit bucketUnit;
+
+	private final long windowLength;
+
+	private final DateTimeUnit windowUnit;
+
+	private final long idleTimeoutMillis;
+
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<K, Slot> windows = new ConcurrentHashMap<>();
+
+	private final AtomicLong lastSweep;
+
+	/**
+	 * 按键统计的滑动窗口 空闲超过一个窗口长度的键被清理
+	 *
+	 * @param bucketWidth 桶宽度
+	 * @param bucketUnit 桶宽度单位
+	 * @param windowLength 窗口长度
+	 * @param windowUnit 窗口长度单位
+	 */
+	public KeyedSlidingWindow(long bucketWidth, DateTimeUnit bucketUnit, long windowLength, DateTimeUnit windowUnit) {
+		this(bucketWidth, bucketUnit, windowLength, windowUnit, windowLength * windowUnit.getMillis(), System::currentTimeMillis);
+	}
+
+	/**
+	 * 按键统计的滑动窗口
+	 *
+	 * @param bucketWidth 桶宽度
+	 * @param bucketUnit 桶宽度单位
+	 * @param windowLength 窗口长度
+	 * @param windowUnit 窗口长度单位
+	 * @param idleTimeoutMillis 键空闲多少毫秒后被清理
+	 * @param clock 毫秒时钟
+	 */
+	public KeyedSlidingWindow(long bucketWidth, DateTimeUnit bucketUnit, long windowLength, DateTimeUnit windowUnit,
+							  long idleTimeoutMillis, LongSupplier clock) {
+		Assert.isTrue(idleTimeoutMillis > 0, "[Assertion failed] - idleTimeout must be greater than 0");
+		Assert.notNull(clock, "[Assertion failed] - clock must not be null");
+		// 提前校验参数
+		new SlidingWindow(bucketWidth, bucketUnit, windowLength, windowUnit, clock);
+		this.bucketWidth = bucketWidth;
+		this.bucketUnit = bucketUnit;
+		this.windowLength = windowLength;
+		this.windowUnit = windowUnit;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.clock = clock;
+		this.lastSweep = new AtomicLong(clock.getAsLong());
+	}
+
+	/**
+	 * 计数加一
+	 *
+	 * @param key 键
+	 *
+	 * @since 2026-10-19
+	 */
+	public void increment(K key) {
+		Slot slot;
+		do {
+			slot = slot(key);
+			slot.window.increment();
+		} while (slot.isEvicted());
+	}
+
+	/**
+	 * 记录一个值
+	 *
+	 * @param key 键
+	 * @param value 值
+	 *
+	 * @since 2026-10-19
+	 */
+	public void record(K key, long value) {
+		Slot slot;
+		do {
+			slot = slot(key);
+			slot.window.record(value);
+		} while (slot.isEvicted());
+	}
+
+	/**
+	 * 键的窗口
+	 *
+	 * @param key 键
+	 * @return 窗口,键不存在或已被清理时返回null
+	 *
+	 * @since 2026-10-19
+	 */
+	public SlidingWindow window(K key) {
+		Slot slot = this.windows.get(key);
+		return slot == null ? null : slot.window;
+	}
+
+	/**
+	 * 键在窗口内的计数
+	 *
+	 * @param key 键
+	 * @return 计数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long count(K key) {
+		SlidingWindow window = window(key);
+		return window == null ? 0 : window.count();
+	}
+
+	/**
+	 * 键在窗口内的求和
+	 *
+	 * @param key 键
+	 * @return 和
+	 *
+	 * @since 2026-10-19
+	 */
+	public long sum(K key) {
+		SlidingWindow window = window(key);
+		return window == null ? 0 : window.sum();
+	}
+
+	/**
+	 * 当前保留的键数量
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int size() {
+		return this.windows.size();
+	}
+
+	/**
+	 * 清理空闲的键
+	 *
+	 * @since 2026-10-19
+	 */
+	public void evictIdle() {
+		final long now = this.clock.getAsLong();
+		this.lastSweep.set(now);
+		for (Map.Entry<K, Slot> e : this.windows.entrySet()) {
+			final Slot slot = e.getValue();
+			if (slot.evictIfIdle(now, this.idleTimeoutMillis)) {
+				this.windows.remove(e.getKey(), slot);
+			}
+		}
+	}
+
+	private Slot slot(K key) {
+		final long now = this.clock.getAsLong();
+		final long last = this.lastSweep.get();
+		if (now - last >= this.idleTimeoutMillis && this.lastSweep.compareAndSet(last, now)) {
+			evictIdle();
+		}
+		for (; ; ) {
+			Slot slot = this.windows.get(key);
+			if (slot == null) {
+				slot = this.windows.computeIfAbsent(key, k -> new Slot(
+						new SlidingWindow(this.bucketWidth, this.bucketUnit, this.windowLength, this.windowUnit, this.clock), now));
+			}
+			if (slot.touch(now)) {
+				return slot;
+			}
+			// 已被标记清理但映射还没移除,帮忙移除后重试
+			this.windows.remove(key, slot);
+		}
+	}
+
+	static final class Slot {
+
+		private static final long EVICTED = Long.MIN_VALUE;
+
+		private static final AtomicLongFieldUpdater<Slot> LAST_ACCESS_UPDATER =
+				AtomicLongFieldUpdater.newUpdater(Slot.class, "lastAccess");
+
+		final SlidingWindow window;
+
+		volatile long lastAccess;
+
+		Slot(SlidingWindow window, long now) {
+			this.window = window;
+			this.lastAccess = now;
+		}
+
+		/**
+		 * 更新访问时间
+		 *
+		 * @param now 当前时间
+		 * @return false:已被清理
+		 */
+		boolean touch(long now) {
+			for (; ; ) {
+				final long last = this.lastAccess;
+				if (last == EVICTED) {
+					return false;
+				}
+				if (last == now || LAST_ACCESS_UPDATER.compareAndSet(this, last, now)) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * 空闲时标记为已清理,与 {@link #touch(long)} 竞争同一个字段,二者只有一个成功
+		 *
+		 * @param now 当前时间
+		 * @param idleTimeoutMillis 空闲超时
+		 * @return true:本次标记成功,调用方负责移除映射
+		 */
+		boolean evictIfIdle(long now, long idleTimeoutMillis) {
+			final long last = this.lastAccess;
+			return last != EVICTED && now - last >= idleTimeoutMillis && LAST_ACCESS_UPDATER.compareAndSet(this, last, EVICTED);
+		}
+
+		boolean isEvicted() {
+			return this.lastAccess == EVICTED;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.threesides.concurrent;
+
+import java.util.Objects;
+
+/**
+ * MpscArrayQueue 多生产者单消费者有界无锁队列
+ * <p>生产者通过CAS抢占序号,消费者只有一个线程</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class MpscArrayQueue<E> extends AbstractArrayQueue<E> {
+
+	/**
+	 * 生产者缓存的可写上限,减少对消费序号的读取
+	 */
+	private final Sequence producerLimit;
+
+	/**
+	 * 多生产者单消费者队列 等待策略 {@link WaitStrategy#YIELD}
+	 *
+	 * @param capacity 容量,向上取整为2的幂
+	 */
+	public MpscArrayQueue(int capacity) {
+		this(capacity, WaitStrategy.YIELD);
+	}
+
+	/**
+	 * 多生产者单消费者队列
+	 *
+	 * @param capacity 容量,向上取整为2的幂
+	 * @param waitStrategy 等待策略
+	 */
+	public MpscArrayQueue(int capacity, WaitStrategy waitStrategy) {
+		super(capacity, waitStrategy);
+		this.producerLimit = new Sequence(capacity());
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e);
+		long limit = this.producerLimit.get();
+		long index;
+		do {
+			index = this.producerIndex.get();
+			if (index >= limit) {
+				limit = this.consumerIndex.get() + capacity();
+				if (index >= limit) {
+					return false;
+				}
+				this.producerLimit.set(limit);
+			}
+		} while (!this.producerIndex.compareAndSet(index, index + 1));
+		this.buffer.lazySet(offset(index), e);
+		return true;
+	}
+
+	@Override
+	protected E loadElement(long index, int offset) {
+		E e = this.buffer.get(offset);
+		if (e == null && index != this.producerIndex.get()) {
+			// 序号已被生产者抢占,元素尚未写入,等待写入完成
+			do {
+				e = this.buffer.get(offset);
+			} while (e == null);
+		}
+		return e;
+	}
+}
@@ -0,0 +1,331 @@
+package com.threesides.concurrent;
+
+import com.threesides.exception.Assert;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * ObjectPool 对象池
+ * <p>每个线程先使用自己的小缓存(无竞争),满了或空了再使用共享的溢出栈;
+ * 池中对象总数超过上限时直接丢弃,交给GC</p>
+ * <p>重复归还同一个对象会抛出异常,否则它会被两个使用者同时借出</p>
+ * <p>开启泄漏检测后,借出但未归还就被回收的对象会通过 leakListener 报告借出时的调用栈,
+ * 默认读取系统属性 {@code threesides.pool.leakDetection}</p>
+ * <p>例：</p>
+ * <pre>{@code
+ * ObjectPool<byte[]> pool = new ObjectPool<>(() -> new byte[8192], null, 64);
+ * byte[] buffer = pool.acquire();
+ * try { ... } finally { pool.release(buffer); }
+ * }</pre>
+ *
+ * @param <T> 对象类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class ObjectPool<T> {
+
+	private static final int LOCAL_CAPACITY = 8;
+
+	private final Supplier<? extends T> factory;
+
+	private final Consumer<? super T> reset;
+
+	private final int localCapacity;
+
+	private final Object[] shared;
+
+	private int sharedSize;
+
+	private final ThreadLocal<LocalCache> local;
+
+	private final LongAdder created = new LongAdder();
+
+	private volatile boolean leakDetection = Boolean.getBoolean("threesides.pool.leakDetection");
+
+	private volatile Consumer<Throwable> leakListener = Throwable::printStackTrace;
+
+	private final LeakTracker leakTracker = new LeakTracker();
+
+	/**
+	 * 对象池
+	 *
+	 * @param factory 创建对象
+	 * @param reset 归还时重置对象,可以为null;抛出异常时对象被丢弃
+	 * @param maxSize 共享溢出栈最多保留的对象数
+	 */
+	public ObjectPool(Supplier<? extends T> factory, Consumer<? super T> reset, int maxSize) {
+		this(factory, reset, Math.min(LOCAL_CAPACITY, Math.max(maxSize, 1)), maxSize);
+	}
+
+	/**
+	 * 对象池
+	 *
+	 * @param factory 创建对象
+	 * @param reset 归还时重置对象,可以为null;抛出异常时对象被丢弃
+	 * @param localCapacity 每个线程缓存的对象数
+	 * @param maxSize 共享溢出栈最多保留的对象数
+	 *
+	 * @since 2026-10-19
+	 */
+	public ObjectPool(Supplier<? extends T> factory, Consumer<? super T> reset, int localCapacity, int maxSize) {
+		Assert.notNull(factory, "[Assertion failed] - factory must not be null");
+		Assert.isTrue(localCapacity > 0, "[Assertion failed] - localCapacity must be greater than 0");
+		Assert.isTrue(maxSize >= 0, "[Assertion failed] - maxSize must not be negative");
+		this.factory = factory;
+		this.reset = reset;
+		this.localCapacity = localCapacity;
+		this.shared = new Object[maxSize];
+		this.local = ThreadLocal.withInitial(() -> new LocalCache(this.localCapacity));
+	}
+
+	/**
+	 * 开启或关闭泄漏检测
+	 *
+	 * @param leakDetection 是否开启
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ObjectPool<T> leakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+		return this;
+	}
+
+	/**
+	 * 泄漏报告 默认打印借出时的调用栈
+	 *
+	 * @param leakListener 接收借出时的调用栈
+	 * @return this
+	 *
+	 * @since 2026-10-19
+	 */
+	public ObjectPool<T> leakListener(Consumer<Throwable> leakListener) {
+		Assert.notNull(leakListener, "[Assertion failed] - leakListener must not be null");
+		this.leakListener = leakListener;
+		return this;
+	}
+
+	/**
+	 * 借出
+	 *
+	 * @return 对象
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		final LocalCache cache = this.local.get();
+		T obj;
+		if (cache.size > 0) {
+			obj = (T) cache.items[--cache.size];
+			cache.items[cache.size] = null;
+		} else {
+			obj = pollShared();
+			if (obj == null) {
+				obj = this.factory.get();
+				this.created.increment();
+			}
+		}
+		if (this.leakDetection) {
+			this.leakTracker.track(obj);
+		}
+		return obj;
+	}
+
+	/**
+	 * 归还
+	 *
+	 * @param obj 对象,为null时忽略
+	 *
+	 * @since 2026-10-19
+	 */
+	public void release(T obj) {
+		if (obj == null) {
+			return;
+		}
+		final LocalCache cache = this.local.get();
+		Assert.isTrue(!cache.contains(obj), "[Assertion failed] - object has already been released");
+		if (this.leakDetection) {
+			this.leakTracker.untrack(obj);
+		}
+		if (this.reset != null) {
+			try {
+				this.reset.accept(obj);
+			} catch (RuntimeException e) {
+				return;
+			}
+		}
+		if (cache.size < cache.items.length) {
+			cache.items[cache.size++] = obj;
+			return;
+		}
+		offerShared(obj);
+	}
+
+	/**
+	 * 归还但不放回池中,用于不适合复用的对象(如已扩容过大),泄漏检测视为已归还
+	 *
+	 * @param obj 对象,为null时忽略
+	 *
+	 * @since 2026-10-19
+	 */
+	public void discard(T obj) {
+		if (obj != null && this.leakDetection) {
+			this.leakTracker.untrack(obj);
+		}
+	}
+
+	/**
+	 * 累计创建的对象数
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getCreatedCount() {
+		return this.created.sum();
+	}
+
+	/**
+	 * 共享溢出栈中的对象数
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public synchronized int getSharedSize() {
+		return this.sharedSize;
+	}
+
+	/**
+	 * 已检测到的泄漏数量
+	 *
+	 * @return 数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getLeakCount() {
+		this.leakTracker.expunge();
+		return this.leakTracker.leaks.sum();
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized T pollShared() {
+		if (this.sharedSize == 0) {
+			return null;
+		}
+		T obj = (T) this.shared[--this.sharedSize];
+		this.shared[this.sharedSize] = null;
+		return obj;
+	}
+
+	private synchronized void offerShared(T obj) {
+		for (int i = 0; i < this.sharedSize; i++) {
+			Assert.isTrue(this.shared[i] != obj, "[Assertion failed] - object has already been released");
+		}
+		if (this.sharedSize < this.shared.length) {
+			this.shared[this.sharedSize++] = obj;
+		}
+	}
+
+	/**
+	 * 线程本地缓存
+	 */
+	static final class LocalCache {
+
+		final Object[] items;
+
+		int size;
+
+		LocalCache(int capacity) {
+			this.items = new Object[capacity];
+		}
+
+		boolean contains(Object obj) {
+			for (int i = 0; i < this.size; i++) {
+				if (this.items[i] == obj) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 泄漏检测 以弱引用记录借出的对象,对象被回收时仍未归还即为泄漏
+	 */
+	final class LeakTracker {
+
+		private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+		private final Map<Integer, List<Record>> records = new HashMap<>();
+
+		private final LongAdder leaks = new LongAdder();
+
+		void track(Object obj) {
+			expunge();
+			final Record record = new Record(obj, this.queue);
+			synchronized (this.records) {
+				this.records.computeIfAbsent(record.identity, k -> new ArrayList<>(1)).add(record);
+			}
+		}
+
+		void untrack(Object obj) {
+			final int identity = System.identityHashCode(obj);
+			synchronized (this.records) {
+				final List<Record> list = this.records.get(identity);
+				if (list == null) {
+					return;
+				}
+				for (Iterator<Record> it = list.iterator(); it.hasNext(); ) {
+					Record record = it.next();
+					if (record.get() == obj) {
+						record.clear();
+						it.remove();
+						break;
+					}
+				}
+				if (list.isEmpty()) {
+					this.records.remove(identity);
+				}
+			}
+		}
+
+		void expunge() {
+			Object ref;
+			while ((ref = this.queue.poll()) != null) {
+				final Record record = (Record) ref;
+				boolean leaked;
+				synchronized (this.records) {
+					final List<Record> list = this.records.get(record.identity);
+					leaked = list != null && list.remove(record);
+					if (list != null && list.isEmpty()) {
+						this.records.remove(record.identity);
+					}
+				}
+				if (leaked) {
+					this.leaks.increment();
+					ObjectPool.this.leakListener.accept(record.trace);
+				}
+			}
+		}
+	}
+
+	static final class Record extends WeakReference<Object> {
+
+		final int identity;
+
+		final Throwable trace;
+
+		Record(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.identity = System.identityHashCode(referent);
+			this.trace = new Throwable("Pooled object was not released, acquired at:");
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.threesides.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * 左侧填充 避免与前面的对象共享缓存行
+ */
+class LhsPadding {
+	protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * 序号值
+ */
+class Value extends LhsPadding {
+	protected volatile long value;
+}
+
+/**
+ * 右侧填充 避免与后面的对象共享缓存行
+ */
+class RhsPadding extends Value {
+	protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * Sequence 缓存行填充的序号计数器,避免生产者/消费者计数器之间的伪共享
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class Sequence extends RhsPadding {
+
+	private static final AtomicLongFieldUpdater<Value> VALUE_UPDATER =
+			AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+
+	/**
+	 * 序号计数器 初始值 0
+	 */
+	public Sequence() {
+		this(0L);
+	}
+
+	/**
+	 * 序号计数器
+	 *
+	 * @param initialValue 初始值
+	 */
+	public Sequence(long initialValue) {
+		VALUE_UPDATER.lazySet(this, initialValue);
+	}
+
+	/**
+	 * 读取(volatile读)
+	 *
+	 * @return 当前值
+	 *
+	 * @since 2026-10-19
+	 */
+	public long get() {
+		return this.value;
+	}
+
+	/**
+	 * 有序写 (store-store屏障,不保证立即对其它线程可见)
+	 *
+	 * @param value 新值
+	 *
+	 * @since 2026-10-19
+	 */
+	public void set(long value) {
+		VALUE_UPDATER.lazySet(this, value);
+	}
+
+	/**
+	 * volatile写
+	 *
+	 * @param value 新值
+	 *
+	 * @since 2026-10-19
+	 */
+	public void setVolatile(long value) {
+		this.value = value;
+	}
+
+	/**
+	 * CAS
+	 *
+	 * @param expect 期望值
+	 * @param update 新值
+	 * @return true:成功 、false:失败
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean compareAndSet(long expect, long update) {
+		return VALUE_UPDATER.compareAndSet(this, expect, update);
+	}
+
+	/**
+	 * 自增
+	 *
+	 * @return 自增后的值
+	 *
+	 * @since 2026-10-19
+	 */
+	public long incrementAndGet() {
+		return VALUE_UPDATER.incrementAndGet(this);
+	}
+
+	/**
+	 * 累加
+	 *
+	 * @param increment 增量
+	 * @return 累加后的值
+	 *
+	 * @since 2026-10-19
+	 */
+	public long addAndGet(long increment) {
+		return VALUE_UPDATER.addAndGet(this, increment);
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+}
@@ -0,0 +1,233 @@
+package com.threesides.concurrent;
+
+import com.threesides.date.DateTimeUnit;
+import com.threesides.exception.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * SlidingWindow 时间滑动窗口统计
+ * <p>窗口由环形排列的时间桶组成,写入只落在当前桶上,计数与求和使用 {@link LongAdder} 分散竞争;
+ * 读取时合并仍在窗口内的桶,代价 O(桶数)</p>
+ * <p>例：</p>
+ * <pre>{@code
+ * // 最近5分钟,每10秒一个桶
+ * SlidingWindow window = new SlidingWindow(10, DateTimeUnit.SECOND, 5, DateTimeUnit.MINUTE);
+ * window.record(latencyMillis);
+ * long count = window.count();
+ * }</pre>
+ * <p>窗口按桶宽度滚动,统计值精度为一个桶宽度;桶被复用的瞬间并发写入的少量数据可能计入新桶</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class SlidingWindow {
+
+	private final long bucketMillis;
+
+	private final Bucket[] buckets;
+
+	private final LongSupplier clock;
+
+	/**
+	 * 滑动窗口 使用系统时间
+	 *
+	 * @param bucketWidth 桶宽度
+	 * @param bucketUnit 桶宽度单位
+	 * @param windowLength 窗口长度
+	 * @param windowUnit 窗口长度单位
+	 */
+	public SlidingWindow(long bucketWidth, DateTimeUnit bucketUnit, long windowLength, DateTimeUnit windowUnit) {
+		this(bucketWidth, bucketUnit, windowLength, windowUnit, System::currentTimeMillis);
+	}
+
+	/**
+	 * 滑动窗口
+	 *
+	 * @param bucketWidth 桶宽度
+	 * @param bucketUnit 桶宽度单位
+	 * @param windowLength 窗口长度
+	 * @param windowUnit 窗口长度单位
+	 * @param clock 毫秒时钟
+	 */
+	public SlidingWindow(long bucketWidth, DateTimeUnit bucketUnit, long windowLength, DateTimeUnit windowUnit, LongSupplier clock) {
+		Assert.notNull(bucketUnit, "[Assertion failed] - bucketUnit must not be null");
+		Assert.notNull(windowUnit, "[Assertion failed] - windowUnit must not be null");
+		Assert.notNull(clock, "[Assertion failed] - clock must not be null");
+		this.bucketMillis = bucketWidth * bucketUnit.getMillis();
+		final long windowMillis = windowLength * windowUnit.getMillis();
+		Assert.isTrue(this.bucketMillis > 0, "[Assertion failed] - bucketWidth must be greater than 0");
+		Assert.isTrue(windowMillis >= this.bucketMillis, "[Assertion failed] - windowLength must not be less than bucketWidth");
+		final long count = (windowMillis + this.bucketMillis - 1) / this.bucketMillis;
+		Assert.isTrue(count <= 1 << 16, "[Assertion failed] - too many buckets");
+		this.buckets = new Bucket[(int) count];
+		for (int i = 0; i < this.buckets.length; i++) {
+			this.buckets[i] = new Bucket();
+		}
+		this.clock = clock;
+	}
+
+	/**
+	 * 计数加一
+	 *
+	 * @since 2026-10-19
+	 */
+	public void increment() {
+		currentBucket().count.increment();
+	}
+
+	/**
+	 * 记录一个值 计数加一,累加求和并更新最小值、最大值
+	 *
+	 * @param value 值
+	 *
+	 * @since 2026-10-19
+	 */
+	public void record(long value) {
+		final Bucket bucket = currentBucket();
+		bucket.count.increment();
+		bucket.sum.add(value);
+		long current;
+		while (value < (current = bucket.min.get()) && !bucket.min.compareAndSet(current, value)) {
+			// retry
+		}
+		while (value > (current = bucket.max.get()) && !bucket.max.compareAndSet(current, value)) {
+			// retry
+		}
+	}
+
+	/**
+	 * 窗口内计数
+	 *
+	 * @return 计数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long count() {
+		final long oldest = oldestEpoch();
+		long count = 0;
+		for (Bucket bucket : this.buckets) {
+			if (bucket.epoch >= oldest) {
+				count += bucket.count.sum();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 窗口内求和
+	 *
+	 * @return 和
+	 *
+	 * @since 2026-10-19
+	 */
+	public long sum() {
+		final long oldest = oldestEpoch();
+		long sum = 0;
+		for (Bucket bucket : this.buckets) {
+			if (bucket.epoch >= oldest) {
+				sum += bucket.sum.sum();
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * 窗口内最小值
+	 *
+	 * @return 最小值,没有记录时返回 {@link Long#MAX_VALUE}
+	 *
+	 * @since 2026-10-19
+	 */
+	public long min() {
+		final long oldest = oldestEpoch();
+		long min = Long.MAX_VALUE;
+		for (Bucket bucket : this.buckets) {
+			if (bucket.epoch >= oldest) {
+				min = Math.min(min, bucket.min.get());
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * 窗口内最大值
+	 *
+	 * @return 最大值,没有记录时返回 {@link Long#MIN_VALUE}
+	 *
+	 * @since 2026-10-19
+	 */
+	public long max() {
+		final long oldest = oldestEpoch();
+		long max = Long.MIN_VALUE;
+		for (Bucket bucket : this.buckets) {
+			if (bucket.epoch >= oldest) {
+				max = Math.max(max, bucket.max.get());
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * 窗口内平均值
+	 *
+	 * @return 平均值,没有记录时返回0
+	 *
+	 * @since 2026-10-19
+	 */
+	public double average() {
+		final long oldest = oldestEpoch();
+		long count = 0;
+		long sum = 0;
+		for (Bucket bucket : this.buckets) {
+			if (bucket.epoch >= oldest) {
+				count += bucket.count.sum();
+				sum += bucket.sum.sum();
+			}
+		}
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	private long oldestEpoch() {
+		return this.clock.getAsLong() / this.bucketMillis - this.buckets.length + 1;
+	}
+
+	private Bucket currentBucket() {
+		final long epoch = this.clock.getAsLong() / this.bucketMillis;
+		final Bucket bucket = this.buckets[(int) (epoch % this.buckets.length)];
+		if (bucket.epoch != epoch) {
+			synchronized (bucket) {
+				if (bucket.epoch < epoch) {
+					bucket.reset(epoch);
+				}
+			}
+		}
+		return bucket;
+	}
+
+	static final class Bucket {
+
+		/**
+		 * 桶对应的时间序号 时间戳 / 桶宽度
+		 */
+		volatile long epoch = Long.MIN_VALUE;
+
+		final LongAdder count = new LongAdder();
+
+		final LongAdder sum = new LongAdder();
+
+		final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+		final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+		void reset(long epoch) {
+			this.count.reset();
+			this.sum.reset();
+			this.min.set(Long.MAX_VALUE);
+			this.max.set(Long.MIN_VALUE);
+			this.epoch = epoch;
+		}
+	}
+}
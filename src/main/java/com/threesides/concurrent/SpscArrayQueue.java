@@ -0,0 +1,59 @@
+package com.threesides.concurrent;
+
+import java.util.Objects;
+
+/**
+ * SpscArrayQueue 单生产者单消费者有界无锁队列
+ * <p>入队与出队各自只能由一个线程调用,入队只需一次有序写,无CAS</p>
+ *
+ * @param <E> 元素类型
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class SpscArrayQueue<E> extends AbstractArrayQueue<E> {
+
+	/**
+	 * 生产者缓存的可写上限,只有生产者线程读写
+	 */
+	private long producerLimit;
+
+	/**
+	 * 单生产者单消费者队列 等待策略 {@link WaitStrategy#YIELD}
+	 *
+	 * @param capacity 容量,向上取整为2的幂
+	 */
+	public SpscArrayQueue(int capacity) {
+		this(capacity, WaitStrategy.YIELD);
+	}
+
+	/**
+	 * 单生产者单消费者队列
+	 *
+	 * @param capacity 容量,向上取整为2的幂
+	 * @param waitStrategy 等待策略
+	 */
+	public SpscArrayQueue(int capacity, WaitStrategy waitStrategy) {
+		super(capacity, waitStrategy);
+		this.producerLimit = capacity();
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e);
+		final long index = this.producerIndex.get();
+		if (index >= this.producerLimit) {
+			this.producerLimit = this.consumerIndex.get() + capacity();
+			if (index >= this.producerLimit) {
+				return false;
+			}
+		}
+		this.buffer.lazySet(offset(index), e);
+		this.producerIndex.set(index + 1);
+		return true;
+	}
+
+	@Override
+	protected E loadElement(long index, int offset) {
+		return this.buffer.get(offset);
+	}
+}
@@ -0,0 +1,68 @@
+package com.threesides.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 等待策略 队列满/空时调用方的等待方式
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public enum WaitStrategy {
+
+	/**
+	 * 忙等 延迟最低,占满一个CPU
+	 */
+	SPIN {
+		@Override
+		public int idle(int counter) {
+			return counter + 1;
+		}
+	},
+	/**
+	 * 先自旋,之后让出CPU
+	 */
+	YIELD {
+		@Override
+		public int idle(int counter) {
+			if (counter < SPIN_TRIES) {
+				return counter + 1;
+			}
+			Thread.yield();
+			return counter + 1;
+		}
+	},
+	/**
+	 * 先自旋,再让出CPU,最后短暂挂起线程
+	 */
+	PARK {
+		@Override
+		public int idle(int counter) {
+			if (counter < SPIN_TRIES) {
+				return counter + 1;
+			}
+			if (counter < SPIN_TRIES + YIELD_TRIES) {
+				Thread.yield();
+				return counter + 1;
+			}
+			LockSupport.parkNanos(PARK_NANOS);
+			return counter;
+		}
+	};
+
+	private static final int SPIN_TRIES = 100;
+
+	private static final int YIELD_TRIES = 100;
+
+	private static final long PARK_NANOS = 50_000L;
+
+	/**
+	 * 空转一次
+	 *
+	 * @param counter 已空转次数,首次传 0
+	 * @return 下次调用时传入的计数
+	 *
+	 * @since 2026-10-19
+	 */
+	public abstract int idle(int counter);
+}
@@ -6,6 +6,7 @@ package com.threesides.exception;
 import com.threesides.collection.CollectionUtil;
 import com.threesides.lang.ArrayUtil;
 import com.threesides.lang.ObjectUtil;
+import com.threesides.lang.StringSearcher;
 import com.threesides.lang.StringUtil;
 
 import java.util.Collection;
@@ -390,6 +391,7 @@ public abstract class Assert {
 
 	/**
 	 * 不包含
+	 * <p>包含子串时抛出 {@link BusinessException}</p>
 	 *
 	 * @param textToSearch 要搜索的文本
 	 * @param substring 子字符串
@@ -402,6 +404,7 @@ public abstract class Assert {
 
 	/**
 	 * 不包含
+	 * <p>包含子串时抛出 {@link BusinessException}</p>
 	 *
 	 * @param textToSearch 要搜索的文本
 	 * @param substring 子字符串
@@ -410,7 +413,7 @@ public abstract class Assert {
 	 * @since 2023-04-18
 	 */
 	public static void notContain(CharSequence textToSearch, CharSequence substring, String errorMessage)  {
-		if (!textToSearch.toString().contains(substring)) {
+		if (textToSearch.toString().contains(substring)) {
 			throw new BusinessException(errorMessage);
 		}
 
@@ -418,6 +421,7 @@ public abstract class Assert {
 
 	/**
 	 * 不包含
+	 * <p>包含子串时抛出 {@link BusinessException}</p>
 	 *
 	 * @param textToSearch 要搜索的文本
 	 * @param substring 子字符串
@@ -427,11 +431,54 @@ public abstract class Assert {
 	 * @since 2023-04-18
 	 */
 	public static void notContain(CharSequence textToSearch, CharSequence substring,String errorCode , String errorMessage)  {
-		if (!textToSearch.toString().contains(substring)) {
+		if (textToSearch.toString().contains(substring)) {
 			throw new BusinessException(errorMessage,errorCode);
 		}
 	}
 
+	/**
+	 * 不包含,使用预编译的子串查找
+	 *
+	 * @param textToSearch 要搜索的文本
+	 * @param searcher {@link StringUtil#searcher(String)}
+	 *
+	 * @since 2026-10-19
+	 */
+	public static void notContain(CharSequence textToSearch, StringSearcher searcher) {
+		notContain(textToSearch, searcher, "[Assertion failed] - this String argument must not contain the substring [" + searcher + "]");
+	}
+
+	/**
+	 * 不包含,使用预编译的子串查找
+	 *
+	 * @param textToSearch 要搜索的文本
+	 * @param searcher {@link StringUtil#searcher(String)}
+	 * @param errorMessage 异常信息
+	 *
+	 * @since 2026-10-19
+	 */
+	public static void notContain(CharSequence textToSearch, StringSearcher searcher, String errorMessage) {
+		if (searcher.contains(textToSearch)) {
+			throw new BusinessException(errorMessage);
+		}
+	}
+
+	/**
+	 * 不包含,使用预编译的子串查找
+	 *
+	 * @param textToSearch 要搜索的文本
+	 * @param searcher {@link StringUtil#searcher(String)}
+	 * @param errorCode 异常状态
+	 * @param errorMessage 异常信息
+	 *
+	 * @since 2026-10-19
+	 */
+	public static void notContain(CharSequence textToSearch, StringSearcher searcher, String errorCode, String errorMessage) {
+		if (searcher.contains(textToSearch)) {
+			throw new BusinessException(errorMessage, errorCode);
+		}
+	}
+
 
 
 
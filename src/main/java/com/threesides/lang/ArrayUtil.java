@@ -1,6 +1,7 @@
 package com.threesides.lang;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -87,9 +88,11 @@ public class ArrayUtil {
 		} else if (obj instanceof boolean[]) {
 			return Arrays.toString((boolean[]) obj);
 		} else if (obj instanceof float[]) {
-			return Arrays.toString((float[]) obj);
+			final float[] array = (float[]) obj;
+			return "[" + StringUtil.join(array, ", ", 0, array.length) + "]";
 		} else if (obj instanceof double[]) {
-			return Arrays.toString((double[]) obj);
+			final double[] array = (double[]) obj;
+			return "[" + StringUtil.join(array, ", ", 0, array.length) + "]";
 		} else if (ArrayUtil.isArray(obj)) {
 			// 对象数组
 			try {
@@ -100,4 +103,18 @@ public class ArrayUtil {
 		}
 		return obj.toString();
 	}
+
+	/**
+	 * ByteBuffer 中剩余的字节复制为数组,复制后 position 移到 limit
+	 *
+	 * @param buffer 堆内或直接 buffer
+	 * @return 新数组
+	 *
+	 * @since 2026-10-19
+	 */
+	public static byte[] toArray(ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
 }
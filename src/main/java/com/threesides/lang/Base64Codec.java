@@ -0,0 +1,888 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+import com.threesides.exception.BusinessException;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Base64Codec Base64 编解码,结果与 {@link java.util.Base64} 对应的编码器、解码器相同
+ * <ul>
+ *     <li>编码每次把 6 个字节放入一个 long,查表输出 8 个字符</li>
+ *     <li>解码每次查表 8 个字符合并为 48 位,非法字符查表为负数,合并后只判断一次符号,再写出 6 个字节</li>
+ *     <li>可在 {@code byte[]}、{@link ByteBuffer} 与 {@code char[]}、ASCII {@code byte[]}、{@link CharSequence} 之间直接转换,不创建中间字符串</li>
+ *     <li>解码时末尾的 '=' 可有可无;{@link #MIME} 解码时忽略字母表以外的字符</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code Base64Codec.URL_SAFE.withoutPadding().encodeToString(new byte[]{-5, -1})     // "-_8"}</li>
+ *     <li>{@code Base64Codec.STANDARD.decode("+/8=")     // {-5, -1}}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class Base64Codec {
+
+	private static final String STANDARD_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+	private static final String URL_SAFE_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+	/**
+	 * MIME 每行的字符数,不含行分隔符
+	 */
+	private static final int MIME_LINE_LENGTH = 76;
+
+	private static final int INVALID = -1;
+
+	private static final int PADDING = -2;
+
+	/**
+	 * 字符串解码时每次转成 ASCII 的字符数
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	/**
+	 * RFC 4648 标准字母表,带填充
+	 */
+	public static final Base64Codec STANDARD = new Base64Codec(STANDARD_ALPHABET, true, 0);
+
+	/**
+	 * RFC 4648 URL 与文件名安全字母表(- 和 _),带填充
+	 */
+	public static final Base64Codec URL_SAFE = new Base64Codec(URL_SAFE_ALPHABET, true, 0);
+
+	/**
+	 * RFC 2045 MIME:标准字母表,每 76 个字符以 \r\n 换行,解码时忽略字母表以外的字符
+	 */
+	public static final Base64Codec MIME = new Base64Codec(STANDARD_ALPHABET, true, MIME_LINE_LENGTH);
+
+	private final byte[] alphabet;
+
+	private final char[] alphabetChars;
+
+	/**
+	 * 字节值 → 6 位的值,{@link #INVALID} 表示不在字母表中,{@link #PADDING} 表示 '='
+	 */
+	private final byte[] decodeTable;
+
+	private final boolean padding;
+
+	/**
+	 * 每行的字符数,0 表示不换行
+	 */
+	private final int lineLength;
+
+	/**
+	 * 每行对应的字节数
+	 */
+	private final int lineBytes;
+
+	private Base64Codec(String alphabet, boolean padding, int lineLength) {
+		this.alphabet = new byte[64];
+		this.alphabetChars = alphabet.toCharArray();
+		this.decodeTable = new byte[256];
+		Arrays.fill(this.decodeTable, (byte) INVALID);
+		for (int i = 0; i < 64; i++) {
+			this.alphabet[i] = (byte) alphabet.charAt(i);
+			this.decodeTable[alphabet.charAt(i)] = (byte) i;
+		}
+		this.decodeTable['='] = PADDING;
+		this.padding = padding;
+		this.lineLength = lineLength;
+		this.lineBytes = lineLength / 4 * 3;
+	}
+
+	/**
+	 * 编码时不输出末尾的 '=',解码规则不变
+	 *
+	 * @return Base64Codec
+	 *
+	 * @since 2026-10-19
+	 */
+	public Base64Codec withoutPadding() {
+		return this.padding ? new Base64Codec(new String(this.alphabetChars), false, this.lineLength) : this;
+	}
+
+	/**
+	 * 编码时是否输出末尾的 '='
+	 *
+	 * @return 是否填充
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isPadding() {
+		return this.padding;
+	}
+
+	/**
+	 * 编码后的长度,含换行
+	 *
+	 * @param length 字节数
+	 * @return 字符数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encodedLength(int length) {
+		Assert.isTrue(length >= 0, "[Assertion failed] - length must not be negative");
+		long chars = this.padding ? (length + 2L) / 3 * 4 : (length * 4L + 2) / 3;
+		if (this.lineLength > 0 && chars > 0) {
+			chars += (chars - 1) / this.lineLength * 2;
+		}
+		Assert.isTrue(chars <= Integer.MAX_VALUE, "[Assertion failed] - length is out of range");
+		return (int) chars;
+	}
+
+	/**
+	 * 解码后最多的字节数,用于预先分配目标数组
+	 *
+	 * @param length 字符数
+	 * @return 字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int maxDecodedLength(int length) {
+		Assert.isTrue(length >= 0, "[Assertion failed] - length must not be negative");
+		return (int) (length * 3L / 4 + 2);
+	}
+
+	/**
+	 * 编码为字符串
+	 *
+	 * @param src 数据
+	 * @return Base64 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(byte[] src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		return encodeToString(src, 0, src.length);
+	}
+
+	/**
+	 * 编码为字符串
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @return Base64 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(byte[] src, int off, int len) {
+		final char[] chars = new char[encodedLength(len)];
+		encode(src, off, len, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * 编码 position 到 limit 之间的字节为字符串,之后 position 移到 limit
+	 *
+	 * @param src 数据
+	 * @return Base64 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(ByteBuffer src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final String encoded = src.hasArray()
+				? encodeToString(src.array(), src.arrayOffset() + src.position(), src.remaining())
+				: encodeToString(ArrayUtil.toArray(src.duplicate()));
+		src.position(src.limit());
+		return encoded;
+	}
+
+	/**
+	 * 编码到字符数组
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #encodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字符数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encode(byte[] src, int off, int len, char[] dst, int dstOff) {
+		checkRange(src, off, len);
+		final int length = encodedLength(len);
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+		final int end = off + len;
+		int i = off;
+		int j = dstOff;
+		if (this.lineLength > 0) {
+			for (; end - i > this.lineBytes; i += this.lineBytes) {
+				j = encodeUnits(src, i, i + this.lineBytes, dst, j);
+				dst[j++] = '\r';
+				dst[j++] = '\n';
+			}
+		}
+		final int units = i + (end - i) / 3 * 3;
+		j = encodeUnits(src, i, units, dst, j);
+		encodeTail(src, units, end, dst, j);
+		return length;
+	}
+
+	/**
+	 * 编码到 ASCII 字节数组
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #encodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		checkRange(src, off, len);
+		final int length = encodedLength(len);
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+		final int end = off + len;
+		int i = off;
+		int j = dstOff;
+		if (this.lineLength > 0) {
+			for (; end - i > this.lineBytes; i += this.lineBytes) {
+				j = encodeUnits(src, i, i + this.lineBytes, dst, j);
+				dst[j++] = '\r';
+				dst[j++] = '\n';
+			}
+		}
+		final int units = i + (end - i) / 3 * 3;
+		j = encodeUnits(src, i, units, dst, j);
+		encodeTail(src, units, end, dst, j);
+		return length;
+	}
+
+	/**
+	 * 编码 src 的 position 到 limit 之间的字节,以 ASCII 写入 dst;之后两者的 position 都向后移动
+	 *
+	 * @param src 数据
+	 * @param dst 目标,剩余空间需要有 {@link #encodedLength(int)} 个字节
+	 *
+	 * @since 2026-10-19
+	 */
+	public void encode(ByteBuffer src, ByteBuffer dst) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		final int length = encodedLength(src.remaining());
+		Assert.isTrue(dst.remaining() >= length, "[Assertion failed] - dst is too small");
+		final byte[] bytes = src.hasArray() ? src.array() : ArrayUtil.toArray(src.duplicate());
+		final int off = src.hasArray() ? src.arrayOffset() + src.position() : 0;
+		if (dst.hasArray()) {
+			encode(bytes, off, src.remaining(), dst.array(), dst.arrayOffset() + dst.position());
+			dst.position(dst.position() + length);
+		} else {
+			final byte[] encoded = new byte[length];
+			encode(bytes, off, src.remaining(), encoded, 0);
+			dst.put(encoded);
+		}
+		src.position(src.limit());
+	}
+
+	/**
+	 * 解码字符串
+	 *
+	 * @param src Base64 字符串
+	 * @return 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte[] decode(CharSequence src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final byte[] bytes = new byte[decodedLength(src, 0, src.length())];
+		decodeChars(src, 0, src.length(), bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * 解码字符串到字节数组
+	 *
+	 * @param src Base64 字符串
+	 * @param dst 目标数组,从 dstOff 起需要有足够的位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(CharSequence src, byte[] dst, int dstOff) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		checkRoom(dst, dstOff, decodedLength(src, 0, src.length()));
+		return decodeChars(src, 0, src.length(), dst, dstOff);
+	}
+
+	/**
+	 * 解码字符数组区间
+	 *
+	 * @param src Base64 字符
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有足够的位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(char[] src, int off, int len, byte[] dst, int dstOff) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+		checkRoom(dst, dstOff, decodedLength(src, off, off + len));
+		return decodeChars(src, off, off + len, dst, dstOff);
+	}
+
+	/**
+	 * 解码 ASCII 字节数组
+	 *
+	 * @param src Base64 ASCII
+	 * @return 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte[] decode(byte[] src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final byte[] bytes = new byte[decodedLength(src, 0, src.length)];
+		decodeAscii(src, 0, src.length, bytes, 0, true);
+		return bytes;
+	}
+
+	/**
+	 * 解码 ASCII 字节数组区间
+	 *
+	 * @param src Base64 ASCII
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有足够的位置,可以与 src 相同
+	 * @param dstOff 目标开始位置,与 src 相同时不能大于 off
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		checkRange(src, off, len);
+		checkRoom(dst, dstOff, decodedLength(src, off, off + len));
+		return written(decodeAscii(src, off, off + len, dst, dstOff, true)) - dstOff;
+	}
+
+	/**
+	 * 解码 src 的 position 到 limit 之间的 ASCII,写入 dst;之后两者的 position 都向后移动
+	 *
+	 * @param src Base64 ASCII
+	 * @param dst 目标,剩余空间需要足够
+	 *
+	 * @since 2026-10-19
+	 */
+	public void decode(ByteBuffer src, ByteBuffer dst) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		final byte[] ascii = src.hasArray() ? src.array() : ArrayUtil.toArray(src.duplicate());
+		final int off = src.hasArray() ? src.arrayOffset() + src.position() : 0;
+		final int end = off + src.remaining();
+		final int length = decodedLength(ascii, off, end);
+		Assert.isTrue(dst.remaining() >= length, "[Assertion failed] - dst is too small");
+		if (dst.hasArray()) {
+			final int start = dst.arrayOffset() + dst.position();
+			dst.position(dst.position() + written(decodeAscii(ascii, off, end, dst.array(), start, true)) - start);
+		} else {
+			final byte[] decoded = new byte[length];
+			dst.put(decoded, 0, written(decodeAscii(ascii, off, end, decoded, 0, true)));
+		}
+		src.position(src.limit());
+	}
+
+	/**
+	 * 包装输出流,写入的字节编码为 Base64 ASCII 后写入 out;关闭时写出末尾不足 3 个字节的部分并关闭 out
+	 *
+	 * @param out 输出流
+	 * @return 编码输出流
+	 *
+	 * @since 2026-10-19
+	 */
+	public OutputStream wrap(OutputStream out) {
+		Assert.notNull(out, "[Assertion failed] - out must not be null");
+		return new EncodingOutputStream(out);
+	}
+
+	/**
+	 * 包装输入流,从 in 读取 Base64 ASCII 并解码
+	 *
+	 * @param in 输入流
+	 * @return 解码输入流
+	 *
+	 * @since 2026-10-19
+	 */
+	public InputStream wrap(InputStream in) {
+		Assert.notNull(in, "[Assertion failed] - in must not be null");
+		return new DecodingInputStream(in);
+	}
+
+	/**
+	 * 编码 [i, end),长度为 3 的倍数,不换行
+	 */
+	private int encodeUnits(byte[] src, int i, int end, byte[] dst, int j) {
+		final byte[] a = this.alphabet;
+		for (; i <= end - 6; i += 6, j += 8) {
+			final long bits = sixBytes(src, i);
+			dst[j] = a[(int) (bits >>> 42) & 0x3F];
+			dst[j + 1] = a[(int) (bits >>> 36) & 0x3F];
+			dst[j + 2] = a[(int) (bits >>> 30) & 0x3F];
+			dst[j + 3] = a[(int) (bits >>> 24) & 0x3F];
+			dst[j + 4] = a[(int) (bits >>> 18) & 0x3F];
+			dst[j + 5] = a[(int) (bits >>> 12) & 0x3F];
+			dst[j + 6] = a[(int) (bits >>> 6) & 0x3F];
+			dst[j + 7] = a[(int) bits & 0x3F];
+		}
+		if (i < end) {
+			final int bits = threeBytes(src, i);
+			dst[j] = a[bits >>> 18];
+			dst[j + 1] = a[bits >>> 12 & 0x3F];
+			dst[j + 2] = a[bits >>> 6 & 0x3F];
+			dst[j + 3] = a[bits & 0x3F];
+			j += 4;
+		}
+		return j;
+	}
+
+	private int encodeUnits(byte[] src, int i, int end, char[] dst, int j) {
+		final char[] a = this.alphabetChars;
+		for (; i <= end - 6; i += 6, j += 8) {
+			final long bits = sixBytes(src, i);
+			dst[j] = a[(int) (bits >>> 42) & 0x3F];
+			dst[j + 1] = a[(int) (bits >>> 36) & 0x3F];
+			dst[j + 2] = a[(int) (bits >>> 30) & 0x3F];
+			dst[j + 3] = a[(int) (bits >>> 24) & 0x3F];
+			dst[j + 4] = a[(int) (bits >>> 18) & 0x3F];
+			dst[j + 5] = a[(int) (bits >>> 12) & 0x3F];
+			dst[j + 6] = a[(int) (bits >>> 6) & 0x3F];
+			dst[j + 7] = a[(int) bits & 0x3F];
+		}
+		if (i < end) {
+			final int bits = threeBytes(src, i);
+			dst[j] = a[bits >>> 18];
+			dst[j + 1] = a[bits >>> 12 & 0x3F];
+			dst[j + 2] = a[bits >>> 6 & 0x3F];
+			dst[j + 3] = a[bits & 0x3F];
+			j += 4;
+		}
+		return j;
+	}
+
+	/**
+	 * 编码末尾不足 3 个字节的部分
+	 */
+	private int encodeTail(byte[] src, int i, int end, byte[] dst, int j) {
+		if (i == end) {
+			return j;
+		}
+		final int b0 = src[i] & 0xFF;
+		final int b1 = end - i > 1 ? src[i + 1] & 0xFF : 0;
+		dst[j++] = this.alphabet[b0 >>> 2];
+		dst[j++] = this.alphabet[(b0 << 4 | b1 >>> 4) & 0x3F];
+		if (end - i > 1) {
+			dst[j++] = this.alphabet[b1 << 2 & 0x3F];
+		} else if (this.padding) {
+			dst[j++] = '=';
+		}
+		if (this.padding) {
+			dst[j++] = '=';
+		}
+		return j;
+	}
+
+	private int encodeTail(byte[] src, int i, int end, char[] dst, int j) {
+		if (i == end) {
+			return j;
+		}
+		final int b0 = src[i] & 0xFF;
+		final int b1 = end - i > 1 ? src[i + 1] & 0xFF : 0;
+		dst[j++] = this.alphabetChars[b0 >>> 2];
+		dst[j++] = this.alphabetChars[(b0 << 4 | b1 >>> 4) & 0x3F];
+		if (end - i > 1) {
+			dst[j++] = this.alphabetChars[b1 << 2 & 0x3F];
+		} else if (this.padding) {
+			dst[j++] = '=';
+		}
+		if (this.padding) {
+			dst[j++] = '=';
+		}
+		return j;
+	}
+
+	private static long sixBytes(byte[] src, int i) {
+		return (long) threeBytes(src, i) << 24 | threeBytes(src, i + 3);
+	}
+
+	private static int threeBytes(byte[] src, int i) {
+		return (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | src[i + 2] & 0xFF;
+	}
+
+	/**
+	 * 解码后的准确字节数;MIME 需要扫描一遍
+	 */
+	private int decodedLength(Object src, int from, int to) {
+		if (this.lineLength == 0) {
+			int end = to;
+			for (int k = 0; k < 2 && end > from && charAt(src, end - 1) == '='; k++) {
+				end--;
+			}
+			return (int) ((end - from) * 6L >>> 3);
+		}
+		long count = 0;
+		for (int i = from; i < to; i++) {
+			final int c = charAt(src, i);
+			if (c == '=') {
+				break;
+			}
+			if (c <= 0xFF && this.decodeTable[c] >= 0) {
+				count++;
+			}
+		}
+		return (int) (count * 6 >>> 3);
+	}
+
+	private static int charAt(Object src, int index) {
+		if (src instanceof byte[]) {
+			return ((byte[]) src)[index] & 0xFF;
+		}
+		if (src instanceof char[]) {
+			return ((char[]) src)[index];
+		}
+		return ((CharSequence) src).charAt(index);
+	}
+
+	/**
+	 * 字符分块转为 ASCII 后解码;块末尾不完整的 4 字符单元留到下一块
+	 */
+	private int decodeChars(Object src, int from, int to, byte[] dst, int dstOff) {
+		final byte[] chunk = CHUNK.get();
+		int i = from;
+		int j = dstOff;
+		while (i < to) {
+			final int n = Math.min(CHUNK_SIZE, to - i);
+			HexCodec.narrow(src, i, n, chunk);
+			final long result = decodeAscii(chunk, 0, n, dst, j, i + n == to);
+			j = written(result);
+			if (consumed(result) == 0) {
+				// 填充符后仍有内容,或整块都是被忽略的字符:剩余部分一次处理
+				final byte[] rest = new byte[to - i];
+				HexCodec.narrow(src, i, rest.length, rest);
+				j = written(decodeAscii(rest, 0, rest.length, dst, j, true));
+				break;
+			}
+			i += consumed(result);
+		}
+		return j - dstOff;
+	}
+
+	/**
+	 * 解码 [from, to)
+	 *
+	 * @param last 是否是全部输入的结尾;不是时末尾不完整的单元及填充符所在的单元不处理
+	 * @return 高 32 位为处理到的位置,低 32 位为 dst 中写到的位置
+	 */
+	private long decodeAscii(byte[] src, int from, int to, byte[] dst, int dstOff, boolean last) {
+		final byte[] table = this.decodeTable;
+		final boolean mime = this.lineLength > 0;
+		int i = from;
+		int j = dstOff;
+		int bits = 0;
+		int count = 0;
+		int unitStart = from;
+		while (true) {
+			if (count == 0) {
+				for (; i <= to - 8; i += 8, j += 6) {
+					// 查表结果为负时符号扩展,合并后整个 long 为负
+					final long v = (long) table[src[i] & 0xFF] << 42 | (long) table[src[i + 1] & 0xFF] << 36
+							| (long) table[src[i + 2] & 0xFF] << 30 | (long) table[src[i + 3] & 0xFF] << 24
+							| (long) table[src[i + 4] & 0xFF] << 18 | (long) table[src[i + 5] & 0xFF] << 12
+							| (long) table[src[i + 6] & 0xFF] << 6 | (long) table[src[i + 7] & 0xFF];
+					if (v < 0) {
+						break;
+					}
+					dst[j] = (byte) (v >>> 40);
+					dst[j + 1] = (byte) (v >>> 32);
+					dst[j + 2] = (byte) (v >>> 24);
+					dst[j + 3] = (byte) (v >>> 16);
+					dst[j + 4] = (byte) (v >>> 8);
+					dst[j + 5] = (byte) v;
+				}
+				unitStart = i;
+			}
+			if (i >= to) {
+				break;
+			}
+			final int c = src[i++] & 0xFF;
+			final int v = table[c];
+			if (v >= 0) {
+				bits = bits << 6 | v;
+				if (++count == 4) {
+					dst[j++] = (byte) (bits >>> 16);
+					dst[j++] = (byte) (bits >>> 8);
+					dst[j++] = (byte) bits;
+					bits = 0;
+					count = 0;
+				}
+			} else if (v == PADDING) {
+				if (!last) {
+					return pack(unitStart, j);
+				}
+				// 2 个字符后需要 "==",3 个字符后需要 "="
+				if (count < 2 || count == 2 && (i >= to || src[i++] != '=')) {
+					throw new BusinessException("illegal base64 padding at index " + (i - 1 - from));
+				}
+				j = decodeLastUnit(bits, count, dst, j);
+				for (; i < to; i++) {
+					if (!mime || table[src[i] & 0xFF] >= 0) {
+						throw new BusinessException("illegal base64 character after padding at index " + (i - from));
+					}
+				}
+				return pack(to, j);
+			} else if (!mime) {
+				throw new BusinessException("illegal base64 character 0x" + Integer.toHexString(c) + " at index " + (i - 1 - from));
+			}
+		}
+		if (count > 0) {
+			if (!last) {
+				return pack(unitStart, j);
+			}
+			if (count == 1) {
+				throw new BusinessException("last base64 unit does not have enough valid bits");
+			}
+			j = decodeLastUnit(bits, count, dst, j);
+		}
+		return pack(to, j);
+	}
+
+	/**
+	 * 末尾 2 或 3 个字符的单元
+	 */
+	private static int decodeLastUnit(int bits, int count, byte[] dst, int j) {
+		if (count == 2) {
+			dst[j++] = (byte) (bits >>> 4);
+		} else {
+			dst[j++] = (byte) (bits >>> 10);
+			dst[j++] = (byte) (bits >>> 2);
+		}
+		return j;
+	}
+
+	private static long pack(int consumed, int written) {
+		return (long) consumed << 32 | written;
+	}
+
+	private static int consumed(long result) {
+		return (int) (result >>> 32);
+	}
+
+	private static int written(long result) {
+		return (int) result;
+	}
+
+	private static void checkRange(byte[] src, int off, int len) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+	}
+
+	private static void checkRoom(byte[] dst, int dstOff, int length) {
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+	}
+
+	/**
+	 * 攒够整行(MIME)或 3 的倍数个字节再编码写出,关闭时写出剩余部分
+	 */
+	private final class EncodingOutputStream extends FilterOutputStream {
+
+		private final byte[] pending;
+
+		private final byte[] encoded;
+
+		private int pendingLength;
+
+		/**
+		 * 是否已写出过内容,MIME 下一块之前需要先写行分隔符
+		 */
+		private boolean started;
+
+		private boolean closed;
+
+		EncodingOutputStream(OutputStream out) {
+			super(out);
+			final int unit = Base64Codec.this.lineLength > 0 ? Base64Codec.this.lineBytes : 3;
+			this.pending = new byte[unit * Math.max(1, CHUNK_SIZE / unit)];
+			this.encoded = new byte[encodedLength(this.pending.length) + 2];
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			ensureOpen();
+			this.pending[this.pendingLength++] = (byte) b;
+			if (this.pendingLength == this.pending.length) {
+				emit(this.pending, 0, this.pendingLength);
+				this.pendingLength = 0;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ensureOpen();
+			checkRange(b, off, len);
+			final int end = off + len;
+			if (this.pendingLength > 0) {
+				final int n = Math.min(len, this.pending.length - this.pendingLength);
+				System.arraycopy(b, off, this.pending, this.pendingLength, n);
+				this.pendingLength += n;
+				off += n;
+				if (this.pendingLength < this.pending.length) {
+					return;
+				}
+				emit(this.pending, 0, this.pendingLength);
+				this.pendingLength = 0;
+			}
+			for (; end - off >= this.pending.length; off += this.pending.length) {
+				emit(b, off, this.pending.length);
+			}
+			System.arraycopy(b, off, this.pending, 0, end - off);
+			this.pendingLength = end - off;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			try {
+				if (this.pendingLength > 0) {
+					emit(this.pending, 0, this.pendingLength);
+					this.pendingLength = 0;
+				}
+			} finally {
+				super.close();
+			}
+		}
+
+		private void emit(byte[] b, int off, int len) throws IOException {
+			int n = 0;
+			if (this.started && Base64Codec.this.lineLength > 0) {
+				this.encoded[n++] = '\r';
+				this.encoded[n++] = '\n';
+			}
+			n += encode(b, off, len, this.encoded, n);
+			this.out.write(this.encoded, 0, n);
+			this.started = true;
+		}
+
+		private void ensureOpen() throws IOException {
+			if (this.closed) {
+				throw new IOException("stream closed");
+			}
+		}
+	}
+
+	/**
+	 * 读取一块 Base64 ASCII 解码;不完整的单元移到输入缓冲区开头等待后续输入
+	 */
+	private final class DecodingInputStream extends FilterInputStream {
+
+		private byte[] input = new byte[CHUNK_SIZE];
+
+		private byte[] decoded = new byte[maxDecodedLength(CHUNK_SIZE)];
+
+		private final byte[] single = new byte[1];
+
+		/**
+		 * 输入缓冲区中尚未解码的字节数
+		 */
+		private int pendingLength;
+
+		private int position;
+
+		private int limit;
+
+		private boolean eof;
+
+		DecodingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return read(this.single, 0, 1) < 0 ? -1 : this.single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			checkRange(b, off, len);
+			if (len == 0) {
+				return 0;
+			}
+			while (this.position == this.limit) {
+				if (this.eof) {
+					return -1;
+				}
+				fill();
+			}
+			final int n = Math.min(len, this.limit - this.position);
+			System.arraycopy(this.decoded, this.position, b, off, n);
+			this.position += n;
+			return n;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return this.limit - this.position;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = 0;
+			final byte[] discard = new byte[(int) Math.min(n, CHUNK_SIZE)];
+			while (skipped < n) {
+				final int read = read(discard, 0, (int) Math.min(n - skipped, discard.length));
+				if (read < 0) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void fill() throws IOException {
+			if (this.pendingLength == this.input.length) {
+				// 整个缓冲区都无法解码(填充符之后仍有内容,或 MIME 中被忽略的字符过多),扩容后继续读
+				this.input = Arrays.copyOf(this.input, this.input.length << 1);
+				this.decoded = new byte[maxDecodedLength(this.input.length)];
+			}
+			final int read = this.in.read(this.input, this.pendingLength, this.input.length - this.pendingLength);
+			if (read < 0) {
+				this.eof = true;
+			} else {
+				this.pendingLength += read;
+			}
+			final long result = decodeAscii(this.input, 0, this.pendingLength, this.decoded, 0, this.eof);
+			final int consumed = consumed(result);
+			this.position = 0;
+			this.limit = written(result);
+			this.pendingLength -= consumed;
+			System.arraycopy(this.input, consumed, this.input, 0, this.pendingLength);
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.threesides.lang;
+
+/**
+ * CharSequences 直接在 {@link CharSequence} 上比较,不调用 toString() 复制内容
+ * <ul>
+ *     <li>两个都是 String 时直接使用 String 的实现</li>
+ *     <li>较长的 String、StringBuilder、StringBuffer 按块 getChars 到线程本地的缓冲区后比较数组,避免逐个调用 charAt</li>
+ *     <li>忽略大小写时两个字符都是 ASCII 的直接比较小写,否则与 {@link String#equalsIgnoreCase(String)}、
+ *     {@link String#CASE_INSENSITIVE_ORDER} 的规则相同</li>
+ * </ul>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+final class CharSequences {
+
+	/**
+	 * 短于此长度时逐个 charAt 比较,不借用缓冲区
+	 */
+	private static final int BULK_THRESHOLD = 32;
+
+	private static final int CHUNK_LENGTH = 1024;
+
+	private static final ThreadLocal<char[][]> SCRATCH = ThreadLocal.withInitial(() -> new char[2][CHUNK_LENGTH]);
+
+	private CharSequences() {
+	}
+
+	/**
+	 * 内容是否相同
+	 */
+	static boolean contentEquals(CharSequence a, CharSequence b, boolean ignoreCase) {
+		if (a == b) {
+			return true;
+		}
+		final int length = a.length();
+		if (length != b.length()) {
+			return false;
+		}
+		if (a instanceof String) {
+			if (b instanceof String) {
+				return ignoreCase ? ((String) a).equalsIgnoreCase((String) b) : a.equals(b);
+			}
+			if (!ignoreCase) {
+				return ((String) a).contentEquals(b);
+			}
+		}
+		return regionMatches(a, ignoreCase, 0, b, 0, length);
+	}
+
+	/**
+	 * 区间是否相同,参数与返回值同 {@link String#regionMatches(boolean, int, String, int, int)}
+	 */
+	static boolean regionMatches(CharSequence a, boolean ignoreCase, int aOffset, CharSequence b, int bOffset, int length) {
+		if (aOffset < 0 || bOffset < 0 || (long) aOffset + length > a.length() || (long) bOffset + length > b.length()) {
+			return false;
+		}
+		if (length <= 0) {
+			return true;
+		}
+		if (a instanceof String && b instanceof String) {
+			return ((String) a).regionMatches(ignoreCase, aOffset, (String) b, bOffset, length);
+		}
+		if (length < BULK_THRESHOLD || !supportsGetChars(a) || !supportsGetChars(b)) {
+			for (int i = 0; i < length; i++) {
+				if (!charEquals(a.charAt(aOffset + i), b.charAt(bOffset + i), ignoreCase)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		final char[][] scratch = SCRATCH.get();
+		final char[] aChars = scratch[0];
+		final char[] bChars = scratch[1];
+		for (int done = 0; done < length; done += CHUNK_LENGTH) {
+			final int n = Math.min(CHUNK_LENGTH, length - done);
+			getChars(a, aOffset + done, aOffset + done + n, aChars);
+			getChars(b, bOffset + done, bOffset + done + n, bChars);
+			if (ignoreCase) {
+				for (int i = 0; i < n; i++) {
+					if (!charEquals(aChars[i], bChars[i], true)) {
+						return false;
+					}
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					if (aChars[i] != bChars[i]) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 按字符比较大小,规则同 {@link String#compareTo(String)},忽略大小写时同 {@link String#CASE_INSENSITIVE_ORDER}
+	 */
+	static int compare(CharSequence a, CharSequence b, boolean ignoreCase) {
+		if (a instanceof String && b instanceof String) {
+			return ignoreCase ? ((String) a).compareToIgnoreCase((String) b) : ((String) a).compareTo((String) b);
+		}
+		final int aLength = a.length();
+		final int bLength = b.length();
+		final int length = Math.min(aLength, bLength);
+		if (length < BULK_THRESHOLD || !supportsGetChars(a) || !supportsGetChars(b)) {
+			for (int i = 0; i < length; i++) {
+				final int diff = compare(a.charAt(i), b.charAt(i), ignoreCase);
+				if (diff != 0) {
+					return diff;
+				}
+			}
+			return aLength - bLength;
+		}
+		final char[][] scratch = SCRATCH.get();
+		final char[] aChars = scratch[0];
+		final char[] bChars = scratch[1];
+		for (int done = 0; done < length; done += CHUNK_LENGTH) {
+			final int n = Math.min(CHUNK_LENGTH, length - done);
+			getChars(a, done, done + n, aChars);
+			getChars(b, done, done + n, bChars);
+			for (int i = 0; i < n; i++) {
+				final int diff = compare(aChars[i], bChars[i], ignoreCase);
+				if (diff != 0) {
+					return diff;
+				}
+			}
+		}
+		return aLength - bLength;
+	}
+
+	private static boolean charEquals(char c1, char c2, boolean ignoreCase) {
+		if (c1 == c2) {
+			return true;
+		}
+		if (!ignoreCase) {
+			return false;
+		}
+		if ((c1 | c2) < 0x80) {
+			return toLowerAscii(c1) == toLowerAscii(c2);
+		}
+		final char u1 = Character.toUpperCase(c1);
+		final char u2 = Character.toUpperCase(c2);
+		return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+	}
+
+	private static int compare(char c1, char c2, boolean ignoreCase) {
+		if (c1 == c2) {
+			return 0;
+		}
+		if (!ignoreCase) {
+			return c1 - c2;
+		}
+		if ((c1 | c2) < 0x80) {
+			return toLowerAscii(c1) - toLowerAscii(c2);
+		}
+		final char u1 = Character.toUpperCase(c1);
+		final char u2 = Character.toUpperCase(c2);
+		if (u1 == u2) {
+			return 0;
+		}
+		return Character.toLowerCase(u1) - Character.toLowerCase(u2);
+	}
+
+	private static char toLowerAscii(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static boolean supportsGetChars(CharSequence cs) {
+		return cs instanceof String || cs instanceof StringBuilder || cs instanceof StringBuffer;
+	}
+
+	/**
+	 * 把 [from, to) 复制到 dst 的开头,不支持 getChars 的逐个 charAt
+	 */
+	static void getChars(CharSequence cs, int from, int to, char[] dst) {
+		if (cs instanceof String) {
+			((String) cs).getChars(from, to, dst, 0);
+		} else if (cs instanceof StringBuilder) {
+			((StringBuilder) cs).getChars(from, to, dst, 0);
+		} else if (cs instanceof StringBuffer) {
+			((StringBuffer) cs).getChars(from, to, dst, 0);
+		} else {
+			for (int i = from; i < to; i++) {
+				dst[i - from] = cs.charAt(i);
+			}
+		}
+	}
+}
@@ -0,0 +1,494 @@
+package com.threesides.lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * DoubleToDecimal 浮点数转最短十进制文本(Ryu 算法)
+ * <p>输出能精确还原为原值的最短数字串,数字串长度相同时取最接近原值的一个;
+ * 排版与 {@link Double#toString(double)} 相同:10^-3 到 10^7 之间用普通小数,其余用 {@code d.dddEn}</p>
+ * <p>Java 8 的 {@link Double#toString(double)} 偶尔多输出一位数字(如 2.0E-3 输出为 0.0020),此时两者结果不同,
+ * 但都能还原为同一个 double;最短结果只有一位数字时取最接近原值的两位数字,与 JDK 19 起的规则相同</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+final class DoubleToDecimal {
+
+	/**
+	 * double 转换结果的最大长度,如 -2.2250738585072014E-308
+	 */
+	static final int MAX_DOUBLE_LENGTH = 24;
+
+	/**
+	 * float 转换结果的最大长度,如 -1.17549435E-38
+	 */
+	static final int MAX_FLOAT_LENGTH = 15;
+
+	private static final int POW5_BITCOUNT = 125;
+
+	private static final int POW5_INV_TABLE_SIZE = 342;
+
+	private static final int POW5_TABLE_SIZE = 326;
+
+	/**
+	 * 5^-q 的 125 位近似值(向上取整),按高 64 位、低 64 位依次存放
+	 */
+	private static final long[] POW5_INV_SPLIT = new long[2 * POW5_INV_TABLE_SIZE];
+
+	/**
+	 * 5^i 的 125 位近似值(截断),按高 64 位、低 64 位依次存放
+	 */
+	private static final long[] POW5_SPLIT = new long[2 * POW5_TABLE_SIZE];
+
+	private static final long[] POWERS_OF_TEN = {
+			1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+			10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L
+	};
+
+	private static final char[] NAN = "NaN".toCharArray();
+
+	private static final char[] INFINITY = "Infinity".toCharArray();
+
+	private static final char[] NEGATIVE_INFINITY = "-Infinity".toCharArray();
+
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_DOUBLE_LENGTH]);
+
+	static {
+		final BigInteger five = BigInteger.valueOf(5);
+		BigInteger pow5 = BigInteger.ONE;
+		for (int i = 0; i < Math.max(POW5_INV_TABLE_SIZE, POW5_TABLE_SIZE); i++) {
+			final int length = pow5.bitLength();
+			if (i < POW5_TABLE_SIZE) {
+				final BigInteger value = length > POW5_BITCOUNT ? pow5.shiftRight(length - POW5_BITCOUNT) : pow5.shiftLeft(POW5_BITCOUNT - length);
+				POW5_SPLIT[2 * i] = value.shiftRight(64).longValue();
+				POW5_SPLIT[2 * i + 1] = value.longValue();
+			}
+			if (i < POW5_INV_TABLE_SIZE) {
+				final BigInteger value = BigInteger.ONE.shiftLeft(length - 1 + POW5_BITCOUNT).divide(pow5).add(BigInteger.ONE);
+				POW5_INV_SPLIT[2 * i] = value.shiftRight(64).longValue();
+				POW5_INV_SPLIT[2 * i + 1] = value.longValue();
+			}
+			pow5 = pow5.multiply(five);
+		}
+	}
+
+	private DoubleToDecimal() {
+	}
+
+	/**
+	 * 写入 buf,buf 自 offset 起至少需要 {@link #MAX_DOUBLE_LENGTH} 个位置
+	 *
+	 * @param value 值
+	 * @param buf 目标
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 */
+	static int toChars(final double value, final char[] buf, final int offset) {
+		final long bits = Double.doubleToRawLongBits(value);
+		final int ieeeExponent = (int) (bits >>> 52) & 0x7FF;
+		final long ieeeMantissa = bits & ((1L << 52) - 1);
+		if (ieeeExponent == 0x7FF) {
+			return special(ieeeMantissa != 0, bits < 0, buf, offset);
+		}
+		if (ieeeExponent == 0 && ieeeMantissa == 0) {
+			return zero(bits < 0, buf, offset);
+		}
+		final int e2 = (ieeeExponent == 0 ? 1 : ieeeExponent) - 1023 - 52 - 2;
+		final long m2 = ieeeExponent == 0 ? ieeeMantissa : ieeeMantissa | 1L << 52;
+		return write(m2, e2, ieeeMantissa != 0 || ieeeExponent <= 1, bits < 0, buf, offset);
+	}
+
+	/**
+	 * 写入 buf,buf 自 offset 起至少需要 {@link #MAX_FLOAT_LENGTH} 个位置
+	 *
+	 * @param value 值
+	 * @param buf 目标
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 */
+	static int toChars(final float value, final char[] buf, final int offset) {
+		final int bits = Float.floatToRawIntBits(value);
+		final int ieeeExponent = (bits >>> 23) & 0xFF;
+		final int ieeeMantissa = bits & ((1 << 23) - 1);
+		if (ieeeExponent == 0xFF) {
+			return special(ieeeMantissa != 0, bits < 0, buf, offset);
+		}
+		if (ieeeExponent == 0 && ieeeMantissa == 0) {
+			return zero(bits < 0, buf, offset);
+		}
+		// 共用 double 的表,精度足以覆盖 float 的范围
+		final int e2 = (ieeeExponent == 0 ? 1 : ieeeExponent) - 127 - 23 - 2;
+		final long m2 = ieeeExponent == 0 ? ieeeMantissa : ieeeMantissa | 1L << 23;
+		return write(m2, e2, ieeeMantissa != 0 || ieeeExponent <= 1, bits < 0, buf, offset);
+	}
+
+	/**
+	 * 写入 ASCII 字节
+	 *
+	 * @param value 值
+	 * @param buf 目标
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 */
+	static int toBytes(final double value, final byte[] buf, final int offset) {
+		final char[] scratch = SCRATCH.get();
+		return copy(scratch, toChars(value, scratch, 0), buf, offset);
+	}
+
+	/**
+	 * 写入 ASCII 字节
+	 *
+	 * @param value 值
+	 * @param buf 目标
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 */
+	static int toBytes(final float value, final byte[] buf, final int offset) {
+		final char[] scratch = SCRATCH.get();
+		return copy(scratch, toChars(value, scratch, 0), buf, offset);
+	}
+
+	/**
+	 * 追加到 sb,不创建字符串
+	 *
+	 * @param sb StringBuilder
+	 * @param value 值
+	 * @return sb
+	 */
+	static StringBuilder append(final StringBuilder sb, final double value) {
+		final char[] scratch = SCRATCH.get();
+		return sb.append(scratch, 0, toChars(value, scratch, 0));
+	}
+
+	/**
+	 * 追加到 sb,不创建字符串
+	 *
+	 * @param sb StringBuilder
+	 * @param value 值
+	 * @return sb
+	 */
+	static StringBuilder append(final StringBuilder sb, final float value) {
+		final char[] scratch = SCRATCH.get();
+		return sb.append(scratch, 0, toChars(value, scratch, 0));
+	}
+
+	/**
+	 * 以 ASCII 写入 buffer,空间不足时抛出 {@link BufferOverflowException} 且不写入
+	 *
+	 * @param buffer ByteBuffer
+	 * @param value 值
+	 */
+	static void put(final ByteBuffer buffer, final double value) {
+		final char[] scratch = SCRATCH.get();
+		final int length = toChars(value, scratch, 0);
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		for (int i = 0; i < length; i++) {
+			buffer.put((byte) scratch[i]);
+		}
+	}
+
+	/**
+	 * 以 ASCII 写入 buffer,空间不足时抛出 {@link BufferOverflowException} 且不写入
+	 *
+	 * @param buffer ByteBuffer
+	 * @param value 值
+	 */
+	static void put(final ByteBuffer buffer, final float value) {
+		final char[] scratch = SCRATCH.get();
+		final int length = toChars(value, scratch, 0);
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		for (int i = 0; i < length; i++) {
+			buffer.put((byte) scratch[i]);
+		}
+	}
+
+	private static int copy(final char[] scratch, final int length, final byte[] buf, final int offset) {
+		for (int i = 0; i < length; i++) {
+			buf[offset + i] = (byte) scratch[i];
+		}
+		return offset + length;
+	}
+
+	private static int special(final boolean nan, final boolean negative, final char[] buf, final int offset) {
+		final char[] text = nan ? NAN : negative ? NEGATIVE_INFINITY : INFINITY;
+		System.arraycopy(text, 0, buf, offset, text.length);
+		return offset + text.length;
+	}
+
+	private static int zero(final boolean negative, final char[] buf, int offset) {
+		if (negative) {
+			buf[offset++] = '-';
+		}
+		buf[offset] = '0';
+		buf[offset + 1] = '.';
+		buf[offset + 2] = '0';
+		return offset + 3;
+	}
+
+	/**
+	 * 求 m2 * 2^e2 的最短十进制表示并排版
+	 *
+	 * @param m2 二进制尾数
+	 * @param e2 二进制指数,已减去 2,即 mv = 4 * m2 对应的指数
+	 * @param mmShift 下边界与 mv 的距离是否为整数间隔(尾数不为 2 的幂时)
+	 * @param negative 是否为负数
+	 * @param buf 目标
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 */
+	private static int write(final long m2, final int e2, final boolean mmShift, final boolean negative, final char[] buf, final int offset) {
+		final boolean even = (m2 & 1) == 0;
+		final long mv = 4 * m2;
+		final long mp = mv + 2;
+		final long mm = mv - 1 - (mmShift ? 1 : 0);
+
+		// 转换到十进制: vr = mv * 2^e2 / 10^e10 等,并记录被截去的部分是否全为 0
+		long vr;
+		long vp;
+		long vm;
+		final int e10;
+		boolean vmIsTrailingZeros = false;
+		boolean vrIsTrailingZeros = false;
+		if (e2 >= 0) {
+			final int q = log10Pow2(e2) - (e2 > 3 ? 1 : 0);
+			e10 = q;
+			final int k = POW5_BITCOUNT + pow5bits(q) - 1;
+			final int i = -e2 + q + k;
+			vr = mulShift(mv, POW5_INV_SPLIT, 2 * q, i);
+			vp = mulShift(mp, POW5_INV_SPLIT, 2 * q, i);
+			vm = mulShift(mm, POW5_INV_SPLIT, 2 * q, i);
+			if (q <= 21) {
+				// mv、mp、mm 中最多一个是 5 的倍数
+				if (mv % 5 == 0) {
+					vrIsTrailingZeros = multipleOfPowerOf5(mv, q);
+				} else if (even) {
+					vmIsTrailingZeros = multipleOfPowerOf5(mm, q);
+				} else if (multipleOfPowerOf5(mp, q)) {
+					vp--;
+				}
+			}
+		} else {
+			final int q = log10Pow5(-e2) - (-e2 > 1 ? 1 : 0);
+			e10 = q + e2;
+			final int i = -e2 - q;
+			final int k = pow5bits(i) - POW5_BITCOUNT;
+			final int j = q - k;
+			vr = mulShift(mv, POW5_SPLIT, 2 * i, j);
+			vp = mulShift(mp, POW5_SPLIT, 2 * i, j);
+			vm = mulShift(mm, POW5_SPLIT, 2 * i, j);
+			if (q <= 1) {
+				// mv = 4 * m2,至少有两个末尾 0 位
+				vrIsTrailingZeros = true;
+				if (even) {
+					vmIsTrailingZeros = mmShift;
+				} else {
+					vp--;
+				}
+			} else if (q < 63) {
+				vrIsTrailingZeros = (mv & ((1L << q) - 1)) == 0;
+			}
+		}
+
+		final long vr0 = vr;
+		final boolean vr0IsTrailingZeros = vrIsTrailingZeros;
+
+		// 在 (vm, vp) 区间内去掉尽可能多的末尾数字
+		int removed = 0;
+		int lastRemovedDigit = 0;
+		final long output;
+		if (vmIsTrailingZeros || vrIsTrailingZeros) {
+			while (vp / 10 > vm / 10) {
+				vmIsTrailingZeros &= vm % 10 == 0;
+				vrIsTrailingZeros &= lastRemovedDigit == 0;
+				lastRemovedDigit = (int) (vr % 10);
+				vr /= 10;
+				vp /= 10;
+				vm /= 10;
+				removed++;
+			}
+			if (vmIsTrailingZeros) {
+				while (vm % 10 == 0) {
+					vrIsTrailingZeros &= lastRemovedDigit == 0;
+					lastRemovedDigit = (int) (vr % 10);
+					vr /= 10;
+					vp /= 10;
+					vm /= 10;
+					removed++;
+				}
+			}
+			if (vrIsTrailingZeros && lastRemovedDigit == 5 && vr % 2 == 0) {
+				// 恰好是 ...50..0 时向偶数舍入
+				lastRemovedDigit = 4;
+			}
+			output = vr + ((vr == vm && (!even || !vmIsTrailingZeros)) || lastRemovedDigit >= 5 ? 1 : 0);
+		} else {
+			boolean roundUp = false;
+			if (vp / 100 > vm / 100) {
+				roundUp = vr % 100 >= 50;
+				vr /= 100;
+				vp /= 100;
+				vm /= 100;
+				removed += 2;
+			}
+			while (vp / 10 > vm / 10) {
+				roundUp = vr % 10 >= 5;
+				vr /= 10;
+				vp /= 10;
+				vm /= 10;
+				removed++;
+			}
+			output = vr + (vr == vm || roundUp ? 1 : 0);
+		}
+		if (output < 10) {
+			// 只剩一位数字时改取最接近原值的两位数字,与 JDK 19 起的 Double.toString 一致,如 4.9E-324 而不是 5.0E-324
+			final long twoDigits;
+			final int twoDigitsExponent;
+			final int length = NumberText.digitCount(vr0);
+			if (length > 2) {
+				final long unit = POWERS_OF_TEN[length - 2];
+				final long remainder = 2 * (vr0 % unit);
+				final long truncated = vr0 / unit;
+				twoDigits = truncated + (remainder > unit || remainder == unit && (!vr0IsTrailingZeros || (truncated & 1) == 1) ? 1 : 0);
+				twoDigitsExponent = e10 + length - 2;
+			} else {
+				// 只有极小的非规格化数会走到这里,截去的部分未知,按精确值舍入
+				final BigDecimal exact = new BigDecimal(BigInteger.valueOf(m2).multiply(BigInteger.valueOf(5).pow(-e2 - 2)), -e2 - 2);
+				final BigDecimal rounded = exact.round(new MathContext(2, RoundingMode.HALF_EVEN));
+				twoDigits = rounded.unscaledValue().longValue();
+				twoDigitsExponent = -rounded.scale();
+			}
+			if (twoDigits >= 10 && twoDigits < 100 && twoDigits % 10 != 0) {
+				return layout(twoDigits, twoDigitsExponent, negative, buf, offset);
+			}
+		}
+		return layout(output, e10 + removed, negative, buf, offset);
+	}
+
+	/**
+	 * 按 {@link Double#toString(double)} 的规则排版 output * 10^exponent
+	 */
+	private static int layout(final long output, final int exponent, final boolean negative, final char[] buf, int pos) {
+		if (negative) {
+			buf[pos++] = '-';
+		}
+		final int length = NumberText.digitCount(output);
+		final int scientificExponent = exponent + length - 1;
+		if (scientificExponent >= -3 && scientificExponent < 7) {
+			if (exponent >= 0) {
+				// 整数: 数字 + 补 0 + ".0"
+				NumberText.writeDigits(output, buf, pos + length);
+				pos += length;
+				for (int i = 0; i < exponent; i++) {
+					buf[pos++] = '0';
+				}
+				buf[pos++] = '.';
+				buf[pos++] = '0';
+				return pos;
+			}
+			if (scientificExponent >= 0) {
+				// 小数点在数字中间
+				final int integerLength = scientificExponent + 1;
+				NumberText.writeDigits(output, buf, pos + 1 + length);
+				System.arraycopy(buf, pos + 1, buf, pos, integerLength);
+				buf[pos + integerLength] = '.';
+				return pos + length + 1;
+			}
+			// 0.00ddd
+			buf[pos++] = '0';
+			buf[pos++] = '.';
+			for (int i = -1; i > scientificExponent; i--) {
+				buf[pos++] = '0';
+			}
+			NumberText.writeDigits(output, buf, pos + length);
+			return pos + length;
+		}
+		// d.dddE[-]n
+		NumberText.writeDigits(output, buf, pos + 1 + length);
+		buf[pos] = buf[pos + 1];
+		buf[pos + 1] = '.';
+		if (length == 1) {
+			buf[pos + 2] = '0';
+			pos += 3;
+		} else {
+			pos += length + 1;
+		}
+		buf[pos++] = 'E';
+		int e = scientificExponent;
+		if (e < 0) {
+			buf[pos++] = '-';
+			e = -e;
+		}
+		if (e >= 100) {
+			buf[pos++] = (char) ('0' + e / 100);
+			e %= 100;
+			buf[pos++] = (char) ('0' + e / 10);
+		} else if (e >= 10) {
+			buf[pos++] = (char) ('0' + e / 10);
+		}
+		buf[pos++] = (char) ('0' + e % 10);
+		return pos;
+	}
+
+	/**
+	 * (m * table[index..index+1]) >> j,表项为 128 位,j 不小于 64
+	 */
+	private static long mulShift(final long m, final long[] table, final int index, final int j) {
+		final long high = table[index];
+		final long low = table[index + 1];
+		final long b0High = NumberText.multiplyHigh(m, low);
+		final long b2Low = m * high;
+		final long b2High = NumberText.multiplyHigh(m, high);
+		final long sumLow = b0High + b2Low;
+		final long sumHigh = b2High + (Long.compareUnsigned(sumLow, b0High) < 0 ? 1 : 0);
+		final int shift = j - 64;
+		if (shift == 0) {
+			return sumLow;
+		}
+		if (shift >= 64) {
+			return sumHigh >>> (shift - 64);
+		}
+		return (sumLow >>> shift) | (sumHigh << (64 - shift));
+	}
+
+	/**
+	 * 5^e 的二进制位数
+	 */
+	private static int pow5bits(final int e) {
+		return ((e * 1217359) >>> 19) + 1;
+	}
+
+	/**
+	 * floor(log10(2^e))
+	 */
+	private static int log10Pow2(final int e) {
+		return (e * 78913) >>> 18;
+	}
+
+	/**
+	 * floor(log10(5^e))
+	 */
+	private static int log10Pow5(final int e) {
+		return (e * 732923) >>> 20;
+	}
+
+	private static boolean multipleOfPowerOf5(long value, final int p) {
+		int count = 0;
+		while (value > 0 && value % 5 == 0) {
+			value /= 5;
+			if (++count >= p) {
+				return true;
+			}
+		}
+		return count >= p;
+	}
+}
@@ -0,0 +1,426 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * EditDistance 编辑距离(Levenshtein 距离,插入、删除、替换各计 1)
+ * <p>使用 Myers / Hyyrö 的位并行算法:模式串的每个字符对应一个位,文本每前进一个字符只需十来次位运算,
+ * 耗时与 文本长度 × ⌈模式长度 / 64⌉ 成正比,不需要 O(m × n) 的动态规划表</p>
+ * <ul>
+ *     <li>模式不超过 64 个字符时整列放在一个 long 中</li>
+ *     <li>更长的模式按 64 位分块,块之间传递水平差值的进位</li>
+ *     <li>限定最大距离时,剩余字符已不可能把距离降到上限以内就提前返回</li>
+ * </ul>
+ * <p>同一个查询串与大量候选比较时先 {@link #compile(CharSequence)},每个字符的位掩码只计算一次</p>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code EditDistance.levenshtein("kitten", "sitting")     // 3}</li>
+ *     <li>{@code EditDistance.compile("aple").closest(Arrays.asList("apple", "maple", "banana"), 2, 1)     // [apple(1), maple(1)]}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class EditDistance {
+
+	/**
+	 * 候选数量达到此值时并行计算;单次比较远比分组取键耗时,阈值比 {@link com.threesides.collection.AbstractGroupIndex#PARALLEL_THRESHOLD} 低
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 10;
+
+	private static final int BLOCK_BITS = 64;
+
+	/**
+	 * 掩码表中 ASCII 字符直接按字符值取行,此行是不在模式中的字符,其余字符的行排在它后面
+	 */
+	private static final int NO_MATCH_ROW = 0x80;
+
+	private final String pattern;
+
+	private final boolean ignoreCase;
+
+	private final int blocks;
+
+	/**
+	 * 最后一块中模式最后一个字符对应的位,即动态规划表最后一行
+	 */
+	private final long lastBit;
+
+	/**
+	 * 不在 ASCII 范围内的模式字符,升序
+	 */
+	private final char[] others;
+
+	/**
+	 * 每个字符占 blocks 个 long,第 i 位表示模式第 i 个字符与之相同
+	 */
+	private final long[] masks;
+
+	private EditDistance(String pattern, boolean ignoreCase) {
+		this.pattern = pattern;
+		this.ignoreCase = ignoreCase;
+		final int length = pattern.length();
+		this.blocks = Math.max(1, (length + BLOCK_BITS - 1) / BLOCK_BITS);
+		this.lastBit = length == 0 ? 0 : 1L << ((length - 1) & (BLOCK_BITS - 1));
+		final char[] folded = new char[length];
+		for (int i = 0; i < length; i++) {
+			folded[i] = ignoreCase ? StringSearcher.fold(pattern.charAt(i)) : pattern.charAt(i);
+		}
+		final char[] sorted = folded.clone();
+		Arrays.sort(sorted);
+		int count = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (sorted[i] >= 0x80 && (count == 0 || sorted[i] != sorted[count - 1])) {
+				sorted[count++] = sorted[i];
+			}
+		}
+		this.others = Arrays.copyOf(sorted, count);
+		this.masks = new long[(NO_MATCH_ROW + 1 + count) * this.blocks];
+		for (int i = 0; i < length; i++) {
+			this.masks[row(folded[i]) * this.blocks + i / BLOCK_BITS] |= 1L << (i & (BLOCK_BITS - 1));
+		}
+	}
+
+	/**
+	 * 编译查询串,区分大小写
+	 *
+	 * @param pattern 查询串
+	 * @return EditDistance
+	 *
+	 * @since 2026-10-19
+	 */
+	public static EditDistance compile(CharSequence pattern) {
+		return compile(pattern, false);
+	}
+
+	/**
+	 * 编译查询串
+	 *
+	 * @param pattern 查询串
+	 * @param ignoreCase 是否忽略大小写,忽略时大小写不同的字符视为相同
+	 * @return EditDistance
+	 *
+	 * @since 2026-10-19
+	 */
+	public static EditDistance compile(CharSequence pattern, boolean ignoreCase) {
+		Assert.notNull(pattern, "[Assertion failed] - pattern must not be null");
+		return new EditDistance(pattern.toString(), ignoreCase);
+	}
+
+	/**
+	 * 两个字符串的编辑距离
+	 *
+	 * @param str1 字符串1
+	 * @param str2 字符串2
+	 * @return 编辑距离
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int levenshtein(CharSequence str1, CharSequence str2) {
+		return levenshtein(str1, str2, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 两个字符串的编辑距离,超过上限时提前结束
+	 *
+	 * @param str1 字符串1
+	 * @param str2 字符串2
+	 * @param maxDistance 最大距离
+	 * @return 编辑距离,超过 maxDistance 时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int levenshtein(CharSequence str1, CharSequence str2, int maxDistance) {
+		Assert.notNull(str1, "[Assertion failed] - str1 must not be null");
+		Assert.notNull(str2, "[Assertion failed] - str2 must not be null");
+		Assert.isTrue(maxDistance >= 0, "[Assertion failed] - maxDistance must not be negative");
+		if (Math.abs(str1.length() - str2.length()) > maxDistance) {
+			return -1;
+		}
+		// 较短的一方作为模式,块数最少
+		return str1.length() <= str2.length()
+				? compile(str1).distance(str2, maxDistance)
+				: compile(str2).distance(str1, maxDistance);
+	}
+
+	/**
+	 * 查询串
+	 *
+	 * @return 查询串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * 是否忽略大小写
+	 *
+	 * @return 是否忽略大小写
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isIgnoreCase() {
+		return this.ignoreCase;
+	}
+
+	/**
+	 * 与文本的编辑距离
+	 *
+	 * @param text 文本
+	 * @return 编辑距离
+	 *
+	 * @since 2026-10-19
+	 */
+	public int distance(CharSequence text) {
+		return distance(text, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 与文本的编辑距离,超过上限时提前结束
+	 *
+	 * @param text 文本
+	 * @param maxDistance 最大距离
+	 * @return 编辑距离,超过 maxDistance 时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int distance(CharSequence text, int maxDistance) {
+		Assert.notNull(text, "[Assertion failed] - text must not be null");
+		Assert.isTrue(maxDistance >= 0, "[Assertion failed] - maxDistance must not be negative");
+		final int m = this.pattern.length();
+		final int n = text.length();
+		if (Math.abs(m - n) > maxDistance) {
+			return -1;
+		}
+		if (m == 0) {
+			return n;
+		}
+		return this.blocks == 1 ? distanceSingle(text, maxDistance) : distanceBlocked(text, maxDistance);
+	}
+
+	/**
+	 * 与文本的编辑距离是否不超过上限
+	 *
+	 * @param text 文本
+	 * @param maxDistance 最大距离
+	 * @return 是否不超过
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isWithin(CharSequence text, int maxDistance) {
+		return distance(text, maxDistance) >= 0;
+	}
+
+	/**
+	 * 从候选中找出编辑距离最小的若干个,候选较多时并行计算
+	 *
+	 * @param candidates 候选,null 元素跳过
+	 * @param limit 最多返回的数量
+	 * @param maxDistance 最大距离,超过的候选不返回
+	 * @return 按距离升序,距离相同时按候选原顺序
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<Match<String>> closest(Collection<String> candidates, int limit, int maxDistance) {
+		return closest(candidates, Function.identity(), limit, maxDistance);
+	}
+
+	/**
+	 * 从候选中找出编辑距离最小的若干个,候选较多时并行计算
+	 *
+	 * @param candidates 候选
+	 * @param textMapper 取候选用于比较的文本,返回 null 的候选跳过
+	 * @param limit 最多返回的数量
+	 * @param maxDistance 最大距离,超过的候选不返回
+	 * @param <T> 候选类型
+	 * @return 按距离升序,距离相同时按候选原顺序
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<Match<T>> closest(Collection<? extends T> candidates, Function<? super T, ? extends CharSequence> textMapper,
+									  int limit, int maxDistance) {
+		Assert.notNull(candidates, "[Assertion failed] - candidates must not be null");
+		Assert.notNull(textMapper, "[Assertion failed] - textMapper must not be null");
+		Assert.isTrue(limit >= 0, "[Assertion failed] - limit must not be negative");
+		Assert.isTrue(maxDistance >= 0, "[Assertion failed] - maxDistance must not be negative");
+		if (limit == 0 || candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final Object[] items = candidates.toArray();
+		final int[] distances = new int[items.length];
+		IntStream indexes = IntStream.range(0, items.length);
+		if (items.length >= PARALLEL_THRESHOLD) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(i -> {
+			final CharSequence text = items[i] == null ? null : textMapper.apply((T) items[i]);
+			distances[i] = text == null ? -1 : distance(text, maxDistance);
+		});
+		// 高 32 位距离、低 32 位下标,排序后即为距离升序、同距离按原顺序
+		long[] keys = new long[items.length];
+		int count = 0;
+		for (int i = 0; i < distances.length; i++) {
+			if (distances[i] >= 0) {
+				keys[count++] = (long) distances[i] << 32 | i;
+			}
+		}
+		keys = Arrays.copyOf(keys, count);
+		Arrays.sort(keys);
+		final int size = Math.min(limit, count);
+		final List<Match<T>> matches = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			matches.add(new Match<>((T) items[(int) keys[i]], (int) (keys[i] >>> 32)));
+		}
+		return matches;
+	}
+
+	private int distanceSingle(CharSequence text, int maxDistance) {
+		final long[] masks = this.masks;
+		final long lastBit = this.lastBit;
+		final int n = text.length();
+		// pv / mv:当前列相邻行之间的垂直差值为 +1 / -1 的位;初始列 D[i][0] = i,全部为 +1
+		long pv = -1L;
+		long mv = 0;
+		int score = this.pattern.length();
+		for (int j = 0; j < n; j++) {
+			final long eq = masks[row(charAt(text, j))];
+			final long xv = eq | mv;
+			final long xh = (((eq & pv) + pv) ^ pv) | eq;
+			long ph = mv | ~(xh | pv);
+			long mh = pv & xh;
+			if ((ph & lastBit) != 0) {
+				score++;
+			} else if ((mh & lastBit) != 0) {
+				score--;
+			}
+			// 第 0 行 D[0][j] = j,水平差值恒为 +1
+			ph = ph << 1 | 1;
+			mh <<= 1;
+			pv = mh | ~(xv | ph);
+			mv = ph & xv;
+			// 之后每列最多让最后一行减 1
+			if (score - (n - 1 - j) > maxDistance) {
+				return -1;
+			}
+		}
+		return score <= maxDistance ? score : -1;
+	}
+
+	private int distanceBlocked(CharSequence text, int maxDistance) {
+		final long[] masks = this.masks;
+		final int blocks = this.blocks;
+		final int last = blocks - 1;
+		final int n = text.length();
+		final long[] pvs = new long[blocks];
+		final long[] mvs = new long[blocks];
+		Arrays.fill(pvs, -1L);
+		int score = this.pattern.length();
+		for (int j = 0; j < n; j++) {
+			final int offset = row(charAt(text, j)) * blocks;
+			// 上一块最后一行传下来的水平差值,第 0 行恒为 +1
+			int carry = 1;
+			for (int b = 0; b < blocks; b++) {
+				final long pv = pvs[b];
+				final long mv = mvs[b];
+				final long carryIn = carry < 0 ? 1 : 0;
+				long eq = masks[offset + b];
+				final long xv = eq | mv;
+				eq |= carryIn;
+				final long xh = (((eq & pv) + pv) ^ pv) | eq;
+				long ph = mv | ~(xh | pv);
+				long mh = pv & xh;
+				final long outBit = b == last ? this.lastBit : Long.MIN_VALUE;
+				final int carryOut = (ph & outBit) != 0 ? 1 : (mh & outBit) != 0 ? -1 : 0;
+				ph = ph << 1 | (carry > 0 ? 1 : 0);
+				mh = mh << 1 | carryIn;
+				pvs[b] = mh | ~(xv | ph);
+				mvs[b] = ph & xv;
+				carry = carryOut;
+			}
+			score += carry;
+			if (score - (n - 1 - j) > maxDistance) {
+				return -1;
+			}
+		}
+		return score <= maxDistance ? score : -1;
+	}
+
+	private char charAt(CharSequence text, int index) {
+		final char c = text.charAt(index);
+		return this.ignoreCase ? StringSearcher.fold(c) : c;
+	}
+
+	/**
+	 * 字符在掩码表中的行
+	 */
+	private int row(char c) {
+		if (c < 0x80) {
+			return c;
+		}
+		final int index = Arrays.binarySearch(this.others, c);
+		return index < 0 ? NO_MATCH_ROW : NO_MATCH_ROW + 1 + index;
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+	/**
+	 * 一个候选及其编辑距离
+	 *
+	 * @param <T> 候选类型
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Match<T> {
+
+		private final T value;
+
+		private final int distance;
+
+		Match(T value, int distance) {
+			this.value = value;
+			this.distance = distance;
+		}
+
+		/**
+		 * 候选
+		 *
+		 * @return 候选
+		 *
+		 * @since 2026-10-19
+		 */
+		public T getValue() {
+			return this.value;
+		}
+
+		/**
+		 * 编辑距离
+		 *
+		 * @return 编辑距离
+		 *
+		 * @since 2026-10-19
+		 */
+		public int getDistance() {
+			return this.distance;
+		}
+
+		@Override
+		public String toString() {
+			return this.value + "(" + this.distance + ")";
+		}
+	}
+}
@@ -0,0 +1,600 @@
+package com.threesides.lang;
+
+import com.threesides.constant.text.CharTextConstant;
+import com.threesides.constant.text.StringTextConstant;
+import com.threesides.exception.Assert;
+import com.threesides.exception.SystemException;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * FormatTemplate 预解析的 {@code {}} 占位符模板
+ * <p>解析一次后保存字面量片段与占位符位置,格式化时先计算结果长度再依次追加,不再扫描模板;
+ * 结果与 {@link StringUtil#format(String, Object...)} 完全一致,包括转义规则:
+ * {@code \{}} 输出 {@code {}},{@code \\{}} 输出 {@code \} 加参数</p>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code StringUtil.compile("今天吃{},还是吃{}").format("面","饭")     // 今天吃面,还是吃饭"}</li>
+ * </ul>
+ * <p>{@code formatTo} 系列方法写入调用方提供的 StringBuilder、Appendable 或 ByteBuffer(UTF-8),
+ * 并提供 char/int/long/float/double 单参数重载,避免可变参数数组与装箱</p>
+ * <p>Object 参数(包括 Double、Float)与 {@link StringUtil#format(String, Object...)} 一样按 {@code toString} 输出;
+ * float/double 单参数重载按 {@link DoubleToDecimal} 输出最短表示,Java 8 上少数值与 {@link Double#toString(double)} 不同
+ * (如 0.002 而不是 0.0020)</p>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class FormatTemplate {
+
+	/**
+	 * {@link StringUtil#format(String, Object...)} 使用的模板缓存大小,直接映射,冲突时覆盖
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	/**
+	 * 超过该长度的模板不缓存,多为拼接出的一次性字符串
+	 */
+	private static final int MAX_CACHED_PATTERN_LENGTH = 1024;
+
+	private static final AtomicReferenceArray<FormatTemplate> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+	private final String pattern;
+
+	/**
+	 * literals[i] 为第 i 个占位符之前已处理转义的字面量,literals[slotCount] 为最后一个占位符之后的部分
+	 */
+	private final String[] literals;
+
+	/**
+	 * 第 i 个占位符之后的部分在模板中的起始位置;参数不足时该位置之后原样输出
+	 */
+	private final int[] rawFrom;
+
+	/**
+	 * UTF-8 编码后的模板,只有写入 ByteBuffer 时才在第一次使用时创建
+	 */
+	private volatile Utf8 utf8;
+
+	private FormatTemplate(String pattern, String[] literals, int[] rawFrom) {
+		this.pattern = pattern;
+		this.literals = literals;
+		this.rawFrom = rawFrom;
+	}
+
+	/**
+	 * 解析模板
+	 *
+	 * @param pattern 模板
+	 * @return FormatTemplate
+	 *
+	 * @since 2026-10-19
+	 */
+	public static FormatTemplate compile(String pattern) {
+		Assert.notNull(pattern, "[Assertion failed] - pattern must not be null");
+		final List<String> literals = new ArrayList<>();
+		final List<Integer> rawFrom = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+		final int length = pattern.length();
+		int handledPosition = 0;
+		int delimIndex;
+		while ((delimIndex = pattern.indexOf(StringTextConstant.EMPTY_JSON, handledPosition)) != -1) {
+			if (delimIndex > 0 && pattern.charAt(delimIndex - 1) == CharTextConstant.BACKSLASH) {
+				if (delimIndex > 1 && pattern.charAt(delimIndex - 2) == CharTextConstant.BACKSLASH) {
+					// 双转义符,占位符依旧有效
+					literal.append(pattern, handledPosition, delimIndex - 1);
+				} else {
+					// 占位符被转义
+					literal.append(pattern, handledPosition, delimIndex - 1).append(CharTextConstant.DELIM_START);
+					handledPosition = delimIndex + 1;
+					continue;
+				}
+			} else {
+				literal.append(pattern, handledPosition, delimIndex);
+			}
+			literals.add(literal.toString());
+			literal.setLength(0);
+			handledPosition = delimIndex + 2;
+			rawFrom.add(handledPosition);
+		}
+		literals.add(literal.append(pattern, handledPosition, length).toString());
+		final int[] positions = new int[rawFrom.size()];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = rawFrom.get(i);
+		}
+		return new FormatTemplate(pattern, literals.toArray(new String[0]), positions);
+	}
+
+	/**
+	 * 从缓存中取模板,没有时解析并放入缓存
+	 *
+	 * @param pattern 模板
+	 * @return FormatTemplate
+	 */
+	static FormatTemplate cached(String pattern) {
+		if (pattern.length() > MAX_CACHED_PATTERN_LENGTH) {
+			return compile(pattern);
+		}
+		final int h = pattern.hashCode();
+		final int slot = (h ^ (h >>> 16)) & (CACHE_SIZE - 1);
+		final FormatTemplate template = CACHE.get(slot);
+		if (template != null && (template.pattern == pattern || template.pattern.equals(pattern))) {
+			return template;
+		}
+		final FormatTemplate compiled = compile(pattern);
+		CACHE.lazySet(slot, compiled);
+		return compiled;
+	}
+
+	/**
+	 * 模板
+	 *
+	 * @return 模板
+	 *
+	 * @since 2026-10-19
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * 占位符数量
+	 *
+	 * @return 占位符数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int getSlotCount() {
+		return this.rawFrom.length;
+	}
+
+	/**
+	 * 格式化
+	 *
+	 * @param args 参数,多余的参数忽略,不足时剩余部分原样输出
+	 * @return 格式化后的字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String format(Object... args) {
+		if (ArrayUtil.isEmpty(args) || this.pattern.isEmpty()) {
+			return this.pattern;
+		}
+		final int slots = this.rawFrom.length;
+		final int used = Math.min(slots, args.length);
+		if (used == 0 && this.literals[0].length() == this.pattern.length()) {
+			return this.pattern;
+		}
+		final String[] values = new String[used];
+		int length = 0;
+		for (int i = 0; i < used; i++) {
+			values[i] = argToString(args[i]);
+			length += values[i].length() + this.literals[i].length();
+		}
+		length += args.length > slots ? this.literals[slots].length() : this.pattern.length() - this.rawFrom[used - 1];
+		final StringBuilder sb = StringUtil.acquireStringBuilder(length);
+		try {
+			for (int i = 0; i < used; i++) {
+				sb.append(this.literals[i]).append(values[i]);
+			}
+			return appendTail(sb, args.length).toString();
+		} finally {
+			StringUtil.releaseStringBuilder(sb);
+		}
+	}
+
+	/**
+	 * 格式化并追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param args 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, Object... args) {
+		if (ArrayUtil.isEmpty(args)) {
+			return sb.append(this.pattern);
+		}
+		final int used = Math.min(this.rawFrom.length, args.length);
+		for (int i = 0; i < used; i++) {
+			sb.append(this.literals[i]).append(StringUtil.objectToUFTF8String(args[i]));
+		}
+		return appendTail(sb, args.length);
+	}
+
+	/**
+	 * 格式化并追加到 sb,输出字符本身而不是编码值
+	 *
+	 * @param sb StringBuilder
+	 * @param arg 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, char arg) {
+		if (this.rawFrom.length > 0) {
+			sb.append(this.literals[0]).append(arg);
+		}
+		return appendTail(sb, 1);
+	}
+
+	/**
+	 * 格式化并追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param arg 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, int arg) {
+		if (this.rawFrom.length > 0) {
+			sb.append(this.literals[0]).append(arg);
+		}
+		return appendTail(sb, 1);
+	}
+
+	/**
+	 * 格式化并追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param arg 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, long arg) {
+		if (this.rawFrom.length > 0) {
+			sb.append(this.literals[0]).append(arg);
+		}
+		return appendTail(sb, 1);
+	}
+
+	/**
+	 * 格式化并追加到 sb,按 float 精度输出最短表示
+	 *
+	 * @param sb StringBuilder
+	 * @param arg 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, float arg) {
+		if (this.rawFrom.length > 0) {
+			DoubleToDecimal.append(sb.append(this.literals[0]), arg);
+		}
+		return appendTail(sb, 1);
+	}
+
+	/**
+	 * 格式化并追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param arg 参数
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, double arg) {
+		if (this.rawFrom.length > 0) {
+			NumberText.append(sb.append(this.literals[0]), arg);
+		}
+		return appendTail(sb, 1);
+	}
+
+	/**
+	 * 格式化并写入 out
+	 * <p>字面量片段与参数依次直接写入 out,不经过中间缓冲区</p>
+	 *
+	 * @param out 输出
+	 * @param args 参数
+	 * @param <A> 输出类型
+	 * @return out
+	 *
+	 * @since 2026-10-19
+	 */
+	public <A extends Appendable> A formatTo(A out, Object... args) {
+		if (out instanceof StringBuilder) {
+			formatTo((StringBuilder) out, args);
+			return out;
+		}
+		try {
+			if (ArrayUtil.isEmpty(args)) {
+				out.append(this.pattern);
+				return out;
+			}
+			final int slots = this.rawFrom.length;
+			final int used = Math.min(slots, args.length);
+			for (int i = 0; i < used; i++) {
+				out.append(this.literals[i]).append(argToString(args[i]));
+			}
+			if (args.length > slots) {
+				out.append(this.literals[slots]);
+			} else {
+				out.append(this.pattern, this.rawFrom[args.length - 1], this.pattern.length());
+			}
+			return out;
+		} catch (IOException e) {
+			throw new SystemException("format write failed", e);
+		}
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer
+	 * <p>空间不足时抛出 {@link BufferOverflowException},buffer 的 position 恢复为写入前的位置</p>
+	 *
+	 * @param buffer ByteBuffer
+	 * @param args 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, Object... args) {
+		final int start = buffer.position();
+		try {
+			final Utf8 utf8 = utf8();
+			if (ArrayUtil.isEmpty(args)) {
+				return buffer.put(utf8.patternBytes);
+			}
+			final int used = Math.min(this.rawFrom.length, args.length);
+			for (int i = 0; i < used; i++) {
+				putUtf8(buffer.put(utf8.literalBytes[i]), argToString(args[i]));
+			}
+			return putTail(buffer, args.length);
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer,输出字符本身而不是编码值
+	 *
+	 * @param buffer ByteBuffer
+	 * @param arg 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, char arg) {
+		final int start = buffer.position();
+		try {
+			if (this.rawFrom.length > 0) {
+				putChar(buffer.put(utf8().literalBytes[0]), arg);
+			}
+			return putTail(buffer, 1);
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer,数字直接写入不创建字符串
+	 *
+	 * @param buffer ByteBuffer
+	 * @param arg 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, int arg) {
+		return formatTo(buffer, (long) arg);
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer,数字直接写入不创建字符串
+	 *
+	 * @param buffer ByteBuffer
+	 * @param arg 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, long arg) {
+		final int start = buffer.position();
+		try {
+			if (this.rawFrom.length > 0) {
+				putLong(buffer.put(utf8().literalBytes[0]), arg);
+			}
+			return putTail(buffer, 1);
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer,按 float 精度输出最短表示,数字直接写入不创建字符串
+	 *
+	 * @param buffer ByteBuffer
+	 * @param arg 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, float arg) {
+		final int start = buffer.position();
+		try {
+			if (this.rawFrom.length > 0) {
+				DoubleToDecimal.put(buffer.put(utf8().literalBytes[0]), arg);
+			}
+			return putTail(buffer, 1);
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * 格式化并以 UTF-8 写入 buffer,数字直接写入不创建字符串
+	 *
+	 * @param buffer ByteBuffer
+	 * @param arg 参数
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public ByteBuffer formatTo(ByteBuffer buffer, double arg) {
+		final int start = buffer.position();
+		try {
+			if (this.rawFrom.length > 0) {
+				DoubleToDecimal.put(buffer.put(utf8().literalBytes[0]), arg);
+			}
+			return putTail(buffer, 1);
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * 追加最后一个已使用占位符之后的部分:参数多于占位符时按转义规则处理,否则原样输出
+	 */
+	private StringBuilder appendTail(StringBuilder sb, int argCount) {
+		final int slots = this.rawFrom.length;
+		if (argCount > slots) {
+			return sb.append(this.literals[slots]);
+		}
+		return sb.append(this.pattern, this.rawFrom[argCount - 1], this.pattern.length());
+	}
+
+	private ByteBuffer putTail(ByteBuffer buffer, int argCount) {
+		final Utf8 utf8 = utf8();
+		final int slots = this.rawFrom.length;
+		if (argCount > slots) {
+			return buffer.put(utf8.literalBytes[slots]);
+		}
+		final int from = utf8.rawFromBytes[argCount - 1];
+		return buffer.put(utf8.patternBytes, from, utf8.patternBytes.length - from);
+	}
+
+	private Utf8 utf8() {
+		Utf8 utf8 = this.utf8;
+		if (utf8 == null) {
+			// 并发时可能重复创建,结果相同,不加锁
+			utf8 = new Utf8(this.pattern, this.literals, this.rawFrom);
+			this.utf8 = utf8;
+		}
+		return utf8;
+	}
+
+	private static String argToString(Object arg) {
+		return String.valueOf(StringUtil.objectToUFTF8String(arg));
+	}
+
+	/**
+	 * 按 UTF-8 编码写入,孤立的代理字符写为 '?',与 {@link String#getBytes(java.nio.charset.Charset)} 一致
+	 */
+	static void putUtf8(ByteBuffer buffer, CharSequence cs) {
+		Utf8Codec.encode(cs, buffer);
+	}
+
+	/**
+	 * 按 UTF-8 编码写入单个字符,孤立的代理字符写为 '?'
+	 */
+	static void putChar(ByteBuffer buffer, char c) {
+		if (c < 0x80) {
+			buffer.put((byte) c);
+		} else if (c < 0x800) {
+			buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+		} else if (Character.isSurrogate(c)) {
+			buffer.put((byte) '?');
+		} else {
+			buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+		}
+	}
+
+	/**
+	 * 写入十进制 ASCII 数字,堆内 buffer 直接写入其底层数组,直接内存 buffer 从后往前按绝对位置写入,不创建临时数组
+	 */
+	static void putLong(ByteBuffer buffer, long value) {
+		final int length = NumberText.length(value);
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		final int position = buffer.position();
+		if (buffer.hasArray()) {
+			NumberText.toBytes(value, buffer.array(), buffer.arrayOffset() + position);
+		} else {
+			// 按负数计算,Long.MIN_VALUE 也不会溢出
+			long q = value > 0 ? -value : value;
+			int i = position + length;
+			while (q <= -10) {
+				final long next = q / 10;
+				buffer.put(--i, (byte) ('0' + (next * 10 - q)));
+				q = next;
+			}
+			buffer.put(--i, (byte) ('0' - q));
+			if (value < 0) {
+				buffer.put(--i, (byte) '-');
+			}
+		}
+		buffer.position(position + length);
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+	/**
+	 * UTF-8 编码后的模板与字面量,rawFromBytes[i] 为 rawFrom[i] 对应的字节位置
+	 */
+	private static final class Utf8 {
+
+		final byte[] patternBytes;
+
+		final byte[][] literalBytes;
+
+		final int[] rawFromBytes;
+
+		Utf8(String pattern, String[] literals, int[] rawFrom) {
+			this.patternBytes = pattern.getBytes(StandardCharsets.UTF_8);
+			this.literalBytes = new byte[literals.length][];
+			for (int i = 0; i < literals.length; i++) {
+				this.literalBytes[i] = literals[i].getBytes(StandardCharsets.UTF_8);
+			}
+			// rawFrom 递增且都位于 "{}" 之后,不会落在代理对中间,一次遍历累加字节数
+			this.rawFromBytes = new int[rawFrom.length];
+			int bytes = 0;
+			int from = 0;
+			for (int i = 0; i < rawFrom.length; i++) {
+				bytes += utf8Length(pattern, from, rawFrom[i]);
+				from = rawFrom[i];
+				this.rawFromBytes[i] = bytes;
+			}
+		}
+
+		/**
+		 * 区间的 UTF-8 字节数,孤立的代理字符按 '?' 计 1 字节,与 {@link String#getBytes(java.nio.charset.Charset)} 一致
+		 */
+		private static int utf8Length(String s, int from, int to) {
+			int length = 0;
+			for (int i = from; i < to; i++) {
+				final char c = s.charAt(i);
+				if (c < 0x80) {
+					length++;
+				} else if (c < 0x800) {
+					length += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(s.charAt(i + 1))) {
+					length += 4;
+					i++;
+				} else if (Character.isSurrogate(c)) {
+					length++;
+				} else {
+					length += 3;
+				}
+			}
+			return length;
+		}
+	}
+}
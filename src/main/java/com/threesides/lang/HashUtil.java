@@ -0,0 +1,483 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HashUtil 非加密哈希
+ * <p>{@link String#hashCode()} 分布差、必须先有 String;这里提供分布均匀、速度快的 xxHash64 与 MurmurHash3(x86_32、x64_128),
+ * 结果与各自的参考实现一致,可用于分片、去重、布隆过滤器和缓存键</p>
+ * <ul>
+ *     <li>{@code byte[]} 区间与 {@link ByteBuffer} 直接读取,不改变 ByteBuffer 的 position</li>
+ *     <li>{@link CharSequence} 按 UTF-8 编码后的字节计算,结果与 {@code getBytes(UTF_8)} 后计算相同;
+ *     编码分块写入线程本地的缓冲区,不创建整个字节数组</li>
+ *     <li>大数据或分多次到达的数据使用 {@link Hasher} 流式计算</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code HashUtil.xxHash64("abc")     // 0x44BC2CF5AD770999L}</li>
+ *     <li>{@code Math.floorMod(HashUtil.murmur3x32(userId, 0), shards)}</li>
+ * </ul>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class HashUtil {
+
+	static final long XX_PRIME_1 = 0x9E3779B185EBCA87L;
+
+	static final long XX_PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+	static final long XX_PRIME_3 = 0x165667B19E3779F9L;
+
+	static final long XX_PRIME_4 = 0x85EBCA77C2B2AE63L;
+
+	static final long XX_PRIME_5 = 0x27D4EB2F165667C5L;
+
+	static final int MURMUR_32_C1 = 0xCC9E2D51;
+
+	static final int MURMUR_32_C2 = 0x1B873593;
+
+	static final long MURMUR_128_C1 = 0x87C37B91114253D5L;
+
+	static final long MURMUR_128_C2 = 0x4CF5AD432745937FL;
+
+	/**
+	 * xxHash64,种子为 0
+	 *
+	 * @param data 数据
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long xxHash64(byte[] data) {
+		Assert.notNull(data, "[Assertion failed] - data must not be null");
+		return xxHash64(data, 0, data.length, 0);
+	}
+
+	/**
+	 * xxHash64
+	 *
+	 * @param data 数据
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long xxHash64(byte[] data, int offset, int length, long seed) {
+		checkRange(data, offset, length);
+		final int end = offset + length;
+		int i = offset;
+		long h;
+		if (length >= Hasher.XxHash64.BLOCK_SIZE) {
+			long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+			long v2 = seed + XX_PRIME_2;
+			long v3 = seed;
+			long v4 = seed - XX_PRIME_1;
+			final int limit = end - Hasher.XxHash64.BLOCK_SIZE;
+			do {
+				v1 = xxRound(v1, getLongLE(data, i));
+				v2 = xxRound(v2, getLongLE(data, i + 8));
+				v3 = xxRound(v3, getLongLE(data, i + 16));
+				v4 = xxRound(v4, getLongLE(data, i + 24));
+				i += Hasher.XxHash64.BLOCK_SIZE;
+			} while (i <= limit);
+			h = xxMerge(v1, v2, v3, v4);
+		} else {
+			h = seed + XX_PRIME_5;
+		}
+		return xxFinish(h + length, data, i, end);
+	}
+
+	/**
+	 * xxHash64,计算 position 到 limit 之间的字节
+	 *
+	 * @param buffer 数据
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long xxHash64(ByteBuffer buffer, long seed) {
+		Assert.notNull(buffer, "[Assertion failed] - buffer must not be null");
+		if (buffer.hasArray()) {
+			return xxHash64(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+		}
+		final Hasher hasher = new Hasher.XxHash64(seed);
+		hasher.update(buffer.duplicate());
+		return hasher.getValue();
+	}
+
+	/**
+	 * xxHash64,种子为 0,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long xxHash64(CharSequence cs) {
+		return xxHash64(cs, 0);
+	}
+
+	/**
+	 * xxHash64,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long xxHash64(CharSequence cs, long seed) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		final byte[] chunk = Hasher.SCRATCH.get();
+		final long encoded = Hasher.encodeUtf8(cs, 0, cs.length(), chunk);
+		if (Hasher.consumed(encoded) == cs.length()) {
+			return xxHash64(chunk, 0, Hasher.written(encoded), seed);
+		}
+		final Hasher hasher = new Hasher.XxHash64(seed);
+		hasher.update(chunk, 0, Hasher.written(encoded));
+		hasher.update(cs, Hasher.consumed(encoded), cs.length());
+		return hasher.getValue();
+	}
+
+	/**
+	 * MurmurHash3 x86_32,种子为 0
+	 *
+	 * @param data 数据
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int murmur3x32(byte[] data) {
+		Assert.notNull(data, "[Assertion failed] - data must not be null");
+		return murmur3x32(data, 0, data.length, 0);
+	}
+
+	/**
+	 * MurmurHash3 x86_32
+	 *
+	 * @param data 数据
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int murmur3x32(byte[] data, int offset, int length, int seed) {
+		checkRange(data, offset, length);
+		final int end = offset + length;
+		final int limit = end - Hasher.Murmur3x32.BLOCK_SIZE;
+		int h = seed;
+		int i = offset;
+		for (; i <= limit; i += Hasher.Murmur3x32.BLOCK_SIZE) {
+			h = murmur32Round(h, getIntLE(data, i));
+		}
+		return murmur32Finish(h, data, i, end, length);
+	}
+
+	/**
+	 * MurmurHash3 x86_32,计算 position 到 limit 之间的字节
+	 *
+	 * @param buffer 数据
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int murmur3x32(ByteBuffer buffer, int seed) {
+		Assert.notNull(buffer, "[Assertion failed] - buffer must not be null");
+		if (buffer.hasArray()) {
+			return murmur3x32(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+		}
+		final Hasher hasher = new Hasher.Murmur3x32(seed);
+		hasher.update(buffer.duplicate());
+		return (int) hasher.getValue();
+	}
+
+	/**
+	 * MurmurHash3 x86_32,种子为 0,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int murmur3x32(CharSequence cs) {
+		return murmur3x32(cs, 0);
+	}
+
+	/**
+	 * MurmurHash3 x86_32,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @param seed 种子
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int murmur3x32(CharSequence cs, int seed) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		final byte[] chunk = Hasher.SCRATCH.get();
+		final long encoded = Hasher.encodeUtf8(cs, 0, cs.length(), chunk);
+		if (Hasher.consumed(encoded) == cs.length()) {
+			return murmur3x32(chunk, 0, Hasher.written(encoded), seed);
+		}
+		final Hasher hasher = new Hasher.Murmur3x32(seed);
+		hasher.update(chunk, 0, Hasher.written(encoded));
+		hasher.update(cs, Hasher.consumed(encoded), cs.length());
+		return (int) hasher.getValue();
+	}
+
+	/**
+	 * MurmurHash3 x64_128,种子为 0
+	 *
+	 * @param data 数据
+	 * @return 哈希值,[0] 为低 64 位、[1] 为高 64 位
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long[] murmur3x128(byte[] data) {
+		Assert.notNull(data, "[Assertion failed] - data must not be null");
+		return murmur3x128(data, 0, data.length, 0);
+	}
+
+	/**
+	 * MurmurHash3 x64_128
+	 *
+	 * @param data 数据
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @param seed 种子,按无符号数处理
+	 * @return 哈希值,[0] 为低 64 位、[1] 为高 64 位
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long[] murmur3x128(byte[] data, int offset, int length, int seed) {
+		checkRange(data, offset, length);
+		final int end = offset + length;
+		final int limit = end - Hasher.Murmur3x128.BLOCK_SIZE;
+		long h1 = seed & 0xFFFFFFFFL;
+		long h2 = h1;
+		int i = offset;
+		for (; i <= limit; i += Hasher.Murmur3x128.BLOCK_SIZE) {
+			h1 ^= murmur128MixK1(getLongLE(data, i));
+			h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52DCE729;
+			h2 ^= murmur128MixK2(getLongLE(data, i + 8));
+			h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495AB5;
+		}
+		return murmur128Finish(h1, h2, data, i, end, length);
+	}
+
+	/**
+	 * MurmurHash3 x64_128,计算 position 到 limit 之间的字节
+	 *
+	 * @param buffer 数据
+	 * @param seed 种子,按无符号数处理
+	 * @return 哈希值,[0] 为低 64 位、[1] 为高 64 位
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long[] murmur3x128(ByteBuffer buffer, int seed) {
+		Assert.notNull(buffer, "[Assertion failed] - buffer must not be null");
+		if (buffer.hasArray()) {
+			return murmur3x128(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+		}
+		final Hasher.Murmur3x128 hasher = new Hasher.Murmur3x128(seed);
+		hasher.update(buffer.duplicate());
+		return hasher.getValues();
+	}
+
+	/**
+	 * MurmurHash3 x64_128,种子为 0,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @return 哈希值,[0] 为低 64 位、[1] 为高 64 位
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long[] murmur3x128(CharSequence cs) {
+		return murmur3x128(cs, 0);
+	}
+
+	/**
+	 * MurmurHash3 x64_128,按 UTF-8 编码计算
+	 *
+	 * @param cs 字符串
+	 * @param seed 种子,按无符号数处理
+	 * @return 哈希值,[0] 为低 64 位、[1] 为高 64 位
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long[] murmur3x128(CharSequence cs, int seed) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		final byte[] chunk = Hasher.SCRATCH.get();
+		final long encoded = Hasher.encodeUtf8(cs, 0, cs.length(), chunk);
+		if (Hasher.consumed(encoded) == cs.length()) {
+			return murmur3x128(chunk, 0, Hasher.written(encoded), seed);
+		}
+		final Hasher.Murmur3x128 hasher = new Hasher.Murmur3x128(seed);
+		hasher.update(chunk, 0, Hasher.written(encoded));
+		hasher.update(cs, Hasher.consumed(encoded), cs.length());
+		return hasher.getValues();
+	}
+
+	/**
+	 * 流式 xxHash64
+	 *
+	 * @param seed 种子
+	 * @return Hasher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Hasher.XxHash64 newXxHash64(long seed) {
+		return new Hasher.XxHash64(seed);
+	}
+
+	/**
+	 * 流式 MurmurHash3 x86_32
+	 *
+	 * @param seed 种子
+	 * @return Hasher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Hasher.Murmur3x32 newMurmur3x32(int seed) {
+		return new Hasher.Murmur3x32(seed);
+	}
+
+	/**
+	 * 流式 MurmurHash3 x64_128
+	 *
+	 * @param seed 种子,按无符号数处理
+	 * @return Hasher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Hasher.Murmur3x128 newMurmur3x128(int seed) {
+		return new Hasher.Murmur3x128(seed);
+	}
+
+	static void checkRange(byte[] data, int offset, int length) {
+		Assert.notNull(data, "[Assertion failed] - data must not be null");
+		Assert.isTrue(offset >= 0 && length >= 0 && offset <= data.length - length,
+				"[Assertion failed] - offset and length must be within the array");
+	}
+
+	static long getLongLE(byte[] b, int i) {
+		return (getIntLE(b, i) & 0xFFFFFFFFL) | (long) getIntLE(b, i + 4) << 32;
+	}
+
+	static int getIntLE(byte[] b, int i) {
+		return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8 | (b[i + 2] & 0xFF) << 16 | b[i + 3] << 24;
+	}
+
+	static long xxRound(long acc, long input) {
+		return Long.rotateLeft(acc + input * XX_PRIME_2, 31) * XX_PRIME_1;
+	}
+
+	static long xxMerge(long v1, long v2, long v3, long v4) {
+		long h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+		h = (h ^ xxRound(0, v1)) * XX_PRIME_1 + XX_PRIME_4;
+		h = (h ^ xxRound(0, v2)) * XX_PRIME_1 + XX_PRIME_4;
+		h = (h ^ xxRound(0, v3)) * XX_PRIME_1 + XX_PRIME_4;
+		return (h ^ xxRound(0, v4)) * XX_PRIME_1 + XX_PRIME_4;
+	}
+
+	/**
+	 * 处理不足一个分块的尾部字节并做最终混合
+	 */
+	static long xxFinish(long h, byte[] b, int i, int end) {
+		for (; i <= end - 8; i += 8) {
+			h = Long.rotateLeft(h ^ xxRound(0, getLongLE(b, i)), 27) * XX_PRIME_1 + XX_PRIME_4;
+		}
+		if (i <= end - 4) {
+			h = Long.rotateLeft(h ^ (getIntLE(b, i) & 0xFFFFFFFFL) * XX_PRIME_1, 23) * XX_PRIME_2 + XX_PRIME_3;
+			i += 4;
+		}
+		for (; i < end; i++) {
+			h = Long.rotateLeft(h ^ (b[i] & 0xFFL) * XX_PRIME_5, 11) * XX_PRIME_1;
+		}
+		h ^= h >>> 33;
+		h *= XX_PRIME_2;
+		h ^= h >>> 29;
+		h *= XX_PRIME_3;
+		return h ^ h >>> 32;
+	}
+
+	static int murmur32Round(int h, int k) {
+		return Integer.rotateLeft(h ^ murmur32MixK(k), 13) * 5 + 0xE6546B64;
+	}
+
+	static int murmur32Finish(int h, byte[] b, int i, int end, int length) {
+		final int tail = end - i;
+		if (tail > 0) {
+			int k = b[i] & 0xFF;
+			if (tail > 1) {
+				k ^= (b[i + 1] & 0xFF) << 8;
+			}
+			if (tail > 2) {
+				k ^= (b[i + 2] & 0xFF) << 16;
+			}
+			h ^= murmur32MixK(k);
+		}
+		h ^= length;
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		return h ^ h >>> 16;
+	}
+
+	static long murmur128MixK1(long k1) {
+		return Long.rotateLeft(k1 * MURMUR_128_C1, 31) * MURMUR_128_C2;
+	}
+
+	static long murmur128MixK2(long k2) {
+		return Long.rotateLeft(k2 * MURMUR_128_C2, 33) * MURMUR_128_C1;
+	}
+
+	static long[] murmur128Finish(long h1, long h2, byte[] b, int i, int end, long length) {
+		final int tail = end - i;
+		if (tail > 8) {
+			long k2 = 0;
+			for (int j = tail - 1; j >= 8; j--) {
+				k2 = k2 << 8 | (b[i + j] & 0xFF);
+			}
+			h2 ^= murmur128MixK2(k2);
+		}
+		if (tail > 0) {
+			long k1 = 0;
+			for (int j = Math.min(tail, 8) - 1; j >= 0; j--) {
+				k1 = k1 << 8 | (b[i + j] & 0xFF);
+			}
+			h1 ^= murmur128MixK1(k1);
+		}
+		h1 ^= length;
+		h2 ^= length;
+		h1 += h2;
+		h2 += h1;
+		h1 = fmix64(h1);
+		h2 = fmix64(h2);
+		h1 += h2;
+		h2 += h1;
+		return new long[]{h1, h2};
+	}
+
+	private static int murmur32MixK(int k) {
+		return Integer.rotateLeft(k * MURMUR_32_C1, 15) * MURMUR_32_C2;
+	}
+
+	private static long fmix64(long k) {
+		k ^= k >>> 33;
+		k *= 0xFF51AFD7ED558CCDL;
+		k ^= k >>> 33;
+		k *= 0xC4CEB9FE1A85EC53L;
+		return k ^ k >>> 33;
+	}
+}
@@ -0,0 +1,388 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Hasher 流式哈希,数据可以分多次追加,结果与一次性计算 {@link HashUtil} 中的同名方法相同
+ * <p>按算法的分块大小缓存不足一块的字节,追加的数据足够时直接在调用方的数组上按块计算,不复制</p>
+ * <p>实现了 {@link Checksum},可直接用于 {@link java.util.zip.CheckedInputStream} 边读边算;
+ * 32 位的结果与 {@link java.util.zip.CRC32} 一样放在 long 的低 32 位</p>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code Hasher hasher = HashUtil.newXxHash64(0); hasher.update(header); hasher.update(body); hasher.getValue()}</li>
+ * </ul>
+ * <p>非线程安全</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public abstract class Hasher implements Checksum {
+
+	/**
+	 * 字符串编码为 UTF-8 时每次写入的字节数上限
+	 */
+	static final int CHUNK_SIZE = 1024;
+
+	static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	/**
+	 * 不足一块的字节
+	 */
+	final byte[] block;
+
+	int buffered;
+
+	long length;
+
+	Hasher(int blockSize) {
+		this.block = new byte[blockSize];
+	}
+
+	/**
+	 * 追加一个字节
+	 *
+	 * @param b 字节,只取低 8 位
+	 *
+	 * @since 2026-10-19
+	 */
+	@Override
+	public void update(int b) {
+		this.block[this.buffered++] = (byte) b;
+		this.length++;
+		if (this.buffered == this.block.length) {
+			processBlocks(this.block, 0, this.block.length);
+			this.buffered = 0;
+		}
+	}
+
+	/**
+	 * 追加字节数组
+	 *
+	 * @param b 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public void update(byte[] b) {
+		Assert.notNull(b, "[Assertion failed] - b must not be null");
+		update(b, 0, b.length);
+	}
+
+	/**
+	 * 追加字节数组区间
+	 *
+	 * @param b 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 *
+	 * @since 2026-10-19
+	 */
+	@Override
+	public void update(byte[] b, int off, int len) {
+		HashUtil.checkRange(b, off, len);
+		final byte[] block = this.block;
+		final int end = off + len;
+		int i = off;
+		this.length += len;
+		if (this.buffered > 0) {
+			final int n = Math.min(block.length - this.buffered, len);
+			System.arraycopy(b, i, block, this.buffered, n);
+			this.buffered += n;
+			i += n;
+			if (this.buffered < block.length) {
+				return;
+			}
+			processBlocks(block, 0, block.length);
+			this.buffered = 0;
+		}
+		// 分块大小都是 2 的幂
+		final int full = (end - i) & -block.length;
+		if (full > 0) {
+			processBlocks(b, i, full);
+			i += full;
+		}
+		this.buffered = end - i;
+		System.arraycopy(b, i, block, 0, this.buffered);
+	}
+
+	/**
+	 * 追加 position 到 limit 之间的字节,之后 position 移到 limit
+	 *
+	 * @param buffer 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public void update(ByteBuffer buffer) {
+		Assert.notNull(buffer, "[Assertion failed] - buffer must not be null");
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		final byte[] chunk = SCRATCH.get();
+		while (buffer.hasRemaining()) {
+			final int n = Math.min(chunk.length, buffer.remaining());
+			buffer.get(chunk, 0, n);
+			update(chunk, 0, n);
+		}
+	}
+
+	/**
+	 * 追加字符串的 UTF-8 编码
+	 *
+	 * @param cs 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public void update(CharSequence cs) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		update(cs, 0, cs.length());
+	}
+
+	/**
+	 * 追加字符串区间 [start, end) 的 UTF-8 编码,与 {@link String#getBytes(java.nio.charset.Charset)} 一样,
+	 * 不成对的代理字符编码为 '?'
+	 *
+	 * @param cs 字符串
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 *
+	 * @since 2026-10-19
+	 */
+	public void update(CharSequence cs, int start, int end) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		Assert.isTrue(start >= 0 && start <= end && end <= cs.length(), "[Assertion failed] - start and end must be within the sequence");
+		final byte[] chunk = SCRATCH.get();
+		while (start < end) {
+			final long encoded = encodeUtf8(cs, start, end, chunk);
+			update(chunk, 0, written(encoded));
+			start = consumed(encoded);
+		}
+	}
+
+	/**
+	 * 已追加的字节数
+	 *
+	 * @return 字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getLength() {
+		return this.length;
+	}
+
+	/**
+	 * 当前的哈希值,不影响之后继续追加
+	 *
+	 * @return 哈希值
+	 *
+	 * @since 2026-10-19
+	 */
+	@Override
+	public long getValue() {
+		return finish(this.block, this.buffered, this.length);
+	}
+
+	/**
+	 * 清空已追加的数据,种子不变
+	 *
+	 * @since 2026-10-19
+	 */
+	@Override
+	public void reset() {
+		this.buffered = 0;
+		this.length = 0;
+		resetState();
+	}
+
+	/**
+	 * 处理若干个完整的分块
+	 */
+	abstract void processBlocks(byte[] b, int offset, int length);
+
+	/**
+	 * 由当前状态和不足一块的尾部计算结果,不能修改状态
+	 */
+	abstract long finish(byte[] tail, int tailLength, long totalLength);
+
+	abstract void resetState();
+
+	/**
+	 * 把 [start, end) 尽量多地编码到 dst,不拆开代理对
+	 *
+	 * @return 高 32 位为已编码到的字符位置,低 32 位为写入的字节数
+	 */
+	static long encodeUtf8(CharSequence cs, int start, int end, byte[] dst) {
+		return Utf8Codec.encode(cs, start, end, dst, 0, dst.length, true);
+	}
+
+	static int consumed(long encoded) {
+		return (int) (encoded >>> 32);
+	}
+
+	static int written(long encoded) {
+		return (int) encoded;
+	}
+
+	/**
+	 * 流式 xxHash64
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class XxHash64 extends Hasher {
+
+		static final int BLOCK_SIZE = 32;
+
+		private final long seed;
+
+		private long v1;
+
+		private long v2;
+
+		private long v3;
+
+		private long v4;
+
+		XxHash64(long seed) {
+			super(BLOCK_SIZE);
+			this.seed = seed;
+			resetState();
+		}
+
+		@Override
+		void processBlocks(byte[] b, int offset, int length) {
+			long v1 = this.v1;
+			long v2 = this.v2;
+			long v3 = this.v3;
+			long v4 = this.v4;
+			for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+				v1 = HashUtil.xxRound(v1, HashUtil.getLongLE(b, i));
+				v2 = HashUtil.xxRound(v2, HashUtil.getLongLE(b, i + 8));
+				v3 = HashUtil.xxRound(v3, HashUtil.getLongLE(b, i + 16));
+				v4 = HashUtil.xxRound(v4, HashUtil.getLongLE(b, i + 24));
+			}
+			this.v1 = v1;
+			this.v2 = v2;
+			this.v3 = v3;
+			this.v4 = v4;
+		}
+
+		@Override
+		long finish(byte[] tail, int tailLength, long totalLength) {
+			final long h = totalLength >= BLOCK_SIZE
+					? HashUtil.xxMerge(this.v1, this.v2, this.v3, this.v4)
+					: this.seed + HashUtil.XX_PRIME_5;
+			return HashUtil.xxFinish(h + totalLength, tail, 0, tailLength);
+		}
+
+		@Override
+		void resetState() {
+			this.v1 = this.seed + HashUtil.XX_PRIME_1 + HashUtil.XX_PRIME_2;
+			this.v2 = this.seed + HashUtil.XX_PRIME_2;
+			this.v3 = this.seed;
+			this.v4 = this.seed - HashUtil.XX_PRIME_1;
+		}
+	}
+
+	/**
+	 * 流式 MurmurHash3 x86_32,{@link #getValue()} 的低 32 位是结果
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Murmur3x32 extends Hasher {
+
+		static final int BLOCK_SIZE = 4;
+
+		private final int seed;
+
+		private int h;
+
+		Murmur3x32(int seed) {
+			super(BLOCK_SIZE);
+			this.seed = seed;
+			this.h = seed;
+		}
+
+		@Override
+		void processBlocks(byte[] b, int offset, int length) {
+			int h = this.h;
+			for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+				h = HashUtil.murmur32Round(h, HashUtil.getIntLE(b, i));
+			}
+			this.h = h;
+		}
+
+		@Override
+		long finish(byte[] tail, int tailLength, long totalLength) {
+			return HashUtil.murmur32Finish(this.h, tail, 0, tailLength, (int) totalLength) & 0xFFFFFFFFL;
+		}
+
+		@Override
+		void resetState() {
+			this.h = this.seed;
+		}
+	}
+
+	/**
+	 * 流式 MurmurHash3 x64_128,{@link #getValue()} 是低 64 位
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Murmur3x128 extends Hasher {
+
+		static final int BLOCK_SIZE = 16;
+
+		private final int seed;
+
+		private long h1;
+
+		private long h2;
+
+		Murmur3x128(int seed) {
+			super(BLOCK_SIZE);
+			this.seed = seed;
+			resetState();
+		}
+
+		/**
+		 * 完整的 128 位哈希值
+		 *
+		 * @return [0] 为低 64 位、[1] 为高 64 位
+		 *
+		 * @since 2026-10-19
+		 */
+		public long[] getValues() {
+			return HashUtil.murmur128Finish(this.h1, this.h2, this.block, 0, this.buffered, this.length);
+		}
+
+		@Override
+		void processBlocks(byte[] b, int offset, int length) {
+			long h1 = this.h1;
+			long h2 = this.h2;
+			for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+				h1 ^= HashUtil.murmur128MixK1(HashUtil.getLongLE(b, i));
+				h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52DCE729;
+				h2 ^= HashUtil.murmur128MixK2(HashUtil.getLongLE(b, i + 8));
+				h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495AB5;
+			}
+			this.h1 = h1;
+			this.h2 = h2;
+		}
+
+		@Override
+		long finish(byte[] tail, int tailLength, long totalLength) {
+			return HashUtil.murmur128Finish(this.h1, this.h2, tail, 0, tailLength, totalLength)[0];
+		}
+
+		@Override
+		void resetState() {
+			this.h1 = this.seed & 0xFFFFFFFFL;
+			this.h2 = this.h1;
+		}
+	}
+}
@@ -0,0 +1,662 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+import com.threesides.exception.BusinessException;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * HexCodec 十六进制编解码
+ * <ul>
+ *     <li>编码每次取 4 个字节放入一个 long,移位把 8 个半字节摊到 8 个字节上,再用加法一次算出 8 个 ASCII 字符(SWAR)</li>
+ *     <li>解码每次查表 8 个字符,合并后只判断一次是否有非法字符</li>
+ *     <li>可在 {@code byte[]}、{@link ByteBuffer} 与 {@code char[]}、ASCII {@code byte[]}、{@link CharSequence} 之间直接转换,不创建中间字符串</li>
+ *     <li>解码大小写都接受</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code HexCodec.LOWER.encodeToString(new byte[]{1, (byte) 0xAB})     // "01ab"}</li>
+ *     <li>{@code HexCodec.LOWER.decode("01AB")     // {1, (byte) 0xAB}}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class HexCodec {
+
+	/**
+	 * 小写编码
+	 */
+	public static final HexCodec LOWER = new HexCodec(false);
+
+	/**
+	 * 大写编码
+	 */
+	public static final HexCodec UPPER = new HexCodec(true);
+
+	/**
+	 * 字节值 → 半字节,-1 表示非法字符
+	 */
+	private static final byte[] DECODE_TABLE = new byte[256];
+
+	/**
+	 * 字符串解码时每次转成 ASCII 的字符数,为偶数
+	 */
+	private static final int CHUNK_SIZE = 1024;
+
+	private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+	private static final long ONES = 0x0101010101010101L;
+
+	static {
+		Arrays.fill(DECODE_TABLE, (byte) -1);
+		for (int i = 0; i < 10; i++) {
+			DECODE_TABLE['0' + i] = (byte) i;
+		}
+		for (int i = 0; i < 6; i++) {
+			DECODE_TABLE['a' + i] = (byte) (10 + i);
+			DECODE_TABLE['A' + i] = (byte) (10 + i);
+		}
+	}
+
+	private final boolean upperCase;
+
+	/**
+	 * 大于 9 的半字节从 '0' + n 移到字母还需要加的值
+	 */
+	private final long letterOffset;
+
+	private HexCodec(boolean upperCase) {
+		this.upperCase = upperCase;
+		this.letterOffset = (upperCase ? 'A' : 'a') - '0' - 10;
+	}
+
+	/**
+	 * 是否编码为大写
+	 *
+	 * @return 是否大写
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isUpperCase() {
+		return this.upperCase;
+	}
+
+	/**
+	 * 编码后的长度
+	 *
+	 * @param length 字节数
+	 * @return 字符数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encodedLength(int length) {
+		Assert.isTrue(length >= 0 && length <= Integer.MAX_VALUE / 2, "[Assertion failed] - length is out of range");
+		return length << 1;
+	}
+
+	/**
+	 * 编码为字符串
+	 *
+	 * @param src 数据
+	 * @return 十六进制字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(byte[] src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		return encodeToString(src, 0, src.length);
+	}
+
+	/**
+	 * 编码为字符串
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @return 十六进制字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(byte[] src, int off, int len) {
+		final char[] chars = new char[encodedLength(len)];
+		encode(src, off, len, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * 编码 position 到 limit 之间的字节为字符串,之后 position 移到 limit
+	 *
+	 * @param src 数据
+	 * @return 十六进制字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String encodeToString(ByteBuffer src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final int length = src.remaining();
+		final String encoded = src.hasArray()
+				? encodeToString(src.array(), src.arrayOffset() + src.position(), length)
+				: encodeToString(ArrayUtil.toArray(src.duplicate()));
+		src.position(src.limit());
+		return encoded;
+	}
+
+	/**
+	 * 编码到字符数组
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #encodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字符数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encode(byte[] src, int off, int len, char[] dst, int dstOff) {
+		checkRange(src, off, len);
+		final int length = encodedLength(len);
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+		int i = off;
+		int j = dstOff;
+		final int end = off + len;
+		for (; i <= end - 4; i += 4, j += 8) {
+			final long ascii = toAscii(HashUtil.getIntLE(src, i));
+			for (int k = 0; k < 8; k++) {
+				dst[j + k] = (char) (ascii >>> (k << 3) & 0xFF);
+			}
+		}
+		for (; i < end; i++) {
+			final long ascii = toAscii(src[i] & 0xFF);
+			dst[j++] = (char) (ascii & 0xFF);
+			dst[j++] = (char) (ascii >>> 8 & 0xFF);
+		}
+		return length;
+	}
+
+	/**
+	 * 编码到 ASCII 字节数组
+	 *
+	 * @param src 数据
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #encodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int encode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		checkRange(src, off, len);
+		final int length = encodedLength(len);
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+		int i = off;
+		int j = dstOff;
+		final int end = off + len;
+		for (; i <= end - 4; i += 4, j += 8) {
+			final long ascii = toAscii(HashUtil.getIntLE(src, i));
+			dst[j] = (byte) ascii;
+			dst[j + 1] = (byte) (ascii >>> 8);
+			dst[j + 2] = (byte) (ascii >>> 16);
+			dst[j + 3] = (byte) (ascii >>> 24);
+			dst[j + 4] = (byte) (ascii >>> 32);
+			dst[j + 5] = (byte) (ascii >>> 40);
+			dst[j + 6] = (byte) (ascii >>> 48);
+			dst[j + 7] = (byte) (ascii >>> 56);
+		}
+		for (; i < end; i++) {
+			final long ascii = toAscii(src[i] & 0xFF);
+			dst[j++] = (byte) ascii;
+			dst[j++] = (byte) (ascii >>> 8);
+		}
+		return length;
+	}
+
+	/**
+	 * 编码 src 的 position 到 limit 之间的字节,以 ASCII 写入 dst;之后两者的 position 都向后移动
+	 *
+	 * @param src 数据
+	 * @param dst 目标,剩余空间需要有 {@link #encodedLength(int)} 个字节
+	 *
+	 * @since 2026-10-19
+	 */
+	public void encode(ByteBuffer src, ByteBuffer dst) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		final int length = encodedLength(src.remaining());
+		Assert.isTrue(dst.remaining() >= length, "[Assertion failed] - dst is too small");
+		final byte[] bytes = src.hasArray() ? src.array() : ArrayUtil.toArray(src.duplicate());
+		final int off = src.hasArray() ? src.arrayOffset() + src.position() : 0;
+		if (dst.hasArray()) {
+			encode(bytes, off, src.remaining(), dst.array(), dst.arrayOffset() + dst.position());
+			dst.position(dst.position() + length);
+		} else {
+			final byte[] encoded = new byte[length];
+			encode(bytes, off, src.remaining(), encoded, 0);
+			dst.put(encoded);
+		}
+		src.position(src.limit());
+	}
+
+	/**
+	 * 解码后的长度
+	 *
+	 * @param length 字符数,必须是偶数
+	 * @return 字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decodedLength(int length) {
+		Assert.isTrue(length >= 0, "[Assertion failed] - length must not be negative");
+		if ((length & 1) != 0) {
+			throw new BusinessException("hex length must be even: " + length);
+		}
+		return length >>> 1;
+	}
+
+	/**
+	 * 解码字符串
+	 *
+	 * @param src 十六进制字符串
+	 * @return 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte[] decode(CharSequence src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final byte[] bytes = new byte[decodedLength(src.length())];
+		decodeChars(src, 0, src.length(), bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * 解码字符串到字节数组
+	 *
+	 * @param src 十六进制字符串
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #decodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(CharSequence src, byte[] dst, int dstOff) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		checkRoom(dst, dstOff, decodedLength(src.length()));
+		return decodeChars(src, 0, src.length(), dst, dstOff);
+	}
+
+	/**
+	 * 解码字符数组区间
+	 *
+	 * @param src 十六进制字符
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #decodedLength(int)} 个位置
+	 * @param dstOff 目标开始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(char[] src, int off, int len, byte[] dst, int dstOff) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+		checkRoom(dst, dstOff, decodedLength(len));
+		return decodeChars(src, off, off + len, dst, dstOff);
+	}
+
+	/**
+	 * 解码 ASCII 字节数组
+	 *
+	 * @param src 十六进制 ASCII
+	 * @return 数据
+	 *
+	 * @since 2026-10-19
+	 */
+	public byte[] decode(byte[] src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final byte[] bytes = new byte[decodedLength(src.length)];
+		decodeBytes(src, 0, src.length, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * 解码 ASCII 字节数组区间
+	 *
+	 * @param src 十六进制 ASCII
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @param dst 目标数组,从 dstOff 起需要有 {@link #decodedLength(int)} 个位置,可以与 src 相同
+	 * @param dstOff 目标开始位置,与 src 相同时不能大于 off
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int decode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		checkRange(src, off, len);
+		final int length = decodedLength(len);
+		checkRoom(dst, dstOff, length);
+		decodeBytes(src, off, off + len, dst, dstOff);
+		return length;
+	}
+
+	/**
+	 * 解码 src 的 position 到 limit 之间的 ASCII,写入 dst;之后两者的 position 都向后移动
+	 *
+	 * @param src 十六进制 ASCII
+	 * @param dst 目标,剩余空间需要有 {@link #decodedLength(int)} 个字节
+	 *
+	 * @since 2026-10-19
+	 */
+	public void decode(ByteBuffer src, ByteBuffer dst) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		final int length = decodedLength(src.remaining());
+		Assert.isTrue(dst.remaining() >= length, "[Assertion failed] - dst is too small");
+		final byte[] ascii = src.hasArray() ? src.array() : ArrayUtil.toArray(src.duplicate());
+		final int off = src.hasArray() ? src.arrayOffset() + src.position() : 0;
+		if (dst.hasArray()) {
+			decodeBytes(ascii, off, off + src.remaining(), dst.array(), dst.arrayOffset() + dst.position());
+			dst.position(dst.position() + length);
+		} else {
+			final byte[] decoded = new byte[length];
+			decodeBytes(ascii, off, off + src.remaining(), decoded, 0);
+			dst.put(decoded);
+		}
+		src.position(src.limit());
+	}
+
+	/**
+	 * 包装输出流,写入的字节编码为十六进制 ASCII 后写入 out;关闭时关闭 out
+	 *
+	 * @param out 输出流
+	 * @return 编码输出流
+	 *
+	 * @since 2026-10-19
+	 */
+	public OutputStream wrap(OutputStream out) {
+		Assert.notNull(out, "[Assertion failed] - out must not be null");
+		return new EncodingOutputStream(out);
+	}
+
+	/**
+	 * 包装输入流,从 in 读取十六进制 ASCII 并解码
+	 *
+	 * @param in 输入流
+	 * @return 解码输入流
+	 *
+	 * @since 2026-10-19
+	 */
+	public InputStream wrap(InputStream in) {
+		Assert.notNull(in, "[Assertion failed] - in must not be null");
+		return new DecodingInputStream(in);
+	}
+
+	/**
+	 * 小端 int 的 4 个字节转为 8 个十六进制 ASCII,第一个字节的高半字节在 long 的最低字节
+	 */
+	private long toAscii(int bytes) {
+		// 第 k 个字节的高、低半字节分别放到第 2k、2k+1 个字节
+		long x = bytes & 0xFFFFFFFFL;
+		x = (x | x << 16) & 0x0000FFFF0000FFFFL;
+		x = (x | x << 8) & 0x00FF00FF00FF00FFL;
+		x = (x >>> 4 & LOW_NIBBLES) | (x & LOW_NIBBLES) << 8;
+		// 大于 9 的半字节加 6 后进位到第 4 位
+		final long letters = (x + 0x0606060606060606L) >>> 4 & ONES;
+		return x + 0x3030303030303030L + letters * this.letterOffset;
+	}
+
+	private static int decodeChars(Object src, int from, int to, byte[] dst, int dstOff) {
+		final byte[] chunk = CHUNK.get();
+		int j = dstOff;
+		for (int i = from; i < to; i += CHUNK_SIZE) {
+			final int n = Math.min(CHUNK_SIZE, to - i);
+			narrow(src, i, n, chunk);
+			final int illegal = decodeAscii(chunk, 0, n, dst, j);
+			if (illegal >= 0) {
+				// 窄化后的非法字节与原字符一一对应,报告原字符
+				final char c = src instanceof char[] ? ((char[]) src)[i + illegal] : ((CharSequence) src).charAt(i + illegal);
+				throw new BusinessException("illegal hex character '" + c + "' (0x" + Integer.toHexString(c) + ") at index " + (i + illegal - from));
+			}
+			j += n >>> 1;
+		}
+		return j - dstOff;
+	}
+
+	private static void decodeBytes(byte[] src, int from, int to, byte[] dst, int dstOff) {
+		final int illegal = decodeAscii(src, from, to, dst, dstOff);
+		if (illegal >= 0) {
+			throw illegal(src[illegal], illegal - from);
+		}
+	}
+
+	/**
+	 * 字符转为 ASCII 字节,超出单字节范围的转为 0xFF,仍是非法字符
+	 */
+	static void narrow(Object src, int from, int n, byte[] dst) {
+		if (src instanceof char[]) {
+			final char[] chars = (char[]) src;
+			for (int k = 0; k < n; k++) {
+				final char c = chars[from + k];
+				dst[k] = c <= 0xFF ? (byte) c : (byte) 0xFF;
+			}
+		} else {
+			final CharSequence cs = (CharSequence) src;
+			for (int k = 0; k < n; k++) {
+				final char c = cs.charAt(from + k);
+				dst[k] = c <= 0xFF ? (byte) c : (byte) 0xFF;
+			}
+		}
+	}
+
+	/**
+	 * 解码 [i, end),长度为偶数;dst 与 src 相同时写入位置不超前于读取位置
+	 *
+	 * @return 第一个非法字节的位置,没有时为 -1
+	 */
+	private static int decodeAscii(byte[] src, int i, int end, byte[] dst, int j) {
+		final byte[] table = DECODE_TABLE;
+		for (; i <= end - 8; i += 8, j += 4) {
+			final int b0 = table[src[i] & 0xFF] << 4 | table[src[i + 1] & 0xFF];
+			final int b1 = table[src[i + 2] & 0xFF] << 4 | table[src[i + 3] & 0xFF];
+			final int b2 = table[src[i + 4] & 0xFF] << 4 | table[src[i + 5] & 0xFF];
+			final int b3 = table[src[i + 6] & 0xFF] << 4 | table[src[i + 7] & 0xFF];
+			// 非法字符查表为 -1,合并后为负
+			if ((b0 | b1 | b2 | b3) < 0) {
+				return firstIllegal(src, i);
+			}
+			dst[j] = (byte) b0;
+			dst[j + 1] = (byte) b1;
+			dst[j + 2] = (byte) b2;
+			dst[j + 3] = (byte) b3;
+		}
+		for (; i < end; i += 2) {
+			final int b = table[src[i] & 0xFF] << 4 | table[src[i + 1] & 0xFF];
+			if (b < 0) {
+				return firstIllegal(src, i);
+			}
+			dst[j++] = (byte) b;
+		}
+		return -1;
+	}
+
+	private static int firstIllegal(byte[] src, int i) {
+		while (DECODE_TABLE[src[i] & 0xFF] >= 0) {
+			i++;
+		}
+		return i;
+	}
+
+	private static BusinessException illegal(byte b, long index) {
+		return new BusinessException("illegal hex character 0x" + Integer.toHexString(b & 0xFF) + " at index " + index);
+	}
+
+	private static void checkRange(byte[] src, int off, int len) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+	}
+
+	private static void checkRoom(byte[] dst, int dstOff, int length) {
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length - length, "[Assertion failed] - dst is too small");
+	}
+
+	/**
+	 * 每次编码最多 {@link #CHUNK_SIZE} 个字节后写出
+	 */
+	private final class EncodingOutputStream extends FilterOutputStream {
+
+		private final byte[] encoded = new byte[CHUNK_SIZE << 1];
+
+		private boolean closed;
+
+		EncodingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (this.closed) {
+				throw new IOException("stream closed");
+			}
+			final long ascii = toAscii(b & 0xFF);
+			this.out.write((int) ascii & 0xFF);
+			this.out.write((int) (ascii >>> 8) & 0xFF);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (this.closed) {
+				throw new IOException("stream closed");
+			}
+			checkRange(b, off, len);
+			for (int i = off, end = off + len; i < end; i += CHUNK_SIZE) {
+				final int n = Math.min(CHUNK_SIZE, end - i);
+				this.out.write(this.encoded, 0, encode(b, i, n, this.encoded, 0));
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+				super.close();
+			}
+		}
+	}
+
+	/**
+	 * 读取一块十六进制 ASCII,原地解码到同一数组的前半部分
+	 */
+	private static final class DecodingInputStream extends FilterInputStream {
+
+		private final byte[] buffer = new byte[CHUNK_SIZE];
+
+		private final byte[] single = new byte[1];
+
+		/**
+		 * 上次读到的奇数个字符中剩下的一个,-1 表示没有
+		 */
+		private int odd = -1;
+
+		private int position;
+
+		private int limit;
+
+		private boolean eof;
+
+		/**
+		 * 已解码的 ASCII 字节数,用于报告非法字符位置
+		 */
+		private long decoded;
+
+		DecodingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return read(this.single, 0, 1) < 0 ? -1 : this.single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			checkRange(b, off, len);
+			if (len == 0) {
+				return 0;
+			}
+			while (this.position == this.limit) {
+				if (this.eof || !fill()) {
+					return -1;
+				}
+			}
+			final int n = Math.min(len, this.limit - this.position);
+			System.arraycopy(this.buffer, this.position, b, off, n);
+			this.position += n;
+			return n;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return this.limit - this.position;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = 0;
+			final byte[] discard = new byte[(int) Math.min(n, CHUNK_SIZE)];
+			while (skipped < n) {
+				final int read = read(discard, 0, (int) Math.min(n - skipped, discard.length));
+				if (read < 0) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private boolean fill() throws IOException {
+			int length = 0;
+			if (this.odd >= 0) {
+				this.buffer[length++] = (byte) this.odd;
+				this.odd = -1;
+			}
+			final int read = this.in.read(this.buffer, length, this.buffer.length - length);
+			if (read < 0) {
+				this.eof = true;
+				if (length > 0) {
+					throw new BusinessException("hex length must be even");
+				}
+				return false;
+			}
+			length += read;
+			if ((length & 1) != 0) {
+				this.odd = this.buffer[--length] & 0xFF;
+			}
+			final int illegal = decodeAscii(this.buffer, 0, length, this.buffer, 0);
+			if (illegal >= 0) {
+				throw illegal(this.buffer[illegal], this.decoded + illegal);
+			}
+			this.decoded += length;
+			this.position = 0;
+			this.limit = length >>> 1;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,581 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * KeywordMatcher 多关键词匹配(Aho-Corasick 自动机)
+ * <p>编译一次后,对文本只扫描一遍即可找出所有关键词的出现位置,耗时与文本长度成正比,与关键词数量无关</p>
+ * <ul>
+ *     <li>状态转移存放在双数组 trie 中:转移只需 base[s] + c 与 check 的一次比较,数组连续、缓存友好</li>
+ *     <li>字符先映射为按出现频率编号的紧凑编码,未出现在任何关键词中的字符编码为 0,扫描时直接回到根状态</li>
+ *     <li>忽略大小写时大小写折叠预先计入编码表,扫描时没有额外开销</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code KeywordMatcher.compile(Arrays.asList("he", "she", "his")).findAll("ushers")     // [she@1, he@2]}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class KeywordMatcher {
+
+	private static final int ROOT = 0;
+
+	private static final int FREE = -1;
+
+	private static final int UNIT_SIZE = 4;
+
+	private static final int BASE = 0;
+
+	private static final int CHECK = 1;
+
+	private static final int FAIL = 2;
+
+	/**
+	 * 该状态或其失败链上最近的终止状态,-1 表示没有
+	 */
+	private static final int OUTPUT = 3;
+
+	/**
+	 * 字符 → 紧凑编码,0 表示不在任何关键词中
+	 */
+	private final char[] codes;
+
+	/**
+	 * 每个状态占 4 个 int:base、check、失败状态、输出状态,同一状态的各项在同一缓存行;
+	 * 末尾留出最大编码长度的空位,转移时不用检查越界
+	 */
+	private final int[] units;
+
+	/**
+	 * 根状态的转移表,按编码直接取值
+	 */
+	private final int[] rootNext;
+
+	/**
+	 * 终止状态对应的关键词下标,-1 表示不是终止状态
+	 */
+	private final int[] keywordIndex;
+
+	private final String[] keywords;
+
+	private final boolean ignoreCase;
+
+	private KeywordMatcher(char[] codes, int[] units, int[] rootNext, int[] keywordIndex,
+						   String[] keywords, boolean ignoreCase) {
+		this.codes = codes;
+		this.units = units;
+		this.rootNext = rootNext;
+		this.keywordIndex = keywordIndex;
+		this.keywords = keywords;
+		this.ignoreCase = ignoreCase;
+	}
+
+	/**
+	 * 编译关键词,区分大小写
+	 *
+	 * @param keywords 关键词,重复的只保留一个
+	 * @return KeywordMatcher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static KeywordMatcher compile(Collection<String> keywords) {
+		return compile(keywords, false);
+	}
+
+	/**
+	 * 编译关键词
+	 *
+	 * @param keywords 关键词,重复的只保留一个
+	 * @param ignoreCase 是否忽略大小写
+	 * @return KeywordMatcher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static KeywordMatcher compile(Collection<String> keywords, boolean ignoreCase) {
+		Assert.notNull(keywords, "[Assertion failed] - keywords must not be null");
+		// 折叠后相同的关键词只保留第一个
+		final Map<String, String> unique = new LinkedHashMap<>();
+		final int[] frequency = new int[Character.MAX_VALUE + 1];
+		for (String keyword : keywords) {
+			Assert.notNull(keyword, "[Assertion failed] - keyword must not be null");
+			Assert.isFalse(keyword.isEmpty(), "[Assertion failed] - keyword must not be empty");
+			final String folded = ignoreCase ? fold(keyword) : keyword;
+			if (unique.putIfAbsent(folded, keyword) == null) {
+				for (int i = 0; i < folded.length(); i++) {
+					frequency[folded.charAt(i)]++;
+				}
+			}
+		}
+		final char[] codes = buildCodes(frequency, ignoreCase);
+		return new Builder(codes).build(unique, ignoreCase);
+	}
+
+	/**
+	 * 关键词数量
+	 *
+	 * @return 关键词数量
+	 *
+	 * @since 2026-10-19
+	 */
+	public int size() {
+		return this.keywords.length;
+	}
+
+	/**
+	 * 是否忽略大小写
+	 *
+	 * @return 是否忽略大小写
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isIgnoreCase() {
+		return this.ignoreCase;
+	}
+
+	/**
+	 * 文本中是否包含任一关键词
+	 *
+	 * @param text 文本
+	 * @return 包含任一关键词时返回 true
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean containsAny(CharSequence text) {
+		if (text == null) {
+			return false;
+		}
+		final int length = text.length();
+		int state = ROOT;
+		for (int i = 0; i < length; i++) {
+			state = next(state, this.codes[text.charAt(i)]);
+			if (this.units[state * UNIT_SIZE + OUTPUT] >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 扫描中最先结束的匹配,同一位置结束的取最长的关键词
+	 *
+	 * @param text 文本
+	 * @return 匹配,没有时返回 null
+	 *
+	 * @since 2026-10-19
+	 */
+	public Match findFirst(CharSequence text) {
+		if (text == null) {
+			return null;
+		}
+		final int length = text.length();
+		int state = ROOT;
+		for (int i = 0; i < length; i++) {
+			state = next(state, this.codes[text.charAt(i)]);
+			final int terminal = this.units[state * UNIT_SIZE + OUTPUT];
+			if (terminal >= 0) {
+				return match(terminal, i + 1);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 所有匹配,可以重叠;按结束位置排列,同一位置结束的按关键词从长到短排列
+	 *
+	 * @param text 文本
+	 * @return 匹配
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<Match> findAll(CharSequence text) {
+		if (text == null) {
+			return Collections.emptyList();
+		}
+		final List<Match> matches = new ArrayList<>();
+		forEachMatch(text, (keyword, start, end) -> {
+			matches.add(new Match(keyword, start, end));
+			return true;
+		});
+		return matches;
+	}
+
+	/**
+	 * 依次处理所有匹配,顺序与 {@link #findAll(CharSequence)} 相同,不创建 {@link Match} 对象
+	 *
+	 * @param text 文本
+	 * @param handler 处理器,返回 false 时停止扫描
+	 *
+	 * @since 2026-10-19
+	 */
+	public void forEachMatch(CharSequence text, MatchHandler handler) {
+		Assert.notNull(handler, "[Assertion failed] - handler must not be null");
+		if (text == null) {
+			return;
+		}
+		final int length = text.length();
+		int state = ROOT;
+		for (int i = 0; i < length; i++) {
+			state = next(state, this.codes[text.charAt(i)]);
+			for (int terminal = this.units[state * UNIT_SIZE + OUTPUT]; terminal >= 0; terminal = this.units[this.units[terminal * UNIT_SIZE + FAIL] * UNIT_SIZE + OUTPUT]) {
+				final String keyword = this.keywords[this.keywordIndex[terminal]];
+				if (!handler.onMatch(keyword, i + 1 - keyword.length(), i + 1)) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 将所有匹配到的字符替换为 mask
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code matcher.mask("你是笨蛋", '*')     // 你是**}</li>
+	 * </ul>
+	 *
+	 * @param text 文本
+	 * @param mask 替换字符
+	 * @return 替换后的字符串,没有匹配时返回原文本
+	 *
+	 * @since 2026-10-19
+	 */
+	public String mask(CharSequence text, char mask) {
+		if (text == null) {
+			return null;
+		}
+		final int length = text.length();
+		char[] chars = null;
+		// 已替换到的位置,避免重叠匹配重复写入
+		int masked = 0;
+		int state = ROOT;
+		for (int i = 0; i < length; i++) {
+			state = next(state, this.codes[text.charAt(i)]);
+			final int terminal = this.units[state * UNIT_SIZE + OUTPUT];
+			if (terminal >= 0) {
+				if (chars == null) {
+					chars = new char[length];
+					for (int j = 0; j < length; j++) {
+						chars[j] = text.charAt(j);
+					}
+				}
+				// 同一位置结束的匹配中第一个最长
+				final int start = i + 1 - this.keywords[this.keywordIndex[terminal]].length();
+				for (int j = Math.max(start, masked); j <= i; j++) {
+					chars[j] = mask;
+				}
+				masked = i + 1;
+			}
+		}
+		return chars == null ? text.toString() : new String(chars);
+	}
+
+	private int next(int state, final char code) {
+		if (code == 0) {
+			return ROOT;
+		}
+		final int[] units = this.units;
+		while (state != ROOT) {
+			final int target = units[state * UNIT_SIZE + BASE] + code;
+			if (units[target * UNIT_SIZE + CHECK] == state) {
+				return target;
+			}
+			state = units[state * UNIT_SIZE + FAIL];
+		}
+		return this.rootNext[code];
+	}
+
+	private Match match(int terminal, int end) {
+		final String keyword = this.keywords[this.keywordIndex[terminal]];
+		return new Match(keyword, end - keyword.length(), end);
+	}
+
+	private static String fold(String s) {
+		final char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	private static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	/**
+	 * 按出现频率从高到低编号,频率高的字符编码小,子节点更集中
+	 */
+	private static char[] buildCodes(int[] frequency, boolean ignoreCase) {
+		int alphabetSize = 0;
+		for (int f : frequency) {
+			if (f > 0) {
+				alphabetSize++;
+			}
+		}
+		Assert.isTrue(alphabetSize <= Character.MAX_VALUE, "[Assertion failed] - keywords use too many distinct chars");
+		final long[] order = new long[alphabetSize];
+		int n = 0;
+		for (int c = 0; c < frequency.length; c++) {
+			if (frequency[c] > 0) {
+				// 高位为频率取反,低位为字符,排序后频率高的在前
+				order[n++] = (long) (Integer.MAX_VALUE - frequency[c]) << 16 | c;
+			}
+		}
+		Arrays.sort(order);
+		final char[] codes = new char[Character.MAX_VALUE + 1];
+		for (int i = 0; i < order.length; i++) {
+			codes[(int) (order[i] & 0xFFFF)] = (char) (i + 1);
+		}
+		if (!ignoreCase) {
+			return codes;
+		}
+		final char[] foldedCodes = new char[codes.length];
+		for (int c = 0; c <= Character.MAX_VALUE; c++) {
+			foldedCodes[c] = codes[fold((char) c)];
+		}
+		return foldedCodes;
+	}
+
+	/**
+	 * 匹配处理器
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	@FunctionalInterface
+	public interface MatchHandler {
+
+		/**
+		 * 处理一个匹配
+		 *
+		 * @param keyword 关键词,忽略大小写时为编译时给定的原关键词
+		 * @param start 匹配在文本中的开始位置
+		 * @param end 匹配在文本中的结束位置(不含)
+		 * @return 是否继续扫描
+		 *
+		 * @since 2026-10-19
+		 */
+		boolean onMatch(String keyword, int start, int end);
+	}
+
+	/**
+	 * 一次匹配
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Match {
+
+		private final String keyword;
+
+		private final int start;
+
+		private final int end;
+
+		Match(String keyword, int start, int end) {
+			this.keyword = keyword;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * 关键词
+		 *
+		 * @return 关键词
+		 *
+		 * @since 2026-10-19
+		 */
+		public String getKeyword() {
+			return this.keyword;
+		}
+
+		/**
+		 * 开始位置
+		 *
+		 * @return 开始位置
+		 *
+		 * @since 2026-10-19
+		 */
+		public int getStart() {
+			return this.start;
+		}
+
+		/**
+		 * 结束位置(不含)
+		 *
+		 * @return 结束位置
+		 *
+		 * @since 2026-10-19
+		 */
+		public int getEnd() {
+			return this.end;
+		}
+
+		@Override
+		public String toString() {
+			return this.keyword + "@" + this.start;
+		}
+	}
+
+	/**
+	 * 先建普通 trie,再按层放入双数组并计算失败链
+	 */
+	private static final class Builder {
+
+		private final char[] codes;
+
+		private int[] base = new int[1024];
+
+		private int[] check = new int[1024];
+
+		/**
+		 * 此位置之前的槽位已基本用满,查找空位从这里开始
+		 */
+		private int nextCheckPosition = 1;
+
+		private int size = 1;
+
+		Builder(char[] codes) {
+			this.codes = codes;
+			Arrays.fill(this.check, FREE);
+			this.check[ROOT] = ROOT;
+		}
+
+		KeywordMatcher build(Map<String, String> unique, boolean ignoreCase) {
+			final Node root = new Node();
+			final String[] keywords = new String[unique.size()];
+			int index = 0;
+			for (Map.Entry<String, String> entry : unique.entrySet()) {
+				final String folded = entry.getKey();
+				Node node = root;
+				for (int i = 0; i < folded.length(); i++) {
+					node = node.children.computeIfAbsent(this.codes[folded.charAt(i)], c -> new Node());
+				}
+				node.keyword = index;
+				keywords[index++] = entry.getValue();
+			}
+
+			// 按层放置:父节点的位置确定后为其子节点找 base
+			final List<Node> order = new ArrayList<>();
+			final Queue<Node> queue = new ArrayDeque<>();
+			queue.add(root);
+			while (!queue.isEmpty()) {
+				final Node node = queue.poll();
+				order.add(node);
+				if (!node.children.isEmpty()) {
+					place(node);
+					queue.addAll(node.children.values());
+				}
+			}
+
+			final int[] fail = new int[this.size];
+			final int[] output = new int[this.size];
+			final int[] keywordIndex = new int[this.size];
+			Arrays.fill(output, -1);
+			Arrays.fill(keywordIndex, -1);
+			// order 为广度优先顺序,计算某节点时其失败节点(深度更小)已经算好
+			for (Node node : order) {
+				keywordIndex[node.position] = node.keyword;
+				for (Map.Entry<Character, Node> edge : node.children.entrySet()) {
+					final Node child = edge.getValue();
+					Node f = node == root ? null : node.fail;
+					while (f != null && !f.children.containsKey(edge.getKey())) {
+						f = f.fail;
+					}
+					child.fail = f == null ? root : f.children.get(edge.getKey());
+				}
+				final int position = node.position;
+				fail[position] = node == root ? ROOT : node.fail.position;
+				output[position] = node.keyword >= 0 ? position : node == root ? -1 : output[node.fail.position];
+			}
+			// 叶子状态的 base 为 0,任何状态的 base + 编码都不超过 size + 最大编码
+			int maxCode = 0;
+			for (char code : this.codes) {
+				maxCode = Math.max(maxCode, code);
+			}
+			final int states = this.size + maxCode + 1;
+			final int[] units = new int[states * UNIT_SIZE];
+			for (int i = 0; i < states; i++) {
+				units[i * UNIT_SIZE + BASE] = i < this.size ? this.base[i] : 0;
+				units[i * UNIT_SIZE + CHECK] = i < this.size ? this.check[i] : FREE;
+				units[i * UNIT_SIZE + FAIL] = i < this.size ? fail[i] : ROOT;
+				units[i * UNIT_SIZE + OUTPUT] = i < this.size ? output[i] : -1;
+			}
+			final int[] rootNext = new int[maxCode + 1];
+			for (int code = 1; code <= maxCode; code++) {
+				final int target = this.base[ROOT] + code;
+				rootNext[code] = units[target * UNIT_SIZE + CHECK] == ROOT ? target : ROOT;
+			}
+			return new KeywordMatcher(this.codes, units, rootNext, keywordIndex, keywords, ignoreCase);
+		}
+
+		private void place(Node node) {
+			final char first = node.children.firstKey();
+			int occupied = 0;
+			int position = Math.max(this.nextCheckPosition, first + 1);
+			int b;
+			outer:
+			while (true) {
+				ensureCapacity(position + 1);
+				if (this.check[position] != FREE) {
+					occupied++;
+					position++;
+					continue;
+				}
+				b = position - first;
+				for (char code : node.children.keySet()) {
+					ensureCapacity(b + code + 1);
+					if (this.check[b + code] != FREE) {
+						position++;
+						continue outer;
+					}
+				}
+				break;
+			}
+			// 扫描过的区间几乎全满时,下次从这里开始
+			if (occupied >= 0.95 * (position - this.nextCheckPosition + 1)) {
+				this.nextCheckPosition = position;
+			}
+			this.base[node.position] = b;
+			for (Map.Entry<Character, Node> edge : node.children.entrySet()) {
+				final int target = b + edge.getKey();
+				this.check[target] = node.position;
+				edge.getValue().position = target;
+				this.size = Math.max(this.size, target + 1);
+			}
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.check.length) {
+				final int newLength = Math.max(capacity, this.check.length * 2);
+				final int oldLength = this.check.length;
+				this.base = Arrays.copyOf(this.base, newLength);
+				this.check = Arrays.copyOf(this.check, newLength);
+				Arrays.fill(this.check, oldLength, newLength, FREE);
+			}
+		}
+	}
+
+	private static final class Node {
+
+		final TreeMap<Character, Node> children = new TreeMap<>();
+
+		int keyword = -1;
+
+		int position;
+
+		Node fail;
+	}
+}
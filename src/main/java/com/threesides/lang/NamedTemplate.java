@@ -0,0 +1,266 @@
+package com.threesides.lang;
+
+import com.threesides.beans.BeanUtil;
+import com.threesides.constant.text.CharTextConstant;
+import com.threesides.exception.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * NamedTemplate 预解析的 {@code ${name}} 命名占位符模板
+ * <ul>
+ *     <li>{@code ${name}} 取绑定对象的属性,绑定对象为 Map 时按键取值</li>
+ *     <li>{@code ${user.name}} 逐级取值,中间为 null 时视为无值</li>
+ *     <li>{@code ${name:默认值}} 无值时输出默认值;没有默认值时原样输出占位符</li>
+ *     <li>{@code \${name}} 输出 {@code ${name}},{@code \\${name}} 输出 {@code \} 加值,与 {@link StringUtil#format(String, Object...)} 的转义规则一致</li>
+ * </ul>
+ * <p>解析一次后保存字面量片段与属性路径;Bean 属性通过 {@link BeanUtil#getPropertyReader(Class, String)} 读取,
+ * 模板记住上一次绑定对象的类型及其读取器,同类型的对象再次格式化时直接使用</p>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code StringUtil.compileNamed("Hi ${name}, 订单 ${orderId:无}").format(map)     // Hi WuDI, 订单 无}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class NamedTemplate {
+
+	private static final String PLACEHOLDER_START = "${";
+
+	private static final char PLACEHOLDER_END = '}';
+
+	private static final char DEFAULT_SEPARATOR = ':';
+
+	private static final int CACHE_SIZE = 256;
+
+	private static final int MAX_CACHED_PATTERN_LENGTH = 1024;
+
+	private static final AtomicReferenceArray<NamedTemplate> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+	private final String pattern;
+
+	/**
+	 * literals[i] 为第 i 个占位符之前的字面量,literals[paths.length] 为最后一个占位符之后的部分
+	 */
+	private final String[] literals;
+
+	private final String[][] paths;
+
+	/**
+	 * 默认值,null 表示没有默认值
+	 */
+	private final String[] defaults;
+
+	/**
+	 * 占位符原文,无值且没有默认值时输出
+	 */
+	private final String[] placeholders;
+
+	/**
+	 * 上一次绑定的 Bean 类型及各占位符第一级属性的读取器
+	 */
+	private volatile Binding binding;
+
+	private NamedTemplate(String pattern, String[] literals, String[][] paths, String[] defaults, String[] placeholders) {
+		this.pattern = pattern;
+		this.literals = literals;
+		this.paths = paths;
+		this.defaults = defaults;
+		this.placeholders = placeholders;
+	}
+
+	/**
+	 * 解析模板
+	 *
+	 * @param pattern 模板
+	 * @return NamedTemplate
+	 *
+	 * @since 2026-10-19
+	 */
+	public static NamedTemplate compile(String pattern) {
+		Assert.notNull(pattern, "[Assertion failed] - pattern must not be null");
+		final List<String> literals = new ArrayList<>();
+		final List<String[]> paths = new ArrayList<>();
+		final List<String> defaults = new ArrayList<>();
+		final List<String> placeholders = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+		int handledPosition = 0;
+		int start;
+		while ((start = pattern.indexOf(PLACEHOLDER_START, handledPosition)) != -1) {
+			if (start > 0 && pattern.charAt(start - 1) == CharTextConstant.BACKSLASH) {
+				if (start > 1 && pattern.charAt(start - 2) == CharTextConstant.BACKSLASH) {
+					// 双转义符,占位符依旧有效
+					literal.append(pattern, handledPosition, start - 1);
+				} else {
+					// 占位符被转义
+					literal.append(pattern, handledPosition, start - 1).append(PLACEHOLDER_START);
+					handledPosition = start + PLACEHOLDER_START.length();
+					continue;
+				}
+			} else {
+				literal.append(pattern, handledPosition, start);
+			}
+			final int end = pattern.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+			if (end == -1) {
+				// 未闭合,之后全部作为字面量
+				literal.append(pattern, start, pattern.length());
+				handledPosition = pattern.length();
+				break;
+			}
+			final String expression = pattern.substring(start + PLACEHOLDER_START.length(), end);
+			final int separator = expression.indexOf(DEFAULT_SEPARATOR);
+			final String name = (separator == -1 ? expression : expression.substring(0, separator)).trim();
+			Assert.isFalse(name.isEmpty(), "[Assertion failed] - placeholder name must not be empty: " + pattern);
+			literals.add(literal.toString());
+			literal.setLength(0);
+			paths.add(name.split("\\."));
+			defaults.add(separator == -1 ? null : expression.substring(separator + 1));
+			placeholders.add(pattern.substring(start, end + 1));
+			handledPosition = end + 1;
+		}
+		literals.add(literal.append(pattern, handledPosition, pattern.length()).toString());
+		return new NamedTemplate(pattern, literals.toArray(new String[0]), paths.toArray(new String[0][]),
+				defaults.toArray(new String[0]), placeholders.toArray(new String[0]));
+	}
+
+	/**
+	 * 从缓存中取模板,没有时解析并放入缓存
+	 *
+	 * @param pattern 模板
+	 * @return NamedTemplate
+	 */
+	static NamedTemplate cached(String pattern) {
+		if (pattern.length() > MAX_CACHED_PATTERN_LENGTH) {
+			return compile(pattern);
+		}
+		final int h = pattern.hashCode();
+		final int slot = (h ^ (h >>> 16)) & (CACHE_SIZE - 1);
+		final NamedTemplate template = CACHE.get(slot);
+		if (template != null && (template.pattern == pattern || template.pattern.equals(pattern))) {
+			return template;
+		}
+		final NamedTemplate compiled = compile(pattern);
+		CACHE.lazySet(slot, compiled);
+		return compiled;
+	}
+
+	/**
+	 * 模板
+	 *
+	 * @return 模板
+	 *
+	 * @since 2026-10-19
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * 占位符名称,按出现顺序,逐级取值的名称以 . 连接
+	 *
+	 * @return 占位符名称
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<String> getNames() {
+		final List<String> names = new ArrayList<>(this.paths.length);
+		for (String[] path : this.paths) {
+			names.add(String.join(".", path));
+		}
+		return names;
+	}
+
+	/**
+	 * 格式化
+	 *
+	 * @param binding 绑定对象,Map 或 Bean
+	 * @return 格式化后的字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String format(Object binding) {
+		if (this.paths.length == 0) {
+			return this.literals[0];
+		}
+		final StringBuilder sb = StringUtil.acquireStringBuilder(this.pattern.length() + 16 * this.paths.length);
+		try {
+			return formatTo(sb, binding).toString();
+		} finally {
+			StringUtil.releaseStringBuilder(sb);
+		}
+	}
+
+	/**
+	 * 格式化并追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param binding 绑定对象,Map 或 Bean
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringBuilder formatTo(StringBuilder sb, Object binding) {
+		final Function<Object, Object>[] readers = binding == null || binding instanceof Map ? null : readers(binding.getClass());
+		for (int i = 0; i < this.paths.length; i++) {
+			sb.append(this.literals[i]);
+			final Object value = resolve(binding, readers, i);
+			if (value != null) {
+				sb.append(StringUtil.objectToUFTF8String(value));
+			} else {
+				sb.append(this.defaults[i] != null ? this.defaults[i] : this.placeholders[i]);
+			}
+		}
+		return sb.append(this.literals[this.paths.length]);
+	}
+
+	private Object resolve(Object binding, Function<Object, Object>[] readers, int index) {
+		if (binding == null) {
+			return null;
+		}
+		final String[] path = this.paths[index];
+		Object value = readers != null ? readers[index].apply(binding) : ((Map<?, ?>) binding).get(path[0]);
+		for (int i = 1; i < path.length && value != null; i++) {
+			value = value instanceof Map
+					? ((Map<?, ?>) value).get(path[i])
+					: BeanUtil.getPropertyReader(value.getClass(), path[i]).apply(value);
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object>[] readers(Class<?> type) {
+		final Binding current = this.binding;
+		if (current != null && current.type == type) {
+			return current.readers;
+		}
+		final Function<Object, Object>[] readers = (Function<Object, Object>[]) new Function<?, ?>[this.paths.length];
+		for (int i = 0; i < readers.length; i++) {
+			readers[i] = BeanUtil.getPropertyReader(type, this.paths[i][0]);
+		}
+		this.binding = new Binding(type, readers);
+		return readers;
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+	private static final class Binding {
+
+		final Class<?> type;
+
+		final Function<Object, Object>[] readers;
+
+		Binding(Class<?> type, Function<Object, Object>[] readers) {
+			this.type = type;
+			this.readers = readers;
+		}
+	}
+}
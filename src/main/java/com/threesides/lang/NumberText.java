@@ -0,0 +1,1113 @@
+package com.threesides.lang;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NumberText 数字解析与格式化
+ * <p>只处理数字与文本之间的转换,数值运算见 {@link com.threesides.math.NumberUtil}</p>
+ * <p>直接解析 {@link CharSequence} 区间或 ASCII {@code byte[]} 区间,不创建字符串、不抛出异常;
+ * 无法解析时 {@code parseXxx} 返回调用方给定的默认值,{@code isXxx} 返回 false</p>
+ * <ul>
+ *     <li>整数的格式与 {@link Long#parseLong(String)}、{@link Integer#parseInt(String)} 一致:可选的 +/- 号加十进制数字,溢出视为无法解析</li>
+ *     <li>浮点数的格式与 {@link Double#parseDouble(String)} 一致:忽略首尾空白,支持指数、f/F/d/D 后缀、NaN、Infinity 及十六进制</li>
+ * </ul>
+ * <p>浮点数按 Clinger 快速路径和 Eisel-Lemire 算法计算,结果与 {@link Double#parseDouble(String)} 相同(正确舍入);
+ * 只有十六进制或有效数字超过19位且无法确定舍入方向时,才在校验格式之后交给 {@link Double#parseDouble(String)}</p>
+ * <p>整数格式化先算出位数,再按两位一组查表写入;浮点数格式化输出能还原为原值的最短十进制数字(Ryu 算法),
+ * 排版与 {@link Double#toString(double)} 相同;都可直接写入 {@code char[]} 或 ASCII {@code byte[]}</p>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code NumberText.parseLong("id=1024", 3, 7, -1)     // 1024}</li>
+ *     <li>{@code NumberText.parseDouble("1.5x", 0, 4, Double.NaN)     // NaN}</li>
+ * </ul>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class NumberText {
+
+	/**
+	 * long 格式化结果的最大长度
+	 */
+	public static final int MAX_LONG_LENGTH = 20;
+
+	/**
+	 * int 格式化结果的最大长度
+	 */
+	public static final int MAX_INT_LENGTH = 11;
+
+	/**
+	 * double 格式化结果的最大长度
+	 */
+	public static final int MAX_DOUBLE_LENGTH = DoubleToDecimal.MAX_DOUBLE_LENGTH;
+
+	/**
+	 * float 格式化结果的最大长度
+	 */
+	public static final int MAX_FLOAT_LENGTH = DoubleToDecimal.MAX_FLOAT_LENGTH;
+
+	/**
+	 * 无法解析时 {@link #scanLong} 的返回值;扫描结果是绝对值的相反数,不会为正
+	 */
+	private static final long NOT_A_LONG = 1L;
+
+	/**
+	 * 无法解析时 {@link #parseDoubleBits} 的返回值,是一个解析结果中不会出现的 NaN
+	 */
+	private static final long INVALID_BITS = 0x7FF0000000000001L;
+
+	/**
+	 * Eisel-Lemire 无法确定舍入方向
+	 */
+	private static final long FALLBACK_BITS = 0x7FF0000000000002L;
+
+	private static final long INFINITY_BITS = 0x7FF0000000000000L;
+
+	private static final long SIGN_BIT = 0x8000000000000000L;
+
+	private static final int MAX_DIGITS = 19;
+
+	private static final int SMALLEST_POWER_OF_TEN = -342;
+
+	private static final int LARGEST_POWER_OF_TEN = 308;
+
+	/**
+	 * 指数超过该值时结果必然为 0 或无穷大,截断以免溢出
+	 */
+	private static final int EXPONENT_LIMIT = 100_000;
+
+	private static final String MIN_LONG_TEXT = "-9223372036854775808";
+
+	private static final long[] POWERS_OF_TEN = {
+			1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+			10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+	};
+
+	/**
+	 * 00 到 99 的十位与个位数字,按两位一组写入
+	 */
+	private static final byte[] DIGIT_TENS = new byte[100];
+
+	private static final byte[] DIGIT_ONES = new byte[100];
+
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_TENS[i] = (byte) ('0' + i / 10);
+			DIGIT_ONES[i] = (byte) ('0' + i % 10);
+		}
+	}
+
+	private static final double[] EXACT_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * 5^q(q 为 -342 到 308)的 128 位近似值,按高 64 位、低 64 位依次存放
+	 */
+	private static final long[] POWERS_OF_FIVE_128 = powersOfFive();
+
+	/**
+	 * 是否为 long 整数
+	 *
+	 * @param cs cs
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isLong(final CharSequence cs) {
+		return cs != null && isLong(cs, 0, cs.length());
+	}
+
+	/**
+	 * 区间 [start, end) 是否为 long 整数
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isLong(final CharSequence cs, final int start, final int end) {
+		return scanLong(cs, start, end) != NOT_A_LONG;
+	}
+
+	/**
+	 * 解析 long
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long parseLong(final CharSequence cs, final int start, final int end, final long defaultValue) {
+		final long negative = scanLong(cs, start, end);
+		if (negative == NOT_A_LONG) {
+			return defaultValue;
+		}
+		return cs.charAt(start) == '-' ? negative : -negative;
+	}
+
+	/**
+	 * 一次扫描校验并解析,按负数累加(Long.MIN_VALUE 才不会溢出)
+	 *
+	 * @return 绝对值的相反数,无法解析时返回 {@link #NOT_A_LONG}
+	 */
+	private static long scanLong(final CharSequence cs, final int start, final int end) {
+		if (start >= end) {
+			return NOT_A_LONG;
+		}
+		int i = start;
+		long limit = -Long.MAX_VALUE;
+		final char first = cs.charAt(i);
+		if (first < '0') {
+			if (first == '-') {
+				limit = Long.MIN_VALUE;
+			} else if (first != '+') {
+				return NOT_A_LONG;
+			}
+			if (++i == end) {
+				return NOT_A_LONG;
+			}
+		}
+		final long multiplyMin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			final int digit = digit(cs.charAt(i));
+			if (digit < 0 || result < multiplyMin) {
+				return NOT_A_LONG;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return NOT_A_LONG;
+			}
+			result -= digit;
+		}
+		return result;
+	}
+
+
+	/**
+	 * 解析 long,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static long parseLong(final byte[] bytes, final int start, final int end, final long defaultValue) {
+		final long negative = scanLong(bytes, start, end);
+		if (negative == NOT_A_LONG) {
+			return defaultValue;
+		}
+		return bytes[start] == '-' ? negative : -negative;
+	}
+
+	/**
+	 * 一次扫描校验并解析,bytes 为 ASCII 编码
+	 *
+	 * @return 绝对值的相反数,无法解析时返回 {@link #NOT_A_LONG}
+	 */
+	private static long scanLong(final byte[] bytes, final int start, final int end) {
+		if (start >= end) {
+			return NOT_A_LONG;
+		}
+		int i = start;
+		long limit = -Long.MAX_VALUE;
+		final byte first = bytes[i];
+		if (first < '0') {
+			if (first == '-') {
+				limit = Long.MIN_VALUE;
+			} else if (first != '+') {
+				return NOT_A_LONG;
+			}
+			if (++i == end) {
+				return NOT_A_LONG;
+			}
+		}
+		final long multiplyMin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			final int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9 || result < multiplyMin) {
+				return NOT_A_LONG;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return NOT_A_LONG;
+			}
+			result -= digit;
+		}
+		return result;
+	}
+
+
+	/**
+	 * 区间 [start, end) 是否为 long 整数,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isLong(final byte[] bytes, final int start, final int end) {
+		return scanLong(bytes, start, end) != NOT_A_LONG;
+	}
+
+	/**
+	 * 是否为 int 整数
+	 *
+	 * @param cs cs
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isInt(final CharSequence cs) {
+		return cs != null && isInt(cs, 0, cs.length());
+	}
+
+	/**
+	 * 区间 [start, end) 是否为 int 整数
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isInt(final CharSequence cs, final int start, final int end) {
+		final long value = parseLong(cs, start, end, Long.MIN_VALUE);
+		return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * 解析 int
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int parseInt(final CharSequence cs, final int start, final int end, final int defaultValue) {
+		final long value = parseLong(cs, start, end, Long.MIN_VALUE);
+		return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : defaultValue;
+	}
+
+	/**
+	 * 区间 [start, end) 是否为 int 整数,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isInt(final byte[] bytes, final int start, final int end) {
+		final long value = parseLong(bytes, start, end, Long.MIN_VALUE);
+		return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * 解析 int,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int parseInt(final byte[] bytes, final int start, final int end, final int defaultValue) {
+		final long value = parseLong(bytes, start, end, Long.MIN_VALUE);
+		return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : defaultValue;
+	}
+
+	/**
+	 * 是否为浮点数
+	 *
+	 * @param cs cs
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isDouble(final CharSequence cs) {
+		return cs != null && isDouble(cs, 0, cs.length());
+	}
+
+	/**
+	 * 区间 [start, end) 是否为浮点数
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isDouble(final CharSequence cs, final int start, final int end) {
+		return parseDoubleBits(cs, start, end) != INVALID_BITS;
+	}
+
+	/**
+	 * 解析 double
+	 *
+	 * @param cs cs
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static double parseDouble(final CharSequence cs, final int start, final int end, final double defaultValue) {
+		final long bits = parseDoubleBits(cs, start, end);
+		return bits == INVALID_BITS ? defaultValue : Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * 区间 [start, end) 是否为浮点数,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean isDouble(final byte[] bytes, final int start, final int end) {
+		return parseDoubleBits(bytes, start, end) != INVALID_BITS;
+	}
+
+	/**
+	 * 解析 double,bytes 为 ASCII 编码
+	 *
+	 * @param bytes bytes
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @param defaultValue 无法解析时的返回值
+	 * @return 解析结果
+	 *
+	 * @since 2026-10-19
+	 */
+	public static double parseDouble(final byte[] bytes, final int start, final int end, final double defaultValue) {
+		final long bits = parseDoubleBits(bytes, start, end);
+		return bits == INVALID_BITS ? defaultValue : Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * 十进制文本的长度,含负号
+	 *
+	 * @param value 值
+	 * @return 长度
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int length(final long value) {
+		if (value < 0) {
+			return value == Long.MIN_VALUE ? MAX_LONG_LENGTH : 1 + digitCount(-value);
+		}
+		return digitCount(value);
+	}
+
+	/**
+	 * 十进制文本的长度,含负号
+	 *
+	 * @param value 值
+	 * @return 长度
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int length(final int value) {
+		return length((long) value);
+	}
+
+	/**
+	 * long 转十进制文本,写入 buf
+	 * <p>先算出位数,再从末尾开始每次按查表写入两位数字;调用方可用 {@link #length(long)} 预先算出总长度</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code NumberText.toChars(-1024L, buf, 0)     // 返回 5,buf 为 -1024}</li>
+	 * </ul>
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #length(long)} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toChars(final long value, final char[] buf, final int offset) {
+		if (value == Long.MIN_VALUE) {
+			MIN_LONG_TEXT.getChars(0, MAX_LONG_LENGTH, buf, offset);
+			return offset + MAX_LONG_LENGTH;
+		}
+		int pos = offset;
+		long abs = value;
+		if (abs < 0) {
+			buf[pos++] = '-';
+			abs = -abs;
+		}
+		final int end = pos + digitCount(abs);
+		writeDigits(abs, buf, end);
+		return end;
+	}
+
+	/**
+	 * int 转十进制文本,写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #length(int)} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toChars(final int value, final char[] buf, final int offset) {
+		return toChars((long) value, buf, offset);
+	}
+
+	/**
+	 * long 转十进制文本,以 ASCII 写入 buf
+	 * <p>CSV、JSON 等字节输出可直接写入,省去字符到字节的编码</p>
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #length(long)} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toBytes(final long value, final byte[] buf, final int offset) {
+		if (value == Long.MIN_VALUE) {
+			for (int i = 0; i < MAX_LONG_LENGTH; i++) {
+				buf[offset + i] = (byte) MIN_LONG_TEXT.charAt(i);
+			}
+			return offset + MAX_LONG_LENGTH;
+		}
+		int pos = offset;
+		long abs = value;
+		if (abs < 0) {
+			buf[pos++] = '-';
+			abs = -abs;
+		}
+		final int end = pos + digitCount(abs);
+		writeDigits(abs, buf, end);
+		return end;
+	}
+
+	/**
+	 * int 转十进制文本,以 ASCII 写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #length(int)} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toBytes(final int value, final byte[] buf, final int offset) {
+		return toBytes((long) value, buf, offset);
+	}
+
+	/**
+	 * 非负数的十进制位数
+	 */
+	static int digitCount(final long value) {
+		// bits * log10(2) 估算位数,再与 10 的幂比较修正;value | 1 使 0 计为一位
+		final int estimate = (64 - Long.numberOfLeadingZeros(value | 1)) * 1233 >>> 12;
+		return estimate + ((value | 1) >= POWERS_OF_TEN[estimate] ? 1 : 0);
+	}
+
+	/**
+	 * 将非负数 value 的十进制数字写入 buf,末位写在 end - 1
+	 */
+	static void writeDigits(long value, final char[] buf, final int end) {
+		int pos = end;
+		while (value > Integer.MAX_VALUE) {
+			final long q = value / 100;
+			final int r = (int) (value - q * 100);
+			value = q;
+			buf[--pos] = (char) DIGIT_ONES[r];
+			buf[--pos] = (char) DIGIT_TENS[r];
+		}
+		int v = (int) value;
+		while (v >= 100) {
+			final int q = v / 100;
+			final int r = v - q * 100;
+			v = q;
+			buf[--pos] = (char) DIGIT_ONES[r];
+			buf[--pos] = (char) DIGIT_TENS[r];
+		}
+		if (v >= 10) {
+			buf[--pos] = (char) DIGIT_ONES[v];
+			buf[--pos] = (char) DIGIT_TENS[v];
+		} else {
+			buf[--pos] = (char) ('0' + v);
+		}
+	}
+
+	/**
+	 * 将非负数 value 的十进制数字以 ASCII 写入 buf,末位写在 end - 1
+	 */
+	static void writeDigits(long value, final byte[] buf, final int end) {
+		int pos = end;
+		while (value > Integer.MAX_VALUE) {
+			final long q = value / 100;
+			final int r = (int) (value - q * 100);
+			value = q;
+			buf[--pos] = DIGIT_ONES[r];
+			buf[--pos] = DIGIT_TENS[r];
+		}
+		int v = (int) value;
+		while (v >= 100) {
+			final int q = v / 100;
+			final int r = v - q * 100;
+			v = q;
+			buf[--pos] = DIGIT_ONES[r];
+			buf[--pos] = DIGIT_TENS[r];
+		}
+		if (v >= 10) {
+			buf[--pos] = DIGIT_ONES[v];
+			buf[--pos] = DIGIT_TENS[v];
+		} else {
+			buf[--pos] = (byte) ('0' + v);
+		}
+	}
+
+	/**
+	 * double 转最短十进制文本
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code NumberText.toString(0.1 + 0.2)     // 0.30000000000000004}</li>
+	 *     <li>{@code NumberText.toString(2e-3)     // 0.002}</li>
+	 * </ul>
+	 *
+	 * @param value 值
+	 * @return 文本
+	 *
+	 * @since 2026-10-19
+	 */
+	public static String toString(final double value) {
+		final char[] buf = new char[MAX_DOUBLE_LENGTH];
+		return new String(buf, 0, DoubleToDecimal.toChars(value, buf, 0));
+	}
+
+	/**
+	 * float 转最短十进制文本
+	 *
+	 * @param value 值
+	 * @return 文本
+	 *
+	 * @since 2026-10-19
+	 */
+	public static String toString(final float value) {
+		final char[] buf = new char[MAX_FLOAT_LENGTH];
+		return new String(buf, 0, DoubleToDecimal.toChars(value, buf, 0));
+	}
+
+	/**
+	 * double 转最短十进制文本,写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #MAX_DOUBLE_LENGTH} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toChars(final double value, final char[] buf, final int offset) {
+		return DoubleToDecimal.toChars(value, buf, offset);
+	}
+
+	/**
+	 * float 转最短十进制文本,写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #MAX_FLOAT_LENGTH} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toChars(final float value, final char[] buf, final int offset) {
+		return DoubleToDecimal.toChars(value, buf, offset);
+	}
+
+	/**
+	 * double 转最短十进制文本,以 ASCII 写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #MAX_DOUBLE_LENGTH} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toBytes(final double value, final byte[] buf, final int offset) {
+		return DoubleToDecimal.toBytes(value, buf, offset);
+	}
+
+	/**
+	 * float 转最短十进制文本,以 ASCII 写入 buf
+	 *
+	 * @param value 值
+	 * @param buf 目标,自 offset 起至少需要 {@link #MAX_FLOAT_LENGTH} 个位置
+	 * @param offset 起始位置
+	 * @return 写入后的结束位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int toBytes(final float value, final byte[] buf, final int offset) {
+		return DoubleToDecimal.toBytes(value, buf, offset);
+	}
+
+	/**
+	 * double 转最短十进制文本,追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param value 值
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder append(final StringBuilder sb, final double value) {
+		return DoubleToDecimal.append(sb, value);
+	}
+
+	/**
+	 * float 转最短十进制文本,追加到 sb
+	 *
+	 * @param sb StringBuilder
+	 * @param value 值
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder append(final StringBuilder sb, final float value) {
+		return DoubleToDecimal.append(sb, value);
+	}
+
+	private static int digit(final char c) {
+		if (c < 0x80) {
+			final int digit = c - '0';
+			return digit >= 0 && digit <= 9 ? digit : -1;
+		}
+		// 与 Long.parseLong 一致,接受其它书写系统的数字
+		return Character.digit(c, 10);
+	}
+
+	/**
+	 * 解析为 double 的二进制表示,无法解析时返回 {@link #INVALID_BITS}
+	 */
+	private static long parseDoubleBits(final CharSequence cs, int start, int end) {
+		while (start < end && cs.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && cs.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return INVALID_BITS;
+		}
+		int i = start;
+		char c = cs.charAt(i);
+		final boolean negative = c == '-';
+		if (c == '-' || c == '+') {
+			if (++i == end) {
+				return INVALID_BITS;
+			}
+			c = cs.charAt(i);
+		}
+		if (c == 'N' || c == 'I') {
+			return parseSpecial(cs, i, end, negative);
+		}
+		if (c == '0' && i + 1 < end && (cs.charAt(i + 1) | 0x20) == 'x') {
+			return validHex(cs, i + 2, end)
+					? Double.doubleToRawLongBits(Double.parseDouble(cs.subSequence(start, end).toString()))
+					: INVALID_BITS;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		long exponent = 0;
+		boolean truncated = false;
+		boolean anyDigit = false;
+		for (; i < end; i++) {
+			c = cs.charAt(i);
+			final int digit = c - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			anyDigit = true;
+			if (digits < MAX_DIGITS) {
+				if (mantissa != 0 || digit != 0) {
+					mantissa = mantissa * 10 + digit;
+					digits++;
+				}
+			} else {
+				exponent++;
+				truncated |= digit != 0;
+			}
+		}
+		if (i < end && c == '.') {
+			for (i++; i < end; i++) {
+				c = cs.charAt(i);
+				final int digit = c - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				anyDigit = true;
+				if (digits < MAX_DIGITS) {
+					if (mantissa != 0 || digit != 0) {
+						mantissa = mantissa * 10 + digit;
+						digits++;
+					}
+					exponent--;
+				} else {
+					truncated |= digit != 0;
+				}
+			}
+		}
+		if (!anyDigit) {
+			return INVALID_BITS;
+		}
+		if (i < end && (c | 0x20) == 'e') {
+			if (++i == end) {
+				return INVALID_BITS;
+			}
+			c = cs.charAt(i);
+			final boolean negativeExponent = c == '-';
+			if ((c == '-' || c == '+') && ++i == end) {
+				return INVALID_BITS;
+			}
+			final int exponentStart = i;
+			int value = 0;
+			for (; i < end; i++) {
+				c = cs.charAt(i);
+				final int digit = c - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = Math.min(EXPONENT_LIMIT, value * 10 + digit);
+			}
+			if (i == exponentStart) {
+				return INVALID_BITS;
+			}
+			exponent += negativeExponent ? -value : value;
+		}
+		if (i < end && isSuffix(c)) {
+			i++;
+		}
+		if (i != end) {
+			return INVALID_BITS;
+		}
+		final long bits = toDoubleBits(mantissa, exponent, truncated);
+		if (bits == FALLBACK_BITS) {
+			return Double.doubleToRawLongBits(Double.parseDouble(cs.subSequence(start, end).toString()));
+		}
+		return negative ? bits | SIGN_BIT : bits;
+	}
+
+	/**
+	 * 同 {@link #parseDoubleBits(CharSequence, int, int)},NaN、Infinity、十六进制等少见格式转为字符串处理
+	 */
+	private static long parseDoubleBits(final byte[] bytes, int start, int end) {
+		while (start < end && (bytes[start] & 0xFF) <= ' ') {
+			start++;
+		}
+		while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+			end--;
+		}
+		if (start == end) {
+			return INVALID_BITS;
+		}
+		int i = start;
+		int c = bytes[i];
+		final boolean negative = c == '-';
+		if (c == '-' || c == '+') {
+			if (++i == end) {
+				return INVALID_BITS;
+			}
+			c = bytes[i];
+		}
+		if (c == 'N' || c == 'I' || c == '0' && i + 1 < end && (bytes[i + 1] | 0x20) == 'x') {
+			return parseDoubleBits(new String(bytes, start, end - start, StandardCharsets.ISO_8859_1), 0, end - start);
+		}
+		long mantissa = 0;
+		int digits = 0;
+		long exponent = 0;
+		boolean truncated = false;
+		boolean anyDigit = false;
+		for (; i < end; i++) {
+			c = bytes[i];
+			final int digit = c - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			anyDigit = true;
+			if (digits < MAX_DIGITS) {
+				if (mantissa != 0 || digit != 0) {
+					mantissa = mantissa * 10 + digit;
+					digits++;
+				}
+			} else {
+				exponent++;
+				truncated |= digit != 0;
+			}
+		}
+		if (i < end && c == '.') {
+			for (i++; i < end; i++) {
+				c = bytes[i];
+				final int digit = c - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				anyDigit = true;
+				if (digits < MAX_DIGITS) {
+					if (mantissa != 0 || digit != 0) {
+						mantissa = mantissa * 10 + digit;
+						digits++;
+					}
+					exponent--;
+				} else {
+					truncated |= digit != 0;
+				}
+			}
+		}
+		if (!anyDigit) {
+			return INVALID_BITS;
+		}
+		if (i < end && (c | 0x20) == 'e') {
+			if (++i == end) {
+				return INVALID_BITS;
+			}
+			c = bytes[i];
+			final boolean negativeExponent = c == '-';
+			if ((c == '-' || c == '+') && ++i == end) {
+				return INVALID_BITS;
+			}
+			final int exponentStart = i;
+			int value = 0;
+			for (; i < end; i++) {
+				c = bytes[i];
+				final int digit = c - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = Math.min(EXPONENT_LIMIT, value * 10 + digit);
+			}
+			if (i == exponentStart) {
+				return INVALID_BITS;
+			}
+			exponent += negativeExponent ? -value : value;
+		}
+		if (i < end && isSuffix((char) c)) {
+			i++;
+		}
+		if (i != end) {
+			return INVALID_BITS;
+		}
+		final long bits = toDoubleBits(mantissa, exponent, truncated);
+		if (bits == FALLBACK_BITS) {
+			return Double.doubleToRawLongBits(Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.ISO_8859_1)));
+		}
+		return negative ? bits | SIGN_BIT : bits;
+	}
+
+	private static boolean isSuffix(final char c) {
+		return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+	}
+
+	private static long parseSpecial(final CharSequence cs, final int start, final int end, final boolean negative) {
+		if (regionEquals(cs, start, end, "NaN")) {
+			return Double.doubleToRawLongBits(Double.NaN);
+		}
+		if (regionEquals(cs, start, end, "Infinity")) {
+			return negative ? INFINITY_BITS | SIGN_BIT : INFINITY_BITS;
+		}
+		return INVALID_BITS;
+	}
+
+	private static boolean regionEquals(final CharSequence cs, final int start, final int end, final String expected) {
+		if (end - start != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			if (cs.charAt(start + i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 十六进制浮点数 0x 之后的部分:十六进制数字(可含一个小数点)、p/P、带符号的十进制指数、可选后缀
+	 */
+	private static boolean validHex(final CharSequence cs, int i, final int end) {
+		boolean anyDigit = false;
+		boolean dot = false;
+		for (; i < end; i++) {
+			final char c = cs.charAt(i);
+			if (c == '.' && !dot) {
+				dot = true;
+			} else if (Character.digit(c, 16) >= 0 && c < 0x80) {
+				anyDigit = true;
+			} else {
+				break;
+			}
+		}
+		if (!anyDigit || i == end || (cs.charAt(i) | 0x20) != 'p') {
+			return false;
+		}
+		if (++i < end && (cs.charAt(i) == '-' || cs.charAt(i) == '+')) {
+			i++;
+		}
+		final int exponentStart = i;
+		while (i < end && cs.charAt(i) >= '0' && cs.charAt(i) <= '9') {
+			i++;
+		}
+		if (i == exponentStart) {
+			return false;
+		}
+		if (i < end && isSuffix(cs.charAt(i))) {
+			i++;
+		}
+		return i == end;
+	}
+
+	/**
+	 * mantissa * 10^exponent 转为 double(不含符号位)
+	 *
+	 * @param mantissa 最多19位有效数字,按无符号数处理
+	 * @param exponent 十进制指数
+	 * @param truncated 是否舍弃了非零的数字
+	 * @return double 的二进制表示,无法确定舍入方向时返回 {@link #FALLBACK_BITS}
+	 */
+	private static long toDoubleBits(final long mantissa, final long exponent, final boolean truncated) {
+		final int q = (int) Math.max(-EXPONENT_LIMIT, Math.min(EXPONENT_LIMIT, exponent));
+		// Clinger 快速路径:尾数与 10^q 都能精确表示为 double 时,一次乘除即为正确舍入的结果
+		if (!truncated && q >= -22 && q <= 22 && mantissa >= 0 && mantissa <= 1L << 53) {
+			final double value = (double) mantissa;
+			return Double.doubleToRawLongBits(q < 0 ? value / EXACT_POWERS_OF_TEN[-q] : value * EXACT_POWERS_OF_TEN[q]);
+		}
+		final long bits = eiselLemire(mantissa, q);
+		// 舍弃了数字时真实值位于 mantissa 与 mantissa + 1 之间,两端结果相同才可确定
+		if (truncated && eiselLemire(mantissa + 1, q) != bits) {
+			return FALLBACK_BITS;
+		}
+		return bits;
+	}
+
+	/**
+	 * Eisel-Lemire 算法,与 fast_float 的 compute_float 相同
+	 */
+	private static long eiselLemire(long w, final int q) {
+		if (w == 0 || q < SMALLEST_POWER_OF_TEN) {
+			return 0L;
+		}
+		if (q > LARGEST_POWER_OF_TEN) {
+			return INFINITY_BITS;
+		}
+		final int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+		final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+		final long power = POWERS_OF_FIVE_128[index];
+		long high = multiplyHigh(w, power);
+		long low = w * power;
+		// 高位中决定舍入的 9 位全为 1 时,用 5^q 的低 64 位修正
+		if ((high & 0x1FF) == 0x1FF) {
+			final long secondHigh = multiplyHigh(w, POWERS_OF_FIVE_128[index + 1]);
+			low += secondHigh;
+			if (Long.compareUnsigned(secondHigh, low) > 0) {
+				high++;
+			}
+		}
+		final int upperBit = (int) (high >>> 63);
+		long mantissa = high >>> (upperBit + 9);
+		int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+		if (power2 <= 0) {
+			// 非规格化数
+			if (-power2 + 1 >= 64) {
+				return 0L;
+			}
+			mantissa >>>= -power2 + 1;
+			mantissa += mantissa & 1;
+			mantissa >>>= 1;
+			power2 = mantissa < 1L << 52 ? 0 : 1;
+			return mantissa | (long) power2 << 52;
+		}
+		// 恰好位于两个 double 中间时向偶数舍入,只有 5^q 能用 64 位精确表示时才可能出现
+		if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1
+				&& mantissa << (upperBit + 9) == high) {
+			mantissa &= ~1L;
+		}
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >= 2L << 52) {
+			mantissa = 1L << 52;
+			power2++;
+		}
+		mantissa &= ~(1L << 52);
+		if (power2 >= 0x7FF) {
+			return INFINITY_BITS;
+		}
+		return mantissa | (long) power2 << 52;
+	}
+
+	/**
+	 * 无符号 64 位乘法的高 64 位
+	 */
+	static long multiplyHigh(final long x, final long y) {
+		final long x0 = x & 0xFFFFFFFFL;
+		final long x1 = x >>> 32;
+		final long y0 = y & 0xFFFFFFFFL;
+		final long y1 = y >>> 32;
+		final long p01 = x0 * y1;
+		final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+		return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+	}
+
+	/**
+	 * 生成 5^q 的 128 位近似值表,q 为负时取 2^b / 5^-q 向上取整,q 非负时取 5^q 截断,与 fast_float 相同
+	 */
+	private static long[] powersOfFive() {
+		final long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+		final BigInteger five = BigInteger.valueOf(5);
+		for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+			BigInteger value;
+			if (q < 0) {
+				final BigInteger power = five.pow(-q);
+				final int z = power.bitLength();
+				final int b = q >= -27 ? z + 127 : 2 * z + 128;
+				value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+				if (value.bitLength() > 128) {
+					value = value.shiftRight(value.bitLength() - 128);
+				}
+			} else {
+				value = five.pow(q);
+				final int bitLength = value.bitLength();
+				value = bitLength < 128 ? value.shiftLeft(128 - bitLength) : value.shiftRight(bitLength - 128);
+			}
+			final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+			table[index] = value.shiftRight(64).longValue();
+			table[index + 1] = value.longValue();
+		}
+		return table;
+	}
+}
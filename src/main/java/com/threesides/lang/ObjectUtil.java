@@ -239,11 +239,17 @@ public class ObjectUtil {
 		return obj.toString();
 	}
 
+	/**
+	 * ByteBuffer 中剩余的字节解码为字符串,解码后 position 移到 limit,同 {@link StringUtil#objectToString(ByteBuffer, Charset)}
+	 *
+	 * @param data 堆内或直接 buffer
+	 * @param charset 字符集,为空时按 UTF-8 解码
+	 * @return 字符串
+	 *
+	 * @since 2026-10-19
+	 */
 	public static String objectToString(ByteBuffer data, Charset charset) {
-		if (null == charset) {
-			charset = Charset.defaultCharset();
-		}
-		return charset.decode(data).toString();
+		return StringUtil.objectToString(data, charset);
 	}
 
 }
@@ -0,0 +1,420 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StringInterner 字符串驻留,对重复出现的字符串返回同一个实例
+ * <p>可以直接从 {@link CharSequence} 区间或 UTF-8 {@code byte[]} 区间查找,命中时不创建 String</p>
+ * <ul>
+ *     <li>{@link #bounded(int)} 固定大小的无锁直接映射表(2路组相联),冲突时覆盖旧值,内存有上限</li>
+ *     <li>{@link #weak()} 分段加锁的弱引用哈希表,字符串没有其它引用时可被回收</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code String code = interner.intern(bytes, 10, 2);     // "CN"}</li>
+ * </ul>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public abstract class StringInterner {
+
+	private static final int WEAK_SEGMENTS = 16;
+
+	private final LongAdder lookupCount = new LongAdder();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder bytesSaved = new LongAdder();
+
+	StringInterner() {
+	}
+
+	/**
+	 * 有界驻留表
+	 *
+	 * @param capacity 最多保留的字符串数量,向上取整为2的幂
+	 * @return StringInterner
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringInterner bounded(int capacity) {
+		Assert.checkBetween(capacity, 2, 1 << 30);
+		return new Bounded(capacity);
+	}
+
+	/**
+	 * 弱引用驻留表
+	 *
+	 * @return StringInterner
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringInterner weak() {
+		return new Weak();
+	}
+
+	/**
+	 * 驻留
+	 *
+	 * @param cs 字符序列
+	 * @return 驻留的字符串,cs为null时返回null
+	 *
+	 * @since 2026-10-19
+	 */
+	public String intern(CharSequence cs) {
+		if (cs == null) {
+			return null;
+		}
+		return intern(cs, 0, cs.length());
+	}
+
+	/**
+	 * 驻留字符序列区间
+	 *
+	 * @param cs 字符序列
+	 * @param start 开始下标(包含)
+	 * @param end 结束下标(不包含)
+	 * @return 驻留的字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String intern(CharSequence cs, int start, int end) {
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + cs.charAt(i);
+		}
+		return lookup(h, cs, start, end);
+	}
+
+	/**
+	 * 驻留 UTF-8 字节区间
+	 *
+	 * @param bytes 字节
+	 * @param offset 开始下标
+	 * @param length 字节数
+	 * @return 驻留的字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String intern(byte[] bytes, int offset, int length) {
+		final int end = offset + length;
+		int h = 0;
+		int i = offset;
+		while (i < end) {
+			final long next = Utf8Cursor.next(bytes, i, end);
+			if (next < 0) {
+				// 非法 UTF-8,按 String 的替换规则处理
+				return intern(new String(bytes, offset, length, StandardCharsets.UTF_8));
+			}
+			final int cp = Utf8Cursor.codePoint(next);
+			if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				h = 31 * h + cp;
+			} else {
+				h = 31 * (31 * h + Character.highSurrogate(cp)) + Character.lowSurrogate(cp);
+			}
+			i = Utf8Cursor.nextIndex(next);
+		}
+		return lookup(h, bytes, offset, end);
+	}
+
+	/**
+	 * 查找次数
+	 *
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getLookupCount() {
+		return this.lookupCount.sum();
+	}
+
+	/**
+	 * 命中次数
+	 *
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * 命中率
+	 *
+	 * @return 0 ~ 1
+	 *
+	 * @since 2026-10-19
+	 */
+	public double getHitRate() {
+		long lookups = this.lookupCount.sum();
+		return lookups == 0 ? 0 : (double) this.hitCount.sum() / lookups;
+	}
+
+	/**
+	 * 估算节省的内存:每次命中少创建一个 String 及其 char[]
+	 *
+	 * @return 字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public long getBytesSaved() {
+		return this.bytesSaved.sum();
+	}
+
+	abstract String lookup(int hash, Object source, int start, int end);
+
+	final String hit(String s) {
+		this.lookupCount.increment();
+		this.hitCount.increment();
+		// String 对象 24 字节 + char[] 16 字节头 + 内容,按 8 字节对齐
+		this.bytesSaved.add(24 + ((16 + 2L * s.length() + 7) & ~7L));
+		return s;
+	}
+
+	final String miss(String s) {
+		this.lookupCount.increment();
+		return s;
+	}
+
+	static boolean matches(String s, int hash, Object source, int start, int end) {
+		if (s.hashCode() != hash) {
+			return false;
+		}
+		if (source instanceof CharSequence) {
+			final CharSequence cs = (CharSequence) source;
+			if (s.length() != end - start) {
+				return false;
+			}
+			for (int i = start; i < end; i++) {
+				if (s.charAt(i - start) != cs.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		final byte[] bytes = (byte[]) source;
+		final int len = s.length();
+		int k = 0;
+		int i = start;
+		while (i < end) {
+			final long next = Utf8Cursor.next(bytes, i, end);
+			final int cp = Utf8Cursor.codePoint(next);
+			if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				if (k >= len || s.charAt(k++) != cp) {
+					return false;
+				}
+			} else {
+				if (k + 1 >= len || s.charAt(k++) != Character.highSurrogate(cp) || s.charAt(k++) != Character.lowSurrogate(cp)) {
+					return false;
+				}
+			}
+			i = Utf8Cursor.nextIndex(next);
+		}
+		return k == len;
+	}
+
+	static String create(Object source, int start, int end) {
+		if (source instanceof String && start == 0 && end == ((String) source).length()) {
+			return (String) source;
+		}
+		if (source instanceof CharSequence) {
+			return ((CharSequence) source).subSequence(start, end).toString();
+		}
+		return new String((byte[]) source, start, end - start, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 逐个码点解码 UTF-8,返回值高32位为码点,低32位为下一个下标;非法序列返回-1
+	 */
+	static final class Utf8Cursor {
+
+		private Utf8Cursor() {
+		}
+
+		static long next(byte[] b, int i, int end) {
+			final int b0 = b[i] & 0xFF;
+			if (b0 < 0x80) {
+				return pack(b0, i + 1);
+			}
+			if ((b0 & 0xE0) == 0xC0) {
+				if (i + 1 >= end || !continuation(b[i + 1])) {
+					return -1;
+				}
+				final int cp = ((b0 & 0x1F) << 6) | (b[i + 1] & 0x3F);
+				return cp < 0x80 ? -1 : pack(cp, i + 2);
+			}
+			if ((b0 & 0xF0) == 0xE0) {
+				if (i + 2 >= end || !continuation(b[i + 1]) || !continuation(b[i + 2])) {
+					return -1;
+				}
+				final int cp = ((b0 & 0x0F) << 12) | ((b[i + 1] & 0x3F) << 6) | (b[i + 2] & 0x3F);
+				return cp < 0x800 || Character.isSurrogate((char) cp) ? -1 : pack(cp, i + 3);
+			}
+			if ((b0 & 0xF8) == 0xF0) {
+				if (i + 3 >= end || !continuation(b[i + 1]) || !continuation(b[i + 2]) || !continuation(b[i + 3])) {
+					return -1;
+				}
+				final int cp = ((b0 & 0x07) << 18) | ((b[i + 1] & 0x3F) << 12) | ((b[i + 2] & 0x3F) << 6) | (b[i + 3] & 0x3F);
+				return cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT ? -1 : pack(cp, i + 4);
+			}
+			return -1;
+		}
+
+		static int codePoint(long next) {
+			return (int) (next >>> 32);
+		}
+
+		static int nextIndex(long next) {
+			return (int) next;
+		}
+
+		private static boolean continuation(byte b) {
+			return (b & 0xC0) == 0x80;
+		}
+
+		private static long pack(int cp, int nextIndex) {
+			return ((long) cp << 32) | nextIndex;
+		}
+	}
+
+	/**
+	 * 无锁直接映射表,2路组相联
+	 * <p>String 的字段都是 final 的,数组元素在线程间的非同步发布是安全的</p>
+	 */
+	static final class Bounded extends StringInterner {
+
+		private final String[] table;
+
+		private final int mask;
+
+		Bounded(int capacity) {
+			int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+			this.table = new String[size];
+			this.mask = size - 1;
+		}
+
+		@Override
+		String lookup(int hash, Object source, int start, int end) {
+			final String[] table = this.table;
+			final int i = (hash ^ (hash >>> 16)) & this.mask;
+			final int j = i ^ 1;
+			String s = table[i];
+			if (s != null && matches(s, hash, source, start, end)) {
+				return hit(s);
+			}
+			final String other = table[j];
+			if (other != null && matches(other, hash, source, start, end)) {
+				return hit(other);
+			}
+			s = create(source, start, end);
+			// 优先写入空槽,否则按哈希位决定覆盖哪一路
+			table[table[i] == null || (other != null && (hash & 0x10000) == 0) ? i : j] = s;
+			return miss(s);
+		}
+	}
+
+	/**
+	 * 分段加锁的弱引用哈希表
+	 */
+	static final class Weak extends StringInterner {
+
+		private final Segment[] segments = new Segment[WEAK_SEGMENTS];
+
+		Weak() {
+			for (int i = 0; i < this.segments.length; i++) {
+				this.segments[i] = new Segment();
+			}
+		}
+
+		@Override
+		String lookup(int hash, Object source, int start, int end) {
+			final int h = hash ^ (hash >>> 16);
+			final Segment segment = this.segments[(h >>> 28) & (WEAK_SEGMENTS - 1)];
+			synchronized (segment) {
+				segment.expunge();
+				final WeakEntry[] table = segment.table;
+				final int index = h & (table.length - 1);
+				for (WeakEntry e = table[index]; e != null; e = e.next) {
+					final String s = e.get();
+					if (s != null && e.hash == hash && matches(s, hash, source, start, end)) {
+						return hit(s);
+					}
+				}
+				final String s = create(source, start, end);
+				table[index] = new WeakEntry(s, hash, table[index], segment.queue);
+				if (++segment.count > table.length * 3 / 4) {
+					segment.resize();
+				}
+				return miss(s);
+			}
+		}
+
+		static final class WeakEntry extends WeakReference<String> {
+
+			final int hash;
+
+			WeakEntry next;
+
+			WeakEntry(String referent, int hash, WeakEntry next, ReferenceQueue<String> queue) {
+				super(referent, queue);
+				this.hash = hash;
+				this.next = next;
+			}
+		}
+
+		static final class Segment {
+
+			final ReferenceQueue<String> queue = new ReferenceQueue<>();
+
+			WeakEntry[] table = new WeakEntry[16];
+
+			int count;
+
+			/**
+			 * 移除已被回收的条目
+			 */
+			void expunge() {
+				Object ref;
+				while ((ref = this.queue.poll()) != null) {
+					final WeakEntry entry = (WeakEntry) ref;
+					final int index = (entry.hash ^ (entry.hash >>> 16)) & (this.table.length - 1);
+					WeakEntry prev = null;
+					for (WeakEntry e = this.table[index]; e != null; prev = e, e = e.next) {
+						if (e == entry) {
+							if (prev == null) {
+								this.table[index] = e.next;
+							} else {
+								prev.next = e.next;
+							}
+							this.count--;
+							break;
+						}
+					}
+				}
+			}
+
+			void resize() {
+				final WeakEntry[] old = this.table;
+				final WeakEntry[] table = new WeakEntry[old.length << 1];
+				for (WeakEntry head : old) {
+					WeakEntry e = head;
+					while (e != null) {
+						final WeakEntry next = e.next;
+						final int index = (e.hash ^ (e.hash >>> 16)) & (table.length - 1);
+						e.next = table[index];
+						table[index] = e;
+						e = next;
+					}
+				}
+				this.table = table;
+			}
+		}
+	}
+}
@@ -0,0 +1,368 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * StringSearcher 预编译的单个子串查找(Boyer-Moore-Horspool)
+ * <p>创建时算好跳跃表,同一个子串在大量文本中反复查找时不再重复准备;
+ * 每次比较窗口末尾的字符,不匹配时按跳跃表一次跳过多个位置,子串越长跳得越远</p>
+ * <ul>
+ *     <li>跳跃表按字符的低 8 位索引,只有 256 项;低 8 位相同的字符取较小的跳跃距离,结果依旧正确</li>
+ *     <li>{@code byte[]} 按 UTF-8 查找,子串预先编码为 UTF-8 字节,文本不需要解码</li>
+ *     <li>忽略大小写时 {@link CharSequence}、{@code char[]} 按字符折叠比较;{@code byte[]} 只忽略 ASCII 字母的大小写</li>
+ *     <li>{@code count}、{@code forEachMatch} 统计不重叠的匹配,与 {@code indexOf} 从上一个匹配的末尾继续查找一致</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code StringUtil.searcher("ERROR").count(log)     // 日志中 ERROR 出现的次数}</li>
+ * </ul>
+ * <p>线程安全,可作为常量复用</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class StringSearcher {
+
+	private static final int TABLE_SIZE = 256;
+
+	private final String needle;
+
+	private final boolean ignoreCase;
+
+	/**
+	 * 子串的字符,忽略大小写时为折叠后的字符
+	 */
+	private final char[] chars;
+
+	/**
+	 * 子串的 UTF-8 字节,忽略大小写时 ASCII 字母为小写
+	 */
+	private final byte[] bytes;
+
+	private final int[] charShift;
+
+	private final int[] byteShift;
+
+	private StringSearcher(String needle, boolean ignoreCase) {
+		this.needle = needle;
+		this.ignoreCase = ignoreCase;
+		this.chars = needle.toCharArray();
+		this.bytes = needle.getBytes(StandardCharsets.UTF_8);
+		if (ignoreCase) {
+			for (int i = 0; i < this.chars.length; i++) {
+				this.chars[i] = fold(this.chars[i]);
+			}
+			for (int i = 0; i < this.bytes.length; i++) {
+				this.bytes[i] = fold(this.bytes[i]);
+			}
+		}
+		this.charShift = new int[TABLE_SIZE];
+		Arrays.fill(this.charShift, this.chars.length);
+		for (int i = 0; i < this.chars.length - 1; i++) {
+			this.charShift[this.chars[i] & 0xFF] = this.chars.length - 1 - i;
+		}
+		this.byteShift = new int[TABLE_SIZE];
+		Arrays.fill(this.byteShift, this.bytes.length);
+		for (int i = 0; i < this.bytes.length - 1; i++) {
+			this.byteShift[this.bytes[i] & 0xFF] = this.bytes.length - 1 - i;
+		}
+	}
+
+	/**
+	 * 编译子串
+	 *
+	 * @param needle 子串,不能为空
+	 * @param ignoreCase 是否忽略大小写
+	 * @return StringSearcher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSearcher compile(String needle, boolean ignoreCase) {
+		Assert.notNull(needle, "[Assertion failed] - needle must not be null");
+		Assert.isFalse(needle.isEmpty(), "[Assertion failed] - needle must not be empty");
+		return new StringSearcher(needle, ignoreCase);
+	}
+
+	/**
+	 * 子串
+	 *
+	 * @return 子串
+	 *
+	 * @since 2026-10-19
+	 */
+	public String getNeedle() {
+		return this.needle;
+	}
+
+	/**
+	 * 是否忽略大小写
+	 *
+	 * @return 是否忽略大小写
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean isIgnoreCase() {
+		return this.ignoreCase;
+	}
+
+	/**
+	 * 文本中是否包含子串
+	 *
+	 * @param text 文本
+	 * @return 包含时返回 true,text 为 null 时返回 false
+	 *
+	 * @since 2026-10-19
+	 */
+	public boolean contains(CharSequence text) {
+		return text != null && indexOf(text, 0) >= 0;
+	}
+
+	/**
+	 * 第一次出现的位置
+	 *
+	 * @param text 文本
+	 * @return 位置,没有时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int indexOf(CharSequence text) {
+		return indexOf(text, 0);
+	}
+
+	/**
+	 * 从 fromIndex 起第一次出现的位置
+	 *
+	 * @param text 文本
+	 * @param fromIndex 开始位置
+	 * @return 位置,没有时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int indexOf(CharSequence text, int fromIndex) {
+		final char[] pattern = this.chars;
+		final int last = pattern.length - 1;
+		final int limit = text.length() - pattern.length;
+		int i = Math.max(fromIndex, 0);
+		while (i <= limit) {
+			final char c = charAt(text, i + last);
+			if (c == pattern[last]) {
+				int j = last - 1;
+				while (j >= 0 && charAt(text, i + j) == pattern[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+			}
+			i += this.charShift[c & 0xFF];
+		}
+		return -1;
+	}
+
+	/**
+	 * 区间 [from, to) 内第一次出现的位置
+	 *
+	 * @param text 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @return 在 text 中的位置,没有时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int indexOf(char[] text, int from, int to) {
+		final char[] pattern = this.chars;
+		final int last = pattern.length - 1;
+		final int limit = to - pattern.length;
+		int i = Math.max(from, 0);
+		while (i <= limit) {
+			final char c = charAt(text, i + last);
+			if (c == pattern[last]) {
+				int j = last - 1;
+				while (j >= 0 && charAt(text, i + j) == pattern[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+			}
+			i += this.charShift[c & 0xFF];
+		}
+		return -1;
+	}
+
+	/**
+	 * UTF-8 文本区间 [from, to) 内第一次出现的位置
+	 *
+	 * @param text UTF-8 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @return 在 text 中的字节位置,没有时返回 -1
+	 *
+	 * @since 2026-10-19
+	 */
+	public int indexOf(byte[] text, int from, int to) {
+		final byte[] pattern = this.bytes;
+		final int last = pattern.length - 1;
+		final int limit = to - pattern.length;
+		int i = Math.max(from, 0);
+		while (i <= limit) {
+			final byte b = byteAt(text, i + last);
+			if (b == pattern[last]) {
+				int j = last - 1;
+				while (j >= 0 && byteAt(text, i + j) == pattern[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+			}
+			i += this.byteShift[b & 0xFF];
+		}
+		return -1;
+	}
+
+	/**
+	 * 出现次数,不重叠
+	 *
+	 * @param text 文本
+	 * @return 次数,text 为 null 时返回 0
+	 *
+	 * @since 2026-10-19
+	 */
+	public int count(CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+		int count = 0;
+		for (int i = indexOf(text, 0); i >= 0; i = indexOf(text, i + this.chars.length)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 区间 [from, to) 内出现的次数,不重叠
+	 *
+	 * @param text 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int count(char[] text, int from, int to) {
+		int count = 0;
+		for (int i = indexOf(text, from, to); i >= 0; i = indexOf(text, i + this.chars.length, to)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * UTF-8 文本区间 [from, to) 内出现的次数,不重叠
+	 *
+	 * @param text UTF-8 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @return 次数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int count(byte[] text, int from, int to) {
+		int count = 0;
+		for (int i = indexOf(text, from, to); i >= 0; i = indexOf(text, i + this.bytes.length, to)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 依次处理每个不重叠匹配的位置
+	 *
+	 * @param text 文本
+	 * @param consumer 处理匹配的开始位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public void forEachMatch(CharSequence text, IntConsumer consumer) {
+		Assert.notNull(consumer, "[Assertion failed] - consumer must not be null");
+		if (text == null) {
+			return;
+		}
+		for (int i = indexOf(text, 0); i >= 0; i = indexOf(text, i + this.chars.length)) {
+			consumer.accept(i);
+		}
+	}
+
+	/**
+	 * 依次处理区间 [from, to) 内每个不重叠匹配的位置
+	 *
+	 * @param text 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @param consumer 处理匹配的开始位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public void forEachMatch(char[] text, int from, int to, IntConsumer consumer) {
+		Assert.notNull(consumer, "[Assertion failed] - consumer must not be null");
+		for (int i = indexOf(text, from, to); i >= 0; i = indexOf(text, i + this.chars.length, to)) {
+			consumer.accept(i);
+		}
+	}
+
+	/**
+	 * 依次处理 UTF-8 文本区间 [from, to) 内每个不重叠匹配的字节位置
+	 *
+	 * @param text UTF-8 文本
+	 * @param from 开始位置(含)
+	 * @param to 结束位置(不含)
+	 * @param consumer 处理匹配的开始位置
+	 *
+	 * @since 2026-10-19
+	 */
+	public void forEachMatch(byte[] text, int from, int to, IntConsumer consumer) {
+		Assert.notNull(consumer, "[Assertion failed] - consumer must not be null");
+		for (int i = indexOf(text, from, to); i >= 0; i = indexOf(text, i + this.bytes.length, to)) {
+			consumer.accept(i);
+		}
+	}
+
+	private char charAt(CharSequence text, int index) {
+		final char c = text.charAt(index);
+		return this.ignoreCase ? fold(c) : c;
+	}
+
+	private char charAt(char[] text, int index) {
+		final char c = text[index];
+		return this.ignoreCase ? fold(c) : c;
+	}
+
+	private byte byteAt(byte[] text, int index) {
+		final byte b = text[index];
+		return this.ignoreCase ? fold(b) : b;
+	}
+
+	/**
+	 * 大小写折叠,ASCII 直接计算
+	 */
+	static char fold(char c) {
+		if (c < 0x80) {
+			return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+		}
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static byte fold(byte b) {
+		return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+	}
+
+	@Override
+	public String toString() {
+		return this.needle;
+	}
+}
@@ -0,0 +1,524 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StringSplitter 不创建字符串的分割器
+ * <p>按字符或字符串分隔符切分 {@link CharSequence},只计算每段的 (start, end) 位置,不使用正则、不创建数组和 String;
+ * 逐段处理时配合 {@link NumberText} 的区间解析方法,一整行日志可以在不创建任何 String 的情况下解析完</p>
+ * <ul>
+ *     <li>{@link #split(CharSequence, TokenHandler)} 逐段回调位置</li>
+ *     <li>{@link #tokenizer(CharSequence)} 游标式读取,当前段以可复用的 {@link CharSequence} 视图返回,可 {@code reset} 后处理下一行</li>
+ *     <li>相邻的分隔符之间、开头和结尾都会得到空段,与 {@link String#split(String, int)} 的 limit 为负数时相同</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code StringSplitter.on(',').trimResults().splitToList(" a, b ,,c")     // [a, b, , c]}</li>
+ *     <li>{@code StringSplitter.on("=").limit(2).splitToList("k=v=w")     // [k, v=w]}</li>
+ * </ul>
+ * <p>StringSplitter 不可变,线程安全;{@link Tokenizer} 不是线程安全的</p>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class StringSplitter {
+
+	private final char delimiterChar;
+
+	/**
+	 * 字符串分隔符,单字符分隔符时为 null
+	 */
+	private final String delimiter;
+
+	private final boolean trimResults;
+
+	private final boolean omitEmptyStrings;
+
+	private final int limit;
+
+	private StringSplitter(char delimiterChar, String delimiter, boolean trimResults, boolean omitEmptyStrings, int limit) {
+		this.delimiterChar = delimiterChar;
+		this.delimiter = delimiter;
+		this.trimResults = trimResults;
+		this.omitEmptyStrings = omitEmptyStrings;
+		this.limit = limit;
+	}
+
+	/**
+	 * 按字符分割
+	 *
+	 * @param delimiter 分隔符
+	 * @return StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSplitter on(char delimiter) {
+		return new StringSplitter(delimiter, null, false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 按字符串分割
+	 *
+	 * @param delimiter 分隔符,不能为空
+	 * @return StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSplitter on(String delimiter) {
+		Assert.notNull(delimiter, "[Assertion failed] - delimiter must not be null");
+		Assert.isFalse(delimiter.isEmpty(), "[Assertion failed] - delimiter must not be empty");
+		if (delimiter.length() == 1) {
+			return on(delimiter.charAt(0));
+		}
+		return new StringSplitter((char) 0, delimiter, false, false, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 去掉每段首尾的空白(不大于 ' ' 的字符,与 {@link String#trim()} 相同)
+	 *
+	 * @return 新的 StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringSplitter trimResults() {
+		return new StringSplitter(this.delimiterChar, this.delimiter, true, this.omitEmptyStrings, this.limit);
+	}
+
+	/**
+	 * 跳过空段,与 {@link #trimResults()} 同时使用时跳过去掉空白后为空的段
+	 *
+	 * @return 新的 StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringSplitter omitEmptyStrings() {
+		return new StringSplitter(this.delimiterChar, this.delimiter, this.trimResults, true, this.limit);
+	}
+
+	/**
+	 * 最多分成 limit 段,最后一段包含剩余的全部内容;同时跳过空段时,最后一段从剩余部分第一个非空段开始
+	 * (trimResults 时只含空白的段也算空段),与 Guava Splitter 相同
+	 *
+	 * @param limit 最多段数,大于 0
+	 * @return 新的 StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public StringSplitter limit(int limit) {
+		Assert.isTrue(limit > 0, "[Assertion failed] - limit must be greater than 0");
+		return new StringSplitter(this.delimiterChar, this.delimiter, this.trimResults, this.omitEmptyStrings, limit);
+	}
+
+	/**
+	 * 逐段回调位置
+	 *
+	 * @param text 文本
+	 * @param handler 处理器,返回 false 时停止
+	 *
+	 * @since 2026-10-19
+	 */
+	public void split(CharSequence text, TokenHandler handler) {
+		Assert.notNull(text, "[Assertion failed] - text must not be null");
+		Assert.notNull(handler, "[Assertion failed] - handler must not be null");
+		final Tokenizer tokenizer = tokenizer(text);
+		while (tokenizer.next()) {
+			if (!handler.onToken(tokenizer.index, tokenizer.tokenStart, tokenizer.tokenEnd)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 将各段位置写入 bounds,第 i 段的开始位置为 bounds[2i],结束位置为 bounds[2i + 1]
+	 * <p>bounds 写满后停止,可以先用较小的数组取前几段</p>
+	 *
+	 * @param text 文本
+	 * @param bounds 位置数组,可以复用
+	 * @return 写入的段数
+	 *
+	 * @since 2026-10-19
+	 */
+	public int split(CharSequence text, int[] bounds) {
+		Assert.notNull(text, "[Assertion failed] - text must not be null");
+		Assert.notNull(bounds, "[Assertion failed] - bounds must not be null");
+		final Tokenizer tokenizer = tokenizer(text);
+		int count = 0;
+		while (2 * count + 1 < bounds.length && tokenizer.next()) {
+			bounds[2 * count] = tokenizer.tokenStart;
+			bounds[2 * count + 1] = tokenizer.tokenEnd;
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 分割为字符串列表
+	 *
+	 * @param text 文本
+	 * @return 各段字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public List<String> splitToList(CharSequence text) {
+		Assert.notNull(text, "[Assertion failed] - text must not be null");
+		final List<String> tokens = new ArrayList<>();
+		final Tokenizer tokenizer = tokenizer(text);
+		while (tokenizer.next()) {
+			tokens.add(tokenizer.tokenToString());
+		}
+		return tokens;
+	}
+
+	/**
+	 * 游标式读取
+	 *
+	 * @param text 文本
+	 * @return Tokenizer
+	 *
+	 * @since 2026-10-19
+	 */
+	public Tokenizer tokenizer(CharSequence text) {
+		Assert.notNull(text, "[Assertion failed] - text must not be null");
+		return new Tokenizer(this).reset(text, 0, text.length());
+	}
+
+	/**
+	 * 游标式读取文本区间 [start, end)
+	 *
+	 * @param text 文本
+	 * @param start 开始位置(含)
+	 * @param end 结束位置(不含)
+	 * @return Tokenizer
+	 *
+	 * @since 2026-10-19
+	 */
+	public Tokenizer tokenizer(CharSequence text, int start, int end) {
+		return new Tokenizer(this).reset(text, start, end);
+	}
+
+	/**
+	 * 分隔符在 [from, end) 中第一次出现的位置,没有时返回 -1
+	 */
+	private int indexOfDelimiter(CharSequence text, int from, int end) {
+		// 区间到文本末尾时才用 String.indexOf,否则它会扫描到区间之外
+		final boolean toEnd = end == text.length() && text instanceof String;
+		if (this.delimiter == null) {
+			if (toEnd) {
+				return ((String) text).indexOf(this.delimiterChar, from);
+			}
+			for (int i = from; i < end; i++) {
+				if (text.charAt(i) == this.delimiterChar) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		final int length = this.delimiter.length();
+		if (toEnd) {
+			return ((String) text).indexOf(this.delimiter, from);
+		}
+		final char first = this.delimiter.charAt(0);
+		outer:
+		for (int i = from; i + length <= end; i++) {
+			if (text.charAt(i) != first) {
+				continue;
+			}
+			for (int j = 1; j < length; j++) {
+				if (text.charAt(i + j) != this.delimiter.charAt(j)) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * 位置处理器
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	@FunctionalInterface
+	public interface TokenHandler {
+
+		/**
+		 * 处理一段
+		 *
+		 * @param index 段序号,从 0 开始,不计跳过的空段
+		 * @param start 开始位置(含)
+		 * @param end 结束位置(不含)
+		 * @return 是否继续
+		 *
+		 * @since 2026-10-19
+		 */
+		boolean onToken(int index, int start, int end);
+	}
+
+	/**
+	 * 游标式分割
+	 * <p>{@link #token()} 返回的视图在下一次 {@link #next()} 或 {@code reset} 后指向新的内容;
+	 * 需要保留时使用 {@link #tokenToString()}</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code while (fields.next()) { pair.reset(line, fields.start(), fields.end()); ... pair.parseLong(-1) ... }}</li>
+	 * </ul>
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Tokenizer {
+
+		private final StringSplitter splitter;
+
+		private final Slice slice = new Slice();
+
+		private CharSequence text;
+
+		private int position;
+
+		private int end;
+
+		private boolean finished;
+
+		private int index;
+
+		private int tokenStart;
+
+		private int tokenEnd;
+
+		Tokenizer(StringSplitter splitter) {
+			this.splitter = splitter;
+		}
+
+		/**
+		 * 重新从 text 开始读取,可以复用同一个 Tokenizer 处理多行
+		 *
+		 * @param text 文本
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Tokenizer reset(CharSequence text) {
+			Assert.notNull(text, "[Assertion failed] - text must not be null");
+			return reset(text, 0, text.length());
+		}
+
+		/**
+		 * 重新从文本区间 [start, end) 开始读取
+		 *
+		 * @param text 文本
+		 * @param start 开始位置(含)
+		 * @param end 结束位置(不含)
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Tokenizer reset(CharSequence text, int start, int end) {
+			Assert.notNull(text, "[Assertion failed] - text must not be null");
+			Assert.isTrue(start >= 0 && start <= end && end <= text.length(), "[Assertion failed] - range out of bounds");
+			this.text = text;
+			this.position = start;
+			this.end = end;
+			this.finished = false;
+			this.index = -1;
+			this.tokenStart = start;
+			this.tokenEnd = start;
+			return this;
+		}
+
+		/**
+		 * 移到下一段
+		 *
+		 * @return 有下一段时返回 true
+		 *
+		 * @since 2026-10-19
+		 */
+		public boolean next() {
+			final StringSplitter splitter = this.splitter;
+			while (!this.finished) {
+				int start = this.position;
+				int end;
+				final boolean last = this.index + 1 >= splitter.limit - 1;
+				// 最后一段不再切分;omitEmptyStrings 时仍先按分隔符找段,跳过(trim 后)为空的段,再从第一个非空段延伸到结尾
+				final int delimiterIndex = last && !splitter.omitEmptyStrings ? -1 : splitter.indexOfDelimiter(this.text, start, this.end);
+				if (delimiterIndex < 0) {
+					end = this.end;
+					this.finished = true;
+				} else {
+					end = delimiterIndex;
+					this.position = delimiterIndex + (splitter.delimiter == null ? 1 : splitter.delimiter.length());
+				}
+				if (splitter.trimResults) {
+					while (start < end && this.text.charAt(start) <= ' ') {
+						start++;
+					}
+					while (end > start && this.text.charAt(end - 1) <= ' ') {
+						end--;
+					}
+				}
+				if (splitter.omitEmptyStrings && start == end) {
+					continue;
+				}
+				if (last && !this.finished) {
+					end = this.end;
+					this.finished = true;
+					if (splitter.trimResults) {
+						while (end > start && this.text.charAt(end - 1) <= ' ') {
+							end--;
+						}
+					}
+				}
+				this.index++;
+				this.tokenStart = start;
+				this.tokenEnd = end;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * 当前段的序号,从 0 开始
+		 *
+		 * @return 序号
+		 *
+		 * @since 2026-10-19
+		 */
+		public int index() {
+			return this.index;
+		}
+
+		/**
+		 * 当前段在文本中的开始位置(含)
+		 *
+		 * @return 开始位置
+		 *
+		 * @since 2026-10-19
+		 */
+		public int start() {
+			return this.tokenStart;
+		}
+
+		/**
+		 * 当前段在文本中的结束位置(不含)
+		 *
+		 * @return 结束位置
+		 *
+		 * @since 2026-10-19
+		 */
+		public int end() {
+			return this.tokenEnd;
+		}
+
+		/**
+		 * 当前段的视图,不复制字符,每次返回同一个对象
+		 *
+		 * @return 当前段
+		 *
+		 * @since 2026-10-19
+		 */
+		public CharSequence token() {
+			return this.slice;
+		}
+
+		/**
+		 * 当前段转为字符串
+		 *
+		 * @return 当前段
+		 *
+		 * @since 2026-10-19
+		 */
+		public String tokenToString() {
+			return this.text.subSequence(this.tokenStart, this.tokenEnd).toString();
+		}
+
+		/**
+		 * 当前段是否与 expected 相同
+		 *
+		 * @param expected 期望的内容
+		 * @return 相同时返回 true
+		 *
+		 * @since 2026-10-19
+		 */
+		public boolean tokenEquals(CharSequence expected) {
+			final int length = this.tokenEnd - this.tokenStart;
+			if (expected == null || expected.length() != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (this.text.charAt(this.tokenStart + i) != expected.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * 将当前段解析为 long
+		 *
+		 * @param defaultValue 无法解析时的返回值
+		 * @return 解析结果
+		 *
+		 * @since 2026-10-19
+		 */
+		public long parseLong(long defaultValue) {
+			return NumberText.parseLong(this.text, this.tokenStart, this.tokenEnd, defaultValue);
+		}
+
+		/**
+		 * 将当前段解析为 int
+		 *
+		 * @param defaultValue 无法解析时的返回值
+		 * @return 解析结果
+		 *
+		 * @since 2026-10-19
+		 */
+		public int parseInt(int defaultValue) {
+			return NumberText.parseInt(this.text, this.tokenStart, this.tokenEnd, defaultValue);
+		}
+
+		/**
+		 * 将当前段解析为 double
+		 *
+		 * @param defaultValue 无法解析时的返回值
+		 * @return 解析结果
+		 *
+		 * @since 2026-10-19
+		 */
+		public double parseDouble(double defaultValue) {
+			return NumberText.parseDouble(this.text, this.tokenStart, this.tokenEnd, defaultValue);
+		}
+
+		private final class Slice implements CharSequence {
+
+			@Override
+			public int length() {
+				return Tokenizer.this.tokenEnd - Tokenizer.this.tokenStart;
+			}
+
+			@Override
+			public char charAt(int index) {
+				if (index < 0 || index >= length()) {
+					throw new StringIndexOutOfBoundsException(index);
+				}
+				return Tokenizer.this.text.charAt(Tokenizer.this.tokenStart + index);
+			}
+
+			@Override
+			public CharSequence subSequence(int start, int end) {
+				if (start < 0 || start > end || end > length()) {
+					throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+				}
+				return Tokenizer.this.text.subSequence(Tokenizer.this.tokenStart + start, Tokenizer.this.tokenStart + end);
+			}
+
+			@Override
+			public String toString() {
+				return tokenToString();
+			}
+		}
+	}
+}
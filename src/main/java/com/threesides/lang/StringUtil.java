@@ -6,8 +6,9 @@ package com.threesides.lang;
 
 
 
-import com.threesides.constant.text.CharTextConstant;
+import com.threesides.concurrent.ObjectPool;
 import com.threesides.constant.text.StringTextConstant;
+import com.threesides.exception.Assert;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -25,6 +26,17 @@ public class StringUtil {
 
 	public static final int STRING_BUILDER_SIZE = 256;
 
+	/**
+	 * 超过该容量的 StringBuilder 归还时直接丢弃,避免每个线程长期占用大块内存
+	 */
+	private static final int MAX_POOLED_BUILDER_CAPACITY = 1 << 12;
+
+	/**
+	 * 每个线程只缓存一个 StringBuilder,不使用共享溢出栈
+	 */
+	private static final ObjectPool<StringBuilder> STRING_BUILDER_POOL = new ObjectPool<>(
+			() -> new StringBuilder(STRING_BUILDER_SIZE), sb -> sb.setLength(0), 1, 0);
+
 	//-----------------------------------------------------------------------
 
 	/**
@@ -161,12 +173,7 @@ public class StringUtil {
 		if (isEmpty(cs)) {
 			return false;
 		}
-		try {
-			Long.parseLong(cs.toString());
-			return true;
-		} catch (NumberFormatException e) {
-			return false;
-		}
+		return NumberText.isLong(cs, 0, cs.length());
 	}
 
 
@@ -182,12 +189,7 @@ public class StringUtil {
 		if (isEmpty(cs)) {
 			return false;
 		}
-		try {
-			Double.parseDouble(cs.toString());
-			return true;
-		} catch (NumberFormatException e) {
-			return false;
-		}
+		return NumberText.isDouble(cs, 0, cs.length());
 	}
 
 	/**
@@ -277,13 +279,19 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
+		final String sep = String.valueOf(separator);
+		// 先算出总长度,数字直接写入结果数组
+		long length = (long) sep.length() * (noOfItems - 1);
+		for (int i = startIndex; i < endIndex; i++) {
+			length += NumberText.length(array[i]);
+		}
+		final char[] chars = new char[Math.toIntExact(length)];
+		int pos = NumberText.toChars(array[startIndex], chars, 0);
 		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+			sep.getChars(0, sep.length(), chars, pos);
+			pos = NumberText.toChars(array[i], chars, pos + sep.length());
 		}
-		return buf.toString();
+		return new String(chars);
 	}
 
 	public static String join(final int[] array, final String separator, final int startIndex, final int endIndex) {
@@ -294,13 +302,19 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
+		final String sep = String.valueOf(separator);
+		// 先算出总长度,数字直接写入结果数组
+		long length = (long) sep.length() * (noOfItems - 1);
+		for (int i = startIndex; i < endIndex; i++) {
+			length += NumberText.length(array[i]);
+		}
+		final char[] chars = new char[Math.toIntExact(length)];
+		int pos = NumberText.toChars(array[startIndex], chars, 0);
 		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+			sep.getChars(0, sep.length(), chars, pos);
+			pos = NumberText.toChars(array[i], chars, pos + sep.length());
 		}
-		return buf.toString();
+		return new String(chars);
 	}
 
 	public static String join(final short[] array, final String separator, final int startIndex, final int endIndex) {
@@ -311,13 +325,19 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
+		final String sep = String.valueOf(separator);
+		// 先算出总长度,数字直接写入结果数组
+		long length = (long) sep.length() * (noOfItems - 1);
+		for (int i = startIndex; i < endIndex; i++) {
+			length += NumberText.length(array[i]);
+		}
+		final char[] chars = new char[Math.toIntExact(length)];
+		int pos = NumberText.toChars(array[startIndex], chars, 0);
 		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+			sep.getChars(0, sep.length(), chars, pos);
+			pos = NumberText.toChars(array[i], chars, pos + sep.length());
 		}
-		return buf.toString();
+		return new String(chars);
 	}
 	public static String join(final char[] array, final String separator, final int startIndex, final int endIndex) {
 		if (array == null) {
@@ -327,13 +347,17 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
-		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+		final StringBuilder buf = acquireStringBuilder(noOfItems * 16);
+		try {
+			buf.append(array[startIndex]);
+			for (int i = startIndex + 1; i < endIndex; i++) {
+				buf.append(separator);
+				buf.append(array[i]);
+			}
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
 		}
-		return buf.toString();
 	}
 
 	public static String join(final byte[] array, final String separator, final int startIndex, final int endIndex) {
@@ -344,13 +368,19 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
+		final String sep = String.valueOf(separator);
+		// 先算出总长度,数字直接写入结果数组
+		long length = (long) sep.length() * (noOfItems - 1);
+		for (int i = startIndex; i < endIndex; i++) {
+			length += NumberText.length(array[i]);
+		}
+		final char[] chars = new char[Math.toIntExact(length)];
+		int pos = NumberText.toChars(array[startIndex], chars, 0);
 		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+			sep.getChars(0, sep.length(), chars, pos);
+			pos = NumberText.toChars(array[i], chars, pos + sep.length());
 		}
-		return buf.toString();
+		return new String(chars);
 	}
 
 
@@ -364,13 +394,17 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
-		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+		final StringBuilder buf = acquireStringBuilder(noOfItems * 16);
+		try {
+			buf.append(array[startIndex]);
+			for (int i = startIndex + 1; i < endIndex; i++) {
+				buf.append(separator);
+				buf.append(array[i]);
+			}
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
 		}
-		return buf.toString();
 	}
 
 	public static String join(final float[] array, final String separator, final int startIndex, final int endIndex) {
@@ -381,13 +415,17 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
-		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+		final StringBuilder buf = acquireStringBuilder(noOfItems * 16);
+		try {
+			NumberText.append(buf, array[startIndex]);
+			for (int i = startIndex + 1; i < endIndex; i++) {
+				buf.append(separator);
+				NumberText.append(buf, array[i]);
+			}
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
 		}
-		return buf.toString();
 	}
 
 	public static String join(final double[] array, final String separator, final int startIndex, final int endIndex) {
@@ -398,13 +436,17 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		buf.append(array[startIndex]);
-		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			buf.append(array[i]);
+		final StringBuilder buf = acquireStringBuilder(noOfItems * 16);
+		try {
+			NumberText.append(buf, array[startIndex]);
+			for (int i = startIndex + 1; i < endIndex; i++) {
+				buf.append(separator);
+				NumberText.append(buf, array[i]);
+			}
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
 		}
-		return buf.toString();
 	}
 
 	public static String join(final Object[] array, final String separator, final int startIndex, final int endIndex) {
@@ -415,17 +457,21 @@ public class StringUtil {
 		if (noOfItems <= 0) {
 			return StringTextConstant.EMPTY;
 		}
-		final StringBuilder buf = newStringBuilder(noOfItems);
-		if (array[startIndex] != null) {
-			buf.append(array[startIndex]);
-		}
-		for (int i = startIndex + 1; i < endIndex; i++) {
-			buf.append(separator);
-			if (array[i] != null) {
-				buf.append(array[i]);
+		final StringBuilder buf = acquireStringBuilder(noOfItems * 16);
+		try {
+			if (array[startIndex] != null) {
+				buf.append(array[startIndex]);
 			}
+			for (int i = startIndex + 1; i < endIndex; i++) {
+				buf.append(separator);
+				if (array[i] != null) {
+					buf.append(array[i]);
+				}
+			}
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
 		}
-		return buf.toString();
 	}
 
 
@@ -454,20 +500,24 @@ public class StringUtil {
 		}
 
 
-		final StringBuilder buf = new StringBuilder(STRING_BUILDER_SIZE);
-		if (first != null) {
-			buf.append(first);
-		}
+		final StringBuilder buf = acquireStringBuilder(STRING_BUILDER_SIZE);
+		try {
+			if (first != null) {
+				buf.append(first);
+			}
 
-		while (iterator.hasNext()) {
-			buf.append(separator);
-			final Object obj = iterator.next();
-			if (obj != null) {
-				buf.append(obj);
+			while (iterator.hasNext()) {
+				buf.append(separator);
+				final Object obj = iterator.next();
+				if (obj != null) {
+					buf.append(obj);
+				}
 			}
-		}
 
-		return buf.toString();
+			return buf.toString();
+		} finally {
+			releaseStringBuilder(buf);
+		}
 	}
 
 
@@ -475,8 +525,33 @@ public class StringUtil {
 		return cs == null ? 0 : cs.length();
 	}
 
-	private static StringBuilder newStringBuilder(final int noOfItems) {
-		return new StringBuilder(noOfItems * 16);
+	/**
+	 * 从池中借出 StringBuilder,用完需调用 {@link #releaseStringBuilder(StringBuilder)} 归还
+	 *
+	 * @param capacity 预估容量
+	 * @return 空的 StringBuilder
+	 *
+	 * @since 2026-10-19
+	 */
+	static StringBuilder acquireStringBuilder(final int capacity) {
+		final StringBuilder sb = STRING_BUILDER_POOL.acquire();
+		sb.ensureCapacity(Math.min(capacity, MAX_POOLED_BUILDER_CAPACITY));
+		return sb;
+	}
+
+	/**
+	 * 归还 StringBuilder
+	 *
+	 * @param sb StringBuilder
+	 *
+	 * @since 2026-10-19
+	 */
+	static void releaseStringBuilder(final StringBuilder sb) {
+		if (sb.capacity() > MAX_POOLED_BUILDER_CAPACITY) {
+			STRING_BUILDER_POOL.discard(sb);
+		} else {
+			STRING_BUILDER_POOL.release(sb);
+		}
 	}
 
 	public static boolean startWithIgnoreEquals(CharSequence str, CharSequence prefix) {
@@ -501,15 +576,89 @@ public class StringUtil {
 			return null == str && null == prefix;
 		}
 
-		boolean isStartWith = str.toString()
-				.regionMatches(ignoreCase, 0, prefix.toString(), 0, prefix.length());
-
-		if (isStartWith) {
-			return (!ignoreEquals) || (!equals(str, prefix, ignoreCase));
+		if (CharSequences.regionMatches(str, ignoreCase, 0, prefix, 0, prefix.length())) {
+			return !ignoreEquals || str.length() != prefix.length();
 		}
 		return false;
 	}
 
+	/**
+	 * 是否以 suffix 结尾,两个都为 null 时返回 true
+	 *
+	 * @param str 字符串
+	 * @param suffix 后缀
+	 * @param ignoreCase 是否忽略大小写
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean endWith(CharSequence str, CharSequence suffix, boolean ignoreCase) {
+		if (null == str || null == suffix) {
+			return null == str && null == suffix;
+		}
+		return CharSequences.regionMatches(str, ignoreCase, str.length() - suffix.length(), suffix, 0, suffix.length());
+	}
+
+	/**
+	 * 是否以 suffix 结尾,忽略大小写
+	 *
+	 * @param str 字符串
+	 * @param suffix 后缀
+	 * @return true 是 false 不是
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean endWithIgnoreCase(CharSequence str, CharSequence suffix) {
+		return endWith(str, suffix, true);
+	}
+
+	/**
+	 * 区间是否相同,规则同 {@link String#regionMatches(boolean, int, String, int, int)},直接比较不调用 toString()
+	 *
+	 * @param cs 字符串
+	 * @param ignoreCase 是否忽略大小写
+	 * @param thisStart cs 中的开始位置
+	 * @param substring 另一个字符串
+	 * @param start substring 中的开始位置
+	 * @param length 比较的长度
+	 * @return true 相同 false 不同,区间越界时为 false
+	 *
+	 * @since 2026-10-19
+	 */
+	public static boolean regionMatches(CharSequence cs, boolean ignoreCase, int thisStart, CharSequence substring, int start, int length) {
+		if (null == cs || null == substring) {
+			return false;
+		}
+		return CharSequences.regionMatches(cs, ignoreCase, thisStart, substring, start, length);
+	}
+
+	/**
+	 * 比较大小,规则同 {@link String#compareTo(String)},忽略大小写时同 {@link String#CASE_INSENSITIVE_ORDER};null 小于任何非 null 值
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.compare(new StringBuilder("abc"), "abd", false)     // -1}</li>
+	 * </ul>
+	 *
+	 * @param str1 字符串1
+	 * @param str2 字符串2
+	 * @param ignoreCase 是否忽略大小写
+	 * @return 小于 0 表示 str1 较小,0 表示相同,大于 0 表示 str1 较大
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int compare(CharSequence str1, CharSequence str2, boolean ignoreCase) {
+		if (str1 == str2) {
+			return 0;
+		}
+		if (null == str1) {
+			return -1;
+		}
+		if (null == str2) {
+			return 1;
+		}
+		return CharSequences.compare(str1, str2, ignoreCase);
+	}
+
 	public static boolean equals(String obj1, String obj2) {
 		return equals(obj1, obj2, false);
 	}
@@ -523,11 +672,7 @@ public class StringUtil {
 			return false;
 		}
 
-		if (ignoreCase) {
-			return str1.toString().equalsIgnoreCase(str2.toString());
-		} else {
-			return str1.toString().contentEquals(str2);
-		}
+		return CharSequences.contentEquals(str1, str2, ignoreCase);
 	}
 
 	/**
@@ -547,49 +692,317 @@ public class StringUtil {
 		if (StringUtil.isBlank(strPattern) || ArrayUtil.isEmpty(argArray)) {
 			return strPattern;
 		}
-		final int strPatternLength = strPattern.length();
+		return FormatTemplate.cached(strPattern).format(argArray);
+	}
 
-		StringBuilder sbuf = new StringBuilder(strPatternLength + 50);
+	/**
+	 * 占位符替换,追加到 sb,规则同 {@link #format(String, Object...)}
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.formatTo(sb, "今天吃{},还是吃{}","面","饭")     // sb 追加 今天吃面,还是吃饭"}</li>
+	 * </ul>
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param argArray 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final Object... argArray) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, argArray);
+	}
 
-		int handledPosition = 0;// 记录已经处理到的位置
-		int delimIndex;// 占位符所在位置
-		for (int argIndex = 0; argIndex < argArray.length; argIndex++) {
-			delimIndex = strPattern.indexOf(StringTextConstant.EMPTY_JSON, handledPosition);
-			if (delimIndex == -1) {// 剩余部分无占位符
-				if (handledPosition == 0) { // 不带占位符的模板直接返回
-					return strPattern;
-				}
-				// 字符串模板剩余部分不再包含占位符，加入剩余部分后返回结果
-				sbuf.append(strPattern, handledPosition, strPatternLength);
-				return sbuf.toString();
-			}
+	/**
+	 * 占位符替换,追加到 sb,输出字符本身而不是编码值
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final char arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, arg);
+	}
 
-			// 转义符
-			if (delimIndex > 0 && strPattern.charAt(delimIndex - 1) == CharTextConstant.BACKSLASH) {// 转义符
-				if (delimIndex > 1 && strPattern.charAt(delimIndex - 2) == CharTextConstant.BACKSLASH) {// 双转义符
-					// 转义符之前还有一个转义符，占位符依旧有效
-					sbuf.append(strPattern, handledPosition, delimIndex - 1);
-					sbuf.append(objectToUFTF8String(argArray[argIndex]));
-					handledPosition = delimIndex + 2;
-				} else {
-					// 占位符被转义
-					argIndex--;
-					sbuf.append(strPattern, handledPosition, delimIndex - 1);
-					sbuf.append(StringTextConstant.DELIM_START);
-					handledPosition = delimIndex + 1;
-				}
-			} else {// 正常占位符
-				sbuf.append(strPattern, handledPosition, delimIndex);
-				sbuf.append(objectToUFTF8String(argArray[argIndex]));
-				handledPosition = delimIndex + 2;
-			}
+	/**
+	 * 占位符替换,追加到 sb,int 参数不装箱
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final int arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, arg);
+	}
+
+	/**
+	 * 占位符替换,追加到 sb,long 参数不装箱
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final long arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, arg);
+	}
+
+	/**
+	 * 占位符替换,追加到 sb,float 参数不装箱,按 float 精度输出
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final float arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, arg);
+	}
+
+	/**
+	 * 占位符替换,追加到 sb,double 参数不装箱
+	 *
+	 * @param sb StringBuilder
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return sb
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringBuilder formatTo(final StringBuilder sb, final String strPattern, final double arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(sb, arg);
+	}
+
+	/**
+	 * 占位符替换,写入 Appendable,写入失败时抛出 SystemException
+	 *
+	 * @param out 输出
+	 * @param strPattern 模板
+	 * @param argArray 占位符内容替换
+	 * @param <A> 输出类型
+	 * @return out
+	 *
+	 * @since 2026-10-19
+	 */
+	public static <A extends Appendable> A formatTo(final A out, final String strPattern, final Object... argArray) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(out, argArray);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer
+	 * <p>空间不足时抛出 {@link java.nio.BufferOverflowException},buffer 的 position 不变</p>
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param argArray 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final Object... argArray) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, argArray);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer,输出字符本身而不是编码值
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final char arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, arg);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer,int 参数不装箱
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final int arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, arg);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer,long 参数不装箱
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final long arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, arg);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer,float 参数不装箱,按 float 精度输出
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final float arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, arg);
+	}
+
+	/**
+	 * 占位符替换,以 UTF-8 写入 buffer,double 参数不装箱
+	 *
+	 * @param buffer ByteBuffer
+	 * @param strPattern 模板
+	 * @param arg 占位符内容替换
+	 * @return buffer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static ByteBuffer formatTo(final ByteBuffer buffer, final String strPattern, final double arg) {
+		Assert.notNull(strPattern, "[Assertion failed] - strPattern must not be null");
+		return FormatTemplate.cached(strPattern).formatTo(buffer, arg);
+	}
+
+	/**
+	 * 预解析占位符模板
+	 * <p>固定模板反复格式化时使用,结果与 {@link #format(String, Object...)} 一致;
+	 * {@link #format(String, Object...)} 内部也会缓存最近使用的模板</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.compile("今天吃{},还是吃{}").format("面","饭")     // 今天吃面,还是吃饭"}</li>
+	 * </ul>
+	 *
+	 * @param strPattern 模板
+	 * @return 解析后的模板
+	 *
+	 * @since 2026-10-19
+	 */
+	public static FormatTemplate compile(final String strPattern) {
+		return FormatTemplate.compile(strPattern);
+	}
+
+	/**
+	 * 命名占位符替换
+	 * <p>{@code ${name}} 从 Map 或 Bean 中取值,支持 {@code ${user.name}} 逐级取值、{@code ${name:默认值}} 默认值
+	 * 及 {@code \${name}} 转义,详见 {@link NamedTemplate};内部缓存最近使用的模板</p>
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.formatNamed("Hi ${name}, 订单 ${orderId}", map)     // Hi WuDI, 订单 1001}</li>
+	 * </ul>
+	 *
+	 * @param template 模板
+	 * @param binding 绑定对象,Map 或 Bean
+	 * @return 替换后Str
+	 *
+	 * @since 2026-10-19
+	 */
+	public static String formatNamed(final String template, final Object binding) {
+		if (StringUtil.isBlank(template)) {
+			return template;
 		}
+		return NamedTemplate.cached(template).format(binding);
+	}
+
+	/**
+	 * 预解析命名占位符模板
+	 *
+	 * @param template 模板
+	 * @return 解析后的模板
+	 *
+	 * @since 2026-10-19
+	 */
+	public static NamedTemplate compileNamed(final String template) {
+		return NamedTemplate.compile(template);
+	}
+
+	/**
+	 * 预编译子串查找,同一子串在大量文本中反复查找时使用
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.searcher("ERROR").indexOf(log)}</li>
+	 * </ul>
+	 *
+	 * @param needle 子串,不能为空
+	 * @return StringSearcher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSearcher searcher(final String needle) {
+		return StringSearcher.compile(needle, false);
+	}
 
-		// append the characters following the last {} pair.
-		// 加入最后一个占位符后所有的字符
-		sbuf.append(strPattern, handledPosition, strPattern.length());
+	/**
+	 * 预编译子串查找
+	 *
+	 * @param needle 子串,不能为空
+	 * @param ignoreCase 是否忽略大小写
+	 * @return StringSearcher
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSearcher searcher(final String needle, final boolean ignoreCase) {
+		return StringSearcher.compile(needle, ignoreCase);
+	}
+
+	/**
+	 * 按字符分割的分割器,不创建字符串
+	 * <p>例：</p>
+	 * <ul>
+	 *     <li>{@code StringUtil.splitter(' ').omitEmptyStrings().tokenizer(line)}</li>
+	 * </ul>
+	 *
+	 * @param delimiter 分隔符
+	 * @return StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSplitter splitter(final char delimiter) {
+		return StringSplitter.on(delimiter);
+	}
 
-		return sbuf.toString();
+	/**
+	 * 按字符串分割的分割器,不创建字符串
+	 *
+	 * @param delimiter 分隔符,不能为空
+	 * @return StringSplitter
+	 *
+	 * @since 2026-10-19
+	 */
+	public static StringSplitter splitter(final String delimiter) {
+		return StringSplitter.on(delimiter);
 	}
 
 	public static String objectToUFTF8String(Object obj) {
@@ -610,11 +1023,26 @@ public class StringUtil {
 		return obj.toString();
 	}
 
+	/**
+	 * ByteBuffer 中剩余的字节解码为字符串,解码后 position 移到 limit
+	 * <p>UTF-8 由 {@link Utf8Codec} 直接解码,不创建 CharBuffer 和解码器;其他字符集堆内 buffer 直接由底层数组构造字符串</p>
+	 *
+	 * @param data 堆内或直接 buffer
+	 * @param charset 字符集,为空时按 UTF-8 解码
+	 * @return 字符串
+	 *
+	 * @since 2026-10-19
+	 */
 	public static String objectToString(ByteBuffer data, Charset charset) {
-		if (null == charset) {
-			charset = Charset.defaultCharset();
+		if (null == charset || StandardCharsets.UTF_8.equals(charset)) {
+			return Utf8Codec.decode(data);
+		}
+		if (!data.hasArray()) {
+			return new String(ArrayUtil.toArray(data), charset);
 		}
-		return charset.decode(data).toString();
+		final String text = new String(data.array(), data.arrayOffset() + data.position(), data.remaining(), charset);
+		data.position(data.limit());
+		return text;
 	}
 
 
@@ -0,0 +1,932 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Utf8Codec UTF-8 编解码,结果与 {@link java.nio.charset.StandardCharsets#UTF_8} 相同
+ * <ul>
+ *     <li>开头的 ASCII 每次检查 8 个字节(编码时 8 个字符)后整段复制;之后的内容在剩余长度足够时不检查边界,
+ *     ASCII 段逐个复制,比在混合文本的每个短 ASCII 段上重新按 8 个检查更快</li>
+ *     <li>全是 ASCII 的堆内数组直接由字节构造字符串;其余情况解码到线程本地的缓冲区,只分配结果字符串</li>
+ *     <li>非法的字节序列替换为 U+FFFD,孤立的代理字符编码为 '?',与 {@link String#String(byte[], java.nio.charset.Charset)}、
+ *     {@link String#getBytes(java.nio.charset.Charset)} 一致</li>
+ *     <li>{@link Decoder}、{@link #wrap(InputStream)}、{@link #wrap(OutputStream)} 可处理跨块拆开的多字节序列和代理对</li>
+ * </ul>
+ * <p>例：</p>
+ * <ul>
+ *     <li>{@code Utf8Codec.decode(ByteBuffer.wrap(new byte[]{(byte) 0xE8, (byte) 0xAE, (byte) 0xA2}))     // "订"}</li>
+ *     <li>{@code Utf8Codec.encode("订单", bytes, 0)     // 6}</li>
+ * </ul>
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public final class Utf8Codec {
+
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/**
+	 * 直接缓冲区、流每次处理的字节数
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	/**
+	 * 不超过此长度时解码到线程本地的缓冲区
+	 */
+	private static final int SCRATCH_LENGTH = 8192;
+
+	private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_LENGTH]);
+
+	private Utf8Codec() {
+	}
+
+	/**
+	 * 编码后的字节数
+	 *
+	 * @param cs 字符序列,不能为空
+	 * @return 字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int encodedLength(CharSequence cs) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		final int length = cs.length();
+		final char[] chars = SCRATCH.get();
+		// 每个字符先按 1 个字节计,代理对的低代理本身也按 1 个字节计
+		long bytes = length;
+		for (int done = 0; done < length; done += chars.length) {
+			final int n = Math.min(chars.length, length - done);
+			CharSequences.getChars(cs, done, done + n, chars);
+			for (int i = 0; i < n; i++) {
+				final char c = chars[i];
+				if (c >= 0x80) {
+					if (c < 0x800) {
+						bytes++;
+					} else if (!Character.isSurrogate(c)) {
+						bytes += 2;
+					} else if (Character.isHighSurrogate(c) && done + i + 1 < length
+							&& Character.isLowSurrogate(i + 1 < n ? chars[i + 1] : cs.charAt(done + i + 1))) {
+						bytes += 2;
+						i++;
+					}
+				}
+			}
+		}
+		Assert.isTrue(bytes <= Integer.MAX_VALUE, "[Assertion failed] - cs is too long");
+		return (int) bytes;
+	}
+
+	/**
+	 * 编码为字节数组,同 {@code cs.toString().getBytes(StandardCharsets.UTF_8)}
+	 *
+	 * @param cs 字符序列,不能为空
+	 * @return 字节数组
+	 *
+	 * @since 2026-10-19
+	 */
+	public static byte[] encode(CharSequence cs) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		final byte[] chunk = CHUNK.get();
+		final long encoded = encode(cs, 0, cs.length(), chunk, 0, chunk.length, true);
+		if (consumed(encoded) == cs.length()) {
+			// 放得进线程本地的缓冲区时只编码一遍
+			return Arrays.copyOf(chunk, written(encoded));
+		}
+		final byte[] bytes = new byte[encodedLength(cs)];
+		encode(cs, 0, cs.length(), bytes, 0, bytes.length, true);
+		return bytes;
+	}
+
+	/**
+	 * 编码到调用方的数组
+	 *
+	 * @param cs 字符序列,不能为空
+	 * @param dst 目标数组,空间不能少于编码后的字节数
+	 * @param dstOff 目标起始位置
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int encode(CharSequence cs, byte[] dst, int dstOff) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		Assert.isTrue(dstOff >= 0 && dstOff <= dst.length, "[Assertion failed] - dstOff is out of range");
+		final int length = cs.length();
+		if ((long) length * 3 > dst.length - dstOff) {
+			Assert.isTrue(encodedLength(cs) <= dst.length - dstOff, "[Assertion failed] - dst is too small");
+		}
+		return written(encode(cs, 0, length, dst, dstOff, dst.length, true)) - dstOff;
+	}
+
+	/**
+	 * 编码到 buffer,从 position 开始写入
+	 * <p>空间不足时抛出 {@link BufferOverflowException},buffer 的 position 不变</p>
+	 *
+	 * @param cs 字符序列,不能为空
+	 * @param dst 目标 buffer,不能为空
+	 * @return 写入的字节数
+	 *
+	 * @since 2026-10-19
+	 */
+	public static int encode(CharSequence cs, ByteBuffer dst) {
+		Assert.notNull(cs, "[Assertion failed] - cs must not be null");
+		Assert.notNull(dst, "[Assertion failed] - dst must not be null");
+		final int length = cs.length();
+		final int position = dst.position();
+		if (dst.hasArray()) {
+			final int base = dst.arrayOffset();
+			final long encoded = encode(cs, 0, length, dst.array(), base + position, base + dst.limit(), true);
+			if (consumed(encoded) < length) {
+				throw new BufferOverflowException();
+			}
+			dst.position(written(encoded) - base);
+			return dst.position() - position;
+		}
+		if ((long) length * 3 > dst.remaining() && encodedLength(cs) > dst.remaining()) {
+			throw new BufferOverflowException();
+		}
+		final byte[] chunk = CHUNK.get();
+		for (int i = 0; i < length; ) {
+			final long encoded = encode(cs, i, length, chunk, 0, chunk.length, true);
+			dst.put(chunk, 0, written(encoded));
+			i = consumed(encoded);
+		}
+		return dst.position() - position;
+	}
+
+	/**
+	 * 解码字节数组
+	 *
+	 * @param src 字节数组,不能为空
+	 * @return 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	public static String decode(byte[] src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		return decode(src, 0, src.length);
+	}
+
+	/**
+	 * 解码字节数组的一段,同 {@code new String(src, off, len, StandardCharsets.UTF_8)}
+	 *
+	 * @param src 字节数组,不能为空
+	 * @param off 起始位置
+	 * @param len 字节数
+	 * @return 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("deprecation")
+	public static String decode(byte[] src, int off, int len) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+		final int end = off + len;
+		if (skipAscii(src, off, end) == end) {
+			// 全是 ASCII,由字节直接构造,只分配一次
+			return new String(src, 0, off, len);
+		}
+		final char[] chars = len <= SCRATCH_LENGTH ? SCRATCH.get() : new char[len];
+		return new String(chars, 0, written(decode(src, off, end, chars, 0, true)));
+	}
+
+	/**
+	 * 解码 buffer 中剩余的字节,同 {@code StandardCharsets.UTF_8.decode(src).toString()},解码后 position 移到 limit
+	 *
+	 * @param src 堆内或直接 buffer,不能为空
+	 * @return 字符串
+	 *
+	 * @since 2026-10-19
+	 */
+	@SuppressWarnings("deprecation")
+	public static String decode(ByteBuffer src) {
+		Assert.notNull(src, "[Assertion failed] - src must not be null");
+		final int remaining = src.remaining();
+		if (src.hasArray()) {
+			final String text = decode(src.array(), src.arrayOffset() + src.position(), remaining);
+			src.position(src.limit());
+			return text;
+		}
+		final byte[] chunk = CHUNK.get();
+		if (remaining <= chunk.length) {
+			src.get(chunk, 0, remaining);
+			if (skipAscii(chunk, 0, remaining) == remaining) {
+				return new String(chunk, 0, 0, remaining);
+			}
+		}
+		final char[] chars = remaining <= SCRATCH_LENGTH ? SCRATCH.get() : new char[remaining];
+		if (remaining <= chunk.length) {
+			return new String(chars, 0, written(decode(chunk, 0, remaining, chars, 0, true)));
+		}
+		int dp = 0;
+		int pending = 0;
+		while (src.hasRemaining()) {
+			final int n = Math.min(chunk.length - pending, src.remaining());
+			src.get(chunk, pending, n);
+			final int length = pending + n;
+			final long decoded = decode(chunk, 0, length, chars, dp, !src.hasRemaining());
+			dp = written(decoded);
+			pending = length - consumed(decoded);
+			System.arraycopy(chunk, consumed(decoded), chunk, 0, pending);
+		}
+		return new String(chars, 0, dp);
+	}
+
+	/**
+	 * 创建一个可逐块解码的解码器,多字节序列可以跨块
+	 *
+	 * @return Decoder
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Decoder newDecoder() {
+		return new Decoder();
+	}
+
+	/**
+	 * 包装为按 UTF-8 编码写入的 Writer,代理对可以跨多次写入
+	 * <p>close 时写出剩余内容并关闭 out;末尾孤立的高代理写为 '?'</p>
+	 *
+	 * @param out 输出流,不能为空
+	 * @return Writer
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Writer wrap(OutputStream out) {
+		Assert.notNull(out, "[Assertion failed] - out must not be null");
+		return new EncodingWriter(out);
+	}
+
+	/**
+	 * 包装为按 UTF-8 解码读取的 Reader
+	 *
+	 * @param in 输入流,不能为空
+	 * @return Reader
+	 *
+	 * @since 2026-10-19
+	 */
+	public static Reader wrap(InputStream in) {
+		Assert.notNull(in, "[Assertion failed] - in must not be null");
+		return new DecodingReader(in);
+	}
+
+	/**
+	 * 第一个非 ASCII 字节的位置,每次检查 8 个字节
+	 */
+	static int skipAscii(byte[] src, int from, int to) {
+		int i = from;
+		for (final int limit = to - 8; i <= limit; i += 8) {
+			if ((src[i] | src[i + 1] | src[i + 2] | src[i + 3] | src[i + 4] | src[i + 5] | src[i + 6] | src[i + 7]) < 0) {
+				break;
+			}
+		}
+		while (i < to && src[i] >= 0) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 把 [from, to) 解码到 dst,dst 从 dp 起至少有 to - from 个空位
+	 * <p>非法序列的替换规则与 JDK 的 UTF-8 解码器相同;last 为 false 时末尾不完整的序列留待下次,否则替换为一个 U+FFFD</p>
+	 *
+	 * @return 高 32 位为已解码到的字节位置,低 32 位为写入后 dst 的位置
+	 */
+	static long decode(byte[] src, int from, int to, char[] dst, int dp, boolean last) {
+		int sp = from;
+		// 开头的 ASCII 每次检查 8 个字节
+		for (final int limit = to - 8; sp <= limit; sp += 8, dp += 8) {
+			final byte b0 = src[sp];
+			final byte b1 = src[sp + 1];
+			final byte b2 = src[sp + 2];
+			final byte b3 = src[sp + 3];
+			final byte b4 = src[sp + 4];
+			final byte b5 = src[sp + 5];
+			final byte b6 = src[sp + 6];
+			final byte b7 = src[sp + 7];
+			if ((b0 | b1 | b2 | b3 | b4 | b5 | b6 | b7) < 0) {
+				break;
+			}
+			dst[dp] = (char) b0;
+			dst[dp + 1] = (char) b1;
+			dst[dp + 2] = (char) b2;
+			dst[dp + 3] = (char) b3;
+			dst[dp + 4] = (char) b4;
+			dst[dp + 5] = (char) b5;
+			dst[dp + 6] = (char) b6;
+			dst[dp + 7] = (char) b7;
+		}
+		final int safe = to - 3;
+		while (sp < to) {
+			// 后面至少还有 3 个字节时不检查剩余长度,只处理 ASCII 与合法的二、三字节序列
+			while (sp < safe) {
+				int b1 = src[sp];
+				if (b1 >= 0) {
+					do {
+						dst[dp++] = (char) b1;
+						sp++;
+					} while (sp < safe && (b1 = src[sp]) >= 0);
+				} else if ((b1 >> 5) == -2 && (b1 & 0x1E) != 0 && isContinuation(src[sp + 1])) {
+					dst[dp++] = (char) (b1 << 6 ^ src[sp + 1] ^ 0xF80);
+					sp += 2;
+				} else if ((b1 >> 4) == -2 && !isMalformed3(b1, src[sp + 1]) && isContinuation(src[sp + 2])) {
+					final char c = (char) (b1 << 12 ^ src[sp + 1] << 6 ^ src[sp + 2] ^ 0xFFFE1F80);
+					if (Character.isSurrogate(c)) {
+						break;
+					}
+					dst[dp++] = c;
+					sp += 3;
+				} else {
+					break;
+				}
+			}
+			if (sp >= to) {
+				break;
+			}
+			// 四字节序列、非法序列和末尾的字节逐个检查
+			final int b1 = src[sp];
+			final int remaining = to - sp - 1;
+			if (b1 >= 0) {
+				dst[dp++] = (char) b1;
+				sp++;
+			} else if ((b1 >> 5) == -2 && (b1 & 0x1E) != 0) {
+				if (remaining < 1) {
+					break;
+				}
+				final int b2 = src[sp + 1];
+				if (!isContinuation(b2)) {
+					dst[dp++] = REPLACEMENT;
+					sp++;
+					continue;
+				}
+				dst[dp++] = (char) (b1 << 6 ^ b2 ^ 0xF80);
+				sp += 2;
+			} else if ((b1 >> 4) == -2) {
+				if (remaining < 2) {
+					if (remaining == 1 && isMalformed3(b1, src[sp + 1])) {
+						dst[dp++] = REPLACEMENT;
+						sp++;
+						continue;
+					}
+					break;
+				}
+				final int b2 = src[sp + 1];
+				final int b3 = src[sp + 2];
+				if (isMalformed3(b1, b2)) {
+					dst[dp++] = REPLACEMENT;
+					sp++;
+				} else if (!isContinuation(b3)) {
+					dst[dp++] = REPLACEMENT;
+					sp += 2;
+				} else {
+					final char c = (char) (b1 << 12 ^ b2 << 6 ^ b3 ^ 0xFFFE1F80);
+					dst[dp++] = Character.isSurrogate(c) ? REPLACEMENT : c;
+					sp += 3;
+				}
+			} else if ((b1 >> 3) == -2) {
+				final int u1 = b1 & 0xFF;
+				if (u1 > 0xF4 || remaining >= 1 && isMalformed4(u1, src[sp + 1] & 0xFF)) {
+					dst[dp++] = REPLACEMENT;
+					sp++;
+					continue;
+				}
+				if (remaining >= 2 && !isContinuation(src[sp + 2])) {
+					dst[dp++] = REPLACEMENT;
+					sp += 2;
+					continue;
+				}
+				if (remaining < 3) {
+					break;
+				}
+				final int b4 = src[sp + 3];
+				if (!isContinuation(b4)) {
+					dst[dp++] = REPLACEMENT;
+					sp += 3;
+					continue;
+				}
+				final int cp = b1 << 18 ^ src[sp + 1] << 12 ^ src[sp + 2] << 6 ^ b4
+						^ ((byte) 0xF0 << 18 ^ (byte) 0x80 << 12 ^ (byte) 0x80 << 6 ^ (byte) 0x80);
+				dst[dp++] = Character.highSurrogate(cp);
+				dst[dp++] = Character.lowSurrogate(cp);
+				sp += 4;
+			} else {
+				dst[dp++] = REPLACEMENT;
+				sp++;
+			}
+		}
+		if (last && sp < to) {
+			// 末尾不完整的序列
+			dst[dp++] = REPLACEMENT;
+			sp = to;
+		}
+		return (long) sp << 32 | dp;
+	}
+
+	/**
+	 * 把 [start, end) 尽量多地编码到 dst 的 [dp, dl),按块 getChars 到线程本地的缓冲区后编码,避免逐个调用 charAt
+	 *
+	 * @return 高 32 位为已编码到的字符位置,低 32 位为写入后 dst 的位置
+	 */
+	static long encode(CharSequence cs, int start, int end, byte[] dst, int dp, int dl, boolean last) {
+		final char[] chars = SCRATCH.get();
+		int i = start;
+		while (i < end) {
+			final int n = Math.min(end - i, chars.length);
+			CharSequences.getChars(cs, i, i + n, chars);
+			final long encoded = encode(chars, 0, n, dst, dp, dl, last && i + n == end);
+			dp = written(encoded);
+			if (consumed(encoded) == 0) {
+				break;
+			}
+			i += consumed(encoded);
+		}
+		return (long) i << 32 | dp;
+	}
+
+	/**
+	 * 把 src 的 [start, end) 尽量多地编码到 dst 的 [dp, dl),不拆开代理对
+	 * <p>孤立的代理字符编码为 '?';last 为 false 时末尾的高代理留待下次</p>
+	 *
+	 * @return 高 32 位为已编码到的字符位置,低 32 位为写入后 dst 的位置
+	 */
+	static long encode(char[] src, int start, int end, byte[] dst, int dp, int dl, boolean last) {
+		int i = start;
+		// 开头的 ASCII 每次检查 8 个字符
+		for (final int limit = Math.min(end - i, dl - dp) - 8 + i; i <= limit; i += 8, dp += 8) {
+			final char c0 = src[i];
+			final char c1 = src[i + 1];
+			final char c2 = src[i + 2];
+			final char c3 = src[i + 3];
+			final char c4 = src[i + 4];
+			final char c5 = src[i + 5];
+			final char c6 = src[i + 6];
+			final char c7 = src[i + 7];
+			if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) >= 0x80) {
+				break;
+			}
+			dst[dp] = (byte) c0;
+			dst[dp + 1] = (byte) c1;
+			dst[dp + 2] = (byte) c2;
+			dst[dp + 3] = (byte) c3;
+			dst[dp + 4] = (byte) c4;
+			dst[dp + 5] = (byte) c5;
+			dst[dp + 6] = (byte) c6;
+			dst[dp + 7] = (byte) c7;
+		}
+		while (i < end) {
+			// 剩余空间够每个字符 3 个字节时不检查空间,代理字符逐个检查
+			for (final int safe = Math.min(end, i + (dl - dp) / 3); i < safe; i++) {
+				final char c = src[i];
+				if (c < 0x80) {
+					dst[dp++] = (byte) c;
+				} else if (c < 0x800) {
+					dst[dp++] = (byte) (0xC0 | c >> 6);
+					dst[dp++] = (byte) (0x80 | c & 0x3F);
+				} else if (!Character.isSurrogate(c)) {
+					dst[dp++] = (byte) (0xE0 | c >> 12);
+					dst[dp++] = (byte) (0x80 | c >> 6 & 0x3F);
+					dst[dp++] = (byte) (0x80 | c & 0x3F);
+				} else {
+					break;
+				}
+			}
+			if (i >= end) {
+				break;
+			}
+			final char c = src[i];
+			final int room = dl - dp;
+			if (c < 0x80) {
+				if (room < 1) {
+					break;
+				}
+				dst[dp++] = (byte) c;
+				i++;
+			} else if (c < 0x800) {
+				if (room < 2) {
+					break;
+				}
+				dst[dp++] = (byte) (0xC0 | c >> 6);
+				dst[dp++] = (byte) (0x80 | c & 0x3F);
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				if (room < 3) {
+					break;
+				}
+				dst[dp++] = (byte) (0xE0 | c >> 12);
+				dst[dp++] = (byte) (0x80 | c >> 6 & 0x3F);
+				dst[dp++] = (byte) (0x80 | c & 0x3F);
+				i++;
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(src[i + 1])) {
+				if (room < 4) {
+					break;
+				}
+				final int cp = Character.toCodePoint(c, src[i + 1]);
+				dst[dp++] = (byte) (0xF0 | cp >> 18);
+				dst[dp++] = (byte) (0x80 | cp >> 12 & 0x3F);
+				dst[dp++] = (byte) (0x80 | cp >> 6 & 0x3F);
+				dst[dp++] = (byte) (0x80 | cp & 0x3F);
+				i += 2;
+			} else if (!last && Character.isHighSurrogate(c) && i + 1 == end) {
+				break;
+			} else {
+				if (room < 1) {
+					break;
+				}
+				dst[dp++] = '?';
+				i++;
+			}
+		}
+		return (long) i << 32 | dp;
+	}
+
+	static int consumed(long packed) {
+		return (int) (packed >>> 32);
+	}
+
+	static int written(long packed) {
+		return (int) packed;
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+	/**
+	 * 三字节序列的第二个字节是否非法
+	 */
+	private static boolean isMalformed3(int b1, int b2) {
+		return (b1 == (byte) 0xE0 && (b2 & 0xE0) == 0x80) || !isContinuation(b2);
+	}
+
+	/**
+	 * 四字节序列的第二个字节是否非法,参数为无符号值
+	 */
+	private static boolean isMalformed4(int u1, int u2) {
+		return (u1 == 0xF0 && (u2 < 0x90 || u2 > 0xBF)) || (u1 == 0xF4 && (u2 & 0xF0) != 0x80) || !isContinuation(u2);
+	}
+
+	/**
+	 * 逐块解码,多字节序列可以跨块,不是线程安全的
+	 *
+	 * @author Di Wu
+	 * @since 2026-10-19
+	 */
+	public static final class Decoder {
+
+		/**
+		 * 上一块末尾不完整的序列
+		 */
+		private final byte[] pending = new byte[8];
+
+		private int pendingLength;
+
+		private final char[] chars = new char[CHUNK_SIZE];
+
+		private Decoder() {
+		}
+
+		/**
+		 * 解码一块并追加到 out,末尾不完整的序列留待下一块
+		 *
+		 * @param src 字节数组,不能为空
+		 * @param off 起始位置
+		 * @param len 字节数
+		 * @param out 输出,不能为空
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Decoder decode(byte[] src, int off, int len, StringBuilder out) {
+			Assert.notNull(src, "[Assertion failed] - src must not be null");
+			Assert.isTrue(off >= 0 && len >= 0 && off <= src.length - len, "[Assertion failed] - off and len must be within the array");
+			Assert.notNull(out, "[Assertion failed] - out must not be null");
+			final int end = off + len;
+			if (this.pendingLength > 0) {
+				// 补齐上一块留下的序列,至多再取 4 个字节
+				final int taken = Math.min(len, 4);
+				System.arraycopy(src, off, this.pending, this.pendingLength, taken);
+				final int length = this.pendingLength + taken;
+				final long decoded = Utf8Codec.decode(this.pending, 0, length, this.chars, 0, false);
+				out.append(this.chars, 0, written(decoded));
+				final int used = consumed(decoded) - this.pendingLength;
+				if (used < 0) {
+					// 这一块太短,仍不完整
+					System.arraycopy(this.pending, consumed(decoded), this.pending, 0, length - consumed(decoded));
+					this.pendingLength = length - consumed(decoded);
+					return this;
+				}
+				this.pendingLength = 0;
+				off += used;
+			}
+			while (off < end) {
+				final int to = Math.min(end, off + this.chars.length);
+				final long decoded = Utf8Codec.decode(src, off, to, this.chars, 0, false);
+				out.append(this.chars, 0, written(decoded));
+				if (consumed(decoded) == off) {
+					break;
+				}
+				off = consumed(decoded);
+			}
+			this.pendingLength = end - off;
+			System.arraycopy(src, off, this.pending, 0, this.pendingLength);
+			return this;
+		}
+
+		/**
+		 * 解码 buffer 中剩余的字节并追加到 out,解码后 position 移到 limit
+		 *
+		 * @param src 堆内或直接 buffer,不能为空
+		 * @param out 输出,不能为空
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Decoder decode(ByteBuffer src, StringBuilder out) {
+			Assert.notNull(src, "[Assertion failed] - src must not be null");
+			if (src.hasArray()) {
+				decode(src.array(), src.arrayOffset() + src.position(), src.remaining(), out);
+				src.position(src.limit());
+				return this;
+			}
+			final byte[] chunk = CHUNK.get();
+			while (src.hasRemaining()) {
+				final int n = Math.min(chunk.length, src.remaining());
+				src.get(chunk, 0, n);
+				decode(chunk, 0, n, out);
+			}
+			return this;
+		}
+
+		/**
+		 * 结束解码,末尾不完整的序列追加为一个 U+FFFD,之后可以继续解码新的内容
+		 *
+		 * @param out 输出,不能为空
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Decoder finish(StringBuilder out) {
+			Assert.notNull(out, "[Assertion failed] - out must not be null");
+			if (this.pendingLength > 0) {
+				out.append(REPLACEMENT);
+				this.pendingLength = 0;
+			}
+			return this;
+		}
+
+		/**
+		 * 丢弃未完成的序列
+		 *
+		 * @return this
+		 *
+		 * @since 2026-10-19
+		 */
+		public Decoder reset() {
+			this.pendingLength = 0;
+			return this;
+		}
+	}
+
+	/**
+	 * 编码输出,满一块写出一次
+	 */
+	private static final class EncodingWriter extends Writer {
+
+		private final OutputStream out;
+
+		private final byte[] buffer = new byte[CHUNK_SIZE];
+
+		private int count;
+
+		/**
+		 * 上次写入末尾的高代理,0 表示没有
+		 */
+		private char high;
+
+		private boolean closed;
+
+		EncodingWriter(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			write(String.valueOf((char) c), 0, 1);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || off > cbuf.length - len) {
+				throw new IndexOutOfBoundsException();
+			}
+			encodeAll(CharBuffer.wrap(cbuf), off, off + len);
+		}
+
+		@Override
+		public void write(String str, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || off > str.length() - len) {
+				throw new IndexOutOfBoundsException();
+			}
+			encodeAll(str, off, off + len);
+		}
+
+		@Override
+		public Writer append(CharSequence csq) throws IOException {
+			final CharSequence cs = null == csq ? "null" : csq;
+			encodeAll(cs, 0, cs.length());
+			return this;
+		}
+
+		@Override
+		public Writer append(CharSequence csq, int start, int end) throws IOException {
+			final CharSequence cs = null == csq ? "null" : csq;
+			if (start < 0 || start > end || end > cs.length()) {
+				throw new IndexOutOfBoundsException();
+			}
+			encodeAll(cs, start, end);
+			return this;
+		}
+
+		private void encodeAll(CharSequence cs, int start, int end) throws IOException {
+			ensureOpen();
+			if (start == end) {
+				return;
+			}
+			if (this.high != 0) {
+				final char high = this.high;
+				this.high = 0;
+				if (this.buffer.length - this.count < 4) {
+					flushBuffer();
+				}
+				final char c = cs.charAt(start);
+				if (Character.isLowSurrogate(c)) {
+					final int cp = Character.toCodePoint(high, c);
+					this.buffer[this.count++] = (byte) (0xF0 | cp >> 18);
+					this.buffer[this.count++] = (byte) (0x80 | cp >> 12 & 0x3F);
+					this.buffer[this.count++] = (byte) (0x80 | cp >> 6 & 0x3F);
+					this.buffer[this.count++] = (byte) (0x80 | cp & 0x3F);
+					start++;
+				} else {
+					this.buffer[this.count++] = '?';
+				}
+			}
+			while (start < end) {
+				final long encoded = encode(cs, start, end, this.buffer, this.count, this.buffer.length, false);
+				this.count = written(encoded);
+				if (consumed(encoded) == start) {
+					if (end - start == 1 && Character.isHighSurrogate(cs.charAt(start))) {
+						// 末尾的高代理,等下一次写入
+						this.high = cs.charAt(start);
+						return;
+					}
+					flushBuffer();
+				}
+				start = consumed(encoded);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			ensureOpen();
+			flushBuffer();
+			this.out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			try {
+				if (this.high != 0) {
+					if (this.count == this.buffer.length) {
+						flushBuffer();
+					}
+					this.buffer[this.count++] = '?';
+					this.high = 0;
+				}
+				flushBuffer();
+			} finally {
+				this.closed = true;
+				this.out.close();
+			}
+		}
+
+		private void flushBuffer() throws IOException {
+			if (this.count > 0) {
+				this.out.write(this.buffer, 0, this.count);
+				this.count = 0;
+			}
+		}
+
+		private void ensureOpen() throws IOException {
+			if (this.closed) {
+				throw new IOException("Stream closed");
+			}
+		}
+	}
+
+	/**
+	 * 每次读入一块字节并解码,块末尾不完整的序列移到下一块的开头
+	 */
+	private static final class DecodingReader extends Reader {
+
+		private final InputStream in;
+
+		private final byte[] input = new byte[CHUNK_SIZE];
+
+		private int inputLength;
+
+		private final char[] decoded = new char[CHUNK_SIZE];
+
+		private int position;
+
+		private int limit;
+
+		private boolean eof;
+
+		private boolean closed;
+
+		DecodingReader(InputStream in) {
+			this.in = in;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || off > cbuf.length - len) {
+				throw new IndexOutOfBoundsException();
+			}
+			ensureOpen();
+			if (len == 0) {
+				return 0;
+			}
+			if (this.position == this.limit && !fill()) {
+				return -1;
+			}
+			final int n = Math.min(len, this.limit - this.position);
+			System.arraycopy(this.decoded, this.position, cbuf, off, n);
+			this.position += n;
+			return n;
+		}
+
+		@Override
+		public boolean ready() throws IOException {
+			ensureOpen();
+			return this.position < this.limit || this.in.available() > 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+				this.in.close();
+			}
+		}
+
+		/**
+		 * 解码出至少一个字符,流已结束且没有剩余字节时返回 false
+		 */
+		private boolean fill() throws IOException {
+			this.position = 0;
+			this.limit = 0;
+			while (this.limit == 0) {
+				if (this.eof) {
+					if (this.inputLength == 0) {
+						return false;
+					}
+				} else {
+					final int n = this.in.read(this.input, this.inputLength, this.input.length - this.inputLength);
+					if (n < 0) {
+						this.eof = true;
+					} else {
+						this.inputLength += n;
+					}
+				}
+				final long decoded = decode(this.input, 0, this.inputLength, this.decoded, 0, this.eof);
+				final int consumed = consumed(decoded);
+				this.limit = written(decoded);
+				this.inputLength -= consumed;
+				System.arraycopy(this.input, consumed, this.input, 0, this.inputLength);
+			}
+			return true;
+		}
+
+		private void ensureOpen() throws IOException {
+			if (this.closed) {
+				throw new IOException("Stream closed");
+			}
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package com.threesides.beans;
 
-import com.sun.xml.internal.xsom.impl.scd.Iterators;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -42,4 +41,15 @@ public class BeanUtilTest {
 
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void getPropertyReader() {
+		User user = new User();
+		user.setUsername("WuDI");
+		assertEquals("WuDI", BeanUtil.getPropertyReader(User.class, "username").apply(user));
+		assertSame(BeanUtil.getPropertyReader(User.class, "username"), BeanUtil.getPropertyReader(User.class, "username"));
+		assertNull(BeanUtil.getPropertyReader(User.class, "nickname").apply(user));
+		assertTrue(BeanUtil.hasProperty(User.class, "sex"));
+		assertFalse(BeanUtil.hasProperty(User.class, "nickname"));
+	}
+
+}
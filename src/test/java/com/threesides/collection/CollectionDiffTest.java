@@ -0,0 +1,129 @@
+package com.threesides.collection;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * CollectionDiffTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class CollectionDiffTest {
+
+	private static final class Recorder implements DiffHandler<String> {
+
+		final List<String> added = Collections.synchronizedList(new ArrayList<>());
+		final List<String> removed = Collections.synchronizedList(new ArrayList<>());
+		final List<String> changed = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void added(String item) {
+			added.add(item);
+		}
+
+		@Override
+		public void removed(String item) {
+			removed.add(item);
+		}
+
+		@Override
+		public void changed(String oldItem, String newItem) {
+			changed.add(oldItem + "->" + newItem);
+		}
+	}
+
+	private static String key(String item) {
+		return item.substring(0, item.indexOf('='));
+	}
+
+	@Test
+	public void diff() {
+		List<String> olds = Arrays.asList("a=1", "b=2", "c=3");
+		List<String> news = Arrays.asList("b=2", "c=4", "d=5");
+		Recorder recorder = new Recorder();
+		CollectionUtil.diff(olds, news, CollectionDiffTest::key, Objects::equals, recorder);
+		assertEquals(Collections.singletonList("d=5"), recorder.added);
+		assertEquals(Collections.singletonList("a=1"), recorder.removed);
+		assertEquals(Collections.singletonList("c=3->c=4"), recorder.changed);
+
+		recorder = new Recorder();
+		CollectionUtil.diff(null, news, CollectionDiffTest::key, Objects::equals, recorder);
+		assertEquals(3, recorder.added.size());
+	}
+
+	@Test
+	public void parallelDiff() {
+		int n = 200_000;
+		List<long[]> olds = new ArrayList<>(n);
+		List<long[]> news = new ArrayList<>(n);
+		for (long i = 0; i < n; i++) {
+			if (i % 10 != 0) {
+				olds.add(new long[]{i, i});
+			}
+			if (i % 10 != 1) {
+				news.add(new long[]{i, i % 10 == 2 ? -i : i});
+			}
+		}
+		AtomicLong added = new AtomicLong();
+		AtomicLong removed = new AtomicLong();
+		AtomicLong changed = new AtomicLong();
+		CollectionUtil.diff(olds, news, a -> a[0], (x, y) -> x[1] == y[1], new DiffHandler<long[]>() {
+			@Override
+			public void added(long[] item) {
+				assertEquals(0, item[0] % 10);
+				added.incrementAndGet();
+			}
+
+			@Override
+			public void removed(long[] item) {
+				assertEquals(1, item[0] % 10);
+				removed.incrementAndGet();
+			}
+
+			@Override
+			public void changed(long[] oldItem, long[] newItem) {
+				assertEquals(oldItem[0], newItem[0]);
+				changed.incrementAndGet();
+			}
+		});
+		assertEquals(n / 10, added.get());
+		assertEquals(n / 10, removed.get());
+		// 0 号为新增,不算变更
+		assertEquals(n / 10, changed.get());
+	}
+
+	@Test
+	public void diffSorted() {
+		List<String> olds = Arrays.asList("a=1", "b=2", "c=3", "e=6", "f=7");
+		List<String> news = Arrays.asList("b=2", "c=4", "d=5", "f=7", "g=8");
+		Recorder recorder = new Recorder();
+		CollectionUtil.diffSorted(olds, news, CollectionDiffTest::key, Comparator.naturalOrder(), Objects::equals, recorder);
+		assertEquals(Arrays.asList("d=5", "g=8"), recorder.added);
+		assertEquals(Arrays.asList("a=1", "e=6"), recorder.removed);
+		assertEquals(Collections.singletonList("c=3->c=4"), recorder.changed);
+	}
+
+	@Test(expected = BusinessException.class)
+	public void diffSortedRejectsUnsortedInput() {
+		AtomicInteger ignored = new AtomicInteger();
+		CollectionUtil.diffSorted(Arrays.asList("b=1", "a=1"), Arrays.asList("c=1", "d=1"), CollectionDiffTest::key,
+				Comparator.naturalOrder(), Objects::equals, new DiffHandler<String>() {
+					@Override
+					public void removed(String item) {
+						ignored.incrementAndGet();
+					}
+				});
+	}
+}
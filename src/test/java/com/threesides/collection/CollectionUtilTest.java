@@ -1,11 +1,10 @@
 package com.threesides.collection;
 
-import com.sun.xml.internal.ws.policy.PolicyMap;
-import com.sun.xml.internal.ws.streaming.DOMStreamReader;
-import com.sun.xml.internal.ws.util.xml.NamespaceContextExAdaper;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.TreeSet;
@@ -74,4 +73,10 @@ public class CollectionUtilTest {
 		String s = CollectionUtil.toString(map);
 		System.out.println("s = " + s);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void join() {
+		assertEquals("1,-2,3,x,,4.5", CollectionUtil.join(Arrays.asList(1L, -2, (short) 3, "x", null, 4.5), ",", 0, 6));
+		assertEquals("-9223372036854775808", CollectionUtil.join(Collections.singletonList(Long.MIN_VALUE), ",", 0, 1));
+	}
+}
@@ -0,0 +1,78 @@
+package com.threesides.collection;
+
+import com.threesides.lang.ObjectUtil;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * CompactMapTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class CompactMapTest {
+
+	@Test
+	public void small() {
+		CompactMap<String, Integer> map = CompactMap.of("a", 1, "b", 2, "c", null);
+		assertEquals(3, map.size());
+		assertEquals(Integer.valueOf(2), map.get("b"));
+		assertNull(map.get("c"));
+		assertTrue(map.containsKey("c"));
+		assertFalse(map.containsKey("d"));
+		assertEquals(3, ObjectUtil.length(map));
+		assertTrue(ObjectUtil.contains(map, "a"));
+		assertFalse(CollectionUtil.isEmpty(map));
+		assertEquals("{a:1,b:2,c:null}", CollectionUtil.toString(map));
+	}
+
+	@Test
+	public void hashed() {
+		Map<Integer, String> source = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			source.put(i * 31, "v" + i);
+		}
+		CompactMap<Integer, String> map = CompactMap.copyOf(source);
+		assertEquals(source, map);
+		assertEquals(map, source);
+		assertEquals(source.hashCode(), map.hashCode());
+		assertEquals("v7", map.get(7 * 31));
+		assertNull(map.get(1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void immutable() {
+		CompactMap.of("a", 1).put("b", 2);
+	}
+
+	@Test
+	public void compactSet() {
+		CompactSet<String> set = CompactSet.of("x", "y", "x");
+		assertEquals(2, set.size());
+		assertTrue(set.contains("y"));
+		assertTrue(ObjectUtil.contains(set, "x"));
+		HashMap<Integer, Integer> big = new HashMap<>();
+		for (int i = 0; i < 50; i++) {
+			big.put(i, i);
+		}
+		CompactSet<Integer> hashed = CompactSet.copyOf(big.keySet());
+		assertEquals(big.keySet(), hashed);
+		assertFalse(hashed.contains(50));
+
+		// 按引用去重的 Set 可能含 equals 相同的元素
+		Set<String> identity = Collections.newSetFromMap(new IdentityHashMap<>());
+		identity.add(new String("k"));
+		identity.add(new String("k"));
+		assertEquals(2, identity.size());
+		CompactSet<String> copied = CompactSet.copyOf(identity);
+		assertEquals(1, copied.size());
+		assertEquals(Collections.singleton("k"), copied);
+	}
+}
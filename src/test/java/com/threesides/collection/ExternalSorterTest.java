@@ -0,0 +1,118 @@
+package com.threesides.collection;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * ExternalSorterTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class ExternalSorterTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void inMemory() {
+		ExternalSorter.SortedIterator<String> it = new ExternalSorter<>(Comparator.<String>naturalOrder(), ExternalSorter.STRING_CODEC)
+				.sort(Arrays.asList("c", "a", "b"));
+		List<String> result = new ArrayList<>();
+		it.forEachRemaining(result::add);
+		assertEquals(Arrays.asList("a", "b", "c"), result);
+		assertEquals(0, it.getMergePasses());
+		assertEquals(0, it.getBytesSpilled());
+	}
+
+	@Test
+	public void spillAndMerge() throws Exception {
+		File dir = folder.newFolder();
+		Random random = new Random(7);
+		List<Long> input = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			input.add(random.nextLong());
+		}
+		try (ExternalSorter.SortedIterator<Long> it = new ExternalSorter<>(Comparator.<Long>naturalOrder(), ExternalSorter.LONG_CODEC)
+				.memoryBudget(1000)
+				.sizeEstimator(v -> 1)
+				.maxFanIn(8)
+				.parallel(true)
+				.tempDirectory(dir.toPath())
+				.sort(input)) {
+			assertEquals(100, it.getRunCount());
+			assertEquals(3, it.getMergePasses());
+			assertTrue(it.getBytesSpilled() >= 100_000L * 8);
+			long previous = Long.MIN_VALUE;
+			int count = 0;
+			while (it.hasNext()) {
+				long value = it.next();
+				assertTrue(previous <= value);
+				previous = value;
+				count++;
+			}
+			assertEquals(input.size(), count);
+		}
+		assertEquals(0, Objects.requireNonNull(dir.list()).length);
+	}
+
+	@Test
+	public void stable() throws Exception {
+		File dir = folder.newFolder();
+		List<String> input = new ArrayList<>();
+		for (int i = 0; i < 5_000; i++) {
+			input.add((char) ('a' + i % 3) + ":" + i);
+		}
+		Comparator<String> byKey = Comparator.comparing(s -> s.charAt(0));
+		List<String> expected = new ArrayList<>(input);
+		expected.sort(byKey);
+		List<String> result = new ArrayList<>();
+		try (ExternalSorter.SortedIterator<String> it = new ExternalSorter<>(byKey, ExternalSorter.STRING_CODEC)
+				.memoryBudget(100)
+				.sizeEstimator(v -> 1)
+				.maxFanIn(4)
+				.tempDirectory(dir.toPath())
+				.sort(input)) {
+			it.forEachRemaining(result::add);
+		}
+		assertEquals(expected, result);
+	}
+
+	@Test
+	public void cleanupOnRuntimeFailure() throws Exception {
+		File dir = folder.newFolder();
+		Iterator<Long> input = new Iterator<Long>() {
+			private long next;
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Long next() {
+				if (this.next == 1000) {
+					throw new IllegalStateException("source broken");
+				}
+				return this.next++;
+			}
+		};
+		try {
+			new ExternalSorter<>(Comparator.<Long>naturalOrder(), ExternalSorter.LONG_CODEC)
+					.memoryBudget(100)
+					.sizeEstimator(v -> 1)
+					.tempDirectory(dir.toPath())
+					.sort(input);
+			fail();
+		} catch (IllegalStateException e) {
+			// 期望的异常
+		}
+		assertEquals(0, Objects.requireNonNull(dir.list()).length);
+	}
+}
@@ -0,0 +1,89 @@
+package com.threesides.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * GroupIndexTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class GroupIndexTest {
+
+	@Test
+	public void groupBy() {
+		List<String> words = Arrays.asList("apple", "bob", "avocado", "cat", "banana", null);
+		GroupIndex<Character, String> index = CollectionUtil.groupBy(words, w -> w == null ? null : w.charAt(0));
+		assertEquals(4, index.groupCount());
+		assertEquals(6, index.size());
+		assertEquals(Arrays.asList("apple", "avocado"), index.get('a'));
+		assertEquals(Arrays.asList("bob", "banana"), index.get('b'));
+		assertEquals(Collections.singletonList(null), index.get(null));
+		assertTrue(index.get('z').isEmpty());
+		assertFalse(index.containsKey('z'));
+
+		Map<Character, List<String>> map = index.asMap();
+		assertEquals(Arrays.asList('a', 'b', 'c', null), new ArrayList<>(map.keySet()));
+		assertEquals(Collections.singletonList("cat"), map.get('c'));
+	}
+
+	@Test
+	public void groupByInt() {
+		List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+		IntGroupIndex<Integer> index = CollectionUtil.groupByInt(numbers, n -> n % 3);
+		assertEquals(3, index.groupCount());
+		assertEquals(1, index.key(0));
+		assertEquals(Arrays.asList(1, 4, 7), index.get(1));
+		assertEquals(Arrays.asList(3, 6), index.get(0));
+		assertEquals(-1, index.groupOf(9));
+	}
+
+	@Test
+	public void parallelBuildKeepsOrder() {
+		int n = 100_000;
+		List<Long> values = new ArrayList<>(n);
+		for (long i = 0; i < n; i++) {
+			values.add(i);
+		}
+		LongGroupIndex<Long> index = CollectionUtil.groupByLong(values, v -> v % 97);
+		assertEquals(97, index.groupCount());
+		assertEquals(n, index.size());
+		for (long k = 0; k < 97; k++) {
+			List<Long> group = index.get(k);
+			for (int i = 0; i < group.size(); i++) {
+				assertEquals(k + 97L * i, group.get(i).longValue());
+			}
+		}
+	}
+
+	@Test
+	public void join() {
+		IntGroupIndex<String> left = CollectionUtil.groupByInt(Arrays.asList("a1", "a2", "b1"), s -> s.charAt(0));
+		IntGroupIndex<Integer> right = CollectionUtil.groupByInt(Arrays.asList((int) 'a', (int) 'c', (int) 'a'), i -> i);
+		List<String> pairs = new ArrayList<>();
+		left.join(right, (l, r) -> pairs.add(l + ":" + r));
+		assertEquals(Arrays.asList("a1:97", "a1:97", "a2:97", "a2:97"), pairs);
+
+		AtomicInteger count = new AtomicInteger();
+		right.join(left, (r, l) -> count.incrementAndGet());
+		assertEquals(4, count.get());
+	}
+
+	@Test
+	public void indexBy() {
+		Map<Integer, String> index = CollectionUtil.indexBy(Arrays.asList("a", "bb", "cc"), String::length);
+		assertEquals(2, index.size());
+		assertEquals("a", index.get(1));
+		assertEquals("cc", index.get(2));
+		assertTrue(CollectionUtil.indexBy(null, Object::hashCode).isEmpty());
+	}
+}
@@ -0,0 +1,72 @@
+package com.threesides.collection;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * LongBigArrayTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class LongBigArrayTest {
+
+	@Test
+	public void fillAndCopy() {
+		long length = (3L << 20) + 5;
+		LongBigArray array = new LongBigArray(length);
+		array.fill(10, length - 10, 7L);
+		assertEquals(0L, array.get(9));
+		assertEquals(7L, array.get(10));
+		assertEquals(7L, array.get(length - 11));
+		assertEquals(0L, array.get(length - 10));
+
+		long[] chunk = new long[100];
+		for (int i = 0; i < chunk.length; i++) {
+			chunk[i] = i;
+		}
+		long pos = (1L << 20) - 50;
+		array.copyFrom(chunk, 0, pos, chunk.length);
+		LongBigArray.copy(array, pos, array, pos + 30, 100);
+		long[] out = new long[100];
+		array.copyTo(pos + 30, out, 0, 100);
+		assertArrayEquals(chunk, out);
+	}
+
+	@Test
+	public void sortAndSearch() {
+		long length = (2L << 20) + 12345;
+		LongBigArray array = new LongBigArray(length);
+		Random random = new Random(3);
+		for (long i = 0; i < length; i++) {
+			array.set(i, random.nextInt(1_000_000) * 2L);
+		}
+		array.sort();
+		for (long i = 1; i < length; i++) {
+			assertTrue(array.get(i - 1) <= array.get(i));
+		}
+		long value = array.get(length / 2);
+		assertEquals(value, array.get(array.binarySearch(value)));
+		assertTrue(array.binarySearch(value + 1) < 0);
+	}
+
+	@Test
+	public void bigList() {
+		IntBigList list = new IntBigList(1);
+		for (int i = 0; i < (1 << 20) + 10; i++) {
+			list.add(i);
+		}
+		assertEquals((1 << 20) + 10, list.size());
+		assertEquals(1 << 20, list.get(1 << 20));
+		assertEquals((1 << 20) + 9, list.removeLast());
+		byte[] bytes = {3, 1, 2};
+		ByteBigList byteList = new ByteBigList();
+		byteList.addAll(bytes, 0, bytes.length);
+		byteList.sort();
+		assertEquals(1, byteList.get(0));
+		assertEquals(2, byteList.binarySearch((byte) 3));
+	}
+}
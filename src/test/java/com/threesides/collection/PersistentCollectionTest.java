@@ -0,0 +1,106 @@
+package com.threesides.collection;
+
+import com.threesides.lang.ObjectUtil;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * PersistentCollectionTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class PersistentCollectionTest {
+
+	@Test
+	public void hashMap() {
+		Map<Integer, Integer> expected = new HashMap<>();
+		PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+		Random random = new Random(1);
+		for (int i = 0; i < 20_000; i++) {
+			int key = random.nextInt(5_000);
+			if (random.nextInt(4) == 0) {
+				expected.remove(key);
+				map = map.minus(key);
+			} else {
+				expected.put(key, i);
+				map = map.plus(key, i);
+			}
+		}
+		assertEquals(expected, map);
+		assertEquals(expected.size(), ObjectUtil.length(map));
+
+		PersistentHashMap<Integer, Integer> snapshot = map;
+		PersistentHashMap<Integer, Integer> updated = map.plus(-1, -1);
+		assertFalse(snapshot.containsKey(-1));
+		assertEquals(Integer.valueOf(-1), updated.get(-1));
+		assertEquals(snapshot.size() + 1, updated.size());
+	}
+
+	@Test
+	public void hashCollision() {
+		// "Aa" 和 "BB" 的 hashCode 相同
+		PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+				.plus("Aa", 1).plus("BB", 2).plus("C", 3);
+		assertEquals(3, map.size());
+		assertEquals(Integer.valueOf(2), map.get("BB"));
+		map = map.minus("Aa");
+		assertNull(map.get("Aa"));
+		assertEquals(Integer.valueOf(2), map.get("BB"));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	public void builder() {
+		PersistentHashMap.Builder<Integer, String> builder = PersistentHashMap.builder();
+		for (int i = 0; i < 1000; i++) {
+			builder.put(i, "v" + i);
+		}
+		PersistentHashMap<Integer, String> first = builder.build();
+		builder.put(0, "changed").remove(1);
+		PersistentHashMap<Integer, String> second = builder.build();
+		assertEquals("v0", first.get(0));
+		assertEquals(1000, first.size());
+		assertEquals("changed", second.get(0));
+		assertEquals(999, second.size());
+	}
+
+	@Test
+	public void hashSet() {
+		PersistentHashSet<String> set = PersistentHashSet.copyOf(Arrays.asList("a", "b", "c"));
+		PersistentHashSet<String> other = set.plus("d").minus("a");
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), set);
+		assertEquals(new HashSet<>(Arrays.asList("b", "c", "d")), other);
+		assertTrue(ObjectUtil.contains(other, "d"));
+	}
+
+	@Test
+	public void vector() {
+		List<Integer> expected = new ArrayList<>();
+		PersistentVector<Integer> vector = PersistentVector.empty();
+		for (int i = 0; i < 40_000; i++) {
+			expected.add(i);
+			vector = vector.plus(i);
+		}
+		assertEquals(expected, vector);
+		PersistentVector<Integer> changed = vector.with(12_345, -1);
+		assertEquals(Integer.valueOf(12_345), vector.get(12_345));
+		assertEquals(Integer.valueOf(-1), changed.get(12_345));
+		for (int i = 0; i < 39_000; i++) {
+			vector = vector.minusLast();
+		}
+		assertEquals(expected.subList(0, 1000), vector);
+
+		PersistentVector.Builder<Integer> builder = PersistentVector.builder();
+		builder.addAll(expected);
+		PersistentVector<Integer> built = builder.build();
+		builder.set(5, 500).add(40_000);
+		assertEquals(expected, built);
+		assertEquals(Integer.valueOf(500), builder.build().get(5));
+		assertEquals(40_001, builder.size());
+		assertEquals("1,2,3", CollectionUtil.toString(PersistentVector.copyOf(Arrays.asList(1, 2, 3))));
+	}
+}
@@ -0,0 +1,115 @@
+package com.threesides.concurrent;
+
+import com.threesides.date.DateTimeUnit;
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * BatcherTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class BatcherTest {
+
+	@Test
+	public void flushBySize() throws InterruptedException {
+		final AtomicLong sum = new AtomicLong();
+		final int threads = 4;
+		final int perThread = 10_000;
+		try (Batcher<Integer> batcher = new Batcher<>(100, 1, DateTimeUnit.MINUTE, (List<Integer> batch) -> {
+			assertTrue(batch.size() <= 100);
+			batch.forEach(sum::addAndGet);
+		})) {
+			Thread[] producers = new Thread[threads];
+			for (int t = 0; t < threads; t++) {
+				producers[t] = new Thread(() -> {
+					for (int i = 1; i <= perThread; i++) {
+						batcher.submit(i);
+					}
+				});
+				producers[t].start();
+			}
+			for (Thread producer : producers) {
+				producer.join();
+			}
+		}
+		assertEquals((long) threads * perThread * (perThread + 1) / 2, sum.get());
+	}
+
+	@Test
+	public void flushByDeadline() throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+		Batcher<String> batcher = new Batcher<>(1000, 20, DateTimeUnit.MS, (List<String> batch) -> latch.countDown());
+		batcher.submit("a");
+		batcher.submit("b");
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		batcher.close();
+		assertEquals(1, batcher.getFlushCount());
+		assertEquals(2, batcher.getFlushedItemCount());
+		assertEquals(2, batcher.getMaxBatchSize());
+	}
+
+	@Test
+	public void submitWhileClosing() throws InterruptedException {
+		for (int round = 0; round < 50; round++) {
+			final AtomicLong flushed = new AtomicLong();
+			final AtomicLong accepted = new AtomicLong();
+			final Batcher<Integer> batcher = new Batcher<>(8, 1, DateTimeUnit.MINUTE, 1, 16,
+					(List<Integer> batch) -> flushed.addAndGet(batch.size()), null);
+			final CountDownLatch started = new CountDownLatch(2);
+			Thread[] producers = new Thread[2];
+			for (int t = 0; t < producers.length; t++) {
+				producers[t] = new Thread(() -> {
+					started.countDown();
+					try {
+						while (true) {
+							batcher.submit(1);
+							accepted.incrementAndGet();
+						}
+					} catch (BusinessException e) {
+						// 期望的异常
+					}
+				});
+				producers[t].start();
+			}
+			started.await();
+			Thread closer = new Thread(batcher::close);
+			closer.start();
+			closer.join(TimeUnit.SECONDS.toMillis(10));
+			assertFalse(closer.isAlive());
+			for (Thread producer : producers) {
+				producer.join(TimeUnit.SECONDS.toMillis(10));
+				assertFalse(producer.isAlive());
+			}
+			assertEquals(accepted.get(), flushed.get());
+			assertEquals(0, batcher.pendingCount());
+		}
+	}
+
+	@Test
+	public void failureHandler() {
+		final AtomicReference<List<String>> failedBatch = new AtomicReference<>();
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Batcher<String> batcher = new Batcher<>(2, 1, DateTimeUnit.MINUTE, 1, 8, (List<String> batch) -> {
+			throw new IllegalStateException("db down");
+		}, (List<String> batch, Throwable e) -> {
+			failedBatch.set(batch);
+			failure.set(e);
+		}, null);
+		batcher.submit("a");
+		batcher.submit("b");
+		batcher.close();
+		assertEquals(1, batcher.getFailureCount());
+		assertEquals(2, failedBatch.get().size());
+		assertTrue(failure.get() instanceof IllegalStateException);
+	}
+}
@@ -0,0 +1,92 @@
+package com.threesides.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * MpscArrayQueueTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class MpscArrayQueueTest {
+
+	@Test
+	public void offerAndPoll() {
+		MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+		assertTrue(queue.offer("a"));
+		assertTrue(queue.offer("b"));
+		assertFalse(queue.offer("c"));
+		assertEquals("a", queue.poll());
+		assertTrue(queue.offer("c"));
+		assertEquals(2, queue.size());
+	}
+
+	@Test
+	public void multiProducer() throws InterruptedException {
+		final int producers = 4;
+		final int perProducer = 250_000;
+		final MpscArrayQueue<Long> queue = new MpscArrayQueue<>(512, WaitStrategy.YIELD);
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			threads[p] = new Thread(() -> {
+				for (long i = 1; i <= perProducer; i++) {
+					queue.put(i);
+				}
+			});
+			threads[p].start();
+		}
+		AtomicLong sum = new AtomicLong();
+		int received = 0;
+		while (received < producers * perProducer) {
+			received += queue.awaitDrain(e -> sum.addAndGet(e), 64);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void iterateWhileRunning() throws InterruptedException {
+		final int total = 200_000;
+		final MpscArrayQueue<Long> queue = new MpscArrayQueue<>(256, WaitStrategy.YIELD);
+		Thread producer = new Thread(() -> {
+			for (long i = 1; i <= total; i++) {
+				queue.put(i);
+			}
+		});
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread observer = new Thread(() -> {
+			try {
+				while (producer.isAlive()) {
+					long previous = 0;
+					for (Long e : queue) {
+						// 快照按入队顺序排列
+						assertTrue(e > previous);
+						previous = e;
+					}
+					assertFalse(queue.contains(0L));
+				}
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		});
+		producer.start();
+		observer.start();
+		int received = 0;
+		while (received < total) {
+			received += queue.awaitDrain(e -> {
+			}, 64);
+		}
+		producer.join();
+		observer.join();
+		assertNull(failure.get());
+		assertEquals("[]", queue.toString());
+	}
+}
@@ -0,0 +1,97 @@
+package com.threesides.concurrent;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * ObjectPoolTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class ObjectPoolTest {
+
+	@Test
+	public void reuse() {
+		ObjectPool<StringBuilder> pool = new ObjectPool<>(StringBuilder::new, sb -> sb.setLength(0), 4);
+		StringBuilder first = pool.acquire();
+		first.append("abc");
+		pool.release(first);
+		StringBuilder second = pool.acquire();
+		assertSame(first, second);
+		assertEquals(0, second.length());
+		assertEquals(1, pool.getCreatedCount());
+	}
+
+	@Test
+	public void overflowToShared() throws InterruptedException {
+		ObjectPool<Object> pool = new ObjectPool<>(Object::new, null, 4);
+		Object[] objects = new Object[20];
+		for (int i = 0; i < objects.length; i++) {
+			objects[i] = pool.acquire();
+		}
+		for (Object object : objects) {
+			pool.release(object);
+		}
+		// 线程本地缓存8个,共享栈最多4个,其余丢弃
+		assertEquals(4, pool.getSharedSize());
+		Thread other = new Thread(() -> assertNotNull(pool.acquire()));
+		other.start();
+		other.join();
+		assertEquals(3, pool.getSharedSize());
+	}
+
+	@Test
+	public void leakDetection() throws InterruptedException {
+		AtomicInteger reported = new AtomicInteger();
+		ObjectPool<byte[]> pool = new ObjectPool<>(() -> new byte[1024], null, 4)
+				.leakDetection(true)
+				.leakListener(trace -> reported.incrementAndGet());
+		pool.release(pool.acquire());
+		pool.acquire();
+		for (int i = 0; i < 50 && pool.getLeakCount() == 0; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertEquals(1, pool.getLeakCount());
+		assertEquals(1, reported.get());
+	}
+
+	@Test
+	public void doubleRelease() {
+		ObjectPool<Object> pool = new ObjectPool<>(Object::new, null, 1, 1);
+		Object first = pool.acquire();
+		Object second = pool.acquire();
+		pool.release(first);
+		try {
+			pool.release(first);
+			fail();
+		} catch (BusinessException e) {
+			// 期望的异常
+		}
+		// 本地缓存已满,进入共享栈
+		pool.release(second);
+		try {
+			pool.release(second);
+			fail();
+		} catch (BusinessException e) {
+			// 期望的异常
+		}
+		assertEquals(1, pool.getSharedSize());
+		assertSame(first, pool.acquire());
+		assertSame(second, pool.acquire());
+	}
+
+	@Test
+	public void discard() {
+		ObjectPool<Object> pool = new ObjectPool<>(Object::new, null, 1, 0).leakDetection(true);
+		pool.discard(pool.acquire());
+		assertEquals(0, pool.getSharedSize());
+		assertNotNull(pool.acquire());
+		assertEquals(2, pool.getCreatedCount());
+	}
+}
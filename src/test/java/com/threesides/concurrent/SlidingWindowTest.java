@@ -0,0 +1,72 @@
+package com.threesides.concurrent;
+
+import com.threesides.date.DateTimeUnit;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * SlidingWindowTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class SlidingWindowTest {
+
+	@Test
+	public void rolling() {
+		AtomicLong now = new AtomicLong(1_000_000);
+		SlidingWindow window = new SlidingWindow(1, DateTimeUnit.SECOND, 10, DateTimeUnit.SECOND, now::get);
+		window.record(5);
+		window.record(1);
+		now.addAndGet(4_000);
+		window.record(9);
+		assertEquals(3, window.count());
+		assertEquals(15, window.sum());
+		assertEquals(1, window.min());
+		assertEquals(9, window.max());
+		assertEquals(5.0, window.average(), 0.0001);
+
+		now.addAndGet(6_000);
+		assertEquals(1, window.count());
+		assertEquals(9, window.min());
+		now.addAndGet(5_000);
+		assertEquals(0, window.count());
+		assertEquals(Long.MAX_VALUE, window.min());
+	}
+
+	@Test
+	public void keyedEviction() {
+		AtomicLong now = new AtomicLong(0);
+		KeyedSlidingWindow<String> windows = new KeyedSlidingWindow<>(1, DateTimeUnit.SECOND, 1, DateTimeUnit.MINUTE,
+				DateTimeUnit.MINUTE.getMillis(), now::get);
+		windows.increment("a");
+		windows.increment("a");
+		windows.record("b", 10);
+		assertEquals(2, windows.count("a"));
+		assertEquals(10, windows.sum("b"));
+		now.addAndGet(30_000);
+		windows.increment("b");
+		now.addAndGet(40_000);
+		windows.increment("c");
+		assertNull(windows.window("a"));
+		assertNotNull(windows.window("b"));
+		assertEquals(2, windows.size());
+	}
+
+	@Test
+	public void evictionRacesWithWriter() {
+		SlidingWindow window = new SlidingWindow(1, DateTimeUnit.SECOND, 1, DateTimeUnit.MINUTE, () -> 0L);
+		KeyedSlidingWindow.Slot slot = new KeyedSlidingWindow.Slot(window, 0);
+		// 写入方先更新访问时间,清理方按旧的访问时间判断空闲,CAS 失败
+		assertTrue(slot.touch(70_000));
+		assertFalse(slot.evictIfIdle(70_000, 60_000));
+		assertTrue(slot.evictIfIdle(130_000, 60_000));
+		assertTrue(slot.isEvicted());
+		// 已清理的窗口不能再被写入方使用
+		assertFalse(slot.touch(130_000));
+		assertFalse(slot.evictIfIdle(200_000, 60_000));
+	}
+}
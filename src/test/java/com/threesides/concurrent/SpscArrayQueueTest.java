@@ -0,0 +1,91 @@
+package com.threesides.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * SpscArrayQueueTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class SpscArrayQueueTest {
+
+	@Test
+	public void offerAndPoll() {
+		SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+		assertEquals(4, queue.capacity());
+		assertTrue(queue.isEmpty());
+		for (int i = 0; i < 4; i++) {
+			assertTrue(queue.offer(i));
+		}
+		assertFalse(queue.offer(4));
+		assertEquals(4, queue.size());
+		assertEquals(Integer.valueOf(0), queue.peek());
+		assertEquals(Integer.valueOf(0), queue.poll());
+		assertTrue(queue.offer(4));
+		for (int i = 1; i <= 4; i++) {
+			assertEquals(Integer.valueOf(i), queue.poll());
+		}
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void drain() {
+		SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(8);
+		for (int i = 0; i < 6; i++) {
+			queue.offer(i);
+		}
+		List<Integer> list = new ArrayList<>();
+		assertEquals(4, queue.drain(list::add, 4));
+		assertEquals(2, queue.drain(list::add));
+		assertEquals(0, queue.drain(list::add));
+		assertEquals(6, list.size());
+		assertEquals(Integer.valueOf(5), list.get(5));
+	}
+
+	@Test
+	public void snapshotIterator() {
+		SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+		assertEquals("[]", queue.toString());
+		for (int i = 0; i < 4; i++) {
+			queue.offer(i);
+		}
+		queue.poll();
+		queue.offer(4);
+		assertEquals("[1, 2, 3, 4]", queue.toString());
+		assertTrue(queue.contains(4));
+		assertFalse(queue.contains(0));
+		assertArrayEquals(new Object[]{1, 2, 3, 4}, queue.toArray());
+		Iterator<Integer> iterator = queue.iterator();
+		queue.poll();
+		queue.offer(5);
+		List<Integer> seen = new ArrayList<>();
+		iterator.forEachRemaining(seen::add);
+		assertEquals(Arrays.asList(1, 2, 3, 4), seen);
+	}
+
+	@Test
+	public void producerConsumer() throws InterruptedException {
+		final int total = 1_000_000;
+		final SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(1024, WaitStrategy.PARK);
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < total; i++) {
+				queue.put(i);
+			}
+		});
+		producer.start();
+		long expected = 0;
+		for (int i = 0; i < total; i++) {
+			assertEquals(expected++, queue.take().longValue());
+		}
+		producer.join();
+		assertTrue(queue.isEmpty());
+	}
+}
@@ -0,0 +1,42 @@
+package com.threesides.exception;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * AssertTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class AssertTest {
+
+	@Test
+	public void notContain() {
+		// 不包含子串时通过
+		Assert.notContain("select 1", "drop");
+		Assert.notContain("select 1", "drop", "bad sql");
+		Assert.notContain(new StringBuilder("select 1"), "drop", "E01", "bad sql");
+
+		// 包含子串时抛出异常,修正前这里恰好相反
+		try {
+			Assert.notContain("drop table t", "drop");
+			fail();
+		} catch (BusinessException e) {
+			// 期望的异常
+		}
+		try {
+			Assert.notContain("drop table t", "drop", "bad sql");
+			fail();
+		} catch (BusinessException e) {
+			assertEquals("bad sql", e.getMessage());
+		}
+		try {
+			Assert.notContain(new StringBuilder("drop table t"), "drop", "E01", "bad sql");
+			fail();
+		} catch (BusinessException e) {
+			assertEquals("bad sql", e.getMessage());
+		}
+	}
+}
@@ -3,6 +3,10 @@ package com.threesides.lang;
 
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
 /**
  * ArrayUtilTest
  *
@@ -29,4 +33,17 @@ public class ArrayUtilTest {
 		System.out.println("nullElements = " + nullElements);
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void byteBufferToArray() {
+		ByteBuffer direct = ByteBuffer.allocateDirect(4);
+		direct.put(new byte[]{1, 2, 3, 4}).flip();
+		direct.position(1);
+		assertArrayEquals(new byte[]{2, 3, 4}, ArrayUtil.toArray(direct));
+		assertFalse(direct.hasRemaining());
+
+		ByteBuffer heap = ByteBuffer.wrap(new byte[]{5, 6, 7}, 1, 1);
+		assertArrayEquals(new byte[]{6}, ArrayUtil.toArray(heap));
+		assertEquals(2, heap.position());
+	}
+}
@@ -0,0 +1,118 @@
+package com.threesides.lang;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Base64CodecTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class Base64CodecTest {
+
+	private static final Base64Codec[] CODECS = {Base64Codec.STANDARD, Base64Codec.URL_SAFE, Base64Codec.MIME,
+			Base64Codec.STANDARD.withoutPadding(), Base64Codec.URL_SAFE.withoutPadding(), Base64Codec.MIME.withoutPadding()};
+
+	private static final Base64.Encoder[] ENCODERS = {Base64.getEncoder(), Base64.getUrlEncoder(), Base64.getMimeEncoder(),
+			Base64.getEncoder().withoutPadding(), Base64.getUrlEncoder().withoutPadding(), Base64.getMimeEncoder().withoutPadding()};
+
+	@Test
+	public void encodeAndDecode() {
+		assertEquals("-_8", Base64Codec.URL_SAFE.withoutPadding().encodeToString(new byte[]{-5, -1}));
+		assertEquals("+/8=", Base64Codec.STANDARD.encodeToString(new byte[]{-5, -1}));
+		assertArrayEquals(new byte[]{-5, -1}, Base64Codec.STANDARD.decode("+/8="));
+		assertArrayEquals(new byte[]{-5, -1}, Base64Codec.STANDARD.decode("+/8"));
+		assertArrayEquals("abc".getBytes(StandardCharsets.US_ASCII), Base64Codec.MIME.decode(" YW\r\nJj\t"));
+
+		byte[] ascii = "xxYWJjZA==".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(4, Base64Codec.STANDARD.decode(ascii, 2, 8, ascii, 0));
+		assertEquals("abcd", new String(ascii, 0, 4, StandardCharsets.US_ASCII));
+
+		ByteBuffer src = ByteBuffer.wrap("YWJjZA".getBytes(StandardCharsets.US_ASCII));
+		ByteBuffer dst = ByteBuffer.allocateDirect(4);
+		Base64Codec.URL_SAFE.decode(src, dst);
+		assertFalse(src.hasRemaining());
+		assertEquals(4, dst.position());
+
+		for (String illegal : new String[]{"Q", "QQ=", "Q===", "QUJD=", "QU!D", "QQ==QQ==", "QUI=Q", "+/8_"}) {
+			try {
+				Base64Codec.STANDARD.decode(illegal);
+				fail(illegal);
+			} catch (BusinessException e) {
+				// 期望的异常
+			}
+		}
+		try {
+			Base64Codec.MIME.decode("QQ==QQ");
+			fail();
+		} catch (BusinessException e) {
+			// 期望的异常
+		}
+	}
+
+	@Test
+	public void matchesJdk() {
+		Random random = new Random(41);
+		for (int round = 0; round < 1000; round++) {
+			byte[] data = new byte[round % 100 == 0 ? 10000 + random.nextInt(5000) : random.nextInt(200)];
+			random.nextBytes(data);
+			for (int c = 0; c < CODECS.length; c++) {
+				String expected = ENCODERS[c].encodeToString(data);
+				assertEquals(expected, CODECS[c].encodeToString(data));
+				assertEquals(expected.length(), CODECS[c].encodedLength(data.length));
+				byte[] ascii = new byte[expected.length()];
+				CODECS[c].encode(data, 0, data.length, ascii, 0);
+				assertEquals(expected, new String(ascii, StandardCharsets.US_ASCII));
+				assertArrayEquals(data, CODECS[c].decode(expected));
+				assertArrayEquals(data, CODECS[c].decode(ascii));
+				assertArrayEquals(data, CODECS[c].decode(new StringBuilder(expected)));
+			}
+		}
+	}
+
+	@Test
+	public void streams() throws IOException {
+		Random random = new Random(43);
+		for (int round = 0; round < 50; round++) {
+			byte[] data = new byte[random.nextInt(20000)];
+			random.nextBytes(data);
+			for (int c = 0; c < CODECS.length; c++) {
+				ByteArrayOutputStream sink = new ByteArrayOutputStream();
+				try (OutputStream out = CODECS[c].wrap(sink)) {
+					for (int i = 0; i < data.length; ) {
+						int n = Math.min(data.length - i, random.nextInt(5000));
+						if (n == 1) {
+							out.write(data[i]);
+						} else {
+							out.write(data, i, n);
+						}
+						i += n;
+					}
+				}
+				assertEquals(ENCODERS[c].encodeToString(data), new String(sink.toByteArray(), StandardCharsets.US_ASCII));
+
+				ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+				try (InputStream in = CODECS[c].wrap(new ByteArrayInputStream(sink.toByteArray()))) {
+					byte[] buffer = new byte[1 + random.nextInt(3000)];
+					for (int n; (n = in.read(buffer)) >= 0; ) {
+						decoded.write(buffer, 0, n);
+					}
+				}
+				assertArrayEquals(data, decoded.toByteArray());
+			}
+		}
+	}
+}
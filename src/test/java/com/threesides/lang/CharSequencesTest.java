@@ -0,0 +1,88 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * CharSequencesTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class CharSequencesTest {
+
+	private static final String ALPHABET = "aAbBzZ09_éÉßİıKσΣς";
+
+	@Test
+	public void stringUtilMethods() {
+		StringBuilder sb = new StringBuilder("Hello World");
+		assertTrue(StringUtil.equals(sb, "hello world", true));
+		assertFalse(StringUtil.equals(sb, "hello world", false));
+		assertTrue(StringUtil.startWith(sb, "HELLO", true));
+		assertFalse(StringUtil.startWith(sb, "Hello World", false, true));
+		assertTrue(StringUtil.endWith(sb, "World", false));
+		assertTrue(StringUtil.endWithIgnoreCase(sb, "WORLD"));
+		assertFalse(StringUtil.endWith(sb, "xHello World", false));
+		assertTrue(StringUtil.endWith(null, null, false));
+		assertTrue(StringUtil.regionMatches(sb, true, 6, "xworld", 1, 5));
+		assertFalse(StringUtil.regionMatches(sb, true, 7, "world", 0, 5));
+		assertTrue(StringUtil.compare(new StringBuilder("abc"), "abd", false) < 0);
+		assertEquals(0, StringUtil.compare(new StringBuilder("ABC"), "abc", true));
+		assertTrue(StringUtil.compare(null, "a", false) < 0);
+		assertEquals(0, StringUtil.compare(null, null, true));
+	}
+
+	@Test
+	public void matchesString() {
+		Random random = new Random(11);
+		for (int round = 0; round < 20_000; round++) {
+			int length = round % 10 == 0 ? 1000 + random.nextInt(2000) : random.nextInt(50);
+			String a = randomText(random, length);
+			String b = random.nextInt(3) == 0 ? a : mutate(random, a);
+			CharSequence aSeq = random.nextBoolean() ? new StringBuilder(a) : a;
+			CharSequence bSeq = random.nextBoolean() ? new StringBuffer(b) : b;
+			for (boolean ignoreCase : new boolean[]{false, true}) {
+				assertEquals(ignoreCase ? a.equalsIgnoreCase(b) : a.equals(b), StringUtil.equals(aSeq, bSeq, ignoreCase));
+				assertEquals(Integer.signum(ignoreCase ? a.compareToIgnoreCase(b) : a.compareTo(b)),
+						Integer.signum(StringUtil.compare(aSeq, bSeq, ignoreCase)));
+				int aOffset = random.nextInt(a.length() + 2) - 1;
+				int bOffset = random.nextInt(b.length() + 2) - 1;
+				int regionLength = random.nextInt(Math.max(1, Math.min(a.length(), b.length()) + 2));
+				assertEquals(a.regionMatches(ignoreCase, aOffset, b, bOffset, regionLength),
+						StringUtil.regionMatches(aSeq, ignoreCase, aOffset, bSeq, bOffset, regionLength));
+			}
+		}
+	}
+
+	private static String mutate(Random random, String s) {
+		StringBuilder sb = new StringBuilder(s);
+		switch (random.nextInt(4)) {
+			case 0:
+				return sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length()))).toString();
+			case 1:
+				if (sb.length() > 0) {
+					sb.setCharAt(random.nextInt(sb.length()), ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+				}
+				return sb.toString();
+			case 2:
+				for (int i = 0; i < sb.length(); i++) {
+					char c = sb.charAt(i);
+					sb.setCharAt(i, random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+				}
+				return sb.toString();
+			default:
+				return sb.length() > 0 ? sb.substring(0, random.nextInt(sb.length())) : "";
+		}
+	}
+
+	private static String randomText(Random random, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+		}
+		return new String(chars);
+	}
+}
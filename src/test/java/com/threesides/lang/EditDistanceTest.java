@@ -0,0 +1,130 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * EditDistanceTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class EditDistanceTest {
+
+	@Test
+	public void levenshtein() {
+		assertEquals(3, EditDistance.levenshtein("kitten", "sitting"));
+		assertEquals(0, EditDistance.levenshtein("", ""));
+		assertEquals(5, EditDistance.levenshtein("", "abcde"));
+		assertEquals(2, EditDistance.levenshtein("订单号", "订货单"));
+		assertEquals(-1, EditDistance.levenshtein("kitten", "sitting", 2));
+		assertEquals(3, EditDistance.levenshtein("kitten", "sitting", 3));
+		assertEquals(-1, EditDistance.levenshtein("a", "abcd", 2));
+		assertEquals(1, EditDistance.compile("Hello", true).distance("hELLo!"));
+		assertTrue(EditDistance.compile("search").isWithin(new StringBuilder("serach"), 2));
+	}
+
+	@Test
+	public void matchesDynamicProgramming() {
+		Random random = new Random(5);
+		for (int round = 0; round < 5000; round++) {
+			// 覆盖单块、恰好 64、多块的模式
+			int patternLength = round % 5 == 0 ? 60 + random.nextInt(200) : random.nextInt(20);
+			String pattern = randomText(random, patternLength);
+			String text = random.nextBoolean() ? mutate(random, pattern) : randomText(random, random.nextInt(patternLength + 10));
+			int expected = classic(pattern, text);
+			EditDistance distance = EditDistance.compile(pattern);
+			assertEquals(expected, distance.distance(text));
+			assertEquals(expected, EditDistance.levenshtein(text, pattern));
+			int max = random.nextInt(expected + 3);
+			assertEquals(expected <= max ? expected : -1, distance.distance(text, max));
+		}
+		String pattern = randomText(random, 64);
+		String text = mutate(random, pattern);
+		assertEquals(classic(pattern, text), EditDistance.levenshtein(pattern, text));
+	}
+
+	@Test
+	public void closest() {
+		List<String> candidates = Arrays.asList("apple", "maple", "banana", null, "apply", "ape");
+		List<EditDistance.Match<String>> matches = EditDistance.compile("aple").closest(candidates, 3, 1);
+		assertEquals("[apple(1), maple(1), ape(1)]", matches.toString());
+		assertTrue(EditDistance.compile("aple").closest(candidates, 0, 5).isEmpty());
+
+		Random random = new Random(9);
+		List<String> many = new ArrayList<>();
+		for (int i = 0; i < EditDistance.PARALLEL_THRESHOLD * 4; i++) {
+			many.add(randomText(random, 3 + random.nextInt(8)));
+		}
+		String query = many.get(123);
+		List<EditDistance.Match<String>> top = EditDistance.compile(query).closest(many, 10, 3);
+		assertEquals(query, top.get(0).getValue());
+		assertEquals(0, top.get(0).getDistance());
+		for (int i = 1; i < top.size(); i++) {
+			assertTrue(top.get(i - 1).getDistance() <= top.get(i).getDistance());
+			assertEquals(classic(query, top.get(i).getValue()), top.get(i).getDistance());
+		}
+		List<EditDistance.Match<Integer>> byLength = EditDistance.compile("xxxx")
+				.closest(Arrays.asList(1, 22, 333, 4444), i -> String.valueOf(i).replace(String.valueOf(i % 10), "x"), 2, 4);
+		assertEquals("[4444(0), 333(1)]", byLength.toString());
+	}
+
+	private static int classic(String a, String b) {
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[b.length()];
+	}
+
+	private static String mutate(Random random, String s) {
+		StringBuilder sb = new StringBuilder(s);
+		for (int edits = random.nextInt(6); edits > 0; edits--) {
+			int index = random.nextInt(sb.length() + 1);
+			switch (random.nextInt(3)) {
+				case 0:
+					sb.insert(index, randomChar(random));
+					break;
+				case 1:
+					if (index < sb.length()) {
+						sb.setCharAt(index, randomChar(random));
+					}
+					break;
+				default:
+					if (index < sb.length()) {
+						sb.deleteCharAt(index);
+					}
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String randomText(Random random, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = randomChar(random);
+		}
+		return new String(chars);
+	}
+
+	private static char randomChar(Random random) {
+		return random.nextInt(8) == 0 ? (char) ('甲' + random.nextInt(3)) : (char) ('a' + random.nextInt(4));
+	}
+}
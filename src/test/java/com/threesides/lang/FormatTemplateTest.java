@@ -0,0 +1,157 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * FormatTemplateTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class FormatTemplateTest {
+
+	@Test
+	public void format() {
+		FormatTemplate template = StringUtil.compile("今天吃{},还是吃{}");
+		assertEquals(2, template.getSlotCount());
+		assertEquals("今天吃面,还是吃饭", template.format("面", "饭"));
+		assertEquals("今天吃面,还是吃饭", template.format("面", "饭", "粥"));
+		assertEquals("今天吃面,还是吃{}", template.format("面"));
+		assertEquals("今天吃null,还是吃1", template.format(null, 1));
+		assertSame(template.getPattern(), template.format());
+	}
+
+	@Test
+	public void escape() {
+		assertEquals("a{}b", StringUtil.format("a\\{}b", 1));
+		assertEquals("a\\1b", StringUtil.format("a\\\\{}b", 1));
+		assertEquals("{}1\\{}", StringUtil.format("\\{}{}\\{}", 1));
+		assertEquals("{}1{}2", StringUtil.format("\\{}{}\\{}{}", 1, 2, 3));
+		assertEquals("x{}", StringUtil.format("x\\{}", 1, 2));
+	}
+
+	@Test
+	public void cached() {
+		String pattern = new String("cached {}");
+		assertSame(FormatTemplate.cached(pattern), FormatTemplate.cached("cached {}"));
+	}
+
+	@Test
+	public void formatToStringBuilder() {
+		StringBuilder sb = new StringBuilder("> ");
+		StringUtil.formatTo(sb, "a={}, b={}", "x", 2);
+		assertEquals("> a=x, b=2", sb.toString());
+		assertEquals("n=-42 \\{}", StringUtil.formatTo(new StringBuilder(), "n={} \\{}", -42).toString());
+		assertEquals("n=9223372036854775807", StringUtil.formatTo(new StringBuilder(), "n={}", Long.MAX_VALUE).toString());
+		assertEquals("d=0.5", StringUtil.formatTo(new StringBuilder(), "d={}", 0.5d).toString());
+		assertEquals("\\{}", StringUtil.formatTo(new StringBuilder(), "\\{}").toString());
+	}
+
+	@Test
+	public void formatToAppendable() {
+		StringWriter writer = new StringWriter();
+		assertSame(writer, StringUtil.formatTo(writer, "今天吃{},还是吃{}", "面", "饭"));
+		assertEquals("今天吃面,还是吃饭", writer.toString());
+
+		FormatTemplate template = StringUtil.compile("a={} \\{} b={}");
+		for (Object[] args : new Object[][]{{}, {1}, {1, 2}, {1, 2, 3}, {null, "x"}}) {
+			assertEquals(template.format(args), template.formatTo(new StringWriter(), args).toString());
+		}
+	}
+
+	@Test
+	public void doubleFormatting() {
+		for (double d : new double[]{2.0E-3, 0.5, 1.0E23, -0.0, Double.NaN, 123456.789}) {
+			// Object 参数沿用 toString
+			String expected = "d=" + d;
+			assertEquals(expected, StringUtil.format("d={}", d));
+			assertEquals(expected, StringUtil.formatTo(new StringBuilder(), "d={}", (Object) d).toString());
+			assertEquals(expected, StringUtil.formatTo(new StringWriter(), "d={}", d).toString());
+			ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+			StringUtil.formatTo(buffer, "d={}", (Object) d);
+			buffer.flip();
+			assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+		}
+		// double 单参数重载输出最短表示
+		assertEquals("d=0.002", StringUtil.formatTo(new StringBuilder(), "d={}", 2.0E-3).toString());
+		assertEquals("d=" + 2.0E-3, StringUtil.format("d={}", 2.0E-3));
+	}
+
+	@Test
+	public void formatToByteBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		StringUtil.formatTo(buffer, "今天吃{},还是吃{}", "面", "\uD83D\uDE00");
+		StringUtil.formatTo(buffer, ";{}", Long.MIN_VALUE);
+		StringUtil.formatTo(buffer, ";{}", 7);
+		buffer.flip();
+		assertEquals("今天吃面,还是吃\uD83D\uDE00;-9223372036854775808;7", StandardCharsets.UTF_8.decode(buffer).toString());
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(128);
+		for (long value : new long[]{0, 7, -7, 10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+			StringUtil.formatTo(direct, "{};", value);
+		}
+		direct.flip();
+		assertEquals("0;7;-7;10;1234567890123;9223372036854775807;-9223372036854775808;",
+				StandardCharsets.UTF_8.decode(direct).toString());
+
+		ByteBuffer small = ByteBuffer.allocate(8);
+		small.put((byte) 'x');
+		try {
+			StringUtil.formatTo(small, "id={}", 123456789L);
+			fail();
+		} catch (BufferOverflowException e) {
+			assertEquals(1, small.position());
+		}
+	}
+
+	@Test
+	public void longUncachedPattern() {
+		// 超过缓存长度的模板每次调用都重新解析,解析时不做 UTF-8 编码,只在写入 ByteBuffer 时按需编码
+		StringBuilder pattern = new StringBuilder();
+		Object[] args = new Object[200];
+		for (int i = 0; i < args.length; i++) {
+			pattern.append(i % 3 == 0 ? "订单" : i % 3 == 1 ? "\uD83D\uDE00" : "ab").append("={}, ");
+			args[i] = i;
+		}
+		pattern.append("\uD800尾");
+		assertTrue(pattern.length() > 1024);
+		String expected = StringUtil.format(pattern.toString(), args);
+		for (int used : new int[]{args.length, 1, 100}) {
+			Object[] part = Arrays.copyOf(args, used);
+			ByteBuffer buffer = ByteBuffer.allocate(8192);
+			StringUtil.formatTo(buffer, pattern.toString(), part);
+			buffer.flip();
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			assertArrayEquals(StringUtil.format(pattern.toString(), part).getBytes(StandardCharsets.UTF_8), bytes);
+		}
+		assertTrue(expected.endsWith("=199, \uD800尾"));
+	}
+
+	@Test
+	public void charAndFloat() {
+		assertEquals("v=c", StringUtil.formatTo(new StringBuilder(), "v={}", 'c').toString());
+		assertEquals("v=订", StringUtil.formatTo(new StringBuilder(), "v={}", '订').toString());
+		assertEquals("v=0.1", StringUtil.formatTo(new StringBuilder(), "v={}", 0.1f).toString());
+		assertEquals(StringUtil.format("v={}", 'c'), StringUtil.formatTo(new StringBuilder(), "v={}", 'c').toString());
+		assertEquals(StringUtil.format("v={}", 0.1f), StringUtil.formatTo(new StringBuilder(), "v={}", 0.1f).toString());
+
+		for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+			for (char c : new char[]{'c', 'é', '订', '\uD800'}) {
+				StringUtil.formatTo(buffer, "{};", c);
+			}
+			StringUtil.formatTo(buffer, "{};", 0.1f);
+			StringUtil.formatTo(buffer, "{};", -3.4028235E38f);
+			buffer.flip();
+			assertEquals("c;é;订;?;0.1;-3.4028235E38;", StandardCharsets.UTF_8.decode(buffer).toString());
+		}
+	}
+}
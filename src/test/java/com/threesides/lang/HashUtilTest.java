@@ -0,0 +1,120 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CheckedInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * HashUtilTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class HashUtilTest {
+
+	@Test
+	public void referenceValues() {
+		assertEquals(0xEF46DB3751D8E999L, HashUtil.xxHash64(new byte[0]));
+		assertEquals(0x44BC2CF5AD770999L, HashUtil.xxHash64("abc"));
+		assertEquals(0xBEA9CA8199328908L, HashUtil.xxHash64("abc", 1));
+		assertEquals(0xFBCEA83C8A378BF1L, HashUtil.xxHash64("Nobody inspects the spammish repetition"));
+		assertEquals(0x0FB765FAACD75DFAL, HashUtil.xxHash64(new StringBuilder("订单-2026")));
+
+		assertEquals(0, HashUtil.murmur3x32(new byte[0]));
+		assertEquals(0x514E28B7, HashUtil.murmur3x32("", 1));
+		assertEquals(0x24884CBA, HashUtil.murmur3x32("Hello, world!", 0x9747B28C));
+		assertEquals(0xCC2F5319, HashUtil.murmur3x32("订单-2026"));
+
+		assertArrayEquals(new long[]{0xE34BBC7BBC071B6CL, 0x7A433CA9C49A9347L},
+				HashUtil.murmur3x128("The quick brown fox jumps over the lazy dog"));
+	}
+
+	@Test
+	public void sourcesAgree() {
+		Random random = new Random(17);
+		for (int round = 0; round < 500; round++) {
+			String text = randomText(random, round % 25 == 0 ? 2000 + random.nextInt(2000) : random.nextInt(80));
+			byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+			byte[] padded = new byte[utf8.length + 6];
+			System.arraycopy(utf8, 0, padded, 3, utf8.length);
+			ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length);
+			direct.put(utf8).flip();
+			long seed = random.nextLong();
+
+			long xx = HashUtil.xxHash64(utf8, 0, utf8.length, seed);
+			assertEquals(xx, HashUtil.xxHash64(text, seed));
+			assertEquals(xx, HashUtil.xxHash64(padded, 3, utf8.length, seed));
+			assertEquals(xx, HashUtil.xxHash64(direct, seed));
+			assertEquals(0, direct.position());
+			assertEquals(HashUtil.murmur3x32(utf8, 0, utf8.length, (int) seed), HashUtil.murmur3x32(text, (int) seed));
+			assertEquals(HashUtil.murmur3x32(utf8, 0, utf8.length, (int) seed), HashUtil.murmur3x32(direct, (int) seed));
+			assertArrayEquals(HashUtil.murmur3x128(utf8, 0, utf8.length, (int) seed), HashUtil.murmur3x128(text, (int) seed));
+			assertArrayEquals(HashUtil.murmur3x128(utf8, 0, utf8.length, (int) seed), HashUtil.murmur3x128(direct, (int) seed));
+		}
+	}
+
+	@Test
+	public void streaming() throws IOException {
+		Random random = new Random(23);
+		for (int round = 0; round < 300; round++) {
+			byte[] data = new byte[random.nextInt(600)];
+			random.nextBytes(data);
+			int seed = random.nextInt();
+			Hasher.XxHash64 xx = HashUtil.newXxHash64(seed);
+			Hasher.Murmur3x32 m32 = HashUtil.newMurmur3x32(seed);
+			Hasher.Murmur3x128 m128 = HashUtil.newMurmur3x128(seed);
+			for (Hasher hasher : new Hasher[]{xx, m32, m128}) {
+				hasher.update(new byte[]{1, 2, 3});
+				hasher.reset();
+				for (int i = 0; i < data.length; ) {
+					int n = Math.min(data.length - i, random.nextInt(40));
+					if (n == 1) {
+						hasher.update(data[i]);
+					} else {
+						hasher.update(data, i, n);
+					}
+					i += n;
+				}
+				assertEquals(data.length, hasher.getLength());
+			}
+			assertEquals(HashUtil.xxHash64(data, 0, data.length, seed), xx.getValue());
+			assertEquals(HashUtil.murmur3x32(data, 0, data.length, seed), (int) m32.getValue());
+			assertArrayEquals(HashUtil.murmur3x128(data, 0, data.length, seed), m128.getValues());
+			assertEquals(m128.getValues()[0], m128.getValue());
+		}
+
+		String text = "分片键-shard-key-😀-" + new String(new char[3000]).replace('\0', 'é');
+		Hasher hasher = HashUtil.newXxHash64(0);
+		hasher.update(text, 0, 7);
+		hasher.update(ByteBuffer.wrap(text.substring(7).getBytes(StandardCharsets.UTF_8)));
+		assertEquals(HashUtil.xxHash64(text), hasher.getValue());
+
+		byte[] data = text.getBytes(StandardCharsets.UTF_8);
+		try (CheckedInputStream in = new CheckedInputStream(new ByteArrayInputStream(data), HashUtil.newMurmur3x32(0))) {
+			while (in.read(new byte[100]) >= 0) {
+				// 读完即可
+			}
+			assertEquals(HashUtil.murmur3x32(text), (int) in.getChecksum().getValue());
+		}
+	}
+
+	private static String randomText(Random random, int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			int kind = random.nextInt(8);
+			sb.append(kind < 4 ? (char) ('a' + random.nextInt(26))
+					: kind == 4 ? (char) ('α' + random.nextInt(20))
+					: kind == 5 ? (char) ('甲' + random.nextInt(100))
+					: kind == 6 ? (char) (Character.MIN_SURROGATE + random.nextInt(0x800))
+					: ' ');
+		}
+		return sb.toString();
+	}
+}
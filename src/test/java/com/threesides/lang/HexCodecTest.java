@@ -0,0 +1,123 @@
+package com.threesides.lang;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * HexCodecTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class HexCodecTest {
+
+	@Test
+	public void encodeAndDecode() {
+		assertEquals("", HexCodec.LOWER.encodeToString(new byte[0]));
+		assertEquals("01ab7f80ff", HexCodec.LOWER.encodeToString(new byte[]{1, (byte) 0xAB, 0x7F, (byte) 0x80, -1}));
+		assertEquals("01AB7F80FF", HexCodec.UPPER.encodeToString(new byte[]{1, (byte) 0xAB, 0x7F, (byte) 0x80, -1}));
+		assertArrayEquals(new byte[]{1, (byte) 0xAB, 0x7F, (byte) 0x80, -1}, HexCodec.LOWER.decode("01Ab7f80fF"));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(3);
+		direct.put(new byte[]{0x12, 0x34, 0x56}).flip();
+		assertEquals("123456", HexCodec.LOWER.encodeToString(direct));
+		assertFalse(direct.hasRemaining());
+
+		byte[] ascii = "--0a0b0c".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(3, HexCodec.LOWER.decode(ascii, 2, 6, ascii, 0));
+		assertArrayEquals(new byte[]{10, 11, 12}, new byte[]{ascii[0], ascii[1], ascii[2]});
+
+		for (String illegal : new String[]{"abc", "0g", "12345678901234x6", "订单"}) {
+			try {
+				HexCodec.LOWER.decode(illegal);
+				fail(illegal);
+			} catch (BusinessException e) {
+				// 期望的异常
+			}
+		}
+	}
+
+	@Test
+	public void illegalCharacterMessage() {
+		assertIllegal("illegal hex character 'İ' (0x130) at index 0", () -> HexCodec.LOWER.decode("İf"));
+		assertIllegal("illegal hex character '٠' (0x660) at index 1", () -> HexCodec.LOWER.decode("f٠"));
+		assertIllegal("illegal hex character 'ÿ' (0xff) at index 3", () -> HexCodec.LOWER.decode("0a0ÿ"));
+		assertIllegal("illegal hex character '订' (0x8ba2) at index 4", () -> HexCodec.LOWER.decode("xx0a0b订f".toCharArray(), 2, 6, new byte[3], 0));
+		assertIllegal("illegal hex character 0x67 at index 1", () -> HexCodec.LOWER.decode("--0g".getBytes(StandardCharsets.US_ASCII), 2, 2, new byte[1], 0));
+
+		byte[] ascii = new byte[10000];
+		Arrays.fill(ascii, (byte) '0');
+		ascii[9001] = 'z';
+		assertIllegal("illegal hex character 0x7a at index 9001", () -> {
+			try (InputStream in = HexCodec.LOWER.wrap(new ByteArrayInputStream(ascii))) {
+				while (in.read(new byte[333]) >= 0) {
+					// 读到结尾
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private static void assertIllegal(String message, Runnable decode) {
+		try {
+			decode.run();
+			fail(message);
+		} catch (BusinessException e) {
+			assertEquals(message, e.getMessage());
+		}
+	}
+
+	@Test
+	public void matchesFormat() {
+		Random random = new Random(31);
+		for (int round = 0; round < 500; round++) {
+			byte[] data = new byte[random.nextInt(100)];
+			random.nextBytes(data);
+			StringBuilder expected = new StringBuilder();
+			for (byte b : data) {
+				expected.append(String.format("%02x", b));
+			}
+			assertEquals(expected.toString(), HexCodec.LOWER.encodeToString(data));
+			char[] chars = new char[data.length * 2 + 1];
+			HexCodec.UPPER.encode(data, 0, data.length, chars, 1);
+			assertEquals(expected.toString().toUpperCase(), new String(chars, 1, data.length * 2));
+			byte[] decoded = new byte[data.length];
+			assertEquals(data.length, HexCodec.LOWER.decode(chars, 1, data.length * 2, decoded, 0));
+			assertArrayEquals(data, decoded);
+		}
+	}
+
+	@Test
+	public void streams() throws IOException {
+		byte[] data = new byte[5000];
+		new Random(37).nextBytes(data);
+		ByteArrayOutputStream sink = new ByteArrayOutputStream();
+		try (OutputStream out = HexCodec.UPPER.wrap(sink)) {
+			out.write(data[0]);
+			out.write(data, 1, data.length - 1);
+		}
+		assertEquals(HexCodec.UPPER.encodeToString(data), new String(sink.toByteArray(), StandardCharsets.US_ASCII));
+
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+		try (InputStream in = HexCodec.LOWER.wrap(new ByteArrayInputStream(sink.toByteArray()))) {
+			byte[] buffer = new byte[777];
+			for (int n; (n = in.read(buffer)) >= 0; ) {
+				decoded.write(buffer, 0, n);
+			}
+		}
+		assertArrayEquals(data, decoded.toByteArray());
+	}
+}
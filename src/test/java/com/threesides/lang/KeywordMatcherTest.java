@@ -0,0 +1,99 @@
+package com.threesides.lang;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * KeywordMatcherTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class KeywordMatcherTest {
+
+	@Test
+	public void findAll() {
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("he", "she", "his", "hers"));
+		assertEquals("[she@1, he@2, hers@2]", matcher.findAll("ushers").toString());
+		assertEquals("she@1", matcher.findFirst("ushers").toString());
+		assertTrue(matcher.containsAny("this"));
+		assertFalse(matcher.containsAny("HIS"));
+		assertNull(matcher.findFirst("xyz"));
+		assertEquals(Collections.emptyList(), matcher.findAll(null));
+		assertEquals(4, matcher.size());
+	}
+
+	@Test
+	public void ignoreCase() {
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("Spam", "SPAM", "笨蛋"), true);
+		assertEquals(2, matcher.size());
+		KeywordMatcher.Match match = matcher.findFirst("no sPaM here");
+		assertEquals("Spam", match.getKeyword());
+		assertEquals(3, match.getStart());
+		assertEquals(7, match.getEnd());
+		assertEquals("你是**, ****", matcher.mask("你是笨蛋, SPAM", '*'));
+		assertEquals("clean", matcher.mask("clean", '*'));
+	}
+
+	@Test
+	public void forEachMatchStops() {
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("a", "aa"));
+		List<String> seen = new ArrayList<>();
+		matcher.forEachMatch("aaaa", (keyword, start, end) -> {
+			seen.add(keyword + start);
+			return seen.size() < 3;
+		});
+		assertEquals(Arrays.asList("a0", "aa0", "a1"), seen);
+	}
+
+	@Test(expected = BusinessException.class)
+	public void emptyKeyword() {
+		KeywordMatcher.compile(Arrays.asList("a", ""));
+	}
+
+	@Test
+	public void matchesBruteForce() {
+		Random random = new Random(7);
+		for (int round = 0; round < 50; round++) {
+			Set<String> keywords = new LinkedHashSet<>();
+			int count = 1 + random.nextInt(round < 40 ? 20 : 3000);
+			while (keywords.size() < count) {
+				keywords.add(randomText(random, 1 + random.nextInt(6)));
+			}
+			KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+			String text = randomText(random, 2000);
+
+			List<String> expected = new ArrayList<>();
+			for (int end = 1; end <= text.length(); end++) {
+				List<String> atEnd = new ArrayList<>();
+				for (String keyword : keywords) {
+					if (text.startsWith(keyword, end - keyword.length())) {
+						atEnd.add(keyword + "@" + (end - keyword.length()));
+					}
+				}
+				atEnd.sort((a, b) -> Integer.compare(a.indexOf('@'), b.indexOf('@')) * -1);
+				expected.addAll(atEnd);
+			}
+			assertEquals(expected.toString(), matcher.findAll(text).toString());
+			assertEquals(!expected.isEmpty(), matcher.containsAny(text));
+		}
+	}
+
+	private static String randomText(Random random, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = random.nextInt(8) == 0 ? (char) ('甲' + random.nextInt(4)) : (char) ('a' + random.nextInt(4));
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,66 @@
+package com.threesides.lang;
+
+import com.threesides.beans.User;
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * NamedTemplateTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class NamedTemplateTest {
+
+	@Test
+	public void formatMap() {
+		Map<String, Object> params = new HashMap<>();
+		params.put("name", "WuDI");
+		params.put("orderId", 1001L);
+		assertEquals("Hi WuDI, your order 1001", StringUtil.formatNamed("Hi ${name}, your order ${orderId}", params));
+		assertEquals("Hi WuDI, 无 ${missing}", StringUtil.formatNamed("Hi ${ name }, ${coupon:无} ${missing}", params));
+		assertEquals("no placeholder", StringUtil.formatNamed("no placeholder", params));
+	}
+
+	@Test
+	public void formatBean() {
+		User user = new User();
+		user.setUsername("WuDI");
+		user.setUserId(7L);
+		NamedTemplate template = StringUtil.compileNamed("${username}#${userId} ${sex:未知}");
+		assertEquals(Arrays.asList("username", "userId", "sex"), template.getNames());
+		assertEquals("WuDI#7 未知", template.format(user));
+		user.setSex("男");
+		assertEquals("WuDI#7 男", template.format(user));
+		assertEquals("${username}#${userId} 未知", template.format(null));
+	}
+
+	@Test
+	public void nestedPath() {
+		User user = new User();
+		user.setUsername("WuDI");
+		Map<String, Object> params = Collections.singletonMap("user", user);
+		assertEquals("name=WuDI, len=", StringUtil.formatNamed("name=${user.username}, len=${user.password.length:}", params));
+	}
+
+	@Test
+	public void escape() {
+		Map<String, Object> params = Collections.singletonMap("a", 1);
+		assertEquals("${a}=1", StringUtil.formatNamed("\\${a}=${a}", params));
+		assertEquals("\\1", StringUtil.formatNamed("\\\\${a}", params));
+		assertEquals("1 ${a", StringUtil.formatNamed("${a} ${a", params));
+		assertEquals("x=1;", StringUtil.compileNamed("x=${a}").formatTo(new StringBuilder(), params).append(';').toString());
+	}
+
+	@Test(expected = BusinessException.class)
+	public void emptyName() {
+		NamedTemplate.compile("${:x}");
+	}
+}
@@ -0,0 +1,164 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * NumberTextTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class NumberTextTest {
+
+	@Test
+	public void parseLong() {
+		assertEquals(1024L, NumberText.parseLong("id=1024;", 3, 7, -1));
+		assertEquals(Long.MIN_VALUE, NumberText.parseLong("-9223372036854775808", 0, 20, -1));
+		assertEquals(-1L, NumberText.parseLong("9223372036854775808", 0, 19, -1));
+		assertEquals(-1L, NumberText.parseLong("-", 0, 1, -1));
+		assertEquals(-1L, NumberText.parseLong("1 ", 0, 2, -1));
+		assertEquals(-1L, NumberText.parseLong("", 0, 0, -1));
+
+		byte[] bytes = "x+42x".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(42L, NumberText.parseLong(bytes, 1, 4, -1));
+		assertTrue(NumberText.isLong(bytes, 1, 4));
+		assertFalse(NumberText.isLong(bytes, 0, 4));
+
+		for (String text : new String[]{"0", "-0", "+0", "1", "-1", "9223372036854775807", "-9223372036854775808",
+				"9223372036854775808", "-9223372036854775809", "", "-", "+", "1a", " 1", "١"}) {
+			boolean valid;
+			try {
+				Long.parseLong(text);
+				valid = true;
+			} catch (NumberFormatException e) {
+				valid = false;
+			}
+			assertEquals(text, valid, NumberText.isLong(text));
+			if (valid) {
+				assertEquals(text, Long.parseLong(text), NumberText.parseLong(text, 0, text.length(), 7));
+			}
+			// byte[] 只接受 ASCII 数字
+			byte[] ascii = text.getBytes(StandardCharsets.UTF_8);
+			boolean asciiValid = valid && ascii.length == text.length();
+			assertEquals(text, asciiValid, NumberText.isLong(ascii, 0, ascii.length));
+			if (asciiValid) {
+				assertEquals(text, Long.parseLong(text), NumberText.parseLong(ascii, 0, ascii.length, 7));
+			}
+		}
+	}
+
+	@Test
+	public void parseInt() {
+		assertEquals(Integer.MAX_VALUE, NumberText.parseInt("2147483647", 0, 10, 0));
+		assertEquals(7, NumberText.parseInt("2147483648", 0, 10, 7));
+		assertTrue(NumberText.isInt("-2147483648"));
+		assertFalse(NumberText.isInt("-2147483649"));
+		assertFalse(NumberText.isInt(null));
+	}
+
+	@Test
+	public void parseDouble() {
+		String[] valid = {"0", "-0.0", "1.5", ".5", "1.", "1e10", "1E-5d", "2.5f", " 3.25 ", "NaN", "-Infinity",
+				"4.9e-324", "1.7976931348623157e308", "1e400", "0x1.8p1", "9007199254740993",
+				"1.00000000000000011102230246251565404236316680908203125"};
+		for (String s : valid) {
+			assertTrue(s, NumberText.isDouble(s));
+			assertEquals(s, Double.doubleToLongBits(Double.parseDouble(s)),
+					Double.doubleToLongBits(NumberText.parseDouble(s, 0, s.length(), 0)));
+			byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+			assertEquals(s, Double.doubleToLongBits(Double.parseDouble(s)),
+					Double.doubleToLongBits(NumberText.parseDouble(bytes, 0, bytes.length, 0)));
+		}
+		String[] invalid = {"", " ", "+", ".", "e5", "1e", "1e+", "1.2.3", "1ee2", "Inf", "0x1", "0xp1", "1x", "--1"};
+		for (String s : invalid) {
+			assertFalse(s, NumberText.isDouble(s));
+			assertEquals(s, -1d, NumberText.parseDouble(s, 0, s.length(), -1d), 0d);
+		}
+		assertEquals(0.25, NumberText.parseDouble("[0.25]", 1, 5, Double.NaN), 0d);
+	}
+
+	@Test
+	public void stringUtilChecks() {
+		assertTrue(StringUtil.isIntegerNumeric("-10"));
+		assertTrue(StringUtil.isIntegerNumeric("+2"));
+		assertFalse(StringUtil.isIntegerNumeric("3 "));
+		assertFalse(StringUtil.isIntegerNumeric("10.0"));
+		assertTrue(StringUtil.isFloatingNumber("10.0"));
+		assertTrue(StringUtil.isFloatingNumber(" 1e3 "));
+		assertFalse(StringUtil.isFloatingNumber("-10.5.5"));
+	}
+
+	@Test
+	public void doubleToString() {
+		assertEquals("0.30000000000000004", NumberText.toString(0.1 + 0.2));
+		assertEquals("0.002", NumberText.toString(2e-3));
+		assertEquals("1.0E7", NumberText.toString(1e7));
+		assertEquals("9999999.999999998", NumberText.toString(9999999.999999998));
+		assertEquals("-1.7976931348623157E308", NumberText.toString(-Double.MAX_VALUE));
+		assertEquals("1.0E23", NumberText.toString(1e23));
+		assertEquals("-0.0", NumberText.toString(-0.0));
+		assertEquals("NaN", NumberText.toString(Double.NaN));
+		assertEquals("-Infinity", NumberText.toString(Double.NEGATIVE_INFINITY));
+		assertEquals("100.0", NumberText.toString(100d));
+		assertEquals("1.0E-5", NumberText.toString(1e-5));
+		assertEquals("3.4028235E38", NumberText.toString(Float.MAX_VALUE));
+		assertEquals("1.4E-45", NumberText.toString(Float.MIN_VALUE));
+		assertEquals("4.9E-324", NumberText.toString(Double.MIN_VALUE));
+		assertEquals("0.1", NumberText.toString(0.1f));
+
+		Random random = new Random(1);
+		for (int i = 0; i < 100_000; i++) {
+			double d = Double.longBitsToDouble(random.nextLong());
+			String text = NumberText.toString(d);
+			assertTrue(text, Double.isNaN(d) || Double.parseDouble(text) == d);
+			assertTrue(text, text.length() <= Double.toString(d).length());
+			float f = Float.intBitsToFloat(random.nextInt());
+			assertTrue(Float.isNaN(f) || Float.parseFloat(NumberText.toString(f)) == f);
+		}
+	}
+
+	@Test
+	public void doubleToBuffers() {
+		char[] chars = new char[NumberText.MAX_DOUBLE_LENGTH + 2];
+		int end = NumberText.toChars(-2.5e-10, chars, 2);
+		assertEquals("-2.5E-10", new String(chars, 2, end - 2));
+		byte[] bytes = new byte[NumberText.MAX_FLOAT_LENGTH];
+		end = NumberText.toBytes(1.25f, bytes, 0);
+		assertEquals("1.25", new String(bytes, 0, end, StandardCharsets.US_ASCII));
+		assertEquals("x=0.5", NumberText.append(new StringBuilder("x="), 0.5).toString());
+
+		assertEquals("0.1,0.002,1.0E10", StringUtil.join(new double[]{0.1, 2e-3, 1e10}, ",", 0, 3));
+		assertEquals("1.5|-2.0", StringUtil.join(new float[]{1.5f, -2f}, "|", 0, 2));
+		assertEquals("[0.25, 3.0]", ArrayUtil.toString(new double[]{0.25, 3}));
+		assertEquals("[]", ArrayUtil.toString(new float[0]));
+	}
+
+	@Test
+	public void integerToBuffers() {
+		long[] samples = {0, 7, -7, 10, 99, 100, -100, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L + Integer.MAX_VALUE,
+				999_999_999_999L, 1_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+		char[] chars = new char[NumberText.MAX_LONG_LENGTH + 1];
+		byte[] bytes = new byte[NumberText.MAX_LONG_LENGTH + 1];
+		Random random = new Random(1);
+		for (int i = 0; i < samples.length + 100_000; i++) {
+			long value = i < samples.length ? samples[i] : random.nextLong() >> random.nextInt(64);
+			String expected = Long.toString(value);
+			assertEquals(expected.length(), NumberText.length(value));
+			int end = NumberText.toChars(value, chars, 1);
+			assertEquals(expected, new String(chars, 1, end - 1));
+			end = NumberText.toBytes(value, bytes, 1);
+			assertEquals(expected, new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+		}
+		assertEquals(NumberText.MAX_INT_LENGTH, NumberText.length(Integer.MIN_VALUE));
+
+		assertEquals("1,-20,9223372036854775807", StringUtil.join(new long[]{1, -20, Long.MAX_VALUE}, ",", 0, 3));
+		assertEquals("-20 | 300", StringUtil.join(new int[]{1, -20, 300}, " | ", 1, 3));
+		assertEquals("-128127", StringUtil.join(new byte[]{-128, 127}, "", 0, 2));
+		assertEquals("", StringUtil.join(new long[]{1}, ",", 1, 1));
+	}
+}
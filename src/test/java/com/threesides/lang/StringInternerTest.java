@@ -0,0 +1,56 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * StringInternerTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class StringInternerTest {
+
+	@Test
+	public void bounded() {
+		StringInterner interner = StringInterner.bounded(64);
+		String first = interner.intern(new StringBuilder("status=ACTIVE"), 7, 13);
+		assertEquals("ACTIVE", first);
+		assertSame(first, interner.intern(new StringBuilder("ACTIVE")));
+		assertSame(first, interner.intern("xACTIVEx".getBytes(StandardCharsets.UTF_8), 1, 6));
+		assertEquals(3, interner.getLookupCount());
+		assertEquals(2, interner.getHitCount());
+		assertTrue(interner.getBytesSaved() > 0);
+	}
+
+	@Test
+	public void utf8() {
+		StringInterner interner = StringInterner.weak();
+		String text = "中国😀";
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		String first = interner.intern(bytes, 0, bytes.length);
+		assertEquals(text, first);
+		assertSame(first, interner.intern(text));
+		assertNotSame(first, interner.intern(bytes, 0, 3));
+		assertEquals("中", interner.intern(bytes, 0, 3));
+		// 非法 UTF-8 按替换字符处理
+		assertEquals("�", interner.intern(new byte[]{(byte) 0xC3}, 0, 1));
+	}
+
+	@Test
+	public void weakManyEntries() {
+		StringInterner interner = StringInterner.weak();
+		List<String> retained = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			String s = interner.intern("k" + (i % 100));
+			assertEquals("k" + (i % 100), s);
+			retained.add(s);
+		}
+		assertEquals(0.99, interner.getHitRate(), 0.0001);
+	}
+}
@@ -0,0 +1,108 @@
+package com.threesides.lang;
+
+import com.threesides.exception.Assert;
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * StringSearcherTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class StringSearcherTest {
+
+	@Test
+	public void indexOf() {
+		StringSearcher searcher = StringUtil.searcher("abab");
+		assertEquals(2, searcher.indexOf("xxababab"));
+		assertEquals(4, searcher.indexOf("xxababab", 3));
+		assertEquals(-1, searcher.indexOf("xxabaabba"));
+		assertEquals(1, searcher.count("xababab"));
+		assertEquals(2, searcher.count("ababxabab"));
+		assertEquals(-1, searcher.indexOf("abab".toCharArray(), 1, 4));
+		assertEquals(4, searcher.indexOf("--abababab".toCharArray(), 3, 10));
+		assertFalse(searcher.contains(null));
+
+		List<Integer> positions = new ArrayList<>();
+		StringUtil.searcher("订单").forEachMatch("订单1,订单2", positions::add);
+		assertEquals(Arrays.asList(0, 4), positions);
+		byte[] utf8 = "订单1,订单2".getBytes(StandardCharsets.UTF_8);
+		assertEquals(2, StringUtil.searcher("订单").count(utf8, 0, utf8.length));
+		assertEquals(8, StringUtil.searcher("订单2").indexOf(utf8, 0, utf8.length));
+	}
+
+	@Test
+	public void ignoreCase() {
+		StringSearcher searcher = StringUtil.searcher("Error", true);
+		assertEquals(4, searcher.indexOf("no: ERROR here"));
+		assertEquals(2, searcher.count("error Error".toCharArray(), 0, 11));
+		byte[] bytes = "[eRRoR]".getBytes(StandardCharsets.UTF_8);
+		assertEquals(1, searcher.indexOf(bytes, 0, bytes.length));
+		assertEquals(0, StringUtil.searcher("ÉTÉ", true).indexOf("été"));
+		assertEquals(-1, StringUtil.searcher("Error").indexOf("ERROR"));
+	}
+
+	@Test
+	public void matchesStringIndexOf() {
+		Random random = new Random(3);
+		for (int round = 0; round < 2000; round++) {
+			String text = randomText(random, random.nextInt(300));
+			String needle = randomText(random, 1 + random.nextInt(6));
+			StringSearcher searcher = StringUtil.searcher(needle);
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			byte[] needleBytes = needle.getBytes(StandardCharsets.UTF_8);
+			for (int from = 0; from < text.length(); from += 1 + random.nextInt(50)) {
+				assertEquals(text.indexOf(needle, from), searcher.indexOf(text, from));
+			}
+			int expectedCount = 0;
+			for (int i = text.indexOf(needle); i >= 0; i = text.indexOf(needle, i + needle.length())) {
+				expectedCount++;
+			}
+			assertEquals(expectedCount, searcher.count(text));
+			assertEquals(expectedCount, searcher.count(text.toCharArray(), 0, text.length()));
+			assertEquals(expectedCount, searcher.count(bytes, 0, bytes.length));
+			assertEquals(new String(bytes, StandardCharsets.ISO_8859_1).indexOf(new String(needleBytes, StandardCharsets.ISO_8859_1)),
+					searcher.indexOf(bytes, 0, bytes.length));
+
+			StringSearcher ignoreCase = StringUtil.searcher(needle, true);
+			int expected = -1;
+			for (int i = 0; i + needle.length() <= text.length(); i++) {
+				if (text.regionMatches(true, i, needle, 0, needle.length())) {
+					expected = i;
+					break;
+				}
+			}
+			assertEquals(expected, ignoreCase.indexOf(text));
+		}
+	}
+
+	@Test
+	public void assertNotContain() {
+		StringSearcher searcher = StringUtil.searcher("drop table", true);
+		Assert.notContain("select 1", searcher);
+		try {
+			Assert.notContain("x; DROP TABLE t", searcher, "E01", "bad sql");
+			fail();
+		} catch (BusinessException e) {
+			assertEquals("bad sql", e.getMessage());
+		}
+	}
+
+	private static String randomText(Random random, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			int kind = random.nextInt(10);
+			chars[i] = kind == 0 ? (char) ('甲' + random.nextInt(3)) : kind == 1 ? (char) ('A' + random.nextInt(3)) : (char) ('a' + random.nextInt(3));
+		}
+		return new String(chars);
+	}
+}
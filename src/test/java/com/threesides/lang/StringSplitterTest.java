@@ -0,0 +1,158 @@
+package com.threesides.lang;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * StringSplitterTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class StringSplitterTest {
+
+	@Test
+	public void splitToList() {
+		assertEquals(Arrays.asList("a", "b", "", "c"), StringSplitter.on(',').trimResults().splitToList(" a, b ,,c"));
+		assertEquals(Arrays.asList("a", "b", "c"), StringSplitter.on(',').trimResults().omitEmptyStrings().splitToList(" a, b ,, c,"));
+		assertEquals(Arrays.asList("k", "v=w"), StringUtil.splitter("=").limit(2).splitToList("k=v=w"));
+		assertEquals(Arrays.asList("a", "b", "c::d"), StringUtil.splitter("::").limit(3).splitToList("a::b::c::d"));
+		assertEquals(Arrays.asList(""), StringSplitter.on(',').splitToList(""));
+		assertEquals(Arrays.asList(), StringSplitter.on(',').omitEmptyStrings().splitToList(""));
+		assertEquals(Arrays.asList("x", "y"), StringSplitter.on(',').omitEmptyStrings().limit(2).splitToList(",,x,,y"));
+		assertEquals(Arrays.asList("a", "b", "c,d"), StringSplitter.on(',').omitEmptyStrings().limit(3).splitToList("a,,,b,,,c,d"));
+		assertEquals(Arrays.asList("b=ab", "a=  b"), StringSplitter.on(',').trimResults().omitEmptyStrings().limit(2).splitToList("b=ab , ,a=  b"));
+		assertEquals(Arrays.asList("bbb=ba=aa", "b="), StringSplitter.on(',').trimResults().omitEmptyStrings().limit(3).splitToList("bbb=ba=aa, b=,   ,"));
+	}
+
+	@Test
+	public void trimOmitLimit() {
+		Random random = new Random(11);
+		for (int round = 0; round < 20000; round++) {
+			char[] chars = new char[random.nextInt(20)];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = "ab=, ".charAt(random.nextInt(5));
+			}
+			String text = new String(chars);
+			boolean trim = random.nextBoolean();
+			boolean omit = random.nextBoolean();
+			int limit = 1 + random.nextInt(4);
+			StringSplitter splitter = StringSplitter.on(',').limit(limit);
+			splitter = trim ? splitter.trimResults() : splitter;
+			splitter = omit ? splitter.omitEmptyStrings() : splitter;
+			assertEquals(text, guavaSplit(text, trim, omit, limit), splitter.splitToList(text));
+		}
+	}
+
+	/**
+	 * Guava Splitter 的切分算法,作为对照
+	 */
+	private static List<String> guavaSplit(String text, boolean trim, boolean omit, int limit) {
+		List<String> result = new ArrayList<>();
+		int offset = 0;
+		while (offset != -1) {
+			int start = offset;
+			int end;
+			int separator = text.indexOf(',', offset);
+			if (separator == -1) {
+				end = text.length();
+				offset = -1;
+			} else {
+				end = separator;
+				offset = separator + 1;
+			}
+			if (trim) {
+				while (start < end && text.charAt(start) <= ' ') {
+					start++;
+				}
+				while (end > start && text.charAt(end - 1) <= ' ') {
+					end--;
+				}
+			}
+			if (omit && start == end) {
+				continue;
+			}
+			if (result.size() == limit - 1) {
+				end = text.length();
+				offset = -1;
+				while (trim && end > start && text.charAt(end - 1) <= ' ') {
+					end--;
+				}
+			}
+			result.add(text.substring(start, end));
+		}
+		return result;
+	}
+
+	@Test
+	public void matchesStringSplit() {
+		Random random = new Random(5);
+		for (int round = 0; round < 2000; round++) {
+			char[] chars = new char[random.nextInt(30)];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = "ab,;".charAt(random.nextInt(4));
+			}
+			String text = new String(chars);
+			String delimiter = random.nextBoolean() ? "," : ",;";
+			List<String> expected = Arrays.asList(text.split(Pattern.quote(delimiter), -1));
+			assertEquals(expected, StringSplitter.on(delimiter).splitToList(text));
+			assertEquals(expected, StringSplitter.on(delimiter).splitToList(new StringBuilder(text)));
+			int limit = 1 + random.nextInt(4);
+			assertEquals(Arrays.asList(text.split(Pattern.quote(delimiter), limit)), StringSplitter.on(delimiter).limit(limit).splitToList(text));
+		}
+	}
+
+	@Test
+	public void offsets() {
+		int[] bounds = new int[4];
+		assertEquals(2, StringSplitter.on(' ').split("ab cd ef", bounds));
+		assertArrayEquals(new int[]{0, 2, 3, 5}, bounds);
+
+		List<String> tokens = new ArrayList<>();
+		StringSplitter.on('|').split("a|bb|ccc", (index, start, end) -> {
+			tokens.add(index + ":" + start + "-" + end);
+			return index < 1;
+		});
+		assertEquals(Arrays.asList("0:0-1", "1:2-4"), tokens);
+	}
+
+	@Test
+	public void parseLogLine() {
+		StringSplitter.Tokenizer fields = StringSplitter.on(' ').omitEmptyStrings().tokenizer("");
+		StringSplitter.Tokenizer pair = StringSplitter.on('=').limit(2).tokenizer("");
+		long totalCost = 0;
+		double totalRatio = 0;
+		for (String line : Arrays.asList("level=INFO cost=12 ratio=0.5", "cost=30  level=WARN ratio=x")) {
+			fields.reset(line);
+			while (fields.next()) {
+				pair.reset(line, fields.start(), fields.end());
+				if (!pair.next()) {
+					continue;
+				}
+				if (pair.tokenEquals("cost") && pair.next()) {
+					totalCost += pair.parseLong(0);
+				} else if (pair.tokenEquals("ratio") && pair.next()) {
+					totalRatio += pair.parseDouble(0);
+				}
+			}
+		}
+		assertEquals(42, totalCost);
+		assertEquals(0.5, totalRatio, 0);
+
+		StringSplitter.Tokenizer tokenizer = StringSplitter.on(',').tokenizer("x, yz", 1, 5);
+		assertTrue(tokenizer.next());
+		assertEquals(0, tokenizer.token().length());
+		assertTrue(tokenizer.next());
+		assertEquals(" yz", tokenizer.token().toString());
+		assertEquals('y', tokenizer.token().charAt(1));
+		assertEquals("z", tokenizer.token().subSequence(2, 3));
+		assertFalse(tokenizer.next());
+	}
+}
@@ -0,0 +1,168 @@
+package com.threesides.lang;
+
+import com.threesides.exception.BusinessException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Utf8CodecTest
+ *
+ * @author Di Wu
+ * @since 2026-10-19
+ */
+public class Utf8CodecTest {
+
+	@Test
+	public void encodeAndDecode() {
+		assertEquals("", Utf8Codec.decode(new byte[0]));
+		assertEquals("订", Utf8Codec.decode(ByteBuffer.wrap(new byte[]{(byte) 0xE8, (byte) 0xAE, (byte) 0xA2})));
+		assertArrayEquals("订单-2026-😀".getBytes(StandardCharsets.UTF_8), Utf8Codec.encode(new StringBuilder("订单-2026-😀")));
+		assertEquals(4, Utf8Codec.encodedLength("😀"));
+		assertArrayEquals(new byte[]{'?', 'a', '?'}, Utf8Codec.encode("\uDC00a\uD800"));
+
+		byte[] dst = new byte[8];
+		assertEquals(6, Utf8Codec.encode("订单", dst, 2));
+		assertEquals("订单", Utf8Codec.decode(dst, 2, 6));
+		try {
+			Utf8Codec.encode("订单", dst, 3);
+			fail();
+		} catch (BusinessException e) {
+			// 期望的异常
+		}
+
+		ByteBuffer heap = ByteBuffer.allocate(4);
+		try {
+			Utf8Codec.encode("ab订", heap);
+			fail();
+		} catch (BufferOverflowException e) {
+			assertEquals(0, heap.position());
+		}
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		assertEquals(5, Utf8Codec.encode("ab订", direct));
+		direct.flip();
+		assertEquals("ab订", Utf8Codec.decode(direct));
+		assertFalse(direct.hasRemaining());
+	}
+
+	@Test
+	public void matchesJdk() {
+		Random random = new Random(47);
+		for (int round = 0; round < 3000; round++) {
+			final int length = round % 300 == 0 ? 10000 + random.nextInt(10000) : random.nextInt(60);
+			byte[] bytes = randomBytes(random, length);
+			String expected = new String(bytes, StandardCharsets.UTF_8);
+			assertEquals(expected, Utf8Codec.decode(bytes));
+			ByteBuffer direct = ByteBuffer.allocateDirect(length);
+			direct.put(bytes).flip();
+			assertEquals(expected, Utf8Codec.decode(direct));
+
+			String text = randomText(random, length);
+			byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+			assertArrayEquals(encoded, Utf8Codec.encode(text));
+			assertEquals(encoded.length, Utf8Codec.encodedLength(new StringBuilder(text)));
+			ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length);
+			Utf8Codec.encode(text, buffer);
+			assertFalse(buffer.hasRemaining());
+		}
+	}
+
+	@Test
+	public void streaming() throws IOException {
+		Random random = new Random(53);
+		for (int round = 0; round < 300; round++) {
+			byte[] bytes = randomBytes(random, random.nextInt(3000));
+			String expected = new String(bytes, StandardCharsets.UTF_8);
+
+			Utf8Codec.Decoder decoder = Utf8Codec.newDecoder();
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < bytes.length; ) {
+				int n = Math.min(bytes.length - i, random.nextInt(6));
+				decoder.decode(bytes, i, n, sb);
+				i += n;
+			}
+			decoder.finish(sb);
+			assertEquals(expected, sb.toString());
+
+			StringBuilder read = new StringBuilder();
+			try (Reader reader = Utf8Codec.wrap(new ByteArrayInputStream(bytes))) {
+				char[] buffer = new char[1 + random.nextInt(100)];
+				for (int n; (n = reader.read(buffer)) >= 0; ) {
+					read.append(buffer, 0, n);
+				}
+			}
+			assertEquals(expected, read.toString());
+
+			String text = randomText(random, random.nextInt(3000));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (Writer writer = Utf8Codec.wrap(out)) {
+				for (int i = 0; i < text.length(); ) {
+					int n = Math.min(text.length() - i, random.nextInt(6));
+					writer.append(text, i, i + n);
+					i += n;
+				}
+			}
+			assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+		}
+	}
+
+	@Test
+	public void objectToString() {
+		byte[] bytes = "订单-order".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer heap = ByteBuffer.wrap(bytes);
+		assertEquals("订单-order", StringUtil.objectToUFTF8String(heap));
+		assertFalse(heap.hasRemaining());
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		assertEquals("订单-order", ObjectUtil.objectToString(direct, null));
+
+		Charset gbk = Charset.forName("GBK");
+		ByteBuffer slice = ByteBuffer.wrap(("xx" + "订单").getBytes(gbk));
+		slice.position(2);
+		assertEquals("订单", StringUtil.objectToString(slice.slice(), gbk));
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			int kind = random.nextInt(10);
+			if (kind < 5) {
+				bytes[i] = (byte) ('a' + random.nextInt(26));
+			} else if (kind < 8) {
+				byte[] encoded = new String(Character.toChars(kind == 5 ? 0xE9 : kind == 6 ? 0x4E00 + random.nextInt(100) : 0x1F600))
+						.getBytes(StandardCharsets.UTF_8);
+				int n = Math.min(encoded.length, length - i);
+				System.arraycopy(encoded, 0, bytes, i, n);
+				i += n - 1;
+			} else {
+				bytes[i] = (byte) (0x80 + random.nextInt(128));
+			}
+		}
+		return bytes;
+	}
+
+	private static String randomText(Random random, int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			int kind = random.nextInt(10);
+			sb.append(kind < 5 ? (char) ('a' + random.nextInt(26))
+					: kind == 5 ? (char) ('α' + random.nextInt(20))
+					: kind == 6 ? (char) ('甲' + random.nextInt(100))
+					: kind == 7 ? "😀"
+					: kind == 8 ? (char) (Character.MIN_SURROGATE + random.nextInt(0x800))
+					: ' ');
+		}
+		return sb.toString();
+	}
+}